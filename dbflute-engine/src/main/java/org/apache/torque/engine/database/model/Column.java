@@ -205,12 +205,12 @@ public class Column {
     // -----------------------------------------------------
     //                                           Foreign Key
     //                                           -----------
-    protected List<ForeignKey> _referrerList;
+    protected volatile List<ForeignKey> _referrerList;
 
     // -----------------------------------------------------
     //                                       Java Definition
     //                                       ---------------
-    protected String _javaName;
+    protected volatile String _javaName; // lazy loaded if no definition
     protected String _jdbcType;
 
     // -----------------------------------------------------
@@ -424,20 +424,16 @@ public class Column {
      * @return The column alias as String. (NotNull, EmptyAllowed: when no alias)
      */
     public String getAlias() {
-        if (_cachedColumnAlias != null) {
-            return _cachedColumnAlias;
+        final String cached = _cachedColumnAlias;
+        if (cached != null) {
+            return cached;
         }
         final DfDocumentProperties prop = getProperties().getDocumentProperties();
         final String comment = _plainComment;
-        if (comment != null) {
-            final String alias = prop.extractAliasFromDbComment(comment);
-            if (alias != null) {
-                _cachedColumnAlias = alias;
-                return _cachedColumnAlias;
-            }
-        }
-        _cachedColumnAlias = "";
-        return _cachedColumnAlias;
+        final String alias = comment != null ? prop.extractAliasFromDbComment(comment) : null;
+        final String resolved = alias != null ? alias : "";
+        _cachedColumnAlias = resolved;
+        return resolved;
     }
 
     public String getAliasExpression() { // for expression '(alias)name'
@@ -678,8 +674,8 @@ public class Column {
     // -----------------------------------------------------
     //                                        Column Comment
     //                                        --------------
-    protected String _cachedColumnAlias; // for performance (e.g. SchemaPolicyCheck)
-    protected String _cachedColumnComment; // me too
+    protected volatile String _cachedColumnAlias; // for performance (e.g. SchemaPolicyCheck)
+    protected volatile String _cachedColumnComment; // me too
 
     public String getPlainComment() {
         return _plainComment;
@@ -697,13 +693,15 @@ public class Column {
     }
 
     public String getComment() {
-        if (_cachedColumnComment != null) {
-            return _cachedColumnComment;
+        final String cached = _cachedColumnComment;
+        if (cached != null) {
+            return cached;
         }
         final DfDocumentProperties prop = getProperties().getDocumentProperties();
         final String comment = prop.extractCommentFromDbComment(_plainComment);
-        _cachedColumnComment = comment != null ? comment : "";
-        return _cachedColumnComment;
+        final String resolved = comment != null ? comment : "";
+        _cachedColumnComment = resolved;
+        return resolved;
     }
 
     public void setComment(String comment) { // unused? (not exists in Table.java) by jflute (2018/05/04)
@@ -1084,21 +1082,24 @@ public class Column {
     /**
      * Adds the foreign key from another table that refers to this column.
      */
-    public void addReferrer(ForeignKey fk) {
-        if (_referrerList == null) {
-            _referrerList = new ArrayList<ForeignKey>(5);
-        }
-        _referrerList.add(fk);
+    public void addReferrer(ForeignKey fk) { // in model initialization
+        getReferrerList().add(fk);
     }
 
     /**
      * Get list of references to this column.
      */
     public List<ForeignKey> getReferrerList() {
-        if (_referrerList == null) {
-            _referrerList = new ArrayList<ForeignKey>(5);
+        final List<ForeignKey> cached = _referrerList;
+        if (cached != null) {
+            return cached;
+        }
+        synchronized (this) { // not to create two lists
+            if (_referrerList == null) {
+                _referrerList = new ArrayList<ForeignKey>(5);
+            }
+            return _referrerList;
         }
-        return _referrerList;
     }
 
     /**
@@ -1139,7 +1140,8 @@ public class Column {
     // -----------------------------------------------------
     //                                               Arrange
     //                                               -------
-    protected List<ForeignKey> _singleKeyReferrers;
+    // lazy caches are published after built because templates may be rendered in parallel
+    protected volatile List<ForeignKey> _singleKeyReferrers;
 
     /**
      * Adds the foreign key from another table that refers to this column.
@@ -1152,92 +1154,94 @@ public class Column {
      * Get list of references to this column.
      */
     public List<ForeignKey> getSingleKeyReferrers() {
-        if (_singleKeyReferrers != null) {
-            return _singleKeyReferrers;
-        }
-        _singleKeyReferrers = new ArrayList<ForeignKey>(5);
-        if (!hasReferrer()) {
-            return _singleKeyReferrers;
-        }
-        final List<ForeignKey> referrerList = getReferrers();
-        for (ForeignKey referrer : referrerList) {
-            if (!referrer.isSimpleKeyFK()) {
-                continue;
+        final List<ForeignKey> cached = _singleKeyReferrers;
+        if (cached != null) {
+            return cached;
+        }
+        final List<ForeignKey> referrers = new ArrayList<ForeignKey>(5);
+        if (hasReferrer()) {
+            final List<ForeignKey> referrerList = getReferrers();
+            for (ForeignKey referrer : referrerList) {
+                if (!referrer.isSimpleKeyFK()) {
+                    continue;
+                }
+                referrers.add(referrer);
             }
-            _singleKeyReferrers.add(referrer);
         }
-        return _singleKeyReferrers;
+        _singleKeyReferrers = referrers;
+        return referrers;
     }
 
-    protected List<ForeignKey> _existsReferrerReferrers;
+    protected volatile List<ForeignKey> _existsReferrerReferrers;
 
     public List<ForeignKey> getExistsReferrerReferrers() { // not contains compound key
-        if (_existsReferrerReferrers != null) {
-            return _existsReferrerReferrers;
-        }
-        _existsReferrerReferrers = new ArrayList<ForeignKey>(5);
-        if (!hasReferrer()) {
-            return _existsReferrerReferrers;
-        }
-        // compound referrer is handled by other process
-        for (ForeignKey referrer : getSingleKeyReferrers()) {
-            if (!referrer.isExistsReferrerSupported()) {
-                continue;
+        final List<ForeignKey> cached = _existsReferrerReferrers;
+        if (cached != null) {
+            return cached;
+        }
+        final List<ForeignKey> referrers = new ArrayList<ForeignKey>(5);
+        if (hasReferrer()) {
+            // compound referrer is handled by other process
+            for (ForeignKey referrer : getSingleKeyReferrers()) {
+                if (!referrer.isExistsReferrerSupported()) {
+                    continue;
+                }
+                referrers.add(referrer);
             }
-            _existsReferrerReferrers.add(referrer);
         }
-        return _existsReferrerReferrers;
+        _existsReferrerReferrers = referrers;
+        return referrers;
     }
 
-    protected List<ForeignKey> _inScopeRelationReferrers;
+    protected volatile List<ForeignKey> _inScopeRelationReferrers;
 
     public List<ForeignKey> getInScopeRelationReferrers() { // not contains compound key
-        if (_inScopeRelationReferrers != null) {
-            return _inScopeRelationReferrers;
-        }
-        _inScopeRelationReferrers = new ArrayList<ForeignKey>(5);
-        if (!hasReferrer()) {
-            return _inScopeRelationReferrers;
-        }
-        // in-scope relation of compound referrer is unsupported
-        for (ForeignKey referrer : getSingleKeyReferrers()) {
-            if (!referrer.isInScopeRelationAsReferrerSupported()) {
-                continue;
+        final List<ForeignKey> cached = _inScopeRelationReferrers;
+        if (cached != null) {
+            return cached;
+        }
+        final List<ForeignKey> referrers = new ArrayList<ForeignKey>(5);
+        if (hasReferrer()) {
+            // in-scope relation of compound referrer is unsupported
+            for (ForeignKey referrer : getSingleKeyReferrers()) {
+                if (!referrer.isInScopeRelationAsReferrerSupported()) {
+                    continue;
+                }
+                referrers.add(referrer);
             }
-            _inScopeRelationReferrers.add(referrer);
         }
-        return _inScopeRelationReferrers;
+        _inScopeRelationReferrers = referrers;
+        return referrers;
     }
 
-    protected List<ForeignKey> _derivedReferrerReferrers;
+    protected volatile List<ForeignKey> _derivedReferrerReferrers;
 
     public List<ForeignKey> getDerivedReferrerReferrers() { // not contains compound key
-        if (_derivedReferrerReferrers != null) {
-            return _derivedReferrerReferrers;
-        }
-        _derivedReferrerReferrers = new ArrayList<ForeignKey>(5);
-        if (!hasReferrer()) {
-            return _derivedReferrerReferrers;
-        }
-        // compound referrer is handled by other process
-        for (ForeignKey referrer : getSingleKeyReferrers()) {
-            if (!referrer.isDerivedReferrerSupported()) {
-                continue;
+        final List<ForeignKey> cached = _derivedReferrerReferrers;
+        if (cached != null) {
+            return cached;
+        }
+        final List<ForeignKey> referrers = new ArrayList<ForeignKey>(5);
+        if (hasReferrer()) {
+            // compound referrer is handled by other process
+            for (ForeignKey referrer : getSingleKeyReferrers()) {
+                if (!referrer.isDerivedReferrerSupported()) {
+                    continue;
+                }
+                referrers.add(referrer);
             }
-            _derivedReferrerReferrers.add(referrer);
         }
-        return _derivedReferrerReferrers;
+        _derivedReferrerReferrers = referrers;
+        return referrers;
     }
 
     // -----------------------------------------------------
     //                                          Comma String
     //                                          ------------
     public String getReferrerCommaString() {
-        if (_referrerList == null) {
-            _referrerList = new ArrayList<ForeignKey>(5);
-        }
+        final List<ForeignKey> referrerList = getReferrerList();
         final StringBuffer sb = new StringBuffer();
-        for (ForeignKey fk : _referrerList) {
+        for (ForeignKey fk : referrerList) {
             final Table reffererTable = fk.getTable();
             final String name = reffererTable.getTableDbName();
             sb.append(", ").append(name);
@@ -1247,14 +1251,12 @@ public class Column {
     }
 
     public String getReferrerTableCommaStringWithHtmlHref() { // mainly for SchemaHTML
-        if (_referrerList == null) {
-            _referrerList = new ArrayList<ForeignKey>(5);
-        }
+        final List<ForeignKey> referrerList = getReferrerList();
         final DfDocumentProperties prop = getProperties().getDocumentProperties();
         final DfSchemaHtmlBuilder schemaHtmlBuilder = new DfSchemaHtmlBuilder(prop);
         final String delimiter = ",<br>";
         final StringBuffer sb = new StringBuffer();
-        for (ForeignKey fk : _referrerList) {
+        for (ForeignKey fk : referrerList) {
             final Table referrerTable = fk.getTable();
             sb.append(schemaHtmlBuilder.buildRelatedTableLink(fk, referrerTable, delimiter));
         }
@@ -1529,18 +1531,21 @@ public class Column {
     }
 
     public String getJavaName() { // lazy load
-        if (_javaName != null) {
-            return _javaName;
+        final String cached = _javaName;
+        if (cached != null) {
+            return cached;
         }
         final String resourceName = (_synonym != null ? _synonym : getName());
+        final String javaName;
         if (needsJavaNameConvert()) {
-            _javaName = getDatabaseChecked().convertJavaNameByJdbcNameAsColumn(resourceName);
+            javaName = getDatabaseChecked().convertJavaNameByJdbcNameAsColumn(resourceName);
         } else {
             // initial-capitalize only
-            _javaName = initCap(resourceName);
+            javaName = initCap(resourceName);
         }
-        _javaName = filterJavaNameNonCompilableConnector(_javaName); // for example, "SPACE EXISTS"
-        return _javaName;
+        final String filteredName = filterJavaNameNonCompilableConnector(javaName); // for example, "SPACE EXISTS"
+        _javaName = filteredName;
+        return filteredName;
     }
 
     protected String filterJavaNameNonCompilableConnector(String javaName) {
@@ -2714,23 +2719,25 @@ public class Column {
     // ===================================================================================
     //                                                                       Common Column
     //                                                                       =============
-    protected Boolean _commonColumn;
+    protected volatile Boolean _commonColumn;
 
     public boolean isCommonColumn() {
-        if (_commonColumn != null) {
-            return _commonColumn;
+        final Boolean cached = _commonColumn;
+        if (cached != null) {
+            return cached;
         }
-        _commonColumn = false;
+        boolean commonColumn = false;
         if (getTable().hasAllCommonColumn()) {
             final List<Column> commonColumnList = getTable().getCommonColumnList();
             for (Column column : commonColumnList) {
                 if (column.getName().equalsIgnoreCase(getName())) {
-                    _commonColumn = true;
+                    commonColumn = true;
                     break;
                 }
             }
         }
-        return _commonColumn;
+        _commonColumn = commonColumn;
+        return commonColumn;
     }
 
     // ===================================================================================
@@ -2938,7 +2945,7 @@ public class Column {
     // ===================================================================================
     //                                                                     Behavior Filter
     //                                                                     ===============
-    private String _behaviorFilterBeforeInsertColumnExpression;
+    private volatile String _behaviorFilterBeforeInsertColumnExpression;
 
     public String getBehaviorFilterBeforeInsertColumnExpression() {
         return _behaviorFilterBeforeInsertColumnExpression;
@@ -2948,7 +2955,7 @@ public class Column {
         _behaviorFilterBeforeInsertColumnExpression = expression;
     }
 
-    private String _behaviorFilterBeforeUpdateColumnExpression;
+    private volatile String _behaviorFilterBeforeUpdateColumnExpression;
 
     public String getBehaviorFilterBeforeUpdateColumnExpression() {
         return _behaviorFilterBeforeUpdateColumnExpression;
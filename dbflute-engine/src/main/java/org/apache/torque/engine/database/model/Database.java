@@ -1470,8 +1470,9 @@ public class Database {
     }
 
     protected String buildOutputAbsolutePath(String path) {
-        final String outputPath = DfGenerator.getInstance().getOutputPath();
-        final String absolutePath = outputPath + "/" + path;
+        final DfGenerator generator = DfGenerator.getInstance();
+        final String absolutePath = generator.getOutputPath() + "/" + path;
+        generator.waitForRendering(absolutePath); // may be rendering on other thread, and reflected after it
         return absolutePath;
     }
 
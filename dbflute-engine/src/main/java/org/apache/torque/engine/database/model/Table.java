@@ -247,7 +247,7 @@ public class Table {
     // -----------------------------------------------------
     //                                       Java Definition
     //                                       ---------------
-    protected String _javaName;
+    protected volatile String _javaName; // lazy loaded if no definition
 
     // -----------------------------------------------------
     //                                 Sql2Entity Definition
@@ -480,20 +480,16 @@ public class Table {
      * @return The table alias as String. (NotNull, EmptyAllowed: when no alias)
      */
     public String getAlias() {
-        if (_cachedColumnAlias != null) {
-            return _cachedColumnAlias;
+        final String cached = _cachedColumnAlias;
+        if (cached != null) {
+            return cached;
         }
         final DfDocumentProperties prop = getProperties().getDocumentProperties();
         final String comment = _plainComment;
-        if (comment != null) {
-            final String alias = prop.extractAliasFromDbComment(comment);
-            if (alias != null) {
-                _cachedColumnAlias = alias;
-                return _cachedColumnAlias;
-            }
-        }
-        _cachedColumnAlias = "";
-        return _cachedColumnAlias;
+        final String alias = comment != null ? prop.extractAliasFromDbComment(comment) : null;
+        final String resolved = alias != null ? alias : "";
+        _cachedColumnAlias = resolved;
+        return resolved;
     }
 
     public String getAliasExpression() { // for expression '(alias)name'
@@ -578,8 +574,8 @@ public class Table {
     // -----------------------------------------------------
     //                                         Table Comment
     //                                         -------------
-    protected String _cachedColumnAlias; // for performance (e.g. SchemaPolicyCheck)
-    protected String _cachedColumnComment; // me too
+    protected volatile String _cachedColumnAlias; // for performance (e.g. SchemaPolicyCheck)
+    protected volatile String _cachedColumnComment; // me too
 
     public String getPlainComment() { // may contain its alias name
         return _plainComment;
@@ -597,13 +593,15 @@ public class Table {
     }
 
     public String getComment() {
-        if (_cachedColumnComment != null) {
-            return _cachedColumnComment;
+        final String cached = _cachedColumnComment;
+        if (cached != null) {
+            return cached;
         }
         final DfDocumentProperties prop = getProperties().getDocumentProperties();
         final String comment = prop.extractCommentFromDbComment(_plainComment);
-        _cachedColumnComment = comment != null ? comment : "";
-        return _cachedColumnComment;
+        final String resolved = comment != null ? comment : "";
+        _cachedColumnComment = resolved;
+        return resolved;
     }
 
     public String getCommentForSchemaHtml() {
@@ -1702,71 +1700,75 @@ public class Table {
     // -----------------------------------------------------
     //                                               Arrange
     //                                               -------
-    protected List<ForeignKey> _singleKeyReferrers;
+    // lazy caches are published after built because templates may be rendered in parallel
+    protected volatile List<ForeignKey> _singleKeyReferrers;
 
     public boolean hasSingleKeyReferrer() {
         return !getSingleKeyReferrers().isEmpty();
     }
 
     public List<ForeignKey> getSingleKeyReferrers() {
-        if (_singleKeyReferrers != null) {
-            return _singleKeyReferrers;
-        }
-        _singleKeyReferrers = new ArrayList<ForeignKey>(5);
-        if (!hasReferrer()) {
-            return _singleKeyReferrers;
-        }
-        final List<ForeignKey> referrerList = getReferrers();
-        for (ForeignKey referrer : referrerList) {
-            if (!referrer.isSimpleKeyFK()) {
-                continue;
+        final List<ForeignKey> cached = _singleKeyReferrers;
+        if (cached != null) {
+            return cached;
+        }
+        final List<ForeignKey> referrers = new ArrayList<ForeignKey>(5);
+        if (hasReferrer()) {
+            final List<ForeignKey> referrerList = getReferrers();
+            for (ForeignKey referrer : referrerList) {
+                if (!referrer.isSimpleKeyFK()) {
+                    continue;
+                }
+                referrers.add(referrer);
             }
-            _singleKeyReferrers.add(referrer);
         }
-        return _singleKeyReferrers;
+        _singleKeyReferrers = referrers;
+        return referrers;
     }
 
-    protected List<ForeignKey> _compoundKeyReferrers;
+    protected volatile List<ForeignKey> _compoundKeyReferrers;
 
     public boolean hasCompoundKeyReferrer() {
         return !getCompoundKeyReferrers().isEmpty();
     }
 
     public List<ForeignKey> getCompoundKeyReferrers() {
-        if (_compoundKeyReferrers != null) {
-            return _compoundKeyReferrers;
-        }
-        _compoundKeyReferrers = new ArrayList<ForeignKey>(5);
-        if (!hasReferrer()) {
-            return _compoundKeyReferrers;
-        }
-        final List<ForeignKey> referrerList = getReferrers();
-        for (ForeignKey referrer : referrerList) {
-            if (!referrer.isCompoundFK()) {
-                continue;
+        final List<ForeignKey> cached = _compoundKeyReferrers;
+        if (cached != null) {
+            return cached;
+        }
+        final List<ForeignKey> referrers = new ArrayList<ForeignKey>(5);
+        if (hasReferrer()) {
+            final List<ForeignKey> referrerList = getReferrers();
+            for (ForeignKey referrer : referrerList) {
+                if (!referrer.isCompoundFK()) {
+                    continue;
+                }
+                referrers.add(referrer);
             }
-            _compoundKeyReferrers.add(referrer);
         }
-        return _compoundKeyReferrers;
+        _compoundKeyReferrers = referrers;
+        return referrers;
     }
 
-    protected List<ForeignKey> _derivedReferrerReferrers;
+    protected volatile List<ForeignKey> _derivedReferrerReferrers;
 
     public List<ForeignKey> getDerivedReferrerReferrers() { // contains compound key
-        if (_derivedReferrerReferrers != null) {
-            return _derivedReferrerReferrers;
-        }
-        _derivedReferrerReferrers = new ArrayList<ForeignKey>(5);
-        if (!hasReferrer()) {
-            return _derivedReferrerReferrers;
-        }
-        for (ForeignKey referrer : getReferrers()) {
-            if (!referrer.isDerivedReferrerSupported()) {
-                continue;
+        final List<ForeignKey> cached = _derivedReferrerReferrers;
+        if (cached != null) {
+            return cached;
+        }
+        final List<ForeignKey> referrers = new ArrayList<ForeignKey>(5);
+        if (hasReferrer()) {
+            for (ForeignKey referrer : getReferrers()) {
+                if (!referrer.isDerivedReferrerSupported()) {
+                    continue;
+                }
+                referrers.add(referrer);
             }
-            _derivedReferrerReferrers.add(referrer);
         }
-        return _derivedReferrerReferrers;
+        _derivedReferrerReferrers = referrers;
+        return referrers;
     }
 
     // unused, after all
@@ -1788,22 +1790,23 @@ public class Table {
     //    return _stringOrIntegerReferrers;
     //}
 
-    protected List<ForeignKey> _singleKeyStringOrIntegerReferrers;
+    protected volatile List<ForeignKey> _singleKeyStringOrIntegerReferrers;
 
     public boolean hasSingleKeyStringOrIntegerReferrer() {
         return !getSingleKeyStringOrIntegerReferrers().isEmpty();
     }
 
     public List<ForeignKey> getSingleKeyStringOrIntegerReferrers() { // still used in CSharp's DerivedReferrer
-        if (_singleKeyStringOrIntegerReferrers != null) {
-            return _singleKeyStringOrIntegerReferrers;
+        final List<ForeignKey> cached = _singleKeyStringOrIntegerReferrers;
+        if (cached != null) {
+            return cached;
         }
-        _singleKeyStringOrIntegerReferrers = new ArrayList<ForeignKey>(5);
-        if (!hasReferrer()) {
-            return _singleKeyStringOrIntegerReferrers;
+        final List<ForeignKey> referrers = new ArrayList<ForeignKey>(5);
+        if (hasReferrer()) {
+            prepareStringOrIntegerForeignKeyList(referrers, true);
         }
-        prepareStringOrIntegerForeignKeyList(_singleKeyStringOrIntegerReferrers, true);
-        return _singleKeyStringOrIntegerReferrers;
+        _singleKeyStringOrIntegerReferrers = referrers;
+        return referrers;
     }
 
     protected void prepareStringOrIntegerForeignKeyList(List<ForeignKey> fkList, boolean simpleKey) {
@@ -2019,15 +2022,16 @@ public class Table {
         return uniqueColumnList;
     }
 
-    protected List<Column> _singlePureUQColumnList;
+    protected volatile List<Column> _singlePureUQColumnList;
 
     public boolean hasSingleUniqueUQColumn() { // e.g. for extract UQ column
         return !getSingleUniqueUQColumnList().isEmpty();
     }
 
     public List<Column> getSingleUniqueUQColumnList() { // e.g. for extract UQ column
-        if (_singlePureUQColumnList != null) {
-            return _singlePureUQColumnList;
+        final List<Column> cached = _singlePureUQColumnList;
+        if (cached != null) {
+            return cached;
         }
         final Map<String, Column> uqColMap = StringKeyMap.createAsFlexibleOrdered();
         final Unique[] unices = getUnices();
@@ -2048,8 +2052,9 @@ public class Table {
             }
             uqColMap.put(column.getName(), column);
         }
-        _singlePureUQColumnList = new ArrayList<Column>(uqColMap.values());
-        return _singlePureUQColumnList;
+        final List<Column> uqColumnList = new ArrayList<Column>(uqColMap.values());
+        _singlePureUQColumnList = uqColumnList;
+        return uqColumnList;
     }
 
     // ===================================================================================
@@ -2132,17 +2137,20 @@ public class Table {
      * Get name to use in Java sources
      */
     public String getJavaName() {
-        if (_javaName != null) {
-            return _javaName;
+        final String cached = _javaName;
+        if (cached != null) {
+            return cached;
         }
         final String pureName = getName();
+        final String javaName;
         if (needsJavaNameConvert()) {
-            _javaName = getDatabase().convertJavaNameByJdbcNameAsTable(pureName);
+            javaName = getDatabase().convertJavaNameByJdbcNameAsTable(pureName);
         } else {
-            _javaName = pureName; // for sql2entity mainly
+            javaName = pureName; // for sql2entity mainly
         }
-        _javaName = filterJavaNameNonCompilableConnector(_javaName);
-        return _javaName;
+        final String filteredName = filterJavaNameNonCompilableConnector(javaName);
+        _javaName = filteredName;
+        return filteredName;
     }
 
     protected String filterJavaNameNonCompilableConnector(String javaName) {
@@ -2478,26 +2486,29 @@ public class Table {
     // ===================================================================================
     //                                                                 Schema Class Prefix
     //                                                                 ===================
-    protected String _schemaClassPrefix;
+    protected volatile String _schemaClassPrefix;
 
     protected String getSchemaClassPrefix() {
-        if (_schemaClassPrefix != null) {
-            return _schemaClassPrefix;
+        final String cached = _schemaClassPrefix;
+        if (cached != null) {
+            return cached;
         }
         // *however same-name tables between different schemas are unsupported at 0.9.6.8
         // *and the limiter can be removed by DBFlute property at 1.0.3
+        String prefix = null;
         if (hasSchema()) {
             final String drivenSchema = _unifiedSchema.getDrivenSchema();
             if (drivenSchema != null) { // forcedly prefix
-                _schemaClassPrefix = filterSchemaForClassPrefix(drivenSchema);
+                prefix = filterSchemaForClassPrefix(drivenSchema);
             } else {
-                _schemaClassPrefix = buildSameNameTableClassPrefix();
+                prefix = buildSameNameTableClassPrefix();
             }
         }
-        if (_schemaClassPrefix == null) {
-            _schemaClassPrefix = "";
+        if (prefix == null) {
+            prefix = "";
         }
-        return _schemaClassPrefix;
+        _schemaClassPrefix = prefix;
+        return prefix;
     }
 
     protected String buildSameNameTableClassPrefix() {
@@ -3168,29 +3179,30 @@ public class Table {
         return getBasicProperties().getLanguageDependency().getLanguageGrammar().buildEntityPropertyName(col);
     }
 
-    protected List<Column> _subColumnSequenceColumnList;
+    protected volatile List<Column> _subColumnSequenceColumnList;
 
     public boolean isUseSubColumnSequence() {
         return !getSubColumnSequenceColumnList().isEmpty();
     }
 
     public List<Column> getSubColumnSequenceColumnList() {
-        if (_subColumnSequenceColumnList != null) {
-            return _subColumnSequenceColumnList;
+        final List<Column> cached = _subColumnSequenceColumnList;
+        if (cached != null) {
+            return cached;
         }
-        _subColumnSequenceColumnList = DfCollectionUtil.newArrayList();
+        final List<Column> sequenceColumnList = DfCollectionUtil.newArrayList();
         final DfSequenceIdentityProperties prop = getSequenceIdentityProperties();
-        if (!prop.hasSubColumnSequence()) {
-            return _subColumnSequenceColumnList;
-        }
-        final List<Column> columnList = getColumnList();
-        for (Column column : columnList) {
-            final String sequenceName = prop.getSubColumnSequenceName(getTableDbName(), column.getName());
-            if (sequenceName != null) {
-                _subColumnSequenceColumnList.add(column);
+        if (prop.hasSubColumnSequence()) {
+            final List<Column> columnList = getColumnList();
+            for (Column column : columnList) {
+                final String sequenceName = prop.getSubColumnSequenceName(getTableDbName(), column.getName());
+                if (sequenceName != null) {
+                    sequenceColumnList.add(column);
+                }
             }
         }
-        return _subColumnSequenceColumnList;
+        _subColumnSequenceColumnList = sequenceColumnList;
+        return sequenceColumnList;
     }
 
     // ===================================================================================
@@ -4113,20 +4125,21 @@ public class Table {
         }
     }
 
-    protected List<Column> _behaviorFilterBeforeInsertColumnList;
+    protected volatile List<Column> _behaviorFilterBeforeInsertColumnList;
 
     public boolean hasBehaviorFilterBeforeInsertColumn() {
         return !getBehaviorFilterBeforeInsertColumnList().isEmpty();
     }
 
     public List<Column> getBehaviorFilterBeforeInsertColumnList() {
-        if (_behaviorFilterBeforeInsertColumnList != null) {
-            return _behaviorFilterBeforeInsertColumnList;
+        final List<Column> cached = _behaviorFilterBeforeInsertColumnList;
+        if (cached != null) {
+            return cached;
         }
         final DfBehaviorFilterProperties prop = getProperties().getBehaviorFilterProperties();
         final Map<String, Object> map = prop.getBeforeInsertMap();
         final Set<String> columnNameSet = map.keySet();
-        _behaviorFilterBeforeInsertColumnList = new ArrayList<Column>();
+        final List<Column> filterColumnList = new ArrayList<Column>();
         final Set<String> commonColumnNameSet = new HashSet<String>();
         if (hasAllCommonColumn()) {
             final List<Column> commonColumnList = getCommonColumnList();
@@ -4137,7 +4150,7 @@ public class Table {
         for (String columnName : columnNameSet) {
             Column column = getColumn(columnName);
             if (column != null && !commonColumnNameSet.contains(columnName)) {
-                _behaviorFilterBeforeInsertColumnList.add(column);
+                filterColumnList.add(column);
                 String expression = (String) map.get(columnName);
                 if (expression == null || expression.trim().length() == 0) {
                     String msg = "The value expression was not found in beforeInsertMap: column=" + column;
@@ -4146,7 +4159,8 @@ public class Table {
                 column.setBehaviorFilterBeforeInsertColumnExpression(expression);
             }
         }
-        return _behaviorFilterBeforeInsertColumnList;
+        _behaviorFilterBeforeInsertColumnList = filterColumnList;
+        return filterColumnList;
     }
 
     public String getBehaviorFilterBeforeInsertColumnExpression(String columName) {
@@ -4155,20 +4169,21 @@ public class Table {
         return (String) map.get(columName);
     }
 
-    protected List<Column> _behaviorFilterBeforeUpdateColumnList;
+    protected volatile List<Column> _behaviorFilterBeforeUpdateColumnList;
 
     public boolean hasBehaviorFilterBeforeUpdateColumn() {
         return !getBehaviorFilterBeforeUpdateColumnList().isEmpty();
     }
 
     public List<Column> getBehaviorFilterBeforeUpdateColumnList() {
-        if (_behaviorFilterBeforeUpdateColumnList != null) {
-            return _behaviorFilterBeforeUpdateColumnList;
+        final List<Column> cached = _behaviorFilterBeforeUpdateColumnList;
+        if (cached != null) {
+            return cached;
         }
         DfBehaviorFilterProperties prop = getProperties().getBehaviorFilterProperties();
         Map<String, Object> map = prop.getBeforeUpdateMap();
         Set<String> columnNameSet = map.keySet();
-        _behaviorFilterBeforeUpdateColumnList = new ArrayList<Column>();
+        final List<Column> filterColumnList = new ArrayList<Column>();
         Set<String> commonColumnNameSet = new HashSet<String>();
         if (hasAllCommonColumn()) {
             List<Column> commonColumnList = getCommonColumnList();
@@ -4179,7 +4194,7 @@ public class Table {
         for (String columnName : columnNameSet) {
             Column column = getColumn(columnName);
             if (column != null && !commonColumnNameSet.contains(columnName)) {
-                _behaviorFilterBeforeUpdateColumnList.add(column);
+                filterColumnList.add(column);
                 String expression = (String) map.get(columnName);
                 if (expression == null || expression.trim().length() == 0) {
                     String msg = "The value expression was not found in beforeUpdateMap: column=" + column;
@@ -4188,7 +4203,8 @@ public class Table {
                 column.setBehaviorFilterBeforeUpdateColumnExpression(expression);
             }
         }
-        return _behaviorFilterBeforeUpdateColumnList;
+        _behaviorFilterBeforeUpdateColumnList = filterColumnList;
+        return filterColumnList;
     }
 
     // ===================================================================================
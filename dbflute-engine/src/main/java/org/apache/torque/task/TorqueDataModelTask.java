@@ -74,7 +74,15 @@
  */
 package org.apache.torque.task;
 
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.dbflute.friends.velocity.DfGenerator;
+import org.dbflute.infra.core.DfEnvironmentType;
 import org.dbflute.logic.generate.gapile.DfGapileProcess;
+import org.dbflute.logic.generate.incremental.DfIncrementalGenerateFingerprinter;
+import org.dbflute.logic.generate.incremental.DfIncrementalGenerateManifest;
 import org.dbflute.logic.generate.language.DfLanguageDependency;
 import org.dbflute.logic.jdbc.schemaxml.DfSchemaXmlReader;
 import org.dbflute.logic.sql2entity.analyzer.DfOutsideSqlPack;
@@ -138,7 +146,13 @@ public class TorqueDataModelTask extends DfAbstractDbMetaTexenTask {
     @Override
     protected void doExecute() {
         setupControlTemplate();
-        fireVelocityProcess();
+        final DfIncrementalGenerateManifest manifest = prepareIncrementalManifest();
+        try {
+            fireVelocityProcess();
+        } finally {
+            getGenerator().acceptIncrementalManifest(null); // not to be used by other tasks
+        }
+        saveIncrementalManifestIfNeeds(manifest);
         setupBehaviorQueryPath();
         reflectGapileClassIfNeeds();
         showSkippedFileInformation();
@@ -168,6 +182,70 @@ public class TorqueDataModelTask extends DfAbstractDbMetaTexenTask {
         setControlTemplate(control);
     }
 
+    // ===================================================================================
+    //                                                                Incremental Generate
+    //                                                                ====================
+    protected DfIncrementalGenerateManifest prepareIncrementalManifest() {
+        final DfLittleAdjustmentProperties littleProp = getLittleAdjustmentProperties();
+        final File manifestFile = new File(littleProp.getIncrementalGenerateManifestFile());
+        if (!littleProp.isIncrementalGenerate()) {
+            DfIncrementalGenerateManifest.deleteIfExists(manifestFile); // stale manifest might skip changed outputs later
+            return null;
+        }
+        final List<File> templateDirList = extractTemplateDirList();
+        if (templateDirList.isEmpty()) { // e.g. classpath templates, cannot calculate fingerprint
+            _log.info("...Generating all classes (incremental needs template directory)");
+            DfIncrementalGenerateManifest.deleteIfExists(manifestFile);
+            return null;
+        }
+        final DfBasicProperties basicProp = getBasicProperties();
+        final DfIncrementalGenerateFingerprinter fingerprinter = createIncrementalGenerateFingerprinter(basicProp);
+        final String envType = DfEnvironmentType.getInstance().getEnvironmentType();
+        final String outputDirectory = basicProp.getGenerateOutputDirectory();
+        final File dfpropDir = new File("./dfprop");
+        final String baseFingerprint =
+                fingerprinter.buildBaseFingerprint(templateDirList, dfpropDir, getProperties().getProperties(), outputDirectory, envType);
+        final DfIncrementalGenerateManifest manifest = new DfIncrementalGenerateManifest(manifestFile, baseFingerprint, fingerprinter);
+        manifest.load(); // deletes the file until generation succeeds
+        getGenerator().acceptIncrementalManifest(manifest);
+        return manifest;
+    }
+
+    protected DfIncrementalGenerateFingerprinter createIncrementalGenerateFingerprinter(DfBasicProperties basicProp) {
+        return new DfIncrementalGenerateFingerprinter(new File(basicProp.getProejctSchemaXMLFile()));
+    }
+
+    protected List<File> extractTemplateDirList() {
+        final List<File> templateDirList = new ArrayList<File>();
+        if (templatePath == null || useClasspath) {
+            return templateDirList;
+        }
+        for (String element : templatePath.split(",")) { // resource loader path may be comma-separated
+            final File templateDir = new File(element.trim());
+            if (!templateDir.isDirectory()) { // unknown resource
+                return new ArrayList<File>();
+            }
+            templateDirList.add(templateDir);
+        }
+        return templateDirList;
+    }
+
+    protected void saveIncrementalManifestIfNeeds(DfIncrementalGenerateManifest manifest) {
+        if (manifest == null) {
+            return;
+        }
+        manifest.save();
+        _log.info("...Saving incremental manifest: outputs=" + manifest.getRegisteredCount());
+    }
+
+    // ===================================================================================
+    //                                                                  Parallel Rendering
+    //                                                                  ==================
+    @Override
+    protected int getRenderingParallelism() {
+        return getLittleAdjustmentProperties().getGenerateRenderingParallelism();
+    }
+
     // ===================================================================================
     //                                                                 Behavior Query Path
     //                                                                 ===================
@@ -27,11 +27,20 @@ import java.io.OutputStreamWriter;
 import java.io.StringWriter;
 import java.io.Writer;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Enumeration;
 import java.util.Hashtable;
-import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 
 import org.apache.velocity.Template;
 import org.apache.velocity.VelocityContext;
@@ -41,6 +50,7 @@ import org.apache.velocity.exception.MethodInvocationException;
 import org.dbflute.DfBuildProperties;
 import org.dbflute.exception.DfTemplateParsingException;
 import org.dbflute.helper.message.ExceptionMessageBuilder;
+import org.dbflute.logic.generate.incremental.DfIncrementalGenerateManifest;
 import org.dbflute.properties.DfBasicProperties;
 
 /**
@@ -56,17 +66,32 @@ public class DfFlutistGenerator extends DfGenerator {
     //                                                                          ==========
     public static final String OUTPUT_PATH = "output.path";
     public static final String TEMPLATE_PATH = "template.path";
+    public static final String RENDERING_GROUP_KEY = "table"; // outputs of same table are rendered on one worker
 
     // ===================================================================================
     //                                                                           Attribute
     //                                                                           =========
     protected final Properties props = new Properties();
     protected Context controlContext;
-    protected final Hashtable<String, Writer> writers = new Hashtable<String, Writer>();
     protected String outputEncoding;
     protected String inputEncoding;
-    protected final List<String> parseFileNameList = new ArrayList<String>(); // *extension
-    protected final List<String> skipFileNameList = new ArrayList<String>(); // *extension
+    protected final List<String> parseFileNameList = Collections.synchronizedList(new ArrayList<String>()); // *extension
+    protected final List<String> skipFileNameList = Collections.synchronizedList(new ArrayList<String>()); // *extension
+    protected DfIncrementalGenerateManifest incrementalManifest; // null allowed: incremental disabled
+
+    /** The cache of parsed templates, which are thread-safe for merging. (NotNull) */
+    protected final Map<String, Template> templateCache = new ConcurrentHashMap<String, Template>();
+
+    // -----------------------------------------------------
+    //                                    Parallel Rendering
+    //                                    ------------------
+    protected int renderingParallelism = 1; // sequential as default
+    protected ExecutorService renderingExecutor; // null allowed: lazy-created, sequential
+    protected final List<Future<List<String>>> renderingFutureList = new ArrayList<Future<List<String>>>(); // in parsing order
+    protected final Map<String, Future<List<String>>> renderingFutureMap = new ConcurrentHashMap<String, Future<List<String>>>();
+    protected Object pendingGroupKey; // null allowed: no pending, only on control thread
+    protected final Map<String, Supplier<String>> pendingRenderingMap = new LinkedHashMap<String, Supplier<String>>(); // key is output
+    protected final ThreadLocal<Context> renderingContextHolder = new ThreadLocal<Context>(); // on worker
 
     /** The engine instance of velocity. (NotNull: after initialization, Overridden: when initialization) */
     protected VelocityEngine velocityEngine;
@@ -90,6 +115,7 @@ public class DfFlutistGenerator extends DfGenerator {
     //                                                                      ==============
     public void initializeEngine() {
         velocityEngine = new VelocityEngine();
+        templateCache.clear(); // templates belong to the engine
     }
 
     protected void initializeEngineIfNeeds() {
@@ -188,8 +214,9 @@ public class DfFlutistGenerator extends DfGenerator {
             String msg = "The argument 'inputTemplate' should not be null: outputFile=" + outputFile;
             throw new IllegalArgumentException(msg);
         }
+        final Context currentContext = findCurrentContext();
         if (objectID != null && object != null) {
-            controlContext.put(objectID, object);
+            currentContext.put(objectID, object);
         }
         if (specifiedInputEncoding == null || specifiedInputEncoding.trim().length() == 0) {
             specifiedInputEncoding = this.inputEncoding;
@@ -197,53 +224,89 @@ public class DfFlutistGenerator extends DfGenerator {
         if (specifiedOutputEncoding == null || specifiedOutputEncoding.trim().length() == 0) {
             specifiedOutputEncoding = this.outputEncoding;
         }
-        try {
-            final Template template = getTemplate(inputTemplate, specifiedInputEncoding);
+        // return the contents as string if no output
+        if (outputFile == null || outputFile.isEmpty()) {
             parseFileNameList.add(outputFile);
-
-            final VelocityContext vc = new VelocityContext(controlContext);
-            final StringWriter sw = new StringWriter();
-            template.merge(vc, sw);
-            final String newContent = resolveLineSeparatorIfNeeds(sw.toString());
-
-            // return the contents as string if no output
-            if (outputFile == null || outputFile.isEmpty()) {
-                return newContent;
+            try {
+                return mergeTemplate(inputTemplate, specifiedInputEncoding, currentContext);
+            } catch (Throwable e) {
+                throwTemplateParsingException(inputTemplate, specifiedInputEncoding, e);
+                return null; // unreachable
             }
+        }
+        final String outputFullPath = buildOutputFullPath(outputFile); // resolved here because output path may be switched
+        final String incrementalFingerprint = prepareIncrementalFingerprint(inputTemplate, object);
+        if (incrementalFingerprint != null && incrementalManifest.isUnchanged(outputFullPath, incrementalFingerprint)) {
+            parseFileNameList.add(outputFile);
+            skipFileNameList.add(new File(outputFullPath).getName()); // without rendering
+            registerIncrementalFingerprint(outputFullPath, incrementalFingerprint);
+            return "";
+        }
+        parseFileNameList.add(outputFile);
+        if (isParallelRenderingAvailable()) {
+            submitRendering(inputTemplate, specifiedInputEncoding, outputFullPath, specifiedOutputEncoding, currentContext,
+                    incrementalFingerprint);
+            return "";
+        }
+        final String skippedFileName =
+                renderOutput(inputTemplate, specifiedInputEncoding, outputFullPath, specifiedOutputEncoding, currentContext,
+                        incrementalFingerprint);
+        if (skippedFileName != null) {
+            skipFileNameList.add(skippedFileName);
+        }
+        return "";
+    }
 
-            final File oldFile = new File(buildOutputFullPath(outputFile));
+    /**
+     * Render the output and write it to the file (closed immediately).
+     * @return The file name of output if skipped because it's completely same. (NullAllowed: written)
+     */
+    protected String renderOutput(String inputTemplate, String specifiedInputEncoding, String outputFullPath,
+            String specifiedOutputEncoding, Context context, String incrementalFingerprint) {
+        try {
+            final String newContent = mergeTemplate(inputTemplate, specifiedInputEncoding, context);
+            final File oldFile = new File(outputFullPath);
             if (oldFile.exists()) { // then it might skip to generate if it's completely same
                 final String oldContent = new String(getBytes(oldFile), specifiedOutputEncoding);
                 if (newContent.equals(oldContent)) {
-                    skipFileNameList.add(oldFile.getName());
-                    return "";
+                    registerIncrementalFingerprint(outputFullPath, incrementalFingerprint);
+                    return oldFile.getName();
                 }
             }
-
-            final Writer writer = findOutputWriter(outputFile, specifiedOutputEncoding);
-            writer.write(newContent);
-
-            // this is commented out because it is closed in shutdown();
-            //writer.close();
+            try (Writer writer = getWriter(outputFullPath, specifiedOutputEncoding)) {
+                writer.write(newContent);
+            }
+            registerIncrementalFingerprint(outputFullPath, incrementalFingerprint);
         } catch (Throwable e) {
             throwTemplateParsingException(inputTemplate, specifiedInputEncoding, e);
         }
-        return "";
+        return null;
     }
 
-    protected Writer findOutputWriter(String outputFile, String specifiedOutputEncoding) throws Exception {
-        final String uniqueKey = buildOutputFullPath(outputFile);
-        final Writer writer;
-        if (writers.get(outputFile) == null) {
-            // We have never seen this file before so create a new file writer for it.
-            writer = getWriter(getOutputPath() + File.separator + outputFile, specifiedOutputEncoding);
+    protected String mergeTemplate(String inputTemplate, String specifiedInputEncoding, Context context) throws Exception {
+        final Template template = getTemplate(inputTemplate, specifiedInputEncoding);
+        final VelocityContext vc = new VelocityContext(context); // child context not to pollute the parent
+        final StringWriter sw = new StringWriter();
+        template.merge(vc, sw);
+        return resolveLineSeparatorIfNeeds(sw.toString());
+    }
 
-            // Place the file writer in our collection of file writers.
-            writers.put(uniqueKey, writer);
-        } else {
-            writer = (Writer) writers.get(uniqueKey);
+    protected Context findCurrentContext() {
+        final Context renderingContext = renderingContextHolder.get();
+        return renderingContext != null ? renderingContext : controlContext; // rendering context if nested on worker
+    }
+
+    protected String prepareIncrementalFingerprint(String inputTemplate, Object object) {
+        if (incrementalManifest == null) { // disabled
+            return null;
+        }
+        return incrementalManifest.buildFingerprint(inputTemplate, object);
+    }
+
+    protected void registerIncrementalFingerprint(String outputFullPath, String incrementalFingerprint) {
+        if (incrementalFingerprint != null) {
+            incrementalManifest.register(outputFullPath, incrementalFingerprint);
         }
-        return writer;
     }
 
     protected String buildOutputFullPath(String outputFile) {
@@ -303,8 +366,13 @@ public class DfFlutistGenerator extends DfGenerator {
 
         final Template template = getTemplate(controlTemplate, inputEncoding);
         final StringWriter sw = new StringWriter();
-        template.merge(controlContext, sw);
-
+        try {
+            template.merge(controlContext, sw);
+        } catch (Exception e) {
+            cancelRendering();
+            throw e;
+        }
+        waitForAllRendering(); // outputs rendered on workers are completed here
         return sw.toString();
     }
 
@@ -345,19 +413,10 @@ public class DfFlutistGenerator extends DfGenerator {
         }
     }
 
-    public void shutdown() {
-        final Iterator<Writer> iterator = writers.values().iterator();
-        while (iterator.hasNext()) {
-            Writer writer = (Writer) iterator.next();
-            try {
-                writer.flush();
-                writer.close();
-            } catch (Exception e) {
-                /* do nothing */
-            }
-        }
-        // clear the file writers cache
-        writers.clear();
+    public void shutdown() { // output writers are already closed when rendering
+        cancelRendering();
+        renderingParallelism = 1;
+        templateCache.clear();
     }
 
     public Writer getWriter(String path, String encoding) throws Exception {
@@ -372,15 +431,165 @@ public class DfFlutistGenerator extends DfGenerator {
 
     public Template getTemplate(String templateName, String encoding) throws Exception {
         initializeEngineIfNeeds();
+        final String cacheKey = templateName + "@" + encoding;
+        final Template cached = templateCache.get(cacheKey);
+        if (cached != null) { // merging template is thread-safe
+            return cached;
+        }
         final Template template;
         if (encoding == null || encoding.length() == 0 || encoding.equals("8859-1") || encoding.equals("8859_1")) {
             template = velocityEngine.getTemplate(templateName);
         } else {
             template = velocityEngine.getTemplate(templateName, encoding);
         }
+        templateCache.put(cacheKey, template);
         return template;
     }
 
+    // ===================================================================================
+    //                                                                  Parallel Rendering
+    //                                                                  ==================
+    public void acceptRenderingParallelism(int parallelism) {
+        this.renderingParallelism = parallelism;
+    }
+
+    protected boolean isParallelRenderingAvailable() {
+        return renderingParallelism > 1 && renderingContextHolder.get() == null; // nested parsing on worker is synchronous
+    }
+
+    protected void submitRendering(String inputTemplate, String specifiedInputEncoding, String outputFullPath,
+            String specifiedOutputEncoding, Context currentContext, String incrementalFingerprint) {
+        final Context snapshotContext = snapshotContext(currentContext); // control context keeps changing
+        final Object groupKey = snapshotContext.get(RENDERING_GROUP_KEY);
+        if (groupKey == null || groupKey != pendingGroupKey) { // e.g. next table
+            flushPendingRendering();
+        }
+        pendingGroupKey = groupKey;
+        pendingRenderingMap.put(outputFullPath, () -> {
+            renderingContextHolder.set(snapshotContext);
+            try {
+                return renderOutput(inputTemplate, specifiedInputEncoding, outputFullPath, specifiedOutputEncoding, snapshotContext,
+                        incrementalFingerprint);
+            } finally {
+                renderingContextHolder.remove();
+            }
+        });
+        if (groupKey == null) { // not grouped
+            flushPendingRendering();
+        }
+    }
+
+    protected void flushPendingRendering() { // submits pending outputs of one table as one task
+        if (pendingRenderingMap.isEmpty()) {
+            return;
+        }
+        final List<Supplier<String>> renderingList = new ArrayList<Supplier<String>>(pendingRenderingMap.values());
+        final Future<List<String>> future = prepareRenderingExecutor().submit(() -> {
+            final List<String> skippedFileNameList = new ArrayList<String>();
+            for (Supplier<String> rendering : renderingList) { // in order of parsing
+                final String skippedFileName = rendering.get();
+                if (skippedFileName != null) {
+                    skippedFileNameList.add(skippedFileName);
+                }
+            }
+            return skippedFileNameList;
+        });
+        renderingFutureList.add(future);
+        for (String outputFullPath : pendingRenderingMap.keySet()) {
+            renderingFutureMap.put(outputFullPath, future);
+        }
+        pendingRenderingMap.clear();
+        pendingGroupKey = null;
+    }
+
+    protected Context snapshotContext(Context context) {
+        final VelocityContext snapshot = new VelocityContext();
+        for (Object key : context.getKeys()) {
+            snapshot.put((String) key, context.get((String) key));
+        }
+        return snapshot;
+    }
+
+    protected synchronized ExecutorService prepareRenderingExecutor() {
+        if (renderingExecutor == null) {
+            final AtomicInteger threadNumber = new AtomicInteger();
+            renderingExecutor = Executors.newFixedThreadPool(renderingParallelism, runnable -> {
+                final Thread thread = new Thread(runnable, "dbflute-rendering-" + threadNumber.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        return renderingExecutor;
+    }
+
+    public void waitForRendering(String outputFullPath) {
+        if (pendingRenderingMap.containsKey(outputFullPath)) { // not submitted yet
+            flushPendingRendering();
+        }
+        final Future<List<String>> future = renderingFutureMap.get(outputFullPath);
+        if (future != null) {
+            getRenderingResult(future);
+        }
+    }
+
+    protected void waitForAllRendering() {
+        flushPendingRendering();
+        RuntimeException firstCause = null;
+        for (Future<List<String>> future : renderingFutureList) { // in order of parsing for deterministic information
+            try {
+                skipFileNameList.addAll(getRenderingResult(future));
+            } catch (RuntimeException e) {
+                if (firstCause == null) {
+                    firstCause = e;
+                }
+            }
+        }
+        renderingFutureList.clear();
+        renderingFutureMap.clear();
+        if (firstCause != null) {
+            throw firstCause;
+        }
+    }
+
+    protected List<String> getRenderingResult(Future<List<String>> future) {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            final Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IllegalStateException("Failed to render the output.", cause);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for rendering.", e);
+        }
+    }
+
+    protected synchronized void cancelRendering() {
+        pendingRenderingMap.clear();
+        pendingGroupKey = null;
+        for (Future<List<String>> future : renderingFutureList) {
+            future.cancel(true);
+        }
+        renderingFutureList.clear();
+        renderingFutureMap.clear();
+        if (renderingExecutor != null) {
+            renderingExecutor.shutdownNow();
+            renderingExecutor = null;
+        }
+    }
+
+    // ===================================================================================
+    //                                                                Incremental Generate
+    //                                                                ====================
+    public void acceptIncrementalManifest(DfIncrementalGenerateManifest manifest) {
+        this.incrementalManifest = manifest;
+    }
+
     // ===================================================================================
     //                                                                       Assist Helper
     //                                                                       =============
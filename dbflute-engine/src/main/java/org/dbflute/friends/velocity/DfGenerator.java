@@ -19,6 +19,7 @@ import java.util.List;
 
 import org.apache.velocity.app.VelocityEngine;
 import org.apache.velocity.context.Context;
+import org.dbflute.logic.generate.incremental.DfIncrementalGenerateManifest;
 
 /**
  * @author jflute
@@ -80,6 +81,28 @@ public abstract class DfGenerator {
 
     public abstract void shutdown();
 
+    // ===================================================================================
+    //                                                                  Parallel Rendering
+    //                                                                  ==================
+    /**
+     * @param parallelism The count of threads to render outputs, 1 means sequential. (NotMinus, NotZero)
+     */
+    public abstract void acceptRenderingParallelism(int parallelism);
+
+    /**
+     * Wait for the rendering of the output if it is rendering on other thread.
+     * @param outputFullPath The full path of output file. (NotNull)
+     */
+    public abstract void waitForRendering(String outputFullPath);
+
+    // ===================================================================================
+    //                                                                Incremental Generate
+    //                                                                ====================
+    /**
+     * @param manifest The manifest of incremental generation. (NullAllowed: if null, incremental is disabled)
+     */
+    public abstract void acceptIncrementalManifest(DfIncrementalGenerateManifest manifest);
+
     // ===================================================================================
     //                                                                    Skip Information
     //                                                                    ================
@@ -51,6 +51,7 @@ public class DfDataTable {
     protected final List<DfDataRow> _rows = new ArrayList<DfDataRow>();
     protected final List<DfDataRow> _removedRows = new ArrayList<DfDataRow>();
     protected boolean _hasMetaData;
+    protected int _flushedRowCount; // for row number after flush (streaming)
 
     // failed to be helper dependencies...
     protected final DfColumnExtractor _columnExtractor = new DfColumnExtractor();
@@ -75,13 +76,22 @@ public class DfDataTable {
     }
 
     public DfDataRow addRow() {
-        final int rowNumber = _rows.size() + 1;
+        final int rowNumber = _flushedRowCount + _rows.size() + 1;
         final DfDataRow row = new DfDataRow(this, rowNumber);
         _rows.add(row);
         row.setState(DfDtsRowStates.CREATED);
         return row;
     }
 
+    /**
+     * Flush the rows already handled, for streaming that handles rows per batch. <br>
+     * The row numbers of rows added after this continue from the flushed rows.
+     */
+    public void flushRows() {
+        _flushedRowCount = _flushedRowCount + _rows.size();
+        _rows.clear();
+    }
+
     public int getRemovedRowSize() {
         return _removedRows.size();
     }
@@ -0,0 +1,436 @@
+/*
+ * Copyright 2014-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.dbflute.helper.io.xls;
+
+import java.io.File;
+import java.math.BigDecimal;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.poi.ss.usermodel.Cell;
+import org.dbflute.exception.DfXlsReaderReadFailureException;
+import org.dbflute.helper.dataset.DfDataColumn;
+import org.dbflute.helper.dataset.DfDataRow;
+import org.dbflute.helper.dataset.DfDataSetConstants;
+import org.dbflute.helper.dataset.DfDataTable;
+import org.dbflute.helper.dataset.types.DfDtsColumnType;
+import org.dbflute.helper.dataset.types.DfDtsColumnTypes;
+import org.dbflute.helper.message.ExceptionMessageBuilder;
+import org.dbflute.util.DfTypeUtil;
+import org.dbflute.util.Srl;
+import org.dbflute.util.Srl.ScopeInfo;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The converter of cell values for table xls readers, shared by the usermodel reader and the streaming reader. <br>
+ * The readers adapt their own cells to {@link DfXlsCellResource} so both read the same values.
+ * @author agent
+ * @since 1.2.3 (2026/10/19 Monday)
+ */
+public class DfTableXlsCellConverter {
+
+    // ===================================================================================
+    //                                                                          Definition
+    //                                                                          ==========
+    private static final Logger _log = LoggerFactory.getLogger(DfTableXlsCellConverter.class);
+
+    // ===================================================================================
+    //                                                                           Attribute
+    //                                                                           =========
+    protected final File _xlsFile; // for exception message
+    protected final Map<String, List<String>> _notTrimTableColumnMap;
+    protected final Map<String, List<String>> _emptyStringTableColumnMap;
+    protected final boolean _rtrimCellValue;
+
+    /** The map for large data table. map:{ table.column = map:{ dataKey = joined-large-string } } (NullAllowed) */
+    protected Map<String, Map<String, String>> _largeDataMap;
+
+    // ===================================================================================
+    //                                                                         Constructor
+    //                                                                         ===========
+    public DfTableXlsCellConverter(File xlsFile, Map<String, List<String>> notTrimTableColumnMap,
+            Map<String, List<String>> emptyStringTableColumnMap, boolean rtrimCellValue) {
+        _xlsFile = xlsFile;
+        _notTrimTableColumnMap = notTrimTableColumnMap;
+        _emptyStringTableColumnMap = emptyStringTableColumnMap;
+        _rtrimCellValue = rtrimCellValue;
+    }
+
+    // ===================================================================================
+    //                                                                       Cell Resource
+    //                                                                       =============
+    /**
+     * The cell of xls adapted for conversion, e.g. usermodel cell or record of event model.
+     */
+    public static interface DfXlsCellResource {
+
+        /**
+         * @return The type of cell, e.g. Cell.CELL_TYPE_NUMERIC.
+         */
+        int getCellType();
+
+        /**
+         * @return The value of numeric cell.
+         */
+        double getNumericValue();
+
+        /**
+         * @return The value of date-formatted numeric cell, resolved by date window of workbook. (NotNull)
+         */
+        Date getDateValue();
+
+        /**
+         * @return The value of string cell. (NotNull)
+         */
+        String getStringValue();
+
+        /**
+         * @return The value of boolean cell.
+         */
+        boolean getBooleanValue();
+
+        /**
+         * @return The format string of cell style. (NullAllowed)
+         */
+        String getFormatString();
+    }
+
+    // ===================================================================================
+    //                                                                      Value Handling
+    //                                                                      ==============
+    /**
+     * Convert the cell to the value for data row.
+     * @param table The data table of the sheet. (NotNull)
+     * @param columnIndex The index of column for the cell.
+     * @param rowNumber The row number of the cell, for exception message.
+     * @param cell The resource of the cell. (NullAllowed: if no cell)
+     * @return The converted value, e.g. BigDecimal, Timestamp, String, Boolean, byte[]. (NullAllowed)
+     */
+    public Object convertCellValue(DfDataTable table, int columnIndex, int rowNumber, DfXlsCellResource cell) {
+        if (cell == null) {
+            return isEmptyStringTarget(table, columnIndex) ? "" : null;
+        }
+        switch (cell.getCellType()) {
+        case Cell.CELL_TYPE_NUMERIC:
+            if (isCellDateFormatted(cell)) {
+                return DfTypeUtil.toTimestamp(cell.getDateValue());
+            }
+            final double numericCellValue = cell.getNumericValue();
+            if (isInt(numericCellValue)) {
+                return new BigDecimal((int) numericCellValue);
+            }
+            return new BigDecimal(Double.toString(numericCellValue));
+        case Cell.CELL_TYPE_STRING:
+            return processStringCellValue(table, columnIndex, rowNumber, cell);
+        case Cell.CELL_TYPE_BOOLEAN:
+            return Boolean.valueOf(cell.getBooleanValue());
+        default:
+            return isEmptyStringTarget(table, columnIndex) ? "" : null;
+        }
+    }
+
+    protected Object processStringCellValue(DfDataTable table, int columnIndex, int rowNumber, DfXlsCellResource cell) {
+        String str = cell.getStringValue();
+        str = rtrimCellValueIfNeeds(table, columnIndex, str); // basically for compatible
+        str = treatEmptyAsNullBasically(str); // empty means null basically
+        str = treatNullAsEmptyIfTarget(table, columnIndex, str); // but empty if target
+        str = treatCrLfAsLf(str); // remove CR
+        if (isCellBase64Formatted(cell)) {
+            return decodeAsBase64(str);
+        }
+        // normal cell here
+        return resolveLargeDataIfNeeds(table, columnIndex, rowNumber, str);
+    }
+
+    protected String rtrimCellValueIfNeeds(DfDataTable table, int columnIndex, String str) {
+        if (str != null && _rtrimCellValue && !isNotTrimTarget(table, columnIndex)) {
+            return Srl.rtrim(str);
+        }
+        return str;
+    }
+
+    protected String treatEmptyAsNullBasically(String str) {
+        return "".equals(str) ? null : str;
+    }
+
+    protected String treatNullAsEmptyIfTarget(DfDataTable table, int columnIndex, String str) {
+        return str == null && isEmptyStringTarget(table, columnIndex) ? "" : str;
+    }
+
+    protected String treatCrLfAsLf(String str) {
+        // basically excel treats line separators as LF
+        // so this process cannot be required but just in case
+        return str != null ? Srl.replace(str, "\r\n", "\n") : null;
+    }
+
+    protected Object decodeAsBase64(String str) {
+        return str != null ? DfTypeUtil.decodeAsBase64(str) : null;
+    }
+
+    /**
+     * Add the converted value to the data row, changing the column type to string if the string cell is not number.
+     * @param dataRow The data row to be added. (NotNull)
+     * @param column The data column of the value. (NotNull)
+     * @param cell The resource of the cell. (NullAllowed: if no cell)
+     * @param value The converted value of the cell. (NullAllowed)
+     */
+    public void addCellValue(DfDataRow dataRow, DfDataColumn column, DfXlsCellResource cell, Object value) {
+        final String columnName = column.getColumnDbName();
+        try {
+            dataRow.addValue(columnName, value);
+        } catch (NumberFormatException e) {
+            if (cell == null || cell.getCellType() != Cell.CELL_TYPE_STRING) {
+                throw e;
+            }
+            _log.info("...Changing the column type to STRING type: name=" + columnName + " value=" + value);
+            column.setColumnType(DfDtsColumnTypes.STRING);
+            dataRow.addValue(columnName, value);
+        }
+    }
+
+    public DfDtsColumnType getColumnType(DfXlsCellResource cell) {
+        switch (cell.getCellType()) {
+        case Cell.CELL_TYPE_NUMERIC:
+            if (isCellDateFormatted(cell)) {
+                return DfDtsColumnTypes.TIMESTAMP;
+            }
+            return DfDtsColumnTypes.BIGDECIMAL;
+        case Cell.CELL_TYPE_BOOLEAN:
+            return DfDtsColumnTypes.BOOLEAN;
+        case Cell.CELL_TYPE_STRING:
+            if (isCellBase64Formatted(cell)) {
+                return DfDtsColumnTypes.BINARY;
+            }
+            return DfDtsColumnTypes.STRING;
+        default:
+            return DfDtsColumnTypes.STRING;
+        }
+    }
+
+    public void throwCellValueHandlingException(DfDataTable table, DfDataColumn column, int rowNumber, DfXlsCellResource cell,
+            Object value, RuntimeException cause) {
+        final ExceptionMessageBuilder br = new ExceptionMessageBuilder();
+        br.addNotice("Failed to handle the cell value on the xls file.");
+        br.addItem("Advice");
+        br.addElement("Confirm the exception message.");
+        br.addElement("The cell value may be wrong type for the column.");
+        br.addElement("So confirm the value on the xls file.");
+        br.addItem("RuntimeException");
+        br.addElement(cause.getMessage());
+        br.addItem("Xls File");
+        br.addElement(_xlsFile);
+        br.addItem("Table");
+        br.addElement(table.getTableDbName());
+        br.addItem("Column");
+        br.addElement(column != null ? column.getColumnDbName() : null);
+        br.addItem("Mapping Type");
+        final DfDtsColumnType columnType = column != null ? column.getColumnType() : null;
+        br.addElement(columnType != null ? columnType.getType() : null);
+        br.addItem("Cell Type");
+        if (cell != null) {
+            switch (cell.getCellType()) {
+            case Cell.CELL_TYPE_NUMERIC:
+                br.addElement("CELL_TYPE_NUMERIC");
+                break;
+            case Cell.CELL_TYPE_STRING:
+                br.addElement("CELL_TYPE_STRING");
+                break;
+            case Cell.CELL_TYPE_FORMULA:
+                br.addElement("CELL_TYPE_FORMULA");
+                break;
+            case Cell.CELL_TYPE_BLANK:
+                br.addElement("CELL_TYPE_BLANK");
+                break;
+            case Cell.CELL_TYPE_BOOLEAN:
+                br.addElement("CELL_TYPE_BOOLEAN");
+                break;
+            case Cell.CELL_TYPE_ERROR:
+                br.addElement("CELL_TYPE_ERROR");
+                break;
+            default:
+                br.addElement(cell.getCellType());
+                break;
+            }
+        }
+        br.addItem("Cell Value");
+        br.addElement(value);
+        br.addItem("Row Number");
+        br.addElement(column != null ? rowNumber : null);
+        final String msg = br.buildExceptionMessage();
+        throw new DfXlsReaderReadFailureException(msg, cause);
+    }
+
+    // ===================================================================================
+    //                                                                          Large Data
+    //                                                                          ==========
+    /**
+     * Register the managed data of large data sheet, e.g. key(df:delimiter){value}.
+     * @param largeDataMap The map of large data for the column title. map:{ dataKey = joined-large-string } (NotNull)
+     * @param sheetName The name of large data sheet, for exception message. (NotNull)
+     * @param columnTitle The title of the column, e.g. MEMBER.MEMBER_NAME. (NotNull)
+     * @param row The data row of large data sheet, for exception message. (NotNull)
+     * @param value The managed data in the cell. (NotNull)
+     */
+    public void registerLargeData(Map<String, String> largeDataMap, String sheetName, String columnTitle, DfDataRow row, String value) {
+        if (!value.contains(DfTableXlsReader.LDATA_KEY_DELIMITER)) { // should be e.g. key(df:delimiter){value}
+            throwLargeDataInvalidManagedDataException(sheetName, columnTitle, row, value);
+        }
+        final String dataKey = Srl.substringFirstFront(value, DfTableXlsReader.LDATA_KEY_DELIMITER);
+        final String largeValue = Srl.substringFirstRear(value, DfTableXlsReader.LDATA_KEY_DELIMITER);
+        final String unquotedValue = Srl.unquoteAnything(largeValue, DfTableXlsReader.LDATA_QUOTE_BEGIN, DfTableXlsReader.LDATA_QUOTE_END);
+        final String existingValue = largeDataMap.get(dataKey);
+        largeDataMap.put(dataKey, existingValue != null ? existingValue + unquotedValue : unquotedValue);
+    }
+
+    public void checkLargeDataColumnTitle(String sheetName, String columnTitle) {
+        if (!columnTitle.contains(".")) { // should be e.g. MEMBER.MEMBER_NAME
+            throwLargeDataInvalidColumnTitleException(sheetName, columnTitle);
+        }
+    }
+
+    protected void throwLargeDataInvalidColumnTitleException(String sheetName, String columnTitle) {
+        final ExceptionMessageBuilder br = new ExceptionMessageBuilder();
+        br.addNotice("Invalid column title for large data.");
+        br.addItem("Advice");
+        br.addElement("It should be [table].[column] e.g. MEMBER.MEMBER_NAME");
+        br.addItem("Xls File");
+        br.addElement(_xlsFile);
+        br.addItem("Sheet Name");
+        br.addElement(sheetName);
+        br.addItem("Column Title");
+        br.addElement(columnTitle);
+        final String msg = br.buildExceptionMessage();
+        throw new DfXlsReaderReadFailureException(msg);
+    }
+
+    protected void throwLargeDataInvalidManagedDataException(String sheetName, String columnTitle, DfDataRow row, String value) {
+        final ExceptionMessageBuilder br = new ExceptionMessageBuilder();
+        br.addNotice("Invalid managed large data.");
+        br.addItem("Advice");
+        br.addElement("It should be key" + DfTableXlsReader.LDATA_KEY_DELIMITER + "{value}");
+        br.addElement(" e.g. foo" + DfTableXlsReader.LDATA_KEY_DELIMITER + "{bar}");
+        br.addItem("Xls File");
+        br.addElement(_xlsFile);
+        br.addItem("Sheet Name");
+        br.addElement(sheetName);
+        br.addItem("Column Title");
+        br.addElement(columnTitle);
+        br.addItem("Row Number");
+        br.addElement(row.getRowNumber());
+        br.addItem("Large Data");
+        br.addElement(value);
+        final String msg = br.buildExceptionMessage();
+        throw new DfXlsReaderReadFailureException(msg);
+    }
+
+    protected String resolveLargeDataIfNeeds(DfDataTable table, int columnIndex, int rowNumber, String str) {
+        if (str == null) {
+            return null;
+        }
+        final String refPrefix = DfTableXlsReader.LDATA_REF_PREFIX;
+        final String refSuffix = DfTableXlsReader.LDATA_REF_SUFFIX;
+        if (_largeDataMap != null && str.startsWith(refPrefix) && str.endsWith(refSuffix)) {
+            final ScopeInfo scopeInfo = Srl.extractScopeFirst(str, refPrefix, refSuffix);
+            final String dataKey = scopeInfo.getContent();
+            final DfDataColumn column = table.getColumn(columnIndex);
+            final String columnTitle = table.getTableDbName() + "." + column.getColumnDbName();
+            final Map<String, String> dataMap = _largeDataMap.get(columnTitle);
+            final String largeData = dataMap != null ? dataMap.get(dataKey) : null;
+            if (largeData == null) {
+                throwLargeDataReferenceDataNotFoundException(table, columnIndex, rowNumber, str, dataKey);
+            }
+            return largeData;
+        }
+        return str;
+    }
+
+    protected void throwLargeDataReferenceDataNotFoundException(DfDataTable table, int columnIndex, int rowNumber, String str,
+            String dataKey) {
+        final ExceptionMessageBuilder br = new ExceptionMessageBuilder();
+        br.addNotice("Not found the reference data of large data for the column.");
+        br.addItem("Xls File");
+        br.addElement(_xlsFile);
+        br.addItem("Table Name");
+        br.addElement(table.getTableDbName());
+        br.addItem("Column");
+        br.addElement(table.getColumnName(columnIndex));
+        br.addItem("Row Number");
+        br.addElement(rowNumber);
+        br.addItem("Cell Value");
+        br.addElement(str);
+        br.addItem("Data Key");
+        br.addElement(dataKey);
+        final String msg = br.buildExceptionMessage();
+        throw new DfXlsReaderReadFailureException(msg);
+    }
+
+    // ===================================================================================
+    //                                                                       Determination
+    //                                                                       =============
+    public boolean isNotTrimTarget(DfDataTable table, int columnIndex) {
+        return containsTargetColumn(_notTrimTableColumnMap, table, columnIndex);
+    }
+
+    public boolean isEmptyStringTarget(DfDataTable table, int columnIndex) {
+        return containsTargetColumn(_emptyStringTableColumnMap, table, columnIndex);
+    }
+
+    protected boolean containsTargetColumn(Map<String, List<String>> tableColumnMap, DfDataTable table, int columnIndex) {
+        final List<String> targetColumnList = tableColumnMap.get(table.getTableDbName());
+        if (targetColumnList == null) {
+            return false;
+        }
+        final String target = table.getColumn(columnIndex).getColumnDbName();
+        for (String specified : targetColumnList) {
+            if (target.equalsIgnoreCase(specified)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    protected boolean isCellBase64Formatted(DfXlsCellResource cell) {
+        return DfDataSetConstants.BASE64_FORMAT.equals(cell.getFormatString());
+    }
+
+    protected boolean isCellDateFormatted(DfXlsCellResource cell) {
+        final String format = cell.getFormatString();
+        if (format == null || format.length() == 0) {
+            return false;
+        }
+        if (format.indexOf('/') > 0 || format.indexOf('y') > 0 || format.indexOf('m') > 0 || format.indexOf('d') > 0) {
+            return true;
+        }
+        return false;
+    }
+
+    protected boolean isInt(final double numericCellValue) {
+        return ((int) numericCellValue) == numericCellValue;
+    }
+
+    // ===================================================================================
+    //                                                                            Accessor
+    //                                                                            ========
+    public Map<String, Map<String, String>> getLargeDataMap() {
+        return _largeDataMap;
+    }
+
+    public void setLargeDataMap(Map<String, Map<String, String>> largeDataMap) {
+        _largeDataMap = largeDataMap;
+    }
+}
@@ -16,7 +16,7 @@
 package org.dbflute.helper.io.xls;
 
 import java.io.File;
-import java.math.BigDecimal;
+import java.util.Date;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -34,16 +34,11 @@ import org.dbflute.helper.StringKeyMap;
 import org.dbflute.helper.dataset.DfDataColumn;
 import org.dbflute.helper.dataset.DfDataRow;
 import org.dbflute.helper.dataset.DfDataSet;
-import org.dbflute.helper.dataset.DfDataSetConstants;
 import org.dbflute.helper.dataset.DfDataTable;
-import org.dbflute.helper.dataset.types.DfDtsColumnType;
-import org.dbflute.helper.dataset.types.DfDtsColumnTypes;
+import org.dbflute.helper.io.xls.DfTableXlsCellConverter.DfXlsCellResource;
 import org.dbflute.helper.message.ExceptionMessageBuilder;
 import org.dbflute.system.DBFluteSystem;
 import org.dbflute.util.DfCollectionUtil;
-import org.dbflute.util.DfTypeUtil;
-import org.dbflute.util.Srl;
-import org.dbflute.util.Srl.ScopeInfo;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -79,16 +74,13 @@ public class DfTableXlsReader {
     //                                           Read Option
     //                                           -----------
     protected final Map<String, String> _tableNameMap;
-    protected final Map<String, List<String>> _notTrimTableColumnMap;
-    protected final Map<String, List<String>> _emptyStringTableColumnMap;
     protected final Pattern _skipSheetPattern; // not required
-    protected boolean _rtrimCellValue;
 
     // -----------------------------------------------------
-    //                                            Large Data
-    //                                            ----------
-    /** The map for large data table. map:{ table.column = map:{ dataKey = joined-large-string } } (NullAllowed) */
-    protected Map<String, Map<String, String>> _largeDataMap;
+    //                                        Cell Converter
+    //                                        --------------
+    /** The converter of cell values with not-trim, empty-string, right-trim options and large data. (NotNull) */
+    protected final DfTableXlsCellConverter _cellConverter;
 
     // ===================================================================================
     //                                                                         Constructor
@@ -108,23 +100,21 @@ public class DfTableXlsReader {
         } else {
             _tableNameMap = StringKeyMap.createAsFlexible();
         }
-        if (notTrimTableColumnMap != null) {
-            _notTrimTableColumnMap = notTrimTableColumnMap;
-        } else {
-            _notTrimTableColumnMap = StringKeyMap.createAsFlexible();
-        }
-        if (emptyStringTableColumnMap != null) {
-            _emptyStringTableColumnMap = emptyStringTableColumnMap;
-        } else {
-            _emptyStringTableColumnMap = StringKeyMap.createAsFlexible();
-        }
         _skipSheetPattern = skipSheetPattern;
-        _rtrimCellValue = rtrimCellValue;
+        _cellConverter = createCellConverter(xlsFile, notTrimTableColumnMap, emptyStringTableColumnMap, rtrimCellValue);
 
         // actually read
         setupWorkbook(DfXlsFactory.instance().createWorkbook(xlsFile));
     }
 
+    protected DfTableXlsCellConverter createCellConverter(File xlsFile, Map<String, List<String>> notTrimTableColumnMap,
+            Map<String, List<String>> emptyStringTableColumnMap, boolean rtrimCellValue) {
+        final Map<String, List<String>> notTrimMap = notTrimTableColumnMap != null ? notTrimTableColumnMap : StringKeyMap.createAsFlexible();
+        final Map<String, List<String>> emptyStringMap =
+                emptyStringTableColumnMap != null ? emptyStringTableColumnMap : StringKeyMap.createAsFlexible();
+        return new DfTableXlsCellConverter(xlsFile, notTrimMap, emptyStringMap, rtrimCellValue);
+    }
+
     // -----------------------------------------------------
     //                                       Set up Workbook
     //                                       ---------------
@@ -162,19 +152,15 @@ public class DfTableXlsReader {
             final Sheet sheet = _workbook.getSheetAt(i);
             final String largeTableName = "LARGE_DATA"; // unused
             final DfDataTable table = setupTable(sheet, largeTableName, new DfDataTable(largeTableName));
-            _largeDataMap = DfCollectionUtil.newLinkedHashMap();
+            final Map<String, Map<String, String>> largeDataMap = DfCollectionUtil.newLinkedHashMap();
             final Map<Integer, String> indexColumnTitleMap = DfCollectionUtil.newLinkedHashMap();
             for (int columnIndex = 0; columnIndex < table.getColumnSize(); columnIndex++) {
                 final DfDataColumn column = table.getColumn(columnIndex);
                 final String columnTitle = column.getColumnDbName();
-                if (!columnTitle.contains(".")) { // should be e.g. MEMBER.MEMBER_NAME
-                    throwLargeDataInvalidColumnTitleException(sheetName, columnTitle);
-                }
-                Map<String, String> dataMap = _largeDataMap.get(columnTitle);
-                if (dataMap == null) {
-                    dataMap = DfCollectionUtil.newLinkedHashMap();
+                _cellConverter.checkLargeDataColumnTitle(sheetName, columnTitle);
+                if (!largeDataMap.containsKey(columnTitle)) {
+                    largeDataMap.put(columnTitle, DfCollectionUtil.newLinkedHashMap());
                 }
-                _largeDataMap.put(columnTitle, dataMap);
                 indexColumnTitleMap.put(columnIndex, columnTitle);
             }
             for (int rowIndex = 0; rowIndex < table.getRowSize(); rowIndex++) {
@@ -186,18 +172,10 @@ public class DfTableXlsReader {
                     }
                     final String value = obj.toString(); // basically String, but just in case
                     final String columnTitle = indexColumnTitleMap.get(columnIndex);
-                    final Map<String, String> dataMap = _largeDataMap.get(columnTitle);
-                    if (!value.contains(LDATA_KEY_DELIMITER)) { // should be e.g. key(df:delimiter){value}
-                        throwLargeDataInvalidManagedDataException(sheetName, columnTitle, row, value);
-                    }
-                    final String dataKey = Srl.substringFirstFront(value, LDATA_KEY_DELIMITER);
-                    final String largeValue = Srl.substringFirstRear(value, LDATA_KEY_DELIMITER);
-                    final String unquotedValue = Srl.unquoteAnything(largeValue, LDATA_QUOTE_BEGIN, LDATA_QUOTE_END);
-                    final String existingValue = dataMap.get(dataKey);
-                    final String realValue = existingValue != null ? existingValue + unquotedValue : unquotedValue;
-                    dataMap.put(dataKey, realValue);
+                    _cellConverter.registerLargeData(largeDataMap.get(columnTitle), sheetName, columnTitle, row, value);
                 }
             }
+            _cellConverter.setLargeDataMap(largeDataMap);
             break; // only one
         }
     }
@@ -206,41 +184,6 @@ public class DfTableXlsReader {
         return sheetName.equals(LDATA_SHEET_NAME);
     }
 
-    protected void throwLargeDataInvalidColumnTitleException(String sheetName, String columnTitle) {
-        final ExceptionMessageBuilder br = new ExceptionMessageBuilder();
-        br.addNotice("Invalid column title for large data.");
-        br.addItem("Advice");
-        br.addElement("It should be [table].[column] e.g. MEMBER.MEMBER_NAME");
-        br.addItem("Xls File");
-        br.addElement(_xlsFile);
-        br.addItem("Sheet Name");
-        br.addElement(sheetName);
-        br.addItem("Column Title");
-        br.addElement(columnTitle);
-        final String msg = br.buildExceptionMessage();
-        throw new DfXlsReaderReadFailureException(msg);
-    }
-
-    protected void throwLargeDataInvalidManagedDataException(String sheetName, String columnTitle, DfDataRow row, String value) {
-        final ExceptionMessageBuilder br = new ExceptionMessageBuilder();
-        br.addNotice("Invalid managed large data.");
-        br.addItem("Advice");
-        br.addElement("It should be key" + LDATA_KEY_DELIMITER + "{value}");
-        br.addElement(" e.g. foo" + LDATA_KEY_DELIMITER + "{bar}");
-        br.addItem("Xls File");
-        br.addElement(_xlsFile);
-        br.addItem("Sheet Name");
-        br.addElement(sheetName);
-        br.addItem("Column Title");
-        br.addElement(columnTitle);
-        br.addItem("Row Number");
-        br.addElement(row.getRowNumber());
-        br.addItem("Large Data");
-        br.addElement(value);
-        final String msg = br.buildExceptionMessage();
-        throw new DfXlsReaderReadFailureException(msg);
-    }
-
     // -----------------------------------------------------
     //                                            Data Table
     //                                            ----------
@@ -327,7 +270,7 @@ public class DfTableXlsReader {
                 valueCell = valueRow.getCell(i);
             }
             if (valueCell != null) {
-                table.addColumn(columnName, getColumnType(valueCell));
+                table.addColumn(columnName, _cellConverter.getColumnType(toCellResource(valueCell)));
             } else {
                 table.addColumn(columnName);
             }
@@ -349,271 +292,67 @@ public class DfTableXlsReader {
 
     protected void setupRow(DfDataTable table, Row row) {
         final DfDataRow dataRow = table.addRow();
-        Cell cell = null;
+        DfXlsCellResource cell = null;
         Object value = null;
         DfDataColumn column = null;
         try {
             for (int columnIndex = 0; columnIndex < table.getColumnSize(); ++columnIndex) {
-                cell = row.getCell(columnIndex);
-                value = extractCellValue(table, columnIndex, row, cell);
+                cell = toCellResource(row.getCell(columnIndex));
+                value = _cellConverter.convertCellValue(table, columnIndex, row.getRowNum(), cell);
                 column = table.getColumn(columnIndex);
-                final String columnName = column.getColumnDbName();
-                try {
-                    dataRow.addValue(columnName, value);
-                } catch (NumberFormatException e) {
-                    if (cell.getCellType() != Cell.CELL_TYPE_STRING) {
-                        throw e;
-                    }
-                    _log.info("...Changing the column type to STRING type: name=" + columnName + " value=" + value);
-                    column.setColumnType(DfDtsColumnTypes.STRING);
-                    dataRow.addValue(columnName, value);
-                }
+                _cellConverter.addCellValue(dataRow, column, cell, value);
             }
         } catch (RuntimeException e) {
-            throwCellValueHandlingException(table, column, row, cell, value, e);
-        }
-    }
-
-    protected void throwCellValueHandlingException(DfDataTable table, DfDataColumn column, Row row, Cell cell, Object value,
-            RuntimeException cause) {
-        final ExceptionMessageBuilder br = new ExceptionMessageBuilder();
-        br.addNotice("Failed to handle the cell value on the xls file.");
-        br.addItem("Advice");
-        br.addElement("Confirm the exception message.");
-        br.addElement("The cell value may be wrong type for the column.");
-        br.addElement("So confirm the value on the xls file.");
-        br.addItem("RuntimeException");
-        br.addElement(cause.getMessage());
-        br.addItem("Xls File");
-        br.addElement(_xlsFile);
-        br.addItem("Table");
-        br.addElement(table.getTableDbName());
-        br.addItem("Column");
-        br.addElement(column != null ? column.getColumnDbName() : null);
-        br.addItem("Mapping Type");
-        final DfDtsColumnType columnType = column.getColumnType();
-        br.addElement(columnType != null ? columnType.getType() : null);
-        br.addItem("Cell Type");
-        if (cell != null) {
-            switch (cell.getCellType()) {
-            case Cell.CELL_TYPE_NUMERIC:
-                br.addElement("CELL_TYPE_NUMERIC");
-                break;
-            case Cell.CELL_TYPE_STRING:
-                br.addElement("CELL_TYPE_STRING");
-                break;
-            case Cell.CELL_TYPE_FORMULA:
-                br.addElement("CELL_TYPE_FORMULA");
-                break;
-            case Cell.CELL_TYPE_BLANK:
-                br.addElement("CELL_TYPE_BLANK");
-                break;
-            case Cell.CELL_TYPE_BOOLEAN:
-                br.addElement("CELL_TYPE_BOOLEAN");
-                break;
-            case Cell.CELL_TYPE_ERROR:
-                br.addElement("CELL_TYPE_ERROR");
-                break;
-            default:
-                br.addElement(cell.getCellType());
-                break;
-            }
+            _cellConverter.throwCellValueHandlingException(table, column, row.getRowNum(), cell, value, e);
         }
-        br.addItem("Cell Value");
-        br.addElement(value);
-        br.addItem("Row Number");
-        br.addElement(column != null ? row.getRowNum() : null);
-        final String msg = br.buildExceptionMessage();
-        throw new DfXlsReaderReadFailureException(msg, cause);
     }
 
     // ===================================================================================
-    //                                                                      Value Handling
-    //                                                                      ==============
-    protected Object extractCellValue(DfDataTable table, int columnIndex, Row row, Cell cell) {
+    //                                                                       Cell Resource
+    //                                                                       =============
+    protected DfXlsCellResource toCellResource(Cell cell) { // null allowed
         if (cell == null) {
-            return isEmptyStringTarget(table, columnIndex) ? "" : null;
+            return null;
         }
-        switch (cell.getCellType()) {
-        case Cell.CELL_TYPE_NUMERIC:
-            if (isCellDateFormatted(cell)) {
-                return DfTypeUtil.toTimestamp(cell.getDateCellValue());
+        return new DfXlsCellResource() {
+            public int getCellType() {
+                return cell.getCellType();
             }
-            final double numericCellValue = cell.getNumericCellValue();
-            if (isInt(numericCellValue)) {
-                return new BigDecimal((int) numericCellValue);
-            }
-            return new BigDecimal(Double.toString(numericCellValue));
-        case Cell.CELL_TYPE_STRING:
-            return processRichStringCellValue(table, columnIndex, row, cell);
-        case Cell.CELL_TYPE_BOOLEAN:
-            boolean b = cell.getBooleanCellValue();
-            return Boolean.valueOf(b);
-        default:
-            return isEmptyStringTarget(table, columnIndex) ? "" : null;
-        }
-    }
-
-    protected Object processRichStringCellValue(DfDataTable table, int columnIndex, Row row, Cell cell) {
-        String str = cell.getRichStringCellValue().getString();
-        str = rtrimCellValueIfNeeds(table, cell, str); // basically for compatible
-        str = treatEmptyAsNullBasically(str); // empty means null basically
-        str = treatNullAsEmptyIfTarget(table, columnIndex, str); // but empty if target
-        str = treatCrLfAsLf(str); // remove CR
-        if (isCellBase64Formatted(cell)) {
-            return decodeAsBase64(str);
-        }
-        // normal cell here
-        return resolveLargeDataIfNeeds(table, columnIndex, row, str);
-    }
 
-    protected String rtrimCellValueIfNeeds(DfDataTable table, Cell cell, String str) {
-        if (str != null && _rtrimCellValue && !isNotTrimTarget(table, cell)) {
-            return Srl.rtrim(str);
-        }
-        return str;
-    }
-
-    protected String treatEmptyAsNullBasically(String str) {
-        return "".equals(str) ? null : str;
-    }
-
-    protected String treatNullAsEmptyIfTarget(DfDataTable table, int columnIndex, String str) {
-        return str == null && isEmptyStringTarget(table, columnIndex) ? "" : str;
-    }
+            public double getNumericValue() {
+                return cell.getNumericCellValue();
+            }
 
-    protected String treatCrLfAsLf(String str) {
-        // basically excel treats line separators as LF
-        // so this process cannot be required but just in case
-        return str != null ? Srl.replace(str, "\r\n", "\n") : null;
-    }
+            public Date getDateValue() {
+                return cell.getDateCellValue();
+            }
 
-    protected Object decodeAsBase64(String str) {
-        return str != null ? DfTypeUtil.decodeAsBase64(str) : null;
-    }
+            public String getStringValue() {
+                return cell.getRichStringCellValue().getString();
+            }
 
-    protected String resolveLargeDataIfNeeds(DfDataTable table, int columnIndex, Row row, String str) {
-        if (str == null) {
-            return null;
-        }
-        final String refPrefix = LDATA_REF_PREFIX;
-        final String refSuffix = LDATA_REF_SUFFIX;
-        if (_largeDataMap != null && str.startsWith(refPrefix) && str.endsWith(refSuffix)) {
-            final ScopeInfo scopeInfo = Srl.extractScopeFirst(str, refPrefix, refSuffix);
-            final String dataKey = scopeInfo.getContent();
-            final DfDataColumn column = table.getColumn(columnIndex);
-            final String columnTitle = table.getTableDbName() + "." + column.getColumnDbName();
-            final Map<String, String> dataMap = _largeDataMap.get(columnTitle);
-            if (dataMap != null) {
-                final String largeData = dataMap.get(dataKey);
-                if (largeData != null) {
-                    return largeData;
-                } else {
-                    throwLargeDataReferenceDataNotFoundException(table, columnIndex, row, str, dataKey);
-                }
-            } else {
-                throwLargeDataReferenceDataNotFoundException(table, columnIndex, row, str, dataKey);
+            public boolean getBooleanValue() {
+                return cell.getBooleanCellValue();
             }
-        }
-        return str;
-    }
 
-    protected void throwLargeDataReferenceDataNotFoundException(DfDataTable table, int columnIndex, Row row, String str, String dataKey) {
-        final ExceptionMessageBuilder br = new ExceptionMessageBuilder();
-        br.addNotice("Not found the reference data of large data for the column.");
-        br.addItem("Xls File");
-        br.addElement(_xlsFile);
-        br.addItem("Table Name");
-        br.addElement(table.getTableDbName());
-        br.addItem("Column");
-        br.addElement(table.getColumnName(columnIndex));
-        br.addItem("Row Number");
-        br.addElement(row.getRowNum());
-        br.addItem("Cell Value");
-        br.addElement(str);
-        br.addItem("Data Key");
-        br.addElement(dataKey);
-        final String msg = br.buildExceptionMessage();
-        throw new DfXlsReaderReadFailureException(msg);
+            public String getFormatString() {
+                final CellStyle cs = cell.getCellStyle();
+                return _dataFormat.getFormat(cs.getDataFormat());
+            }
+        };
     }
 
     public boolean isNotTrimTarget(DfDataTable table, Cell cell) {
-        final String tableName = table.getTableDbName();
-        if (!_notTrimTableColumnMap.containsKey(tableName)) {
-            return false;
-        }
-        final List<String> notTrimTargetColumnList = _notTrimTableColumnMap.get(tableName);
-        final DfDataColumn column = table.getColumn(cell.getColumnIndex());
-        final String target = column.getColumnDbName();
-        for (String specified : notTrimTargetColumnList) {
-            if (target.equalsIgnoreCase(specified)) {
-                return true;
-            }
-        }
-        return false;
+        return _cellConverter.isNotTrimTarget(table, cell.getColumnIndex());
     }
 
     public boolean isEmptyStringTarget(DfDataTable table, int columnIndex) {
-        final String tableName = table.getTableDbName();
-        if (!_emptyStringTableColumnMap.containsKey(tableName)) {
-            return false;
-        }
-        final List<String> emptyStringTargetColumnList = _emptyStringTableColumnMap.get(tableName);
-        final DfDataColumn column = table.getColumn(columnIndex);
-        final String target = column.getColumnDbName();
-        for (String specified : emptyStringTargetColumnList) {
-            if (target.equalsIgnoreCase(specified)) {
-                return true;
-            }
-        }
-        return false;
-    }
-
-    protected DfDtsColumnType getColumnType(Cell cell) {
-        switch (cell.getCellType()) {
-        case Cell.CELL_TYPE_NUMERIC:
-            if (isCellDateFormatted(cell)) {
-                return DfDtsColumnTypes.TIMESTAMP;
-            }
-            return DfDtsColumnTypes.BIGDECIMAL;
-        case Cell.CELL_TYPE_BOOLEAN:
-            return DfDtsColumnTypes.BOOLEAN;
-        case Cell.CELL_TYPE_STRING:
-            if (isCellBase64Formatted(cell)) {
-                return DfDtsColumnTypes.BINARY;
-            }
-            return DfDtsColumnTypes.STRING;
-        default:
-            return DfDtsColumnTypes.STRING;
-        }
+        return _cellConverter.isEmptyStringTarget(table, columnIndex);
     }
 
     // ===================================================================================
     //                                                                       Determination
     //                                                                       =============
-    protected boolean isCellBase64Formatted(Cell cell) {
-        final CellStyle cs = cell.getCellStyle();
-        final short dfNum = cs.getDataFormat();
-        return DfDataSetConstants.BASE64_FORMAT.equals(_dataFormat.getFormat(dfNum));
-    }
-
-    protected boolean isCellDateFormatted(Cell cell) {
-        final CellStyle cs = cell.getCellStyle();
-        final short dfNum = cs.getDataFormat();
-        final String format = _dataFormat.getFormat(dfNum);
-        if (format == null || format.length() == 0) {
-            return false;
-        }
-        if (format.indexOf('/') > 0 || format.indexOf('y') > 0 || format.indexOf('m') > 0 || format.indexOf('d') > 0) {
-            return true;
-        }
-        return false;
-    }
-
-    protected boolean isInt(final double numericCellValue) {
-        return ((int) numericCellValue) == numericCellValue;
-    }
-
     protected boolean isCommentOutSheet(String sheetName) {
         return sheetName.startsWith("#");
     }
@@ -0,0 +1,44 @@
+/*
+ * Copyright 2014-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.dbflute.helper.io.xls;
+
+import org.dbflute.helper.dataset.DfDataTable;
+
+/**
+ * The handler of tables read by streaming from xls file.
+ * @author agent
+ * @since 1.2.3 (2026/10/19 Monday)
+ */
+public interface DfTableXlsStreamingHandler {
+
+    /**
+     * Begin the table of the sheet, called after the columns are defined.
+     * @param table The data table that has columns but no row yet. (NotNull)
+     */
+    void beginTable(DfDataTable table);
+
+    /**
+     * Handle the rows of one batch. The rows are flushed after this.
+     * @param table The data table that has only the rows of the batch. (NotNull)
+     */
+    void handleRows(DfDataTable table);
+
+    /**
+     * End the table of the sheet, called after all rows are handled. (also called if no row)
+     * @param table The data table whose rows are already flushed. (NotNull)
+     */
+    void endTable(DfDataTable table);
+}
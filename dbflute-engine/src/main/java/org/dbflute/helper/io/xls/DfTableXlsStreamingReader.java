@@ -0,0 +1,671 @@
+/*
+ * Copyright 2014-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.dbflute.helper.io.xls;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.regex.Pattern;
+
+import org.apache.poi.hssf.eventusermodel.AbortableHSSFListener;
+import org.apache.poi.hssf.eventusermodel.FormatTrackingHSSFListener;
+import org.apache.poi.hssf.eventusermodel.HSSFEventFactory;
+import org.apache.poi.hssf.eventusermodel.HSSFRequest;
+import org.apache.poi.hssf.eventusermodel.HSSFUserException;
+import org.apache.poi.hssf.record.BOFRecord;
+import org.apache.poi.hssf.record.BlankRecord;
+import org.apache.poi.hssf.record.BoolErrRecord;
+import org.apache.poi.hssf.record.BoundSheetRecord;
+import org.apache.poi.hssf.record.CellValueRecordInterface;
+import org.apache.poi.hssf.record.DateWindow1904Record;
+import org.apache.poi.hssf.record.EOFRecord;
+import org.apache.poi.hssf.record.FormulaRecord;
+import org.apache.poi.hssf.record.LabelRecord;
+import org.apache.poi.hssf.record.LabelSSTRecord;
+import org.apache.poi.hssf.record.MulBlankRecord;
+import org.apache.poi.hssf.record.MulRKRecord;
+import org.apache.poi.hssf.record.NumberRecord;
+import org.apache.poi.hssf.record.RKRecord;
+import org.apache.poi.hssf.record.Record;
+import org.apache.poi.hssf.record.RecordFactory;
+import org.apache.poi.hssf.record.RowRecord;
+import org.apache.poi.hssf.record.SSTRecord;
+import org.apache.poi.hssf.usermodel.HSSFDateUtil;
+import org.apache.poi.poifs.filesystem.DirectoryNode;
+import org.apache.poi.poifs.filesystem.NPOIFSFileSystem;
+import org.apache.poi.ss.usermodel.Cell;
+import org.dbflute.exception.DfXlsReaderReadFailureException;
+import org.dbflute.helper.StringKeyMap;
+import org.dbflute.helper.dataset.DfDataColumn;
+import org.dbflute.helper.dataset.DfDataRow;
+import org.dbflute.helper.dataset.DfDataTable;
+import org.dbflute.helper.io.xls.DfTableXlsCellConverter.DfXlsCellResource;
+import org.dbflute.helper.message.ExceptionMessageBuilder;
+import org.dbflute.util.DfCollectionUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The streaming reader of table xls, which handles rows per batch by the event model of xls (not xlsx). <br>
+ * The cell values are converted by {@link DfTableXlsCellConverter} shared with {@link DfTableXlsReader},
+ * but the workbook is not loaded on memory, only the shared strings and the rows of one batch are kept.
+ * @author agent
+ * @since 1.2.3 (2026/10/19 Monday)
+ */
+public class DfTableXlsStreamingReader {
+
+    // ===================================================================================
+    //                                                                          Definition
+    //                                                                          ==========
+    private static final Logger _log = LoggerFactory.getLogger(DfTableXlsStreamingReader.class);
+    protected static final short CONTINUE_EVENT = 0;
+    protected static final short ABORT_EVENT = 1;
+
+    // ===================================================================================
+    //                                                                           Attribute
+    //                                                                           =========
+    // -----------------------------------------------------
+    //                                          XLS Resource
+    //                                          ------------
+    protected final File _xlsFile;
+    protected boolean _date1904; // set while reading workbook globals
+
+    // -----------------------------------------------------
+    //                                           Read Option
+    //                                           -----------
+    protected final Map<String, String> _tableNameMap;
+    protected final Pattern _skipSheetPattern; // not required
+    protected final int _batchSize;
+
+    // -----------------------------------------------------
+    //                                        Cell Converter
+    //                                        --------------
+    /** The converter of cell values, same as the usermodel reader. (NotNull) */
+    protected final DfTableXlsCellConverter _cellConverter;
+
+    // ===================================================================================
+    //                                                                         Constructor
+    //                                                                         ===========
+    public DfTableXlsStreamingReader(File xlsFile // XLS file to read
+            , Map<String, String> tableNameMap // map for long table name
+            , Map<String, List<String>> notTrimTableColumnMap // map for not-trim column
+            , Map<String, List<String>> emptyStringTableColumnMap // map for empty-string-allowed column
+            , Pattern skipSheetPattern // pattern of skipped sheet
+            , boolean rtrimCellValue // Does it right-trim cell value?
+            , int batchSize) { // size of rows handled at once
+        if (xlsFile.getName().endsWith(".xlsx")) { // event model of xlsx needs poi-ooxml
+            throw new IllegalArgumentException("The streaming reader does not support xlsx file: " + xlsFile);
+        }
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("The argument 'batchSize' should be positive: " + batchSize);
+        }
+        _xlsFile = xlsFile;
+        if (tableNameMap != null) {
+            _tableNameMap = tableNameMap;
+        } else {
+            _tableNameMap = StringKeyMap.createAsFlexible();
+        }
+        _skipSheetPattern = skipSheetPattern;
+        _batchSize = batchSize;
+        _cellConverter = createCellConverter(xlsFile, notTrimTableColumnMap, emptyStringTableColumnMap, rtrimCellValue);
+    }
+
+    protected DfTableXlsCellConverter createCellConverter(File xlsFile, Map<String, List<String>> notTrimTableColumnMap,
+            Map<String, List<String>> emptyStringTableColumnMap, boolean rtrimCellValue) {
+        final Map<String, List<String>> notTrimMap = notTrimTableColumnMap != null ? notTrimTableColumnMap : StringKeyMap.createAsFlexible();
+        final Map<String, List<String>> emptyStringMap =
+                emptyStringTableColumnMap != null ? emptyStringTableColumnMap : StringKeyMap.createAsFlexible();
+        return new DfTableXlsCellConverter(xlsFile, notTrimMap, emptyStringMap, rtrimCellValue);
+    }
+
+    // ===================================================================================
+    //                                                                                Read
+    //                                                                                ====
+    /**
+     * Read the xls file by streaming, handling tables in order of sheets.
+     * @param handler The handler of tables, which is called per batch of rows. (NotNull)
+     */
+    public void read(DfTableXlsStreamingHandler handler) {
+        if (!_xlsFile.exists() || _xlsFile.length() == 0) { // same as empty workbook
+            return;
+        }
+        NPOIFSFileSystem fs = null;
+        try {
+            fs = new NPOIFSFileSystem(_xlsFile, true); // read-only, not loaded on memory
+            prepareLargeDataMap(fs.getRoot()); // needs to be before all sheets
+            processWorkbook(fs.getRoot(), new StreamingListener(handler, false));
+        } catch (IOException e) {
+            throwXlsReaderStreamingFailureException(e);
+        } finally {
+            if (fs != null) {
+                try {
+                    fs.close();
+                } catch (IOException ignored) {}
+            }
+        }
+    }
+
+    protected void processWorkbook(DirectoryNode root, StreamingListener listener) throws IOException {
+        final HSSFRequest request = new HSSFRequest();
+        request.addListenerForAllRecords(listener);
+        try {
+            new HSSFEventFactory().abortableProcessWorkbookEvents(request, root);
+        } catch (HSSFUserException e) { // no way, the listener does not throw it
+            throw new IllegalStateException("Failed to process the workbook events: " + _xlsFile, e);
+        }
+    }
+
+    protected void throwXlsReaderStreamingFailureException(IOException cause) {
+        final ExceptionMessageBuilder br = new ExceptionMessageBuilder();
+        br.addNotice("Failed to read the xls file by streaming.");
+        br.addItem("Advice");
+        br.addElement("Confirm the exception message.");
+        br.addElement("The file may be broken or not be xls (BIFF8) format.");
+        br.addItem("Xls File");
+        br.addElement(_xlsFile);
+        br.addItem("IOException");
+        br.addElement(cause.getMessage());
+        final String msg = br.buildExceptionMessage();
+        throw new DfXlsReaderReadFailureException(msg, cause);
+    }
+
+    // ===================================================================================
+    //                                                                          Large Data
+    //                                                                          ==========
+    protected void prepareLargeDataMap(DirectoryNode root) throws IOException {
+        final String sheetName = DfTableXlsReader.LDATA_SHEET_NAME;
+        final Map<String, Map<String, String>> largeDataMap = DfCollectionUtil.newLinkedHashMap();
+        final Map<Integer, String> indexColumnTitleMap = DfCollectionUtil.newLinkedHashMap();
+        processWorkbook(root, new StreamingListener(new DfTableXlsStreamingHandler() {
+            public void beginTable(DfDataTable table) {
+                for (int columnIndex = 0; columnIndex < table.getColumnSize(); columnIndex++) {
+                    final String columnTitle = table.getColumn(columnIndex).getColumnDbName();
+                    _cellConverter.checkLargeDataColumnTitle(sheetName, columnTitle);
+                    if (!largeDataMap.containsKey(columnTitle)) {
+                        largeDataMap.put(columnTitle, DfCollectionUtil.newLinkedHashMap());
+                    }
+                    indexColumnTitleMap.put(columnIndex, columnTitle);
+                }
+            }
+
+            public void handleRows(DfDataTable table) {
+                for (int rowIndex = 0; rowIndex < table.getRowSize(); rowIndex++) {
+                    final DfDataRow row = table.getRow(rowIndex);
+                    for (int columnIndex = 0; columnIndex < table.getColumnSize(); ++columnIndex) {
+                        final Object obj = row.getValue(columnIndex);
+                        if (obj == null) {
+                            continue;
+                        }
+                        final String value = obj.toString(); // basically String, but just in case
+                        final String columnTitle = indexColumnTitleMap.get(columnIndex);
+                        _cellConverter.registerLargeData(largeDataMap.get(columnTitle), sheetName, columnTitle, row, value);
+                    }
+                }
+            }
+
+            public void endTable(DfDataTable table) {
+                _cellConverter.setLargeDataMap(largeDataMap); // only when the sheet exists
+            }
+        }, true));
+    }
+
+    protected boolean isLargeDataSheet(String sheetName) {
+        return sheetName.equals(DfTableXlsReader.LDATA_SHEET_NAME);
+    }
+
+    // ===================================================================================
+    //                                                                      Event Listener
+    //                                                                      ==============
+    protected class StreamingListener extends AbortableHSSFListener {
+
+        protected final DfTableXlsStreamingHandler _handler;
+        protected final boolean _largeDataOnly; // true: reads only large data sheet, false: except it
+        protected final FormatTrackingHSSFListener _formatTracker = new FormatTrackingHSSFListener(null);
+        protected final List<BoundSheetRecord> _boundSheetList = new ArrayList<BoundSheetRecord>();
+        protected BoundSheetRecord[] _orderedSheets; // lazy-loaded at first sheet
+        protected SSTRecord _sstRecord; // shared strings, null if no string
+        protected int _depth; // of BOF-EOF, e.g. 2 if embedded chart in sheet
+        protected int _sheetIndex = -1;
+        protected StreamingSheet _currentSheet; // null if out of target
+
+        public StreamingListener(DfTableXlsStreamingHandler handler, boolean largeDataOnly) {
+            _handler = handler;
+            _largeDataOnly = largeDataOnly;
+        }
+
+        @Override
+        public short abortableProcessRecord(Record record) {
+            _formatTracker.processRecordInternally(record);
+            if (record instanceof BOFRecord) {
+                ++_depth;
+                if (_depth == 1 && ((BOFRecord) record).getType() != BOFRecord.TYPE_WORKBOOK) {
+                    return beginSheet() ? CONTINUE_EVENT : ABORT_EVENT;
+                }
+                return CONTINUE_EVENT;
+            }
+            if (record instanceof EOFRecord) {
+                --_depth;
+                if (_depth == 0 && _currentSheet != null) {
+                    finishSheet(_currentSheet);
+                    _currentSheet = null;
+                    if (_largeDataOnly) { // only one
+                        return ABORT_EVENT;
+                    }
+                }
+                return CONTINUE_EVENT;
+            }
+            if (_depth != 1) { // e.g. embedded chart
+                return CONTINUE_EVENT;
+            }
+            if (record instanceof BoundSheetRecord) {
+                _boundSheetList.add((BoundSheetRecord) record);
+            } else if (record instanceof SSTRecord) {
+                _sstRecord = (SSTRecord) record;
+            } else if (record instanceof DateWindow1904Record) {
+                _date1904 = ((DateWindow1904Record) record).getWindowing() == 1;
+            } else if (_currentSheet != null) {
+                processSheetRecord(record);
+            }
+            return CONTINUE_EVENT;
+        }
+
+        protected boolean beginSheet() { // false if abort
+            if (_orderedSheets == null) {
+                _orderedSheets = BoundSheetRecord.orderByBofPosition(_boundSheetList);
+            }
+            ++_sheetIndex;
+            if (_sheetIndex >= _orderedSheets.length) { // no way, just in case
+                return true;
+            }
+            final String sheetName = _orderedSheets[_sheetIndex].getSheetname();
+            if (_largeDataOnly) {
+                if (isLargeDataSheet(sheetName)) {
+                    _currentSheet = new StreamingSheet(sheetName, "LARGE_DATA", _handler); // table name is unused
+                } else if (_sheetIndex == 0 && !existsLargeDataSheet()) {
+                    return false; // no need to read sheets
+                }
+                return true;
+            }
+            if (isCommentOutSheet(sheetName)) {
+                _log.info("*The sheet has comment-out mark so skip it: " + sheetName);
+                return true;
+            }
+            if (isSkipSheet(sheetName)) {
+                _log.info("*The sheet name matched skip-sheet specification so skip it: " + sheetName);
+                return true;
+            }
+            if (isLargeDataSheet(sheetName)) { // already analyzed
+                return true;
+            }
+            _currentSheet = new StreamingSheet(sheetName, resolveTableName(sheetName), _handler);
+            return true;
+        }
+
+        protected boolean existsLargeDataSheet() {
+            for (BoundSheetRecord boundSheet : _orderedSheets) {
+                if (isLargeDataSheet(boundSheet.getSheetname())) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        protected void processSheetRecord(Record record) {
+            if (record instanceof RowRecord) { // comes before cells of the row
+                _currentSheet._rowBitSet.set(((RowRecord) record).getRowNumber());
+            } else if (record instanceof MulRKRecord) {
+                for (NumberRecord numberRecord : RecordFactory.convertRKRecords((MulRKRecord) record)) {
+                    processCellRecord(numberRecord);
+                }
+            } else if (record instanceof MulBlankRecord) {
+                for (BlankRecord blankRecord : RecordFactory.convertBlankRecords((MulBlankRecord) record)) {
+                    processCellRecord(blankRecord);
+                }
+            } else if (record instanceof RKRecord) {
+                processCellRecord(RecordFactory.convertToNumberRecord((RKRecord) record));
+            } else if (record instanceof CellValueRecordInterface) {
+                processCellRecord((CellValueRecordInterface) record);
+            }
+        }
+
+        protected void processCellRecord(CellValueRecordInterface cellRecord) {
+            final StreamingCell cell = createStreamingCell(cellRecord);
+            handleCell(_currentSheet, cellRecord.getRow(), cellRecord.getColumn(), cell);
+        }
+
+        protected StreamingCell createStreamingCell(CellValueRecordInterface cellRecord) {
+            final String formatString = _formatTracker.getFormatString(cellRecord);
+            if (cellRecord instanceof NumberRecord) {
+                return new StreamingCell(Cell.CELL_TYPE_NUMERIC, ((NumberRecord) cellRecord).getValue(), formatString, _date1904);
+            } else if (cellRecord instanceof LabelSSTRecord) {
+                final String str = _sstRecord.getString(((LabelSSTRecord) cellRecord).getSSTIndex()).getString();
+                return new StreamingCell(Cell.CELL_TYPE_STRING, str, formatString, _date1904);
+            } else if (cellRecord instanceof LabelRecord) { // old style
+                return new StreamingCell(Cell.CELL_TYPE_STRING, ((LabelRecord) cellRecord).getValue(), formatString, _date1904);
+            } else if (cellRecord instanceof BoolErrRecord) {
+                final BoolErrRecord boolErrRecord = (BoolErrRecord) cellRecord;
+                if (boolErrRecord.isBoolean()) {
+                    return new StreamingCell(Cell.CELL_TYPE_BOOLEAN, boolErrRecord.getBooleanValue(), formatString, _date1904);
+                }
+                return new StreamingCell(Cell.CELL_TYPE_ERROR, null, formatString, _date1904);
+            } else if (cellRecord instanceof FormulaRecord) { // treated as no value as the usermodel reader
+                return new StreamingCell(Cell.CELL_TYPE_FORMULA, null, formatString, _date1904);
+            } else {
+                return new StreamingCell(Cell.CELL_TYPE_BLANK, null, formatString, _date1904);
+            }
+        }
+    }
+
+    // ===================================================================================
+    //                                                                      Sheet Handling
+    //                                                                      ==============
+    // -----------------------------------------------------
+    //                                            Data Table
+    //                                            ----------
+    protected String resolveTableName(String sheetName) {
+        String tableName = sheetName;
+        if (_tableNameMap != null && !_tableNameMap.isEmpty() && sheetName.startsWith("$")) {
+            String realTableName = _tableNameMap.get(sheetName);
+            if (realTableName == null) {
+                realTableName = _tableNameMap.get(sheetName.substring("$".length()));
+                if (realTableName == null) {
+                    throwXlsReaderMappingTableNotFoundException(sheetName);
+                }
+            }
+            tableName = realTableName;
+        }
+        return tableName;
+    }
+
+    protected void finishSheet(StreamingSheet sheet) {
+        if (!sheet._terminated) {
+            completePendingRow(sheet);
+            while (sheet._rowBitSet.get(sheet._nextRowNumber)) { // rows without cell at the end
+                completeRow(sheet, sheet._nextRowNumber, Collections.<Integer, StreamingCell> emptyMap());
+                ++sheet._nextRowNumber;
+            }
+        }
+        if (sheet._columnNameList == null) {
+            throwXlsReaderFirstRowNotColumnDefinitionException(sheet._tableName);
+        }
+        if (sheet._table == null) { // only column definition
+            defineColumns(sheet, null);
+        }
+        final DfDataTable table = sheet._table;
+        if (table.getRowSize() > 0) {
+            sheet._handler.handleRows(table);
+            table.flushRows();
+        }
+        sheet._handler.endTable(table);
+    }
+
+    protected void throwXlsReaderMappingTableNotFoundException(String sheetName) {
+        final ExceptionMessageBuilder br = new ExceptionMessageBuilder();
+        br.addNotice("The sheetName was not found in the tableNameMap.");
+        br.addItem("Xls File");
+        br.addElement(_xlsFile);
+        br.addItem("Sheet Name");
+        br.addElement(sheetName);
+        br.addItem("TableName Map");
+        if (!_tableNameMap.isEmpty()) {
+            for (Entry<String, String> entry : _tableNameMap.entrySet()) {
+                br.addElement(entry.getKey() + " = " + entry.getValue());
+            }
+        } else {
+            br.addElement("*empty");
+        }
+        final String msg = br.buildExceptionMessage();
+        throw new DfXlsReaderReadFailureException(msg);
+    }
+
+    protected void throwXlsReaderFirstRowNotColumnDefinitionException(String tableName) {
+        final ExceptionMessageBuilder br = new ExceptionMessageBuilder();
+        br.addNotice("The first row of the sheet was not column definition.");
+        br.addItem("Xls File");
+        br.addElement(_xlsFile);
+        br.addItem("Table");
+        br.addElement(tableName);
+        final String msg = br.buildExceptionMessage();
+        throw new DfXlsReaderReadFailureException(msg);
+    }
+
+    // -----------------------------------------------------
+    //                                          Row Handling
+    //                                          ------------
+    protected void handleCell(StreamingSheet sheet, int rowNumber, int columnIndex, StreamingCell cell) {
+        if (sheet._terminated) {
+            return;
+        }
+        if (rowNumber != sheet._pendingRowNumber) {
+            if (rowNumber < sheet._pendingRowNumber || rowNumber < sheet._nextRowNumber) {
+                throwXlsReaderUnexpectedCellOrderException(sheet, rowNumber);
+            }
+            completePendingRow(sheet);
+            while (sheet._nextRowNumber < rowNumber) { // rows without cell before the row
+                if (!sheet._rowBitSet.get(sheet._nextRowNumber)) { // missing row is the end of data
+                    sheet._terminated = true;
+                    return;
+                }
+                completeRow(sheet, sheet._nextRowNumber, Collections.<Integer, StreamingCell> emptyMap());
+                ++sheet._nextRowNumber;
+            }
+            sheet._pendingRowNumber = rowNumber;
+        }
+        sheet._pendingCellMap.put(columnIndex, cell);
+    }
+
+    protected void completePendingRow(StreamingSheet sheet) {
+        if (sheet._pendingRowNumber < 0) {
+            return;
+        }
+        completeRow(sheet, sheet._pendingRowNumber, sheet._pendingCellMap);
+        sheet._nextRowNumber = sheet._pendingRowNumber + 1;
+        sheet._pendingRowNumber = -1;
+        sheet._pendingCellMap.clear();
+    }
+
+    protected void completeRow(StreamingSheet sheet, int rowNumber, Map<Integer, StreamingCell> cellMap) {
+        if (rowNumber == 0) {
+            sheet._columnNameList = extractColumnNameList(sheet, cellMap);
+            return;
+        }
+        if (sheet._table == null) { // first data row
+            defineColumns(sheet, cellMap);
+        }
+        final DfDataTable table = sheet._table;
+        setupRow(sheet, table, rowNumber, cellMap);
+        if (table.getRowSize() >= _batchSize) {
+            sheet._handler.handleRows(table);
+            table.flushRows();
+        }
+    }
+
+    protected void throwXlsReaderUnexpectedCellOrderException(StreamingSheet sheet, int rowNumber) {
+        final ExceptionMessageBuilder br = new ExceptionMessageBuilder();
+        br.addNotice("The cells of the sheet were not in order of rows.");
+        br.addItem("Advice");
+        br.addElement("The streaming reader needs cells in order of rows.");
+        br.addElement("Save the xls file by Excel again or disable the streaming.");
+        br.addItem("Xls File");
+        br.addElement(_xlsFile);
+        br.addItem("Sheet Name");
+        br.addElement(sheet._sheetName);
+        br.addItem("Row Number");
+        br.addElement(rowNumber);
+        final String msg = br.buildExceptionMessage();
+        throw new DfXlsReaderReadFailureException(msg);
+    }
+
+    // -----------------------------------------------------
+    //                                           Data Column
+    //                                           -----------
+    protected List<String> extractColumnNameList(StreamingSheet sheet, Map<Integer, StreamingCell> cellMap) {
+        final List<String> columnNameList = new ArrayList<String>();
+        for (int i = 0;; ++i) {
+            final StreamingCell nameCell = cellMap.get(i);
+            if (nameCell == null || nameCell._cellType == Cell.CELL_TYPE_BLANK) {
+                break;
+            }
+            if (nameCell._cellType != Cell.CELL_TYPE_STRING) {
+                throwXlsReaderColumnNameNotStringException(sheet, i);
+            }
+            final String columnName = ((String) nameCell._value).trim();
+            if (columnName.length() == 0) {
+                break;
+            }
+            columnNameList.add(columnName);
+        }
+        return columnNameList;
+    }
+
+    protected void throwXlsReaderColumnNameNotStringException(StreamingSheet sheet, int columnIndex) {
+        final ExceptionMessageBuilder br = new ExceptionMessageBuilder();
+        br.addNotice("The cell of column name was not string.");
+        br.addItem("Xls File");
+        br.addElement(_xlsFile);
+        br.addItem("Table");
+        br.addElement(sheet._tableName);
+        br.addItem("Column Index");
+        br.addElement(columnIndex);
+        final String msg = br.buildExceptionMessage();
+        throw new DfXlsReaderReadFailureException(msg);
+    }
+
+    protected void defineColumns(StreamingSheet sheet, Map<Integer, StreamingCell> valueCellMap) {
+        final DfDataTable table = new DfDataTable(sheet._tableName);
+        final List<String> columnNameList = sheet._columnNameList;
+        for (int i = 0; i < columnNameList.size(); i++) {
+            final String columnName = columnNameList.get(i);
+            final StreamingCell valueCell = valueCellMap != null ? valueCellMap.get(i) : null;
+            if (valueCell != null) {
+                table.addColumn(columnName, _cellConverter.getColumnType(valueCell));
+            } else {
+                table.addColumn(columnName);
+            }
+        }
+        sheet._table = table;
+        sheet._sheetColumnSize = table.getColumnSize();
+        sheet._handler.beginTable(table); // may add columns e.g. default value
+    }
+
+    // -----------------------------------------------------
+    //                                              Data Row
+    //                                              --------
+    protected void setupRow(StreamingSheet sheet, DfDataTable table, int rowNumber, Map<Integer, StreamingCell> cellMap) {
+        final DfDataRow dataRow = table.addRow();
+        StreamingCell cell = null;
+        Object value = null;
+        DfDataColumn column = null;
+        try {
+            for (int columnIndex = 0; columnIndex < table.getColumnSize(); ++columnIndex) {
+                column = table.getColumn(columnIndex);
+                final String columnName = column.getColumnDbName();
+                if (columnIndex >= sheet._sheetColumnSize) { // added by handler
+                    cell = null;
+                    value = null;
+                    dataRow.addValue(columnName, null); // value is set later
+                    continue;
+                }
+                cell = cellMap.get(columnIndex);
+                value = _cellConverter.convertCellValue(table, columnIndex, rowNumber, cell);
+                _cellConverter.addCellValue(dataRow, column, cell, value);
+            }
+        } catch (RuntimeException e) {
+            _cellConverter.throwCellValueHandlingException(table, column, rowNumber, cell, value, e);
+        }
+    }
+
+    // ===================================================================================
+    //                                                                       Determination
+    //                                                                       =============
+    protected boolean isCommentOutSheet(String sheetName) {
+        return sheetName.startsWith("#");
+    }
+
+    protected boolean isSkipSheet(String sheetName) {
+        return _skipSheetPattern != null && _skipSheetPattern.matcher(sheetName).matches();
+    }
+
+    // ===================================================================================
+    //                                                                     Streaming Model
+    //                                                                     ===============
+    protected static class StreamingSheet {
+
+        protected final String _sheetName;
+        protected final String _tableName;
+        protected final DfTableXlsStreamingHandler _handler;
+        protected final BitSet _rowBitSet = new BitSet(); // existing rows (even if no cell)
+        protected final Map<Integer, StreamingCell> _pendingCellMap = new HashMap<Integer, StreamingCell>();
+        protected int _pendingRowNumber = -1; // the row of pending cells, -1 means no pending
+        protected int _nextRowNumber; // the row to be completed next
+        protected List<String> _columnNameList; // null until first row is completed
+        protected DfDataTable _table; // null until columns are defined
+        protected int _sheetColumnSize; // may be less than table's column size by handler
+        protected boolean _terminated; // by missing row, as the usermodel reader
+
+        public StreamingSheet(String sheetName, String tableName, DfTableXlsStreamingHandler handler) {
+            _sheetName = sheetName;
+            _tableName = tableName;
+            _handler = handler;
+        }
+    }
+
+    protected static class StreamingCell implements DfXlsCellResource {
+
+        protected final int _cellType; // e.g. Cell.CELL_TYPE_NUMERIC
+        protected final Object _value; // Double, String or Boolean (NullAllowed: e.g. blank)
+        protected final String _formatString; // (NullAllowed)
+        protected final boolean _date1904; // date window of the workbook
+
+        public StreamingCell(int cellType, Object value, String formatString, boolean date1904) {
+            _cellType = cellType;
+            _value = value;
+            _formatString = formatString;
+            _date1904 = date1904;
+        }
+
+        public int getCellType() {
+            return _cellType;
+        }
+
+        public double getNumericValue() {
+            return (Double) _value;
+        }
+
+        public Date getDateValue() {
+            return HSSFDateUtil.getJavaDate((Double) _value, _date1904);
+        }
+
+        public String getStringValue() {
+            return (String) _value;
+        }
+
+        public boolean getBooleanValue() {
+            return (Boolean) _value;
+        }
+
+        public String getFormatString() {
+            return _formatString;
+        }
+    }
+}
@@ -0,0 +1,179 @@
+/*
+ * Copyright 2014-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.dbflute.helper.jdbc;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.sql.DataSource;
+
+import org.dbflute.exception.SQLFailureException;
+import org.dbflute.helper.jdbc.connection.DfFittingDataSource;
+import org.dbflute.helper.jdbc.context.DfSchemaSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The helper for parallel JDBC processes of engine, e.g. loading data, dropping tables, probing outside-SQL. <br>
+ * Each process creates new connections from the fitting data source for its workers,
+ * and waits for all the workers in submitted order.
+ * <pre>
+ * DfFittingDataSource fittingDataSource = DfParallelJdbcHelper.findFittingDataSource(dataSource); // null if cannot
+ * ExecutorService executor = DfParallelJdbcHelper.newWorkerPool("dbflute-sea", threadCount);
+ * try {
+ *     ... (submit tasks)
+ *     List&lt;RESULT&gt; resultList = DfParallelJdbcHelper.waitForAll(futureList, "landing");
+ * } finally {
+ *     DfParallelJdbcHelper.awaitTermination(executor);
+ * }
+ * </pre>
+ * @author agent
+ * @since 1.2.3 (2026/10/19 Monday)
+ */
+public class DfParallelJdbcHelper {
+
+    // ===================================================================================
+    //                                                                          Definition
+    //                                                                          ==========
+    private static final Logger _log = LoggerFactory.getLogger(DfParallelJdbcHelper.class);
+
+    protected static final long TERMINATION_LOGGING_SECONDS = 10L;
+
+    // ===================================================================================
+    //                                                                         Constructor
+    //                                                                         ===========
+    protected DfParallelJdbcHelper() {
+    }
+
+    // ===================================================================================
+    //                                                                         Data Source
+    //                                                                         ===========
+    /**
+     * Find the data source to create new connections for parallel workers.
+     * @param dataSource The data source of the process, which may be schema source. (NullAllowed)
+     * @return The fitting data source under the schema sources. (NullAllowed: if cannot create new connections)
+     */
+    public static DfFittingDataSource findFittingDataSource(DataSource dataSource) {
+        DataSource current = dataSource;
+        while (current instanceof DfSchemaSource) { // may be nested
+            current = ((DfSchemaSource) current).getDataSource();
+        }
+        return current instanceof DfFittingDataSource ? (DfFittingDataSource) current : null;
+    }
+
+    // ===================================================================================
+    //                                                                         Worker Pool
+    //                                                                         ===========
+    /**
+     * Create the fixed-size pool of daemon worker threads.
+     * @param threadNamePrefix The prefix of thread name, e.g. "dbflute-loaddata". (NotNull)
+     * @param threadCount The count of threads. (NotMinus, NotZero)
+     * @return The new-created executor, which should be terminated by {@link #awaitTermination(ExecutorService)}. (NotNull)
+     */
+    public static ExecutorService newWorkerPool(String threadNamePrefix, int threadCount) {
+        return Executors.newFixedThreadPool(threadCount, createThreadFactory(threadNamePrefix));
+    }
+
+    /**
+     * Create the factory of daemon threads named with sequence number, e.g. dbflute-loaddata-1.
+     * @param threadNamePrefix The prefix of thread name. (NotNull)
+     * @return The new-created factory. (NotNull)
+     */
+    public static ThreadFactory createThreadFactory(String threadNamePrefix) {
+        final AtomicInteger threadNumber = new AtomicInteger();
+        return runnable -> {
+            final Thread thread = new Thread(runnable, threadNamePrefix + "-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * Terminate the executor after running tasks finish, so no connection is closed under live workers.
+     * @param executor The executor whose tasks are already waited for or cancelled. (NotNull)
+     */
+    public static void awaitTermination(ExecutorService executor) {
+        executor.shutdown();
+        try {
+            while (!executor.awaitTermination(TERMINATION_LOGGING_SECONDS, TimeUnit.SECONDS)) {
+                _log.info("...Waiting for the parallel workers to finish");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            executor.shutdownNow();
+        }
+    }
+
+    // ===================================================================================
+    //                                                                        Wait for All
+    //                                                                        ============
+    /**
+     * Wait for all the tasks in submitted order. <br>
+     * When one fails, the not-started tasks are cancelled and the running ones are waited for,
+     * and then the first failure is thrown.
+     * @param <RESULT> The type of task result.
+     * @param futureList The list of future in submitted order. (NotNull)
+     * @param processTitle The title of the process for exception message, e.g. "loading". (NotNull)
+     * @return The list of results in submitted order. (NotNull)
+     * @throws SQLFailureException When a task failed to create the connection (SQLException).
+     */
+    public static <RESULT> List<RESULT> waitForAll(List<? extends Future<RESULT>> futureList, String processTitle) {
+        final List<RESULT> resultList = new ArrayList<RESULT>(futureList.size());
+        Throwable firstCause = null;
+        for (Future<RESULT> future : futureList) {
+            try {
+                resultList.add(future.get());
+            } catch (CancellationException e) { // cancelled by the first failure
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                cancelAll(futureList);
+                throw new IllegalStateException("Interrupted the parallel " + processTitle + ".", e);
+            } catch (ExecutionException e) {
+                if (firstCause == null) {
+                    firstCause = e.getCause();
+                    cancelAll(futureList); // running tasks are waited for by next loop
+                }
+            }
+        }
+        if (firstCause == null) {
+            return resultList;
+        }
+        if (firstCause instanceof RuntimeException) { // e.g. SQL failure, break cause
+            throw (RuntimeException) firstCause;
+        } else if (firstCause instanceof Error) {
+            throw (Error) firstCause;
+        } else if (firstCause instanceof SQLException) { // failed to create connection
+            String msg = "Failed to create the connection for parallel " + processTitle + ".";
+            throw new SQLFailureException(msg, (SQLException) firstCause);
+        }
+        throw new IllegalStateException("Failed to the parallel " + processTitle + ".", firstCause);
+    }
+
+    protected static void cancelAll(List<? extends Future<?>> futureList) {
+        for (Future<?> future : futureList) {
+            future.cancel(false); // not interrupt running statements, only not-started ones are cancelled
+        }
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2014-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.dbflute.helper.jdbc.connection;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+import org.dbflute.util.DfTypeUtil;
+
+/**
+ * The data source that provides only its own dedicated connection, e.g. for a worker thread. <br>
+ * The connection is not closed by users (fitting connection) so call closeReally() at the end.
+ * @author agent
+ * @since 1.2.3 (2026/10/19 Monday)
+ */
+public class DfDedicatedDataSource extends DfCushionDataSource {
+
+    // ===================================================================================
+    //                                                                           Attribute
+    //                                                                           =========
+    protected final DfFittingConnection _dedicatedConnection;
+
+    // ===================================================================================
+    //                                                                         Constructor
+    //                                                                         ===========
+    /**
+     * @param realConnection The real connection that is not shared with other threads. (NotNull)
+     */
+    public DfDedicatedDataSource(Connection realConnection) {
+        _dedicatedConnection = new DfFittingConnection(realConnection);
+    }
+
+    // ===================================================================================
+    //                                                                 Connection Handling
+    //                                                                 ===================
+    @Override
+    public Connection getConnection() throws SQLException {
+        return _dedicatedConnection;
+    }
+
+    public void commitIfNeeds() throws SQLException {
+        if (!_dedicatedConnection.getAutoCommit()) {
+            _dedicatedConnection.commit();
+        }
+    }
+
+    public void rollbackIfNeeds() {
+        try {
+            if (!_dedicatedConnection.getAutoCommit()) {
+                _dedicatedConnection.rollback();
+            }
+        } catch (SQLException ignored) {} // already failed so closed later
+    }
+
+    public void closeReally() {
+        try {
+            _dedicatedConnection.closeReally();
+        } catch (SQLException ignored) {}
+    }
+
+    // ===================================================================================
+    //                                                                      Basic Override
+    //                                                                      ==============
+    @Override
+    public String toString() {
+        return DfTypeUtil.toClassTitle(this) + ":" + _dedicatedConnection;
+    }
+}
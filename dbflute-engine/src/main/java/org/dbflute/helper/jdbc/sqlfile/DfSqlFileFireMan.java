@@ -17,10 +17,21 @@ package org.dbflute.helper.jdbc.sqlfile;
 
 import java.io.File;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import javax.sql.DataSource;
 
 import org.dbflute.exception.DfFireSqlScriptSQLException;
 import org.dbflute.exception.SQLFailureException;
+import org.dbflute.helper.jdbc.DfParallelJdbcHelper;
+import org.dbflute.helper.jdbc.connection.DfDedicatedDataSource;
+import org.dbflute.helper.jdbc.connection.DfFittingDataSource;
 import org.dbflute.helper.jdbc.sqlfile.DfSqlFileRunnerResult.ErrorContinuedSql;
 import org.dbflute.helper.process.ProcessResult;
 import org.dbflute.helper.process.SystemScript;
@@ -41,44 +52,74 @@ public class DfSqlFileFireMan {
     /** The logger instance for this class. (NotNull) */
     private static final Logger _log = LoggerFactory.getLogger(DfSqlFileFireMan.class);
 
+    /** The mark in file name for parallel-safe SQL file, e.g. replace-schema-20-parallel-view.sql */
+    public static final String PARALLEL_FILE_MARK = "-parallel-";
+
     // ===================================================================================
     //                                                                           Attribute
     //                                                                           =========
     protected String _executorName;
 
+    // -----------------------------------------------------
+    //                                       Parallel Firing
+    //                                       ---------------
+    protected int _parallelism = 1; // sequential as default
+    protected DataSource _parallelSourceDataSource; // null allowed, to create new connections
+    protected DfSqlFileParallelRunnerProvider _parallelRunnerProvider; // null allowed, not null if parallel
+    protected DfSqlFileParallelDeterminer _parallelFileDeterminer; // null allowed, parallel-safe files other than by name
+
     // ===================================================================================
     //                                                                             Execute
     //                                                                             =======
     /**
-     * Load the SQL files and then fire them.
+     * Load the SQL files and then fire them. <br>
+     * If parallel firing is accepted, consecutive parallel-safe files are fired concurrently on new connections (lanes).
+     * @param runner The runner for sequential files. (NotNull)
+     * @param sqlFileList The list of SQL files to be fired. (NotNull)
      * @return The result about firing SQL. (NotNull)
      */
     public DfSqlFileFireResult fire(DfSqlFileRunner runner, List<File> sqlFileList) {
         final DfSqlFileFireResult fireResult = new DfSqlFileFireResult();
+        final DfFittingDataSource parallelDataSource = prepareParallelDataSource(); // null if sequential
         SQLFailureException breakCause = null;
         int goodSqlCount = 0;
         int totalSqlCount = 0;
-        for (final File sqlFile : sqlFileList) {
-            if (!sqlFile.exists()) {
-                String msg = "The file was not found: " + sqlFile;
-                throw new IllegalStateException(msg);
-            }
-
-            if (_log.isInfoEnabled()) {
-                _log.info("...Firing: " + sqlFile.getName());
+        int fileIndex = 0;
+        while (fileIndex < sqlFileList.size()) {
+            final List<File> groupFileList = extractParallelGroup(sqlFileList, fileIndex, parallelDataSource);
+            final List<DfSqlFileRunnerResult> runnerResultList;
+            if (groupFileList.size() > 1) {
+                for (File sqlFile : groupFileList) {
+                    checkSqlFileExistence(sqlFile);
+                }
+                runnerResultList = fireInParallel(groupFileList, parallelDataSource);
+                fileIndex = fileIndex + groupFileList.size();
+            } else {
+                final File sqlFile = sqlFileList.get(fileIndex);
+                checkSqlFileExistence(sqlFile);
+                if (_log.isInfoEnabled()) {
+                    _log.info("...Firing: " + sqlFile.getName());
+                }
+                runnerResultList = Collections.singletonList(processSqlFile(runner, sqlFile));
+                ++fileIndex;
             }
-
-            final DfSqlFileRunnerResult runnerResult = processSqlFile(runner, sqlFile);
-            if (runnerResult != null) {
+            for (DfSqlFileRunnerResult runnerResult : runnerResultList) { // in file order
+                if (runnerResult == null) { // skipped
+                    continue;
+                }
                 fireResult.addRunnerResult(runnerResult);
                 goodSqlCount = goodSqlCount + runnerResult.getGoodSqlCount();
+                if (breakCause != null) { // other files of the same parallel group, already executed
+                    continue;
+                }
                 breakCause = runnerResult.getBreakCause();
-                if (breakCause != null) {
-                    break;
-                } else {
+                if (breakCause == null) {
                     totalSqlCount = totalSqlCount + runnerResult.getTotalSqlCount();
                 }
             }
+            if (breakCause != null) {
+                break;
+            }
         }
         final String title = _executorName != null ? _executorName : "Fired SQL";
 
@@ -97,6 +138,13 @@ public class DfSqlFileFireMan {
         return fireResult;
     }
 
+    protected void checkSqlFileExistence(File sqlFile) {
+        if (!sqlFile.exists()) {
+            String msg = "The file was not found: " + sqlFile;
+            throw new IllegalStateException(msg);
+        }
+    }
+
     protected void buildResultMessage(List<File> sqlFileList, final DfSqlFileFireResult fireResult, int goodSqlCount, int totalSqlCount,
             final String title) {
         final StringBuilder resultSb = new StringBuilder();
@@ -226,6 +274,137 @@ public class DfSqlFileFireMan {
         }
     }
 
+    // ===================================================================================
+    //                                                                     Parallel Firing
+    //                                                                     ===============
+    /**
+     * Accept the parallel firing of parallel-safe SQL files. <br>
+     * The files whose name contains '-parallel-' are parallel-safe, e.g. replace-schema-20-parallel-view.sql. <br>
+     * Consecutive parallel-safe files are fired concurrently on the fixed count of connections (lanes),
+     * each connection is used by one file at a time.
+     * @param parallelism The count of threads and connections, 1 means sequential. (NotMinus, NotZero)
+     * @param dataSource The data source to create new connections, fitting data source or its schema source. (NotNull)
+     * @param runnerProvider The provider of runner for the parallel files. (NotNull)
+     */
+    public void acceptParallelFiring(int parallelism, DataSource dataSource, DfSqlFileParallelRunnerProvider runnerProvider) {
+        if (dataSource == null) {
+            throw new IllegalArgumentException("The argument 'dataSource' should not be null.");
+        }
+        if (runnerProvider == null) {
+            throw new IllegalArgumentException("The argument 'runnerProvider' should not be null.");
+        }
+        _parallelism = parallelism;
+        _parallelSourceDataSource = dataSource;
+        _parallelRunnerProvider = runnerProvider;
+    }
+
+    /**
+     * Accept the determiner of parallel-safe SQL files other than by the file name, e.g. select-only files. <br>
+     * This works only when parallel firing is accepted.
+     * @param determiner The determiner called for each SQL file on main thread. (NotNull)
+     */
+    public void acceptParallelFileDeterminer(DfSqlFileParallelDeterminer determiner) {
+        if (determiner == null) {
+            throw new IllegalArgumentException("The argument 'determiner' should not be null.");
+        }
+        _parallelFileDeterminer = determiner;
+    }
+
+    @FunctionalInterface
+    public static interface DfSqlFileParallelDeterminer {
+
+        /**
+         * @param sqlFile The SQL file to be fired. (NotNull)
+         * @return Can the file be fired concurrently with other parallel-safe files?
+         */
+        boolean isParallelSafe(File sqlFile);
+    }
+
+    @FunctionalInterface
+    public static interface DfSqlFileParallelRunnerProvider {
+
+        /**
+         * Provide the runner for one parallel SQL file, called on worker thread.
+         * @param dedicatedDataSource The data source that provides the connection of the lane, dedicated while the file is fired. (NotNull)
+         * @return The new-created runner that does not share state with other runners. (NotNull)
+         */
+        DfSqlFileRunner provide(DataSource dedicatedDataSource);
+    }
+
+    protected DfFittingDataSource prepareParallelDataSource() { // null allowed
+        if (_parallelism <= 1 || _parallelRunnerProvider == null) {
+            return null;
+        }
+        final DfFittingDataSource fittingDataSource = DfParallelJdbcHelper.findFittingDataSource(_parallelSourceDataSource);
+        if (fittingDataSource == null) { // cannot create new connections
+            _log.info("*Cannot fire SQL files in parallel because of unknown data source: " + _parallelSourceDataSource);
+        }
+        return fittingDataSource;
+    }
+
+    protected List<File> extractParallelGroup(List<File> sqlFileList, int fromIndex, DfFittingDataSource parallelDataSource) {
+        final List<File> groupFileList = new ArrayList<File>();
+        if (parallelDataSource == null) {
+            return groupFileList; // sequential
+        }
+        for (int i = fromIndex; i < sqlFileList.size(); i++) {
+            final File sqlFile = sqlFileList.get(i);
+            if (!isParallelSqlFile(sqlFile)) {
+                break;
+            }
+            groupFileList.add(sqlFile);
+        }
+        return groupFileList;
+    }
+
+    protected boolean isParallelSqlFile(File sqlFile) {
+        if (sqlFile.getName().contains(PARALLEL_FILE_MARK)) {
+            return true;
+        }
+        return _parallelFileDeterminer != null && _parallelFileDeterminer.isParallelSafe(sqlFile);
+    }
+
+    protected List<DfSqlFileRunnerResult> fireInParallel(List<File> groupFileList, DfFittingDataSource parallelDataSource) {
+        final int laneCount = Math.min(_parallelism, groupFileList.size());
+        _log.info("...Firing in parallel: files=" + groupFileList.size() + ", lanes=" + laneCount);
+        final BlockingQueue<DfDedicatedDataSource> lanePool = new ArrayBlockingQueue<DfDedicatedDataSource>(laneCount);
+        final List<DfDedicatedDataSource> createdList = new ArrayList<DfDedicatedDataSource>(laneCount);
+        final ExecutorService executor = DfParallelJdbcHelper.newWorkerPool("dbflute-sqlfile", laneCount);
+        try {
+            for (int i = 0; i < laneCount; i++) { // fixed count of connections, not per file
+                final DfDedicatedDataSource lane = new DfDedicatedDataSource(parallelDataSource.newConnection());
+                createdList.add(lane);
+                lanePool.add(lane);
+            }
+            final List<Future<DfSqlFileRunnerResult>> futureList = new ArrayList<Future<DfSqlFileRunnerResult>>();
+            for (File sqlFile : groupFileList) {
+                futureList.add(executor.submit(() -> fireOnLane(sqlFile, lanePool)));
+            }
+            return DfParallelJdbcHelper.waitForAll(futureList, "firing");
+        } catch (SQLException e) {
+            throw new SQLFailureException("Failed to create the connection for parallel firing.", e);
+        } finally {
+            DfParallelJdbcHelper.awaitTermination(executor); // no connection is closed under live firing
+            for (DfDedicatedDataSource lane : createdList) {
+                lane.closeReally();
+            }
+        }
+    }
+
+    protected DfSqlFileRunnerResult fireOnLane(File sqlFile, BlockingQueue<DfDedicatedDataSource> lanePool) throws InterruptedException {
+        if (_log.isInfoEnabled()) {
+            _log.info("...Firing: " + sqlFile.getName() + " (" + Thread.currentThread().getName() + ")");
+        }
+        final DfDedicatedDataSource lane = lanePool.take(); // one thread per lane so no waiting actually
+        try {
+            final DfSqlFileRunner runner = _parallelRunnerProvider.provide(lane);
+            return processSqlFile(runner, sqlFile);
+        } finally {
+            lane.rollbackIfNeeds(); // basically already finished by runner, just in case
+            lanePool.add(lane);
+        }
+    }
+
     // ===================================================================================
     //                                                                      General Helper
     //                                                                      ==============
@@ -247,4 +426,8 @@ public class DfSqlFileFireMan {
     public void setExecutorName(String executorName) {
         this._executorName = executorName;
     }
+
+    public int getParallelism() {
+        return _parallelism;
+    }
 }
@@ -95,7 +95,12 @@ public class DfSqlFileRunnerExecute extends DfSqlFileRunnerBase {
 
     protected void processNonDispatch(String sql) throws SQLException {
         checkStatement(sql);
-        _currentStatement.execute(sql);
+        final long before = System.currentTimeMillis();
+        try {
+            _currentStatement.execute(sql);
+        } finally { // only the execution, not including reading file, connection and transaction
+            _runnerResult.addExecuteMillis(System.currentTimeMillis() - before);
+        }
     }
 
     protected void lazyConnectIfNeeds() throws SQLException {
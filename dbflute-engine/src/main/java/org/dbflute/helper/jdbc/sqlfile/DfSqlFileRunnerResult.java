@@ -37,6 +37,7 @@ public class DfSqlFileRunnerResult {
     protected int _totalSqlCount = 0;
     protected boolean _skippedFile;
     protected SQLFailureException _breakCause; // only when break immediately by error
+    protected long _executeMillis = -1L; // sum of statement executions, -1 means no execution
 
     // ===================================================================================
     //                                                                         Constructor
@@ -115,4 +116,12 @@ public class DfSqlFileRunnerResult {
     public void setBreakCause(SQLFailureException breakCause) {
         this._breakCause = breakCause;
     }
+
+    public long getExecuteMillis() {
+        return _executeMillis;
+    }
+
+    public void addExecuteMillis(long executeMillis) {
+        this._executeMillis = Math.max(_executeMillis, 0L) + executeMillis;
+    }
 }
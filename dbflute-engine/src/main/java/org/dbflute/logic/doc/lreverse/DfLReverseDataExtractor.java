@@ -94,31 +94,60 @@ public class DfLReverseDataExtractor {
     }
 
     protected DfLReverseDataResult selectData(Table table) {
-        final String tableSqlName = table.getTableSqlNameDirectUse();
+        final boolean large = determineLargeData(table);
+        final List<String> sqlList = buildExtractionSqlList(table);
+        if (large) { // also mainly here if e.g. xlsLimit = 0
+            return processLargeData(table, sqlList);
+        } else { // mainly here
+            return processNormalData(table, sqlList);
+        }
+    }
 
-        boolean large = false;
+    /**
+     * Determine whether the table data is large or not, by count query if it needs.
+     * @param table The table to be extracted. (NotNull)
+     * @return The determination, true if large data (handled as delimiter data).
+     */
+    public boolean determineLargeData(Table table) {
         if (_largeBorder > 0) {
             if (_extractingLimit < 0 || _largeBorder < _extractingLimit) {
                 final DfJdbcFacade facade = createJdbcFacade();
-                final int countAll = facade.selectCountAll(tableSqlName);
+                final int countAll = facade.selectCountAll(table.getTableSqlNameDirectUse());
                 if (countAll > _largeBorder) { // it's large
-                    large = true;
+                    return true;
                 }
             }
         } else if (_largeBorder == 0) { // means all large mode (all TSV files)
-            large = true;
+            return true;
         }
+        return false;
+    }
 
+    protected List<String> buildExtractionSqlList(Table table) {
         final List<String> sqlList = DfCollectionUtil.newArrayList();
         buildSelfReferenceExtractingTrySqlList(table).ifPresent(trySqlList -> {
             sqlList.addAll(trySqlList);
         });
         sqlList.add(buildDefaultExtractionSql(table));
-        if (large) { // also mainly here if e.g. xlsLimit = 0
-            return processLargeData(table, sqlList);
-        } else { // mainly here
-            return processNormalData(table, sqlList);
-        }
+        return sqlList;
+    }
+
+    // -----------------------------------------------------
+    //                                             Streaming
+    //                                             ---------
+    /**
+     * Extract the table data by cursor, which is selected when the result is handled. <br>
+     * Both normal and large data are not materialized as list, so memory stays constant regardless of table size.
+     * @param table The table to be extracted. (NotNull)
+     * @param large Is the table data large? (determined by {@link #determineLargeData(Table)})
+     * @return The result of data that has cursor callback. (NotNull)
+     */
+    public DfLReverseDataResult extractDataByCursor(Table table, boolean large) {
+        final DfJdbcFacade facade = createJdbcFacade();
+        final Map<String, ValueType> valueTypeMap = createColumnValueTypeMap(table.getColumnList());
+        final DfJFadStringConverter converter = createStringConverter();
+        final DfJFadCursorCallback callback = facade.selectCursor(buildExtractionSqlList(table), valueTypeMap, converter);
+        return new DfLReverseDataResult(callback, large);
     }
 
     // ===================================================================================
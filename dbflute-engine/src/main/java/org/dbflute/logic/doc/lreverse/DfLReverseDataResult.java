@@ -31,12 +31,13 @@ public class DfLReverseDataResult {
     //                                                                           =========
     protected final List<Map<String, String>> _resultList;
     protected final DfJFadCursorCallback _cursorCallback;
+    protected final boolean _largeData;
 
     // ===================================================================================
     //                                                                         Easy-to-Use
     //                                                                         ===========
     public boolean isLargeData() {
-        return _resultList == null && _cursorCallback != null;
+        return _largeData;
     }
 
     // ===================================================================================
@@ -45,11 +46,17 @@ public class DfLReverseDataResult {
     public DfLReverseDataResult(List<Map<String, String>> resultList) {
         _resultList = resultList;
         _cursorCallback = null;
+        _largeData = false;
     }
 
     public DfLReverseDataResult(DfJFadCursorCallback cursorCallback) {
+        this(cursorCallback, true);
+    }
+
+    public DfLReverseDataResult(DfJFadCursorCallback cursorCallback, boolean largeData) { // normal data also by cursor if streaming
         _resultList = null;
         _cursorCallback = cursorCallback;
+        _largeData = largeData;
     }
 
     // ===================================================================================
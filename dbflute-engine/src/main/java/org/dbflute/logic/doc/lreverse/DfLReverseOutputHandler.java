@@ -22,19 +22,25 @@ import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
-import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
 import javax.sql.DataSource;
 
 import org.apache.torque.engine.database.model.Column;
 import org.apache.torque.engine.database.model.Table;
 import org.dbflute.DfBuildProperties;
+import org.dbflute.exception.SQLFailureException;
 import org.dbflute.helper.dataset.DfDataRow;
 import org.dbflute.helper.dataset.DfDataSet;
 import org.dbflute.helper.dataset.DfDataTable;
 import org.dbflute.helper.dataset.types.DfDtsColumnTypes;
 import org.dbflute.helper.io.xls.DfTableXlsWriter;
+import org.dbflute.helper.jdbc.DfParallelJdbcHelper;
+import org.dbflute.helper.jdbc.connection.DfDedicatedDataSource;
+import org.dbflute.helper.jdbc.connection.DfFittingDataSource;
 import org.dbflute.helper.jdbc.facade.DfJFadCursorCallback;
 import org.dbflute.helper.jdbc.facade.DfJFadCursorHandler;
 import org.dbflute.helper.jdbc.facade.DfJFadResultSetWrapper;
@@ -68,6 +74,7 @@ public class DfLReverseOutputHandler {
     protected boolean _suppressQuoteEmptyString; // default is in writer
     protected Integer _cellLengthLimit; // default is in writer
     protected String _delimiterDataDir; // option for large data
+    protected int _extractingParallelism = 1; // sequential as default
     protected final Map<String, Table> _tableNameMap = new LinkedHashMap<String, Table>();
 
     // ===================================================================================
@@ -81,7 +88,8 @@ public class DfLReverseOutputHandler {
     //                                                                          Output Xls
     //                                                                          ==========
     /**
-     * Output data excel templates. (using dataSource)
+     * Output data excel templates. (using dataSource) <br>
+     * Rows are streamed from cursor to xls sheet or delimiter file per table without list of records.
      * @param tableInfoMap The map of table to extract. (NotNull)
      * @param limit The limit of extracted record. (MinusAllowed: if minus, no limit)
      * @param xlsFile The file of XLS. (NotNull)
@@ -91,11 +99,38 @@ public class DfLReverseOutputHandler {
     public void outputData(Map<String, Table> tableInfoMap, int limit, File xlsFile, DfLReverseOutputResource resource,
             List<String> sectionInfoList) {
         filterUnsupportedTable(tableInfoMap);
-        final DfLReverseDataExtractor extractor = new DfLReverseDataExtractor(_dataSource);
-        extractor.setExtractingLimit(limit);
-        extractor.setLargeBorder(_xlsLimit);
-        final Map<String, DfLReverseDataResult> loadDataMap = extractor.extractData(tableInfoMap);
-        transferToXls(tableInfoMap, loadDataMap, limit, xlsFile, resource, sectionInfoList);
+        final List<Table> tableList = new ArrayList<Table>(tableInfoMap.values());
+
+        // determine large data at first to resolve sheet names in sheet order (same as sequential)
+        final List<Boolean> largeList = processTable(tableList, (table, tableIndex, dataSource) -> {
+            return createDataExtractor(dataSource, limit).determineLargeData(table);
+        });
+        final List<String> sheetNameList = new ArrayList<String>();
+        for (int i = 0; i < tableList.size(); i++) {
+            sheetNameList.add(!largeList.get(i) ? resolveSheetName(tableList.get(i), i + 1) : null);
+        }
+
+        final List<DfLReverseTableOutput> outputList = processTable(tableList, (table, tableIndex, dataSource) -> {
+            final boolean large = largeList.get(tableIndex);
+            final DfLReverseDataResult dataResult = createDataExtractor(dataSource, limit).extractDataByCursor(table, large);
+            if (large) {
+                return outputDelimiterData(table, dataResult, limit, resource, tableIndex + 1);
+            } else {
+                return setupXlsDataTable(table, dataResult, limit, sheetNameList.get(tableIndex));
+            }
+        });
+        final DfDataSet dataSet = new DfDataSet();
+        for (DfLReverseTableOutput output : outputList) { // in sheet order
+            if (output.getSectionInfo() != null) {
+                sectionInfoList.add(output.getSectionInfo());
+            }
+            if (output.getDataTable() != null) {
+                dataSet.addTable(output.getDataTable());
+            }
+        }
+        if (dataSet.getTableSize() > 0) {
+            writeXlsData(dataSet, xlsFile);
+        }
     }
 
     protected void filterUnsupportedTable(Map<String, Table> tableInfoMap) {
@@ -110,53 +145,94 @@ public class DfLReverseOutputHandler {
         }
     }
 
-    /**
-     * Transfer data to excel. (state-less)
-     * @param tableMap The map of table. (NotNull)
-     * @param loadDataMap The map of load data. (NotNull)
-     * @param limit The limit of extracted record. (MinusAllowed: if minus, no limit)
-     * @param xlsFile The file of XLS. (NotNull)
-     * @param resource The resource information of output data. (NotNull)
-     * @param sectionInfoList The list of section info. (NotNull)
-     */
-    protected void transferToXls(Map<String, Table> tableMap, Map<String, DfLReverseDataResult> loadDataMap, int limit, File xlsFile,
-            DfLReverseOutputResource resource, List<String> sectionInfoList) {
-        final DfDataSet dataSet = new DfDataSet();
-        int sheetNumber = 0;
-        for (Entry<String, Table> entry : tableMap.entrySet()) {
-            ++sheetNumber;
-            final String tableDbName = entry.getKey();
-            final Table table = entry.getValue();
-            final DfLReverseDataResult dataResult = loadDataMap.get(tableDbName);
-            if (dataResult.isLargeData()) {
-                outputDelimiterData(table, dataResult, limit, resource, sheetNumber, sectionInfoList);
-            } else {
-                final List<Map<String, String>> extractedList = dataResult.getResultList();
-                setupXlsDataTable(dataSet, table, extractedList, sheetNumber, sectionInfoList);
+    protected DfLReverseDataExtractor createDataExtractor(DataSource dataSource, int limit) {
+        final DfLReverseDataExtractor extractor = new DfLReverseDataExtractor(dataSource);
+        extractor.setExtractingLimit(limit);
+        extractor.setLargeBorder(_xlsLimit);
+        return extractor;
+    }
+
+    public static class DfLReverseTableOutput {
+
+        protected final DfDataTable _dataTable; // null allowed: when delimiter data
+        protected final String _sectionInfo; // null allowed: when no output
+
+        public DfLReverseTableOutput(DfDataTable dataTable, String sectionInfo) {
+            _dataTable = dataTable;
+            _sectionInfo = sectionInfo;
+        }
+
+        public DfDataTable getDataTable() {
+            return _dataTable;
+        }
+
+        public String getSectionInfo() {
+            return _sectionInfo;
+        }
+    }
+
+    // ===================================================================================
+    //                                                                    Table Processing
+    //                                                                    ================
+    @FunctionalInterface
+    protected static interface DfLReverseTableProcessor<RESULT> {
+
+        RESULT process(Table table, int tableIndex, DataSource dataSource);
+    }
+
+    protected <RESULT> List<RESULT> processTable(List<Table> tableList, DfLReverseTableProcessor<RESULT> processor) {
+        final DfFittingDataSource fittingDataSource = DfParallelJdbcHelper.findFittingDataSource(_dataSource);
+        final int threadCount = Math.min(_extractingParallelism, tableList.size());
+        if (threadCount <= 1 || fittingDataSource == null) { // sequential
+            final List<RESULT> resultList = new ArrayList<RESULT>();
+            for (int i = 0; i < tableList.size(); i++) {
+                resultList.add(processor.process(tableList.get(i), i, _dataSource));
             }
+            return resultList;
         }
-        if (dataSet.getTableSize() > 0) {
-            writeXlsData(dataSet, xlsFile);
+        return processTableInParallel(tableList, processor, fittingDataSource, threadCount);
+    }
+
+    protected <RESULT> List<RESULT> processTableInParallel(List<Table> tableList, DfLReverseTableProcessor<RESULT> processor,
+            DfFittingDataSource fittingDataSource, int threadCount) {
+        final BlockingQueue<DfDedicatedDataSource> connectionPool = new ArrayBlockingQueue<DfDedicatedDataSource>(threadCount);
+        final List<DfDedicatedDataSource> createdList = new ArrayList<DfDedicatedDataSource>();
+        final ExecutorService executor = DfParallelJdbcHelper.newWorkerPool("dbflute-lreverse", threadCount);
+        try {
+            for (int i = 0; i < threadCount; i++) {
+                final DfDedicatedDataSource dedicatedDataSource = new DfDedicatedDataSource(fittingDataSource.newConnection());
+                createdList.add(dedicatedDataSource);
+                connectionPool.add(dedicatedDataSource);
+            }
+            final List<Future<RESULT>> futureList = new ArrayList<Future<RESULT>>();
+            for (int i = 0; i < tableList.size(); i++) {
+                final Table table = tableList.get(i);
+                final int tableIndex = i;
+                futureList.add(executor.submit(() -> {
+                    final DfDedicatedDataSource dedicatedDataSource = connectionPool.take();
+                    try {
+                        return processor.process(table, tableIndex, dedicatedDataSource);
+                    } finally {
+                        connectionPool.add(dedicatedDataSource);
+                    }
+                }));
+            }
+            return DfParallelJdbcHelper.waitForAll(futureList, "extracting");
+        } catch (SQLException e) {
+            throw new SQLFailureException("Failed to create the connection for parallel extracting.", e);
+        } finally {
+            DfParallelJdbcHelper.awaitTermination(executor); // no connection is closed under live extracting
+            for (DfDedicatedDataSource dedicatedDataSource : createdList) {
+                dedicatedDataSource.closeReally();
+            }
         }
     }
 
     // ===================================================================================
     //                                                                            Xls Data
     //                                                                            ========
-    protected void setupXlsDataTable(DfDataSet dataSet, Table table, List<Map<String, String>> extractedList, int sheetNumber,
-            List<String> sectionInfoList) {
-        final List<Map<String, String>> recordList;
-        {
-            final String tableInfo = "  " + table.getTableDispName() + " (" + extractedList.size() + ")";
-            _log.info(tableInfo);
-            sectionInfoList.add(tableInfo);
-            if (extractedList.size() > _xlsLimit) {
-                recordList = extractedList.subList(0, _xlsLimit); // just in case
-            } else {
-                recordList = extractedList;
-            }
-        }
-        final DfDataTable dataTable = new DfDataTable(resolveSheetName(table, sheetNumber));
+    protected DfLReverseTableOutput setupXlsDataTable(Table table, DfLReverseDataResult dataResult, int limit, String sheetName) {
+        final DfDataTable dataTable = new DfDataTable(sheetName);
         final List<Column> columnList = table.getColumnList();
         for (Column column : columnList) {
             if (isExceptCommonColumn(column)) {
@@ -164,18 +240,24 @@ public class DfLReverseOutputHandler {
             }
             dataTable.addColumn(column.getName(), DfDtsColumnTypes.STRING);
         }
-        for (Map<String, String> recordMap : recordList) {
-            final Set<String> columnNameSet = recordMap.keySet();
-            final DfDataRow dataRow = dataTable.addRow();
-            for (String columnName : columnNameSet) {
-                if (!dataTable.hasColumn(columnName)) {
-                    continue; // basically excepted common columns
+        final int rowLimit = limit >= 0 ? Math.min(limit, _xlsLimit) : _xlsLimit; // xlsLimit just in case
+        dataResult.getCursorCallback().select(wrapper -> {
+            try {
+                while (dataTable.getRowSize() < rowLimit && wrapper.next()) { // streaming to the sheet
+                    final DfDataRow dataRow = dataTable.addRow();
+                    for (int i = 0; i < dataTable.getColumnSize(); i++) {
+                        final String columnName = dataTable.getColumnName(i);
+                        dataRow.addValue(columnName, wrapper.getString(columnName));
+                    }
                 }
-                final String value = recordMap.get(columnName);
-                dataRow.addValue(columnName, value);
+            } catch (SQLException e) {
+                String msg = "Failed to extract the table data: " + table.getTableDispName();
+                throw new SQLFailureException(msg, e);
             }
-        }
-        dataSet.addTable(dataTable);
+        });
+        final String tableInfo = "  " + table.getTableDispName() + " (" + dataTable.getRowSize() + ")";
+        _log.info(tableInfo);
+        return new DfLReverseTableOutput(dataTable, tableInfo);
     }
 
     protected String resolveSheetName(Table table, int sheetNumber) {
@@ -250,10 +332,10 @@ public class DfLReverseOutputHandler {
     // ===================================================================================
     //                                                                      Delimiter Data
     //                                                                      ==============
-    protected void outputDelimiterData(final Table table, DfLReverseDataResult templateDataResult, final int limit,
-            DfLReverseOutputResource resource, int sheetNumber, List<String> sectionInfoList) {
+    protected DfLReverseTableOutput outputDelimiterData(final Table table, DfLReverseDataResult templateDataResult, final int limit,
+            DfLReverseOutputResource resource, int sheetNumber) {
         if (_delimiterDataDir == null) {
-            return;
+            return new DfLReverseTableOutput(null, null);
         }
         final File delimiterDir = new File(_delimiterDataDir);
         final String ext = "tsv"; // fixed
@@ -270,6 +352,7 @@ public class DfLReverseOutputHandler {
             }
             columnNameList.add(column.getName());
         }
+        final List<String> delimiterInfoList = new ArrayList<String>(1); // to receive from handler
         final DfJFadCursorCallback cursorCallback = templateDataResult.getCursorCallback();
         cursorCallback.select(new DfJFadCursorHandler() {
             int count = 0;
@@ -296,9 +379,10 @@ public class DfLReverseOutputHandler {
                 }
                 final String delimiterInfo = "  " + delimiterFilePath + " (" + count + ")";
                 _log.info(delimiterInfo);
-                sectionInfoList.add(delimiterInfo);
+                delimiterInfoList.add(delimiterInfo);
             }
         });
+        return new DfLReverseTableOutput(null, !delimiterInfoList.isEmpty() ? delimiterInfoList.get(0) : null);
     }
 
     protected String buildDelimiterFilePath(Table table, DfLReverseOutputResource resource, int sheetNumber, File delimiterDir,
@@ -358,6 +442,10 @@ public class DfLReverseOutputHandler {
         _cellLengthLimit = cellLengthLimit;
     }
 
+    public void setExtractingParallelism(int extractingParallelism) {
+        _extractingParallelism = extractingParallelism;
+    }
+
     public String getDelimiterDataDir() {
         return _delimiterDataDir;
     }
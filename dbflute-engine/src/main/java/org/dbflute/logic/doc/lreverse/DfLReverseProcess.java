@@ -105,6 +105,7 @@ public class DfLReverseProcess {
             handler.setCellLengthLimit(cellLengthLimit);
         }
         handler.setDelimiterDataDir(getDelimiterDataDir());
+        handler.setExtractingParallelism(getExtractingParallelism());
         // changes to TSV for compatibility of copy and paste to excel @since 0.9.8.3
         //handler.setDelimiterDataTypeCsv(true);
         return handler;
@@ -665,6 +666,10 @@ public class DfLReverseProcess {
         return getDocumentProperties().getLoadDataReverseDelimiterDataDir();
     }
 
+    protected int getExtractingParallelism() {
+        return getDocumentProperties().getLoadDataReverseExtractingParallelism();
+    }
+
     // -----------------------------------------------------
     //                                         ReplaceSchema
     //                                         -------------
@@ -292,6 +292,49 @@ public class DfTableOrderAnalyzer {
         }
     }
 
+    // ===================================================================================
+    //                                                                    Dependency Level
+    //                                                                    ================
+    /**
+     * Analyze dependency levels of tables by names, without grouping for output. <br>
+     * Tables in the same level do not depend on each other so they can be handled concurrently.
+     * @param parentNameMap The map of table name to parent table names. (NotNull, EmptyAllowed: parents may not be in keys)
+     * @param cyclicNameList The output list of table names that cannot be leveled, e.g. cyclic reference. (NotNull)
+     * @return The list of levels, which have table names in key order of the map. (NotNull)
+     */
+    public List<List<String>> analyzeDependencyLevel(Map<String, Set<String>> parentNameMap, List<String> cyclicNameList) {
+        final List<List<String>> levelList = new ArrayList<List<String>>();
+        final Set<String> alreadyRegisteredSet = new HashSet<String>();
+        List<String> unregisteredNameList = new ArrayList<String>(parentNameMap.keySet());
+        while (!unregisteredNameList.isEmpty()) {
+            final List<String> nextUnregisteredList = new ArrayList<String>();
+            final List<String> elementList = new ArrayList<String>();
+            for (String tableName : unregisteredNameList) {
+                boolean dependsOnAny = false;
+                for (String parentName : parentNameMap.get(tableName)) {
+                    if (!parentName.equals(tableName) // self reference
+                            && parentNameMap.containsKey(parentName) && !alreadyRegisteredSet.contains(parentName)) {
+                        dependsOnAny = true;
+                        break;
+                    }
+                }
+                if (dependsOnAny) {
+                    nextUnregisteredList.add(tableName);
+                } else {
+                    elementList.add(tableName);
+                }
+            }
+            if (elementList.isEmpty()) { // means it cannot analyze more
+                cyclicNameList.addAll(nextUnregisteredList);
+                break;
+            }
+            alreadyRegisteredSet.addAll(elementList); // after the level loop not to register in same level
+            levelList.add(elementList);
+            unregisteredNameList = nextUnregisteredList;
+        }
+        return levelList;
+    }
+
     // ===================================================================================
     //                                                                           Main Name
     //                                                                           =========
@@ -0,0 +1,328 @@
+/*
+ * Copyright 2014-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.dbflute.logic.generate.incremental;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.security.CodeSource;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.parsers.SAXParserFactory;
+
+import org.apache.torque.engine.database.model.ForeignKey;
+import org.apache.torque.engine.database.model.Table;
+import org.apache.torque.engine.database.model.UnifiedSchema;
+import org.xml.sax.Attributes;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.helpers.DefaultHandler;
+
+/**
+ * The fingerprinter for incremental generation. <br>
+ * The base fingerprint is for resources shared by all outputs (templates, dfprop, build properties),
+ * and the model fingerprint is for the schema model of each output.
+ * <pre>
+ * table output : the table element of schema XML and the ones of its direct relation tables (foreign and referrer)
+ * other output : the whole schema XML (e.g. allcommon classes, DBMeta instance handler)
+ * </pre>
+ * @author agent
+ * @since 1.2.3 (2026/10/19 Monday)
+ */
+public class DfIncrementalGenerateFingerprinter {
+
+    // ===================================================================================
+    //                                                                          Definition
+    //                                                                          ==========
+    protected static final String DIGEST_ALGORITHM = "SHA-256";
+
+    // ===================================================================================
+    //                                                                           Attribute
+    //                                                                           =========
+    protected final File _schemaXmlFile; // not null
+    protected final Map<Table, String> _tableFingerprintMap = new ConcurrentHashMap<Table, String>();
+    protected Map<String, List<TableElementPrint>> _tableElementPrintMap; // lazy loaded, keyed by table name
+    protected String _databaseFingerprint; // lazy loaded
+
+    // ===================================================================================
+    //                                                                         Constructor
+    //                                                                         ===========
+    /**
+     * @param schemaXmlFile The file of schema XML that is the source of schema model. (NotNull)
+     */
+    public DfIncrementalGenerateFingerprinter(File schemaXmlFile) {
+        if (schemaXmlFile == null) {
+            throw new IllegalArgumentException("The argument 'schemaXmlFile' should not be null.");
+        }
+        _schemaXmlFile = schemaXmlFile;
+    }
+
+    // ===================================================================================
+    //                                                                    Base Fingerprint
+    //                                                                    ================
+    /**
+     * Build the fingerprint of resources shared by all outputs.
+     * @param templateDirList The list of template directories. (NotNull)
+     * @param dfpropDir The directory of DBFlute properties. (NotNull: might not exist)
+     * @param buildProps The build properties of DBFlute. (NotNull)
+     * @param outputPath The path of output directory. (NullAllowed)
+     * @param environmentType The type of environment for dfprop. (NullAllowed)
+     * @return The hex string of fingerprint. (NotNull)
+     */
+    public String buildBaseFingerprint(List<File> templateDirList, File dfpropDir, Properties buildProps, String outputPath,
+            String environmentType) {
+        final MessageDigest digest = createDigest();
+        for (File templateDir : templateDirList) {
+            updateDirectory(digest, templateDir, templateDir);
+        }
+        updateDirectory(digest, dfpropDir, dfpropDir);
+        final Map<String, String> sortedMap = new TreeMap<String, String>();
+        for (String key : buildProps.stringPropertyNames()) {
+            sortedMap.put(key, buildProps.getProperty(key));
+        }
+        updateText(digest, "props:" + sortedMap);
+        updateText(digest, "output:" + outputPath);
+        updateText(digest, "env:" + environmentType);
+        updateText(digest, "engine:" + buildEngineMark());
+        return toHex(digest.digest());
+    }
+
+    protected void updateDirectory(MessageDigest digest, File baseDir, File currentDir) {
+        final File[] files = currentDir.listFiles();
+        if (files == null) { // not found or not directory
+            return;
+        }
+        Arrays.sort(files); // to be stable
+        for (File file : files) {
+            if (file.isDirectory()) {
+                updateDirectory(digest, baseDir, file);
+            } else {
+                updateText(digest, "file:" + baseDir.toPath().relativize(file.toPath()));
+                digest.update(readBytes(file));
+            }
+        }
+    }
+
+    protected String buildEngineMark() { // engine changes may change outputs without template changes
+        final CodeSource codeSource = getClass().getProtectionDomain().getCodeSource();
+        if (codeSource == null || codeSource.getLocation() == null) {
+            return "unknown";
+        }
+        final File engineFile = new File(codeSource.getLocation().getPath());
+        return engineFile.getName() + ":" + engineFile.length() + ":" + engineFile.lastModified();
+    }
+
+    // ===================================================================================
+    //                                                                   Model Fingerprint
+    //                                                                   =================
+    /**
+     * Find the fingerprint of schema model for the object of output.
+     * @param object The object placed in the context for the output, e.g. table. (NullAllowed: then whole schema)
+     * @return The hex string of fingerprint. (NotNull)
+     */
+    public String findModelFingerprint(Object object) {
+        if (object instanceof Table) {
+            return findTableFingerprint((Table) object);
+        }
+        return findDatabaseFingerprint();
+    }
+
+    protected String findTableFingerprint(Table table) {
+        final String cached = _tableFingerprintMap.get(table);
+        if (cached != null) {
+            return cached;
+        }
+        final String own = findTableElementFingerprint(table);
+        if (own == null) { // e.g. not in schema XML, so it cannot be identified
+            return findDatabaseFingerprint();
+        }
+        final StringBuilder sb = new StringBuilder();
+        sb.append("table:").append(own);
+        for (ForeignKey fk : table.getForeignKeyList()) {
+            sb.append("\n@foreign:").append(findTableElementFingerprint(fk.getForeignTable()));
+        }
+        for (ForeignKey referrer : table.getReferrerList()) {
+            sb.append("\n@referrer:").append(findTableElementFingerprint(referrer.getTable()));
+        }
+        final MessageDigest digest = createDigest();
+        updateText(digest, sb.toString());
+        final String fingerprint = toHex(digest.digest());
+        _tableFingerprintMap.put(table, fingerprint);
+        return fingerprint;
+    }
+
+    // -----------------------------------------------------
+    //                                         Table Element
+    //                                         -------------
+    protected String findTableElementFingerprint(Table table) { // null allowed: not found
+        if (table == null) {
+            return null;
+        }
+        final List<TableElementPrint> printList = prepareTableElementPrintMap().get(table.getName());
+        if (printList == null) {
+            return null;
+        }
+        if (printList.size() == 1) { // mostly here
+            return printList.get(0).getFingerprint();
+        }
+        final UnifiedSchema unifiedSchema = table.getUnifiedSchema();
+        final String identifiedSchema = unifiedSchema != null ? unifiedSchema.getIdentifiedSchema() : null;
+        for (TableElementPrint print : printList) { // same name in additional schemas
+            if (print.getSchema() != null && print.getSchema().equals(identifiedSchema)) {
+                return print.getFingerprint();
+            }
+        }
+        return null;
+    }
+
+    protected synchronized Map<String, List<TableElementPrint>> prepareTableElementPrintMap() {
+        if (_tableElementPrintMap != null) {
+            return _tableElementPrintMap;
+        }
+        final Map<String, List<TableElementPrint>> printMap = new HashMap<String, List<TableElementPrint>>();
+        final DefaultHandler handler = new DefaultHandler() {
+            protected StringBuilder _elementSb; // not null in table element
+            protected String _tableName;
+            protected String _tableSchema;
+
+            @Override
+            public InputSource resolveEntity(String publicId, String systemId) { // not needed to hash elements
+                return new InputSource(new StringReader(""));
+            }
+
+            @Override
+            public void startElement(String uri, String localName, String qName, Attributes attributes) {
+                if (qName.equals("table")) {
+                    _elementSb = new StringBuilder();
+                    _tableName = attributes.getValue("name");
+                    _tableSchema = attributes.getValue("schema");
+                }
+                if (_elementSb != null) { // all attributes and children of the table element
+                    final Map<String, String> attributeMap = new TreeMap<String, String>(); // to be stable
+                    for (int i = 0; i < attributes.getLength(); i++) {
+                        attributeMap.put(attributes.getQName(i), attributes.getValue(i));
+                    }
+                    _elementSb.append("<").append(qName).append(attributeMap).append(">");
+                }
+            }
+
+            @Override
+            public void characters(char[] ch, int start, int length) {
+                if (_elementSb != null) {
+                    final String text = new String(ch, start, length).trim(); // ignores indent
+                    _elementSb.append(text);
+                }
+            }
+
+            @Override
+            public void endElement(String uri, String localName, String qName) {
+                if (_elementSb == null) {
+                    return;
+                }
+                _elementSb.append("</").append(qName).append(">");
+                if (qName.equals("table")) {
+                    final MessageDigest digest = createDigest();
+                    updateText(digest, _elementSb.toString());
+                    final TableElementPrint print = new TableElementPrint(_tableSchema, toHex(digest.digest()));
+                    printMap.computeIfAbsent(_tableName, key -> new ArrayList<TableElementPrint>()).add(print);
+                    _elementSb = null;
+                }
+            }
+        };
+        try {
+            SAXParserFactory.newInstance().newSAXParser().parse(_schemaXmlFile, handler);
+        } catch (ParserConfigurationException | SAXException | IOException e) {
+            throw new IllegalStateException("Failed to parse the schema XML for fingerprint: " + _schemaXmlFile, e);
+        }
+        _tableElementPrintMap = printMap;
+        return _tableElementPrintMap;
+    }
+
+    protected static class TableElementPrint {
+
+        protected final String _schema; // null allowed
+        protected final String _fingerprint; // not null
+
+        public TableElementPrint(String schema, String fingerprint) {
+            _schema = schema;
+            _fingerprint = fingerprint;
+        }
+
+        public String getSchema() {
+            return _schema;
+        }
+
+        public String getFingerprint() {
+            return _fingerprint;
+        }
+    }
+
+    // -----------------------------------------------------
+    //                                        Whole Database
+    //                                        --------------
+    protected synchronized String findDatabaseFingerprint() {
+        if (_databaseFingerprint != null) {
+            return _databaseFingerprint;
+        }
+        final MessageDigest digest = createDigest();
+        digest.update(readBytes(_schemaXmlFile));
+        _databaseFingerprint = toHex(digest.digest());
+        return _databaseFingerprint;
+    }
+
+    // ===================================================================================
+    //                                                                       Digest Helper
+    //                                                                       =============
+    protected MessageDigest createDigest() {
+        try {
+            return MessageDigest.getInstance(DIGEST_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("Not found the digest algorithm: " + DIGEST_ALGORITHM, e);
+        }
+    }
+
+    protected void updateText(MessageDigest digest, String text) {
+        digest.update(text.getBytes(StandardCharsets.UTF_8));
+    }
+
+    protected byte[] readBytes(File file) {
+        try {
+            return Files.readAllBytes(file.toPath());
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to read the file for fingerprint: " + file, e);
+        }
+    }
+
+    protected String toHex(byte[] bytes) {
+        final StringBuilder sb = new StringBuilder(bytes.length * 2);
+        for (byte b : bytes) {
+            sb.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+        return sb.toString();
+    }
+}
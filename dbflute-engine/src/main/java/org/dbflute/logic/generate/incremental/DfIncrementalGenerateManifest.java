@@ -0,0 +1,190 @@
+/*
+ * Copyright 2014-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.dbflute.logic.generate.incremental;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The manifest of incremental generation, which keeps fingerprints of generated outputs. <br>
+ * The output whose fingerprint is same as the previous generation is not rendered at all.
+ * <pre>
+ * e.g. ./schema/project-generate-manifest-maihamadb.properties
+ *  $base = (fingerprint of templates, dfprop and build properties)
+ *  ../src/main/java/.../BsMember.java = (fingerprint of template name and schema model)
+ * </pre>
+ * The manifest file is deleted when loaded and saved again only when the generation succeeds,
+ * so failed generation always results in full generation at next time.
+ * @author agent
+ * @since 1.2.3 (2026/10/19 Monday)
+ */
+public class DfIncrementalGenerateManifest {
+
+    // ===================================================================================
+    //                                                                          Definition
+    //                                                                          ==========
+    private static final Logger _log = LoggerFactory.getLogger(DfIncrementalGenerateManifest.class);
+
+    protected static final String BASE_FINGERPRINT_KEY = "$base";
+
+    // ===================================================================================
+    //                                                                           Attribute
+    //                                                                           =========
+    protected final File _manifestFile; // not null
+    protected final String _baseFingerprint; // not null
+    protected final DfIncrementalGenerateFingerprinter _fingerprinter; // not null
+    protected final Map<String, String> _previousMap = new ConcurrentHashMap<String, String>(); // output path = fingerprint
+    protected final Map<String, String> _currentMap = new ConcurrentHashMap<String, String>(); // output path = fingerprint
+
+    // ===================================================================================
+    //                                                                         Constructor
+    //                                                                         ===========
+    /**
+     * @param manifestFile The file of manifest, which may not exist. (NotNull)
+     * @param baseFingerprint The fingerprint of resources shared by all outputs. (NotNull)
+     * @param fingerprinter The fingerprinter of schema model. (NotNull)
+     */
+    public DfIncrementalGenerateManifest(File manifestFile, String baseFingerprint, DfIncrementalGenerateFingerprinter fingerprinter) {
+        if (manifestFile == null) {
+            throw new IllegalArgumentException("The argument 'manifestFile' should not be null.");
+        }
+        if (baseFingerprint == null) {
+            throw new IllegalArgumentException("The argument 'baseFingerprint' should not be null.");
+        }
+        if (fingerprinter == null) {
+            throw new IllegalArgumentException("The argument 'fingerprinter' should not be null.");
+        }
+        _manifestFile = manifestFile;
+        _baseFingerprint = baseFingerprint;
+        _fingerprinter = fingerprinter;
+    }
+
+    // ===================================================================================
+    //                                                                                Load
+    //                                                                                ====
+    /**
+     * Load the previous manifest and delete the file until the generation succeeds.
+     */
+    public void load() {
+        if (!_manifestFile.exists()) {
+            _log.info("...Generating all classes (no incremental manifest): " + _manifestFile.getPath());
+            return;
+        }
+        final Properties props = new Properties();
+        try (InputStream ins = new FileInputStream(_manifestFile)) {
+            props.load(ins);
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to load the incremental manifest: " + _manifestFile, e);
+        }
+        deleteManifestFile();
+        if (!_baseFingerprint.equals(props.getProperty(BASE_FINGERPRINT_KEY))) {
+            _log.info("...Generating all classes (templates or properties changed)");
+            return;
+        }
+        for (String key : props.stringPropertyNames()) {
+            if (!BASE_FINGERPRINT_KEY.equals(key)) {
+                _previousMap.put(key, props.getProperty(key));
+            }
+        }
+        _log.info("...Generating incrementally: previousOutputs=" + _previousMap.size());
+    }
+
+    // ===================================================================================
+    //                                                                         Fingerprint
+    //                                                                         ===========
+    /**
+     * Build the fingerprint of the output.
+     * @param inputTemplate The path of input template for the output. (NotNull)
+     * @param object The object placed in the context for the output, e.g. table. (NullAllowed)
+     * @return The hex string of fingerprint. (NotNull)
+     */
+    public String buildFingerprint(String inputTemplate, Object object) {
+        return inputTemplate + ":" + _fingerprinter.findModelFingerprint(object);
+    }
+
+    /**
+     * @param outputFullPath The full path of output file. (NotNull)
+     * @param fingerprint The fingerprint of the output at this generation. (NotNull)
+     * @return The determination, true if the previous output is available as it is.
+     */
+    public boolean isUnchanged(String outputFullPath, String fingerprint) {
+        return fingerprint.equals(_previousMap.get(outputFullPath)) && new File(outputFullPath).exists();
+    }
+
+    /**
+     * @param outputFullPath The full path of output file. (NotNull)
+     * @param fingerprint The fingerprint of the output at this generation. (NotNull)
+     */
+    public void register(String outputFullPath, String fingerprint) {
+        _currentMap.put(outputFullPath, fingerprint);
+    }
+
+    // ===================================================================================
+    //                                                                                Save
+    //                                                                                ====
+    /**
+     * Save the manifest of this generation, should be called after generation succeeds.
+     */
+    public void save() {
+        final Properties props = new Properties();
+        props.putAll(_currentMap);
+        props.setProperty(BASE_FINGERPRINT_KEY, _baseFingerprint);
+        final File parentDir = _manifestFile.getAbsoluteFile().getParentFile();
+        if (parentDir != null && !parentDir.exists()) {
+            parentDir.mkdirs();
+        }
+        try (OutputStream ous = new FileOutputStream(_manifestFile)) {
+            props.store(ous, "incremental generate manifest");
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to save the incremental manifest: " + _manifestFile, e);
+        }
+    }
+
+    /**
+     * Delete the manifest file if it exists, e.g. incremental generation is disabled.
+     * @param manifestFile The file of manifest. (NotNull)
+     */
+    public static void deleteIfExists(File manifestFile) {
+        if (manifestFile.exists() && !manifestFile.delete()) {
+            _log.info("*Failed to delete the incremental manifest: " + manifestFile);
+        }
+    }
+
+    protected void deleteManifestFile() {
+        deleteIfExists(_manifestFile);
+    }
+
+    // ===================================================================================
+    //                                                                            Accessor
+    //                                                                            ========
+    public File getManifestFile() {
+        return _manifestFile;
+    }
+
+    public int getRegisteredCount() {
+        return _currentMap.size();
+    }
+}
@@ -20,6 +20,7 @@ import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Set;
 
 /**
@@ -87,6 +88,31 @@ public class DfDelimiterDataResultInfo {
         return _columnCountDiffMap.containsKey(delimiterFilePath);
     }
 
+    /**
+     * Accept the other result, e.g. loaded by other thread, as this result's elements.
+     * @param otherInfo The result info to be merged into this. (NotNull)
+     */
+    public void acceptOtherResult(DfDelimiterDataResultInfo otherInfo) {
+        for (Entry<String, Map<String, DfDelimiterDataLoadedMeta>> entry : otherInfo._loadedMetaMap.entrySet()) {
+            for (DfDelimiterDataLoadedMeta loadedMeta : entry.getValue().values()) {
+                registerLoadedMeta(entry.getKey(), loadedMeta.getFileName(), loadedMeta.getSuccessRowCount());
+            }
+        }
+        for (Entry<String, Set<String>> entry : otherInfo._notFoundColumnMap.entrySet()) {
+            final Set<String> columnSet = _notFoundColumnMap.get(entry.getKey());
+            if (columnSet != null) {
+                columnSet.addAll(entry.getValue());
+            } else {
+                _notFoundColumnMap.put(entry.getKey(), entry.getValue());
+            }
+        }
+        for (Entry<String, List<String>> entry : otherInfo._columnCountDiffMap.entrySet()) {
+            for (String message : entry.getValue()) {
+                registerColumnCountDiff(entry.getKey(), message);
+            }
+        }
+    }
+
     // ===================================================================================
     //                                                                            Accessor
     //                                                                            ========
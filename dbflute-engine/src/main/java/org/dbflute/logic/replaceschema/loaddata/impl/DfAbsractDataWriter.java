@@ -1165,6 +1165,10 @@ public abstract class DfAbsractDataWriter {
         return _loadingControlProp.isRTrimCellValue(dataDirectory);
     }
 
+    protected int getXlsStreamingBatchSize(String dataDirectory) {
+        return _loadingControlProp.getXlsStreamingBatchSize(dataDirectory);
+    }
+
     protected boolean isLargeTextFile(String dataDirectory, String tableName, String columnName) {
         return _loadingControlProp.isLargeTextFile(dataDirectory, tableName, columnName);
     }
@@ -19,6 +19,7 @@ import java.sql.Time;
 import java.sql.Timestamp;
 import java.util.Collections;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.Map;
@@ -47,6 +48,7 @@ public class DfColumnValueConverter {
     protected final DfColumnBindTypeProvider _bindTypeProvider;
     protected Map<String, String> _allColumnConvertMap; // derived lazily
     protected Map<String, Map<String, String>> _typedColumnConvertMap; // derived lazily
+    protected final Map<String, Map<String, String>> _columnConvertMappingMap = new HashMap<String, Map<String, String>>(); // per column
     protected boolean emptyBeforeAsNull; // for compatible with old TSV settings e.g. $$empty$$ = $$empty$$
 
     // ===================================================================================
@@ -175,6 +177,17 @@ public class DfColumnValueConverter {
     //                                                                       Value Mapping
     //                                                                       =============
     protected Map<String, String> findConvertValueMapping(String columnName, Map<String, DfColumnMeta> columnMetaMap) {
+        // cached per column because the converter may be reused for all rows of one table
+        final Map<String, String> cachedMapping = _columnConvertMappingMap.get(columnName);
+        if (cachedMapping != null) {
+            return cachedMapping;
+        }
+        final Map<String, String> mapping = doFindConvertValueMapping(columnName, columnMetaMap);
+        _columnConvertMappingMap.put(columnName, mapping);
+        return mapping;
+    }
+
+    protected Map<String, String> doFindConvertValueMapping(String columnName, Map<String, DfColumnMeta> columnMetaMap) {
         final Map<String, String> allMap = findeAllColumnConvertMap();
         final Map<String, String> typedMap = findTypedColumnConvertMap(columnName, columnMetaMap);
         final Map<String, String> columnMap = _convertValueMap.getOrDefault(columnName, Collections.emptyMap());
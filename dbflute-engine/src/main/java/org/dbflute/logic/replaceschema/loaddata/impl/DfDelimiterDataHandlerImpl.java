@@ -21,18 +21,38 @@ import java.io.FileOutputStream;
 import java.io.FilenameFilter;
 import java.io.IOException;
 import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
 import java.io.UnsupportedEncodingException;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Set;
 import java.util.SortedSet;
 import java.util.TreeSet;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
 import javax.sql.DataSource;
 
 import org.apache.torque.engine.database.model.UnifiedSchema;
 import org.dbflute.exception.DfDelimiterDataRegistrationFailureException;
+import org.dbflute.helper.jdbc.DfParallelJdbcHelper;
+import org.dbflute.helper.jdbc.connection.DfDedicatedDataSource;
+import org.dbflute.helper.jdbc.connection.DfFittingDataSource;
+import org.dbflute.logic.doc.lreverse.DfTableOrderAnalyzer;
+import org.dbflute.logic.jdbc.metadata.basic.DfForeignKeyExtractor;
+import org.dbflute.logic.jdbc.metadata.info.DfForeignKeyMeta;
 import org.dbflute.logic.replaceschema.loaddata.DfDelimiterDataHandler;
 import org.dbflute.logic.replaceschema.loaddata.DfDelimiterDataResource;
 import org.dbflute.logic.replaceschema.loaddata.DfDelimiterDataResultInfo;
@@ -74,6 +94,9 @@ public class DfDelimiterDataHandlerImpl implements DfDelimiterDataHandler {
     /** The data-prop of loading control map. (NotNull: after initialization) */
     protected DfLoadingControlProp _loadingControlProp;
 
+    /** The count of threads for parallel loading, 1 means sequential. */
+    protected int _loadDataParallelism = 1;
+
     // ===================================================================================
     //                                                                                Main
     //                                                                                ====
@@ -114,28 +137,16 @@ public class DfDelimiterDataHandlerImpl implements DfDelimiterDataHandler {
 
                 final Map<String, Map<String, String>> convertValueMap = getConvertValueMap(resource, encoding);
                 final Map<String, String> defaultValueMap = getDefaultValueMap(resource, encoding);
-                for (String fileName : sortedFileNameSet) {
-                    final String fileNamePath = dataDirectory + "/" + fileName;
-                    final DfDelimiterDataWriterImpl writer = new DfDelimiterDataWriterImpl(_dataSource, _unifiedSchema);
-                    writer.setLoggingInsertSql(isLoggingInsertSql());
-                    writer.setFileName(fileNamePath);
-                    writer.setEncoding(encoding);
-                    writer.setDelimiter(resource.getDelimiter());
-                    writer.setConvertValueMap(convertValueMap);
-                    writer.setDefaultValueMap(defaultValueMap);
-                    writer.setSuppressBatchUpdate(isSuppressBatchUpdate());
-                    writer.setSuppressCheckColumnDef(isSuppressCheckColumnDef());
-                    writer.setSuppressCheckImplicitSet(isSuppressCheckImplicitSet());
-                    writer.setDataWritingInterceptor(_dataWritingInterceptor);
-                    writer.setDefaultValueProp(_defaultValueProp);
-                    writer.setLoadingControlProp(_loadingControlProp);
-                    writer.writeData(resultInfo);
-                    prepareImplicitClassificationLazyCheck(loadedDataInfo, writer);
-
-                    final String loadType = resource.getLoadType();
-                    final String fileType = resource.getFileType();
-                    final boolean warned = resultInfo.containsColumnCountDiff(fileNamePath);
-                    loadedDataInfo.addLoadedFile(loadType, fileType, encoding, fileName, warned);
+                final DfDelimiterDataWritingContext context =
+                        new DfDelimiterDataWritingContext(resource, encoding, dataDirectory, convertValueMap, defaultValueMap);
+                if (isParallelLoadingAvailable()) {
+                    writeDataInParallel(context, sortedFileNameSet, resultInfo, loadedDataInfo);
+                } else {
+                    for (String fileName : sortedFileNameSet) {
+                        final DfDelimiterDataWriterImpl writer = createDelimiterDataWriter(context, fileName, _dataSource);
+                        writer.writeData(resultInfo);
+                        registerLoadedFile(context, fileName, writer, resultInfo, loadedDataInfo);
+                    }
                 }
                 outputResultMark(resource, resultInfo, dataDirectory);
             }
@@ -146,6 +157,78 @@ public class DfDelimiterDataHandlerImpl implements DfDelimiterDataHandler {
         return resultInfo;
     }
 
+    protected DfDelimiterDataWriterImpl createDelimiterDataWriter(DfDelimiterDataWritingContext context, String fileName,
+            DataSource dataSource) {
+        final DfDelimiterDataResource resource = context.getResource();
+        final DfDelimiterDataWriterImpl writer = new DfDelimiterDataWriterImpl(dataSource, _unifiedSchema);
+        writer.setLoggingInsertSql(isLoggingInsertSql());
+        writer.setFileName(context.toFileNamePath(fileName));
+        writer.setEncoding(context.getEncoding());
+        writer.setDelimiter(resource.getDelimiter());
+        writer.setConvertValueMap(context.getConvertValueMap());
+        writer.setDefaultValueMap(context.getDefaultValueMap());
+        writer.setSuppressBatchUpdate(isSuppressBatchUpdate());
+        writer.setSuppressCheckColumnDef(isSuppressCheckColumnDef());
+        writer.setSuppressCheckImplicitSet(isSuppressCheckImplicitSet());
+        writer.setDataWritingInterceptor(_dataWritingInterceptor);
+        writer.setDefaultValueProp(_defaultValueProp);
+        writer.setLoadingControlProp(_loadingControlProp);
+        return writer;
+    }
+
+    protected void registerLoadedFile(DfDelimiterDataWritingContext context, String fileName, DfDelimiterDataWriterImpl writer,
+            DfDelimiterDataResultInfo resultInfo, DfLoadedDataInfo loadedDataInfo) {
+        prepareImplicitClassificationLazyCheck(loadedDataInfo, writer);
+
+        final DfDelimiterDataResource resource = context.getResource();
+        final String loadType = resource.getLoadType();
+        final String fileType = resource.getFileType();
+        final boolean warned = resultInfo.containsColumnCountDiff(context.toFileNamePath(fileName));
+        loadedDataInfo.addLoadedFile(loadType, fileType, context.getEncoding(), fileName, warned);
+    }
+
+    protected static class DfDelimiterDataWritingContext {
+
+        protected final DfDelimiterDataResource _resource;
+        protected final String _encoding;
+        protected final String _dataDirectory;
+        protected final Map<String, Map<String, String>> _convertValueMap;
+        protected final Map<String, String> _defaultValueMap;
+
+        public DfDelimiterDataWritingContext(DfDelimiterDataResource resource, String encoding, String dataDirectory,
+                Map<String, Map<String, String>> convertValueMap, Map<String, String> defaultValueMap) {
+            _resource = resource;
+            _encoding = encoding;
+            _dataDirectory = dataDirectory;
+            _convertValueMap = convertValueMap;
+            _defaultValueMap = defaultValueMap;
+        }
+
+        public String toFileNamePath(String fileName) {
+            return _dataDirectory + "/" + fileName;
+        }
+
+        public DfDelimiterDataResource getResource() {
+            return _resource;
+        }
+
+        public String getEncoding() {
+            return _encoding;
+        }
+
+        public String getDataDirectory() {
+            return _dataDirectory;
+        }
+
+        public Map<String, Map<String, String>> getConvertValueMap() {
+            return _convertValueMap;
+        }
+
+        public Map<String, String> getDefaultValueMap() {
+            return _defaultValueMap;
+        }
+    }
+
     protected boolean isUnsupportedEncodingDirectory(String encoding) {
         try {
             new String(new byte[0], 0, 0, encoding);
@@ -179,6 +262,178 @@ public class DfDelimiterDataHandlerImpl implements DfDelimiterDataHandler {
         info.acceptImplicitClassificationLazyCheck(checkerList);
     }
 
+    // ===================================================================================
+    //                                                                    Parallel Loading
+    //                                                                    ================
+    protected boolean isParallelLoadingAvailable() {
+        if (_loadDataParallelism <= 1) {
+            return false;
+        }
+        if (DfParallelJdbcHelper.findFittingDataSource(_dataSource) == null) { // cannot create new connections
+            _log.info("*Cannot load data in parallel because of unknown data source: " + _dataSource);
+            return false;
+        }
+        if (_dataWritingInterceptor != null) { // e.g. identity insert is on the main connection
+            _log.info("*Cannot load data in parallel because of the writing interceptor: " + _dataWritingInterceptor);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Write data of the files in parallel by FK levels of their tables. <br>
+     * Files of the same table are written in file name order by one thread,
+     * and results are registered in file name order after all writing.
+     * @param context The context of the data directory. (NotNull)
+     * @param sortedFileNameSet The set of file names sorted by name. (NotNull)
+     * @param resultInfo The result info of delimiter data. (NotNull)
+     * @param loadedDataInfo The info of loaded data. (NotNull)
+     * @throws IOException When it fails to read the files.
+     */
+    protected void writeDataInParallel(DfDelimiterDataWritingContext context, SortedSet<String> sortedFileNameSet,
+            DfDelimiterDataResultInfo resultInfo, DfLoadedDataInfo loadedDataInfo) throws IOException {
+        final Map<String, List<String>> tableFileMap = new LinkedHashMap<String, List<String>>();
+        for (String fileName : sortedFileNameSet) {
+            final String tableDbName = extractTableDbName(fileName);
+            List<String> fileList = tableFileMap.get(tableDbName);
+            if (fileList == null) {
+                fileList = new ArrayList<String>();
+                tableFileMap.put(tableDbName, fileList);
+            }
+            fileList.add(fileName);
+        }
+        final List<String> cyclicNameList = new ArrayList<String>();
+        final List<List<String>> levelList = analyzeLoadingLevel(tableFileMap, cyclicNameList);
+        int maxLevelSize = 0;
+        for (List<String> level : levelList) {
+            maxLevelSize = Math.max(maxLevelSize, level.size());
+        }
+        final int laneCount = Math.max(1, Math.min(_loadDataParallelism, maxLevelSize));
+        _log.info("...Loading data in parallel: levels=" + levelList.size() + ", cyclic=" + cyclicNameList.size() + ", lanes=" + laneCount);
+
+        final Map<String, DfDelimiterDataResultInfo> fileResultMap = new ConcurrentHashMap<String, DfDelimiterDataResultInfo>();
+        final Map<String, DfDelimiterDataWriterImpl> fileWriterMap = new ConcurrentHashMap<String, DfDelimiterDataWriterImpl>();
+        final BlockingQueue<DfDedicatedDataSource> laneQueue = new ArrayBlockingQueue<DfDedicatedDataSource>(laneCount);
+        final List<DfDedicatedDataSource> laneList = new ArrayList<DfDedicatedDataSource>();
+        final DfFittingDataSource fittingDataSource = DfParallelJdbcHelper.findFittingDataSource(_dataSource);
+        final ExecutorService executor = DfParallelJdbcHelper.newWorkerPool("dbflute-loaddata", laneCount);
+        boolean completed = false;
+        try {
+            for (int i = 0; i < laneCount; i++) {
+                final DfDedicatedDataSource lane = new DfDedicatedDataSource(fittingDataSource.newConnection());
+                laneList.add(lane);
+                laneQueue.add(lane);
+            }
+            int levelNumber = 0;
+            for (List<String> level : levelList) {
+                ++levelNumber;
+                _log.info("...Loading the level " + levelNumber + ": " + level);
+                final List<Future<Void>> futureList = new ArrayList<Future<Void>>();
+                for (String tableDbName : level) {
+                    final List<String> fileList = tableFileMap.get(tableDbName);
+                    futureList.add(executor.submit(() -> {
+                        final DfDedicatedDataSource lane = laneQueue.take();
+                        try {
+                            doWriteTableFiles(context, fileList, lane, fileResultMap, fileWriterMap);
+                        } catch (IOException e) { // unwrapped after waiting
+                            throw new UncheckedIOException(e);
+                        } finally {
+                            laneQueue.put(lane);
+                        }
+                        return null;
+                    }));
+                }
+                try {
+                    DfParallelJdbcHelper.waitForAll(futureList, "loading");
+                } catch (UncheckedIOException e) {
+                    throw e.getCause();
+                }
+            }
+            for (DfDedicatedDataSource lane : laneList) {
+                lane.commitIfNeeds();
+            }
+            completed = true;
+        } catch (SQLException e) {
+            String msg = "Failed to handle the connections for parallel loading: " + context.getDataDirectory();
+            throw new DfDelimiterDataRegistrationFailureException(msg, e);
+        } finally {
+            DfParallelJdbcHelper.awaitTermination(executor); // no lane is closed under live loading
+            for (DfDedicatedDataSource lane : laneList) {
+                if (!completed) { // e.g. the lane that failed halfway
+                    lane.rollbackIfNeeds();
+                }
+                lane.closeReally();
+            }
+        }
+        if (!cyclicNameList.isEmpty()) { // sequentially by file name order
+            _log.info("...Loading the cyclic tables sequentially: " + cyclicNameList);
+            final List<String> cyclicFileList = new ArrayList<String>();
+            for (String tableDbName : cyclicNameList) {
+                cyclicFileList.addAll(tableFileMap.get(tableDbName));
+            }
+            Collections.sort(cyclicFileList);
+            doWriteTableFiles(context, cyclicFileList, _dataSource, fileResultMap, fileWriterMap);
+        }
+        for (String fileName : sortedFileNameSet) { // same order as sequential loading
+            resultInfo.acceptOtherResult(fileResultMap.get(fileName));
+            registerLoadedFile(context, fileName, fileWriterMap.get(fileName), resultInfo, loadedDataInfo);
+        }
+    }
+
+    protected void doWriteTableFiles(DfDelimiterDataWritingContext context, List<String> fileList, DataSource dataSource,
+            Map<String, DfDelimiterDataResultInfo> fileResultMap, Map<String, DfDelimiterDataWriterImpl> fileWriterMap)
+            throws IOException {
+        for (String fileName : fileList) {
+            final DfDelimiterDataResultInfo fileResultInfo = new DfDelimiterDataResultInfo(); // merged later
+            final DfDelimiterDataWriterImpl writer = createDelimiterDataWriter(context, fileName, dataSource);
+            writer.writeData(fileResultInfo);
+            fileResultMap.put(fileName, fileResultInfo);
+            fileWriterMap.put(fileName, writer);
+        }
+    }
+
+    protected List<List<String>> analyzeLoadingLevel(Map<String, List<String>> tableFileMap, List<String> cyclicNameList) {
+        final Map<String, Set<String>> parentNameMap = new LinkedHashMap<String, Set<String>>();
+        Connection conn = null;
+        try {
+            conn = _dataSource.getConnection();
+            final DatabaseMetaData metaData = conn.getMetaData();
+            final DfForeignKeyExtractor extractor = new DfForeignKeyExtractor();
+            extractor.suppressExceptTarget();
+            for (String tableDbName : tableFileMap.keySet()) {
+                final Set<String> parentSet = new LinkedHashSet<String>();
+                final Map<String, DfForeignKeyMeta> fkMap = extractor.getForeignKeyMap(conn, metaData, _unifiedSchema, tableDbName);
+                for (DfForeignKeyMeta fkMeta : fkMap.values()) {
+                    final String foreignTableName = fkMeta.getForeignTablePureName();
+                    for (String candidateName : tableFileMap.keySet()) { // to be same names as keys
+                        if (candidateName.equalsIgnoreCase(foreignTableName)) {
+                            parentSet.add(candidateName);
+                        }
+                    }
+                }
+                parentNameMap.put(tableDbName, parentSet);
+            }
+        } catch (SQLException e) {
+            String msg = "Failed to extract foreign keys for parallel loading: " + tableFileMap.keySet();
+            throw new DfDelimiterDataRegistrationFailureException(msg, e);
+        } finally {
+            if (conn != null) {
+                try {
+                    conn.close();
+                } catch (SQLException ignored) {}
+            }
+        }
+        return new DfTableOrderAnalyzer().analyzeDependencyLevel(parentNameMap, cyclicNameList);
+    }
+
+    protected String extractTableDbName(String fileName) { // same logic as writer
+        String tableDbName = fileName.substring(0, fileName.lastIndexOf("."));
+        if (tableDbName.indexOf("-") >= 0) {
+            tableDbName = tableDbName.substring(tableDbName.indexOf("-") + "-".length());
+        }
+        return tableDbName;
+    }
+
     // ===================================================================================
     //                                                                         Result Mark
     //                                                                         ===========
@@ -307,4 +562,12 @@ public class DfDelimiterDataHandlerImpl implements DfDelimiterDataHandler {
     public void setLoadingControlProp(DfLoadingControlProp loadingControlProp) {
         this._loadingControlProp = loadingControlProp;
     }
+
+    public int getLoadDataParallelism() {
+        return _loadDataParallelism;
+    }
+
+    public void setLoadDataParallelism(int loadDataParallelism) {
+        this._loadDataParallelism = loadDataParallelism;
+    }
 }
@@ -50,6 +50,7 @@ public class DfDelimiterDataWriteSqlBuilder {
     protected Map<String, String> _allColumnConvertMap;
     protected DfDefaultValueProp _defaultValueProp;
     protected Set<String> _sysdateColumnSet;
+    protected DfColumnValueConverter _columnValueConverter; // null allowed, created per row if null
 
     // ===================================================================================
     //                                                                           Build SQL
@@ -108,6 +109,9 @@ public class DfDelimiterDataWriteSqlBuilder {
     }
 
     protected DfColumnValueConverter createColumnValueConverter() {
+        if (_columnValueConverter != null) { // reused for all rows of the table
+            return _columnValueConverter;
+        }
         return new DfColumnValueConverter(_convertValueMap, _defaultValueMap, _bindTypeProvider);
     }
 
@@ -253,4 +257,12 @@ public class DfDelimiterDataWriteSqlBuilder {
     public Set<String> getSysdateColumnSet() {
         return _sysdateColumnSet;
     }
+
+    public DfColumnValueConverter getColumnValueConverter() {
+        return _columnValueConverter;
+    }
+
+    public void setColumnValueConverter(DfColumnValueConverter columnValueConverter) {
+        _columnValueConverter = columnValueConverter;
+    }
 }
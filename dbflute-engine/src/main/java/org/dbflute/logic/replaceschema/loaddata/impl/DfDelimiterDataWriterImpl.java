@@ -29,6 +29,9 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicReference;
 
 import javax.sql.DataSource;
 
@@ -39,6 +42,7 @@ import org.dbflute.exception.DfDelimiterDataTableNotFoundException;
 import org.dbflute.exception.DfJDBCException;
 import org.dbflute.helper.StringKeyMap;
 import org.dbflute.helper.StringSet;
+import org.dbflute.helper.jdbc.connection.DfDedicatedDataSource;
 import org.dbflute.helper.message.ExceptionMessageBuilder;
 import org.dbflute.logic.jdbc.metadata.info.DfColumnMeta;
 import org.dbflute.logic.replaceschema.loaddata.DfColumnBindTypeProvider;
@@ -61,6 +65,12 @@ public class DfDelimiterDataWriterImpl extends DfAbsractDataWriter implements Df
     /** The logger instance for this class. (NotNull) */
     private static final Logger _log = LoggerFactory.getLogger(DfDelimiterDataWriterImpl.class);
 
+    /** The file size (bytes) to parse records on other thread, overlapping with registration. */
+    protected static final long RECORD_PIPELINE_FILE_SIZE = 4L * 1024L * 1024L;
+
+    /** The capacity of queue for parsed records in pipeline. */
+    protected static final int RECORD_PIPELINE_QUEUE_CAPACITY = 1024;
+
     // ===================================================================================
     //                                                                           Attribute
     //                                                                           =========
@@ -102,60 +112,45 @@ public class DfDelimiterDataWriterImpl extends DfAbsractDataWriter implements Df
         // process before handling table
         beforeHandlingTable(tableDbName, columnMetaMap);
 
-        String lineString = null;
-        String preContinueString = null;
         String executedSql = null;
         final List<String> columnNameList = new ArrayList<String>();
         final List<String> valueList = new ArrayList<String>();
         final boolean canBatchUpdate = !isMergedSuppressBatchUpdate(dataDirectory);
+        final DfColumnValueConverter valueConverter = createColumnValueConverter(); // resolved once per table
 
         final File dataFile = new File(_fileName);
         Connection conn = null;
         PreparedStatement ps = null;
+        DfDelimiterRecordPipeline pipeline = null;
+        boolean completed = false;
         try {
             fis = new FileInputStream(dataFile);
             ir = new InputStreamReader(fis, _encoding);
             br = new BufferedReader(ir);
 
+            // /- - - - - - - - - - - - - - - - - - - - - -
+            // initialize column definition from first line
+            // - - - - - - - - - -/
+            final String headerString = br.readLine();
             FirstLineInfo firstLineInfo = null;
-            int loopIndex = -1;
+            if (headerString != null) {
+                firstLineInfo = analyzeFirstLineInfo(_delimiter, headerString);
+                setupColumnNameList(dataDirectory, dataFile, tableDbName, columnMetaMap, firstLineInfo, columnNameList);
+            }
+            final DfDelimiterRecordReader recordReader = new DfDelimiterRecordReader(br);
+            if (headerString != null && isRecordPipelineTarget(dataFile)) { // parsing overlaps with registration
+                pipeline = new DfDelimiterRecordPipeline(recordReader, tableDbName);
+                pipeline.start();
+            }
             int rowNumber = 0;
             int addedBatchSize = 0;
-            while (true) {
-                ++loopIndex;
-
-                lineString = br.readLine();
-                if (lineString == null) {
-                    break;
-                }
-
-                // /- - - - - - - - - - - - - - - - - - - - - -
-                // initialize column definition from first line
-                // - - - - - - - - - -/
-                if (loopIndex == 0) {
-                    firstLineInfo = analyzeFirstLineInfo(_delimiter, lineString);
-                    setupColumnNameList(dataDirectory, dataFile, tableDbName, columnMetaMap, firstLineInfo, columnNameList);
-                    continue;
-                }
-
+            while (headerString != null) { // no record if empty file
                 // /- - - - - - - - - - - - - - -
                 // analyze values in line strings
                 // - - - - - - - - - -/
-                lineString = filterLineString(lineString);
-                {
-                    if (preContinueString != null && !preContinueString.equals("")) {
-                        // #hope performance tuning, suppress incremental strings from many line separators by jflute (2018/03/02)
-                        // it needs to change lineString, preContinueString to StringBuilder type...
-                        lineString = preContinueString + "\n" + lineString;
-                    }
-                    final ValueLineInfo valueLineInfo = arrangeValueList(lineString, _delimiter);
-                    final List<String> ls = valueLineInfo.getValueList(); // empty string resolved later
-                    if (valueLineInfo.isContinueNextLine()) {
-                        preContinueString = ls.remove(ls.size() - 1);
-                        valueList.addAll(ls);
-                        continue;
-                    }
-                    valueList.addAll(ls);
+                final boolean existsRecord = pipeline != null ? pipeline.takeRecord(valueList) : recordReader.readRecord(valueList);
+                if (!existsRecord) {
+                    break;
                 }
                 // *one record is prepared here
 
@@ -167,7 +162,6 @@ public class DfDelimiterDataWriterImpl extends DfAbsractDataWriter implements Df
 
                     // clear temporary variables
                     valueList.clear();
-                    preContinueString = null;
                     continue;
                 }
                 // *valid record is prepared here
@@ -178,6 +172,7 @@ public class DfDelimiterDataWriterImpl extends DfAbsractDataWriter implements Df
                 // - - - - - - - - - -/
                 final DfDelimiterDataWriteSqlBuilder sqlBuilder =
                         createSqlBuilder(resultInfo, tableDbName, columnMetaMap, columnNameList, valueList);
+                sqlBuilder.setColumnValueConverter(valueConverter);
                 if (conn == null) {
                     conn = _dataSource.getConnection();
                 }
@@ -246,7 +241,6 @@ public class DfDelimiterDataWriterImpl extends DfAbsractDataWriter implements Df
                 // if an exception occurs from execute() or addBatch(),
                 // this valueList is to be information for debug
                 valueList.clear();
-                preContinueString = null;
             }
             if (ps != null && addedBatchSize > 0) {
                 if (canBatchUpdate) { // mainly here
@@ -257,6 +251,7 @@ public class DfDelimiterDataWriterImpl extends DfAbsractDataWriter implements Df
             noticeLoadedRowSize(tableDbName, rowNumber);
             resultInfo.registerLoadedMeta(dataDirectory, _fileName, rowNumber);
             checkImplicitClassification(dataFile, tableDbName, columnNameList);
+            completed = true;
         } catch (FileNotFoundException e) {
             throw e;
         } catch (IOException e) {
@@ -269,8 +264,13 @@ public class DfDelimiterDataWriterImpl extends DfAbsractDataWriter implements Df
             String msg = buildRegExpMessage(_fileName, tableDbName, executedSql, valueList, null);
             throw new DfDelimiterDataRegistrationFailureException(msg, e);
         } finally {
+            if (pipeline != null) {
+                pipeline.stop(); // before closing stream
+            }
             closeStream(fis, ir, br);
-            commitJustInCase(conn);
+            if (completed || !isParallelLane()) { // sequential loading commits as always
+                commitJustInCase(conn);
+            } // failed parallel lane is rolled back by the handler so not to commit the failed batch here
             close(ps);
             close(conn);
             // process after (finally) handling table
@@ -309,6 +309,14 @@ public class DfDelimiterDataWriterImpl extends DfAbsractDataWriter implements Df
         return sqlBuilder;
     }
 
+    protected DfColumnValueConverter createColumnValueConverter() {
+        return new DfColumnValueConverter(_convertValueMap, _defaultValueMap, new DfColumnBindTypeProvider() {
+            public Class<?> provide(String tableName, DfColumnMeta columnMeta) {
+                return getBindType(tableName, columnMeta);
+            }
+        });
+    }
+
     // ===================================================================================
     //                                                                      Before/Finally
     //                                                                      ==============
@@ -397,6 +405,156 @@ public class DfDelimiterDataWriterImpl extends DfAbsractDataWriter implements Df
         columnNameList.addAll(additionalColumnList); // defined columns + default columns (existing in DB)
     }
 
+    // ===================================================================================
+    //                                                                       Record Reader
+    //                                                                       =============
+    /**
+     * The reader of records after the header line. <br>
+     * One record may have several lines if its value has line separators in quotation.
+     */
+    protected class DfDelimiterRecordReader {
+
+        protected final BufferedReader _lineReader;
+
+        public DfDelimiterRecordReader(BufferedReader lineReader) {
+            _lineReader = lineReader;
+        }
+
+        /**
+         * @param valueList The empty list to be filled with values of the record. (NotNull)
+         * @return Does the record exist? (false: end of file)
+         * @throws IOException When it fails to read the file.
+         */
+        public boolean readRecord(List<String> valueList) throws IOException {
+            String preContinueString = null;
+            while (true) {
+                String lineString = _lineReader.readLine();
+                if (lineString == null) {
+                    return false; // the continued record at the end is ignored
+                }
+                lineString = filterLineString(lineString);
+                if (preContinueString != null && !preContinueString.equals("")) {
+                    // #hope performance tuning, suppress incremental strings from many line separators by jflute (2018/03/02)
+                    // it needs to change lineString, preContinueString to StringBuilder type...
+                    lineString = preContinueString + "\n" + lineString;
+                }
+                final ValueLineInfo valueLineInfo = arrangeValueList(lineString, _delimiter);
+                final List<String> ls = valueLineInfo.getValueList(); // empty string resolved later
+                if (valueLineInfo.isContinueNextLine()) {
+                    preContinueString = ls.remove(ls.size() - 1);
+                    valueList.addAll(ls);
+                    continue;
+                }
+                valueList.addAll(ls);
+                return true;
+            }
+        }
+    }
+
+    // ===================================================================================
+    //                                                                     Record Pipeline
+    //                                                                     ===============
+    protected boolean isRecordPipelineTarget(File dataFile) {
+        return dataFile.length() >= RECORD_PIPELINE_FILE_SIZE; // small files are not worth thread
+    }
+
+    /**
+     * The pipeline that parses records on other thread, overlapping with binding and executing SQL. <br>
+     * Records are handed over in order through the bounded queue, and their lists are recycled.
+     */
+    protected class DfDelimiterRecordPipeline {
+
+        protected final DfDelimiterRecordReader _recordReader;
+        protected final String _tableDbName;
+        protected final BlockingQueue<List<String>> _recordQueue;
+        protected final BlockingQueue<List<String>> _freeQueue;
+        protected final List<String> _endMark = new ArrayList<String>(0); // identity only
+        protected final AtomicReference<Throwable> _parsingFailure = new AtomicReference<Throwable>();
+        protected volatile boolean _stopped;
+        protected Thread _parserThread;
+
+        public DfDelimiterRecordPipeline(DfDelimiterRecordReader recordReader, String tableDbName) {
+            _recordReader = recordReader;
+            _tableDbName = tableDbName;
+            _recordQueue = new ArrayBlockingQueue<List<String>>(RECORD_PIPELINE_QUEUE_CAPACITY);
+            _freeQueue = new ArrayBlockingQueue<List<String>>(RECORD_PIPELINE_QUEUE_CAPACITY + 2); // with taken and parsing
+        }
+
+        public void start() {
+            final Thread thread = new Thread(() -> parseRecords(), "dbflute-loaddata-parser-" + _tableDbName);
+            thread.setDaemon(true);
+            thread.start();
+            _parserThread = thread;
+        }
+
+        protected void parseRecords() {
+            try {
+                while (!_stopped) {
+                    List<String> record = _freeQueue.poll();
+                    if (record == null) {
+                        record = new ArrayList<String>();
+                    }
+                    if (!_recordReader.readRecord(record)) {
+                        break;
+                    }
+                    _recordQueue.put(record);
+                }
+            } catch (InterruptedException e) {
+                return; // stopped by registration side
+            } catch (Throwable e) { // e.g. IOException
+                _parsingFailure.set(e);
+            }
+            try {
+                _recordQueue.put(_endMark);
+            } catch (InterruptedException ignored) {} // stopped by registration side
+        }
+
+        /**
+         * @param valueList The empty list to be filled with values of the record. (NotNull)
+         * @return Does the record exist? (false: end of file)
+         * @throws IOException When it fails to read the file on parser thread.
+         */
+        public boolean takeRecord(List<String> valueList) throws IOException {
+            final List<String> record;
+            try {
+                record = _recordQueue.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted the record pipeline: " + _fileName, e);
+            }
+            if (record == _endMark) {
+                final Throwable failure = _parsingFailure.get();
+                if (failure instanceof IOException) {
+                    throw (IOException) failure;
+                } else if (failure instanceof RuntimeException) {
+                    throw (RuntimeException) failure;
+                } else if (failure instanceof Error) {
+                    throw (Error) failure;
+                } else if (failure != null) { // no way
+                    throw new IllegalStateException("Failed to parse the records: " + _fileName, failure);
+                }
+                return false;
+            }
+            valueList.addAll(record);
+            record.clear();
+            _freeQueue.offer(record);
+            return true;
+        }
+
+        public void stop() {
+            _stopped = true;
+            final Thread thread = _parserThread;
+            if (thread != null) {
+                thread.interrupt(); // if waiting for free space of queue
+                try {
+                    thread.join();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+    }
+
     // ===================================================================================
     //                                                                          Value List
     //                                                                          ==========
@@ -642,6 +800,10 @@ public class DfDelimiterDataWriterImpl extends DfAbsractDataWriter implements Df
         }
     }
 
+    protected boolean isParallelLane() { // the connection is dedicated to the lane of parallel loading
+        return _dataSource instanceof DfDedicatedDataSource;
+    }
+
     protected Boolean getAutoCommit(Connection conn) {
         Boolean autoCommit = null;
         try {
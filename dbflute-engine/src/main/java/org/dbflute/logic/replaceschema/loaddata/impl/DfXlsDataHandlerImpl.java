@@ -57,6 +57,8 @@ import org.dbflute.helper.dataset.states.DfDtsSqlContext;
 import org.dbflute.helper.dataset.types.DfDtsColumnType;
 import org.dbflute.helper.dataset.types.DfDtsColumnTypes;
 import org.dbflute.helper.io.xls.DfTableXlsReader;
+import org.dbflute.helper.io.xls.DfTableXlsStreamingHandler;
+import org.dbflute.helper.io.xls.DfTableXlsStreamingReader;
 import org.dbflute.helper.io.xls.DfXlsFactory;
 import org.dbflute.helper.message.ExceptionMessageBuilder;
 import org.dbflute.logic.jdbc.metadata.info.DfColumnMeta;
@@ -128,11 +130,16 @@ public class DfXlsDataHandlerImpl extends DfAbsractDataWriter implements DfXlsDa
             _log.info("/= = = = = = = = = = = = = = = = = = = = = = = = = = = = = = = = = ");
             _log.info("writeData(" + file + ")");
             _log.info("= = = = = = =/");
-            final DfTableXlsReader xlsReader = createTableXlsReader(dataDirectory, file);
-            final DfDataSet dataSet = xlsReader.read();
-            filterValidColumn(dataSet);
-            setupDefaultValue(dataDirectory, dataSet);
-            doWriteDataSet(resource, file, dataSet, msgSb);
+            final int streamingBatchSize = getXlsStreamingBatchSize(dataDirectory);
+            if (streamingBatchSize > 0 && isXlsStreamingAvailable(file)) { // rows are not kept on memory
+                doWriteDataStreaming(resource, file, streamingBatchSize, msgSb);
+            } else {
+                final DfTableXlsReader xlsReader = createTableXlsReader(dataDirectory, file);
+                final DfDataSet dataSet = xlsReader.read();
+                filterValidColumn(dataSet);
+                setupDefaultValue(dataDirectory, dataSet);
+                doWriteDataSet(resource, file, dataSet, msgSb);
+            }
             final boolean warned = false; // this has no warning fixedly
             loadedDataInfo.addLoadedFile(resource.getEnvType(), "xls", null, file.getName(), warned);
         }
@@ -271,6 +278,210 @@ public class DfXlsDataHandlerImpl extends DfAbsractDataWriter implements DfXlsDa
         }
     }
 
+    // -----------------------------------------------------
+    //                                             Streaming
+    //                                             ---------
+    protected void doWriteDataStreaming(DfXlsDataResource resource, File file, int batchSize, StringBuilder msgSb) {
+        msgSb.append(ln()).append(ln()).append("[").append(file.getName()).append("]");
+        final String dataDirectory = resource.getDataDirectory();
+        final DfTableXlsStreamingReader xlsReader = createTableXlsStreamingReader(dataDirectory, file, batchSize);
+        final List<StreamingTableState> stateHolder = new ArrayList<StreamingTableState>(1); // current table only
+        try {
+            xlsReader.read(new DfTableXlsStreamingHandler() {
+                public void beginTable(DfDataTable dataTable) {
+                    filterValidColumn(dataTable);
+                    setupDefaultValue(dataDirectory, dataTable);
+                    stateHolder.clear();
+                    stateHolder.add(new StreamingTableState(resource, file, dataTable));
+                }
+
+                public void handleRows(DfDataTable dataTable) {
+                    doWriteStreamingRows(stateHolder.get(0));
+                }
+
+                public void endTable(DfDataTable dataTable) {
+                    final int loadedCount = doFinishStreamingTable(stateHolder.remove(0));
+                    msgSb.append(ln()).append("  ").append(dataTable.getTableDbName()).append(" (").append(loadedCount).append(")");
+                }
+            });
+        } finally {
+            if (!stateHolder.isEmpty()) { // failed in the middle of table
+                closeStreamingTable(stateHolder.get(0));
+            }
+        }
+    }
+
+    protected void doWriteStreamingRows(StreamingTableState state) {
+        final DfXlsDataResource resource = state._resource;
+        final File file = state._file;
+        final DfDataTable dataTable = state._dataTable;
+        final String tableDbName = dataTable.getTableDbName();
+        if (state._columnMetaMap == null) { // first batch
+            final Map<String, DfColumnMeta> columnMetaMap = getColumnMetaMap(tableDbName);
+            if (columnMetaMap.isEmpty()) {
+                throwTableNotFoundException(file, tableDbName);
+            }
+            beforeHandlingTable(tableDbName, columnMetaMap);
+            state._columnMetaMap = columnMetaMap;
+            checkHeaderColumnIfNeeds(resource, file, dataTable, columnMetaMap);
+            state._columnNameList = extractColumnNameList(dataTable);
+        }
+        final String dataDirectory = resource.getDataDirectory();
+        try {
+            if (state._conn == null) {
+                state._conn = _dataSource.getConnection();
+                if (!state._suppressBatchUpdate) {
+                    state._conn.setAutoCommit(false); // transaction through batches to retry after
+                    state._beginTransaction = true;
+                }
+            }
+            final int rowSize = dataTable.getRowSize(); // rows of the batch
+            for (int i = 0; i < rowSize; i++) {
+                final DfDataRow dataRow = dataTable.getRow(i);
+                if (state._ps == null) {
+                    final MyCreatedState myCreatedState = new MyCreatedState();
+                    state._preparedSql = myCreatedState.buildPreparedSql(dataRow);
+                    state._ps = state._conn.prepareStatement(state._preparedSql);
+                }
+                if (doWriteDataRow(resource, file, dataTable, dataRow // basic resources
+                        , state._columnMetaMap // meta data
+                        , state._conn, state._ps // JDBC resources
+                        , state._loggingInsertType, state._suppressBatchUpdate)) { // option
+                    ++state._loadedRowCount;
+                    if (state._existsEmptyRow) {
+                        final int emptyRowNumber = dataRow.getRowNumber() - 1;
+                        throwXlsDataEmptyRowDataException(dataDirectory, file, dataTable, emptyRowNumber);
+                    }
+                } else {
+                    state._existsEmptyRow = true;
+                }
+            }
+            if (!state._suppressBatchUpdate && state._ps != null) {
+                executeStreamingBatch(state);
+            }
+        } catch (RuntimeException e) {
+            handleXlsDataRegistartionFailureException(dataDirectory, file, tableDbName, e);
+        } catch (SQLException e) {
+            handleWriteTableException(dataDirectory, file, dataTable, e, state._retryEx, state._retryDataRow, state._columnNameList);
+        }
+    }
+
+    protected void executeStreamingBatch(StreamingTableState state) throws SQLException {
+        final Connection conn = state._conn;
+        try {
+            state._ps.executeBatch();
+        } catch (SQLException e) {
+            conn.rollback();
+            state._transactionClosed = true;
+            if (!(e instanceof BatchUpdateException)) {
+                throw e;
+            }
+            final DfDataTable dataTable = state._dataTable;
+            _log.info("...Retrying by suppressing batch update: " + dataTable.getTableDbName());
+            final PreparedStatement retryPs = conn.prepareStatement(state._preparedSql);
+            for (int i = 0; i < dataTable.getRowSize(); i++) { // rows of the batch (previous batches are rolled back)
+                final DfDataRow dataRow = dataTable.getRow(i);
+                try {
+                    doWriteDataRow(state._resource, state._file, dataTable, dataRow // basic resources
+                            , state._columnMetaMap // meta data
+                            , conn, retryPs // JDBC resources
+                            , LoggingInsertType.NONE, true); // option (no logging and suppress batch)
+                } catch (SQLException rowEx) {
+                    state._retryEx = rowEx;
+                    state._retryDataRow = dataRow;
+                    break;
+                }
+            }
+            try {
+                retryPs.close();
+            } catch (SQLException ignored) {}
+            conn.rollback(); // retried rows are not committed
+            throw e;
+        }
+    }
+
+    protected int doFinishStreamingTable(StreamingTableState state) {
+        final File file = state._file;
+        final DfDataTable dataTable = state._dataTable;
+        final String tableDbName = dataTable.getTableDbName();
+        final String dataDirectory = state._resource.getDataDirectory();
+        try {
+            if (state._columnMetaMap == null) { // no batch
+                _log.info("*Not found row at the table: " + tableDbName);
+                return 0;
+            }
+            if (state._existsEmptyRow) {
+                _log.info("...Skipping the terminal garbage row");
+            }
+            if (state._beginTransaction) {
+                state._conn.commit();
+                state._transactionClosed = true;
+            }
+            noticeLoadedRowSize(tableDbName, state._loadedRowCount);
+            checkImplicitClassification(file, tableDbName, state._columnNameList);
+            return state._loadedRowCount;
+        } catch (RuntimeException e) {
+            handleXlsDataRegistartionFailureException(dataDirectory, file, tableDbName, e);
+            return -1; // unreachable
+        } catch (SQLException e) {
+            handleWriteTableException(dataDirectory, file, dataTable, e, state._retryEx, state._retryDataRow, state._columnNameList);
+            return -1; // unreachable
+        } finally {
+            closeStreamingTable(state);
+        }
+    }
+
+    protected void closeStreamingTable(StreamingTableState state) {
+        if (state._closed) {
+            return;
+        }
+        state._closed = true;
+        final Connection conn = state._conn;
+        if (conn != null && state._beginTransaction) {
+            try {
+                if (!state._transactionClosed) {
+                    conn.rollback(); // for other exceptions
+                }
+                conn.setAutoCommit(true);
+            } catch (SQLException ignored) {
+                _log.info("Failed to end the transaction of streaming table: " + state._dataTable.getTableDbName(), ignored);
+            }
+        }
+        closeResource(conn, state._ps);
+        if (state._columnMetaMap != null) { // process after (finally) handling table
+            finallyHandlingTable(state._dataTable.getTableDbName(), state._columnMetaMap);
+        }
+    }
+
+    protected class StreamingTableState { // per table, kept through batches
+
+        protected final DfXlsDataResource _resource;
+        protected final File _file;
+        protected final DfDataTable _dataTable; // has only rows of current batch
+        protected final LoggingInsertType _loggingInsertType;
+        protected final boolean _suppressBatchUpdate;
+        protected Map<String, DfColumnMeta> _columnMetaMap; // null until first batch
+        protected List<String> _columnNameList; // null until first batch
+        protected Connection _conn;
+        protected PreparedStatement _ps;
+        protected String _preparedSql;
+        protected boolean _beginTransaction;
+        protected boolean _transactionClosed;
+        protected int _loadedRowCount;
+        protected boolean _existsEmptyRow;
+        protected SQLException _retryEx;
+        protected DfDataRow _retryDataRow;
+        protected boolean _closed;
+
+        public StreamingTableState(DfXlsDataResource resource, File file, DfDataTable dataTable) {
+            _resource = resource;
+            _file = file;
+            _dataTable = dataTable;
+            _loggingInsertType = getLoggingInsertType(resource.getDataDirectory());
+            _suppressBatchUpdate = isMergedSuppressBatchUpdate(resource.getDataDirectory());
+        }
+    }
+
     protected void throwTableNotFoundException(File file, String tableDbName) {
         final ExceptionMessageBuilder br = new ExceptionMessageBuilder();
         br.addNotice("The table specified on the xls file was not found in the schema.");
@@ -557,6 +768,19 @@ public class DfXlsDataHandlerImpl extends DfAbsractDataWriter implements DfXlsDa
                 rtrimCellValue);
     }
 
+    protected DfTableXlsStreamingReader createTableXlsStreamingReader(String dataDirectory, File file, int batchSize) {
+        final Map<String, String> tableNameMap = getTableNameMap(dataDirectory);
+        final Map<String, List<String>> notTrimTableColumnMap = getNotTrimTableColumnMap(dataDirectory);
+        final Map<String, List<String>> emptyStringTableColumnMap = getEmptyStringTableColumnMap(dataDirectory);
+        final boolean rtrimCellValue = isRTrimCellValue(dataDirectory);
+        return new DfTableXlsStreamingReader(file, tableNameMap, notTrimTableColumnMap, emptyStringTableColumnMap, _skipSheetPattern,
+                rtrimCellValue, batchSize);
+    }
+
+    protected boolean isXlsStreamingAvailable(File file) { // event model of xlsx needs poi-ooxml
+        return file.getName().endsWith(".xls");
+    }
+
     protected List<File> getXlsList(DfXlsDataResource resource) {
         final Comparator<File> fileNameAscComparator = new Comparator<File>() {
             public int compare(File o1, File o2) {
@@ -581,15 +805,17 @@ public class DfXlsDataHandlerImpl extends DfAbsractDataWriter implements DfXlsDa
 
     protected void filterValidColumn(final DfDataSet dataSet) {
         for (int i = 0; i < dataSet.getTableSize(); i++) {
-            final DfDataTable table = dataSet.getTable(i);
-            final String tableName = table.getTableDbName();
-
-            final Map<String, DfColumnMeta> metaMetaMap = getColumnMetaMap(tableName);
-            for (int j = 0; j < table.getColumnSize(); j++) {
-                final DfDataColumn dataColumn = table.getColumn(j);
-                if (!metaMetaMap.containsKey(dataColumn.getColumnDbName())) {
-                    dataColumn.setWritable(false);
-                }
+            filterValidColumn(dataSet.getTable(i));
+        }
+    }
+
+    protected void filterValidColumn(DfDataTable table) {
+        final String tableName = table.getTableDbName();
+        final Map<String, DfColumnMeta> metaMetaMap = getColumnMetaMap(tableName);
+        for (int j = 0; j < table.getColumnSize(); j++) {
+            final DfDataColumn dataColumn = table.getColumn(j);
+            if (!metaMetaMap.containsKey(dataColumn.getColumnDbName())) {
+                dataColumn.setWritable(false);
             }
         }
     }
@@ -618,30 +844,33 @@ public class DfXlsDataHandlerImpl extends DfAbsractDataWriter implements DfXlsDa
     }
 
     protected void setupDefaultValue(String dataDirectory, final DfDataSet dataSet) {
-        final Map<String, String> defaultValueMap = getDefaultValueMap(dataDirectory);
         for (int i = 0; i < dataSet.getTableSize(); i++) {
-            final DfDataTable table = dataSet.getTable(i);
-            final Set<String> defaultValueMapKeySet = defaultValueMap.keySet();
-            final String tableName = table.getTableDbName();
-
-            final Map<String, DfColumnMeta> metaMetaMap = getColumnMetaMap(tableName);
-            for (String defaultTargetColumnName : defaultValueMapKeySet) {
-                final String defaultValue = defaultValueMap.get(defaultTargetColumnName);
-
-                if (metaMetaMap.containsKey(defaultTargetColumnName) && !table.hasColumn(defaultTargetColumnName)) {
-                    // values are resolved later so resolve type only here
-                    final DfDtsColumnType columnType;
-                    if (defaultValue.equalsIgnoreCase("sysdate")) {
-                        columnType = DfDtsColumnTypes.TIMESTAMP;
-                    } else {
-                        columnType = DfDtsColumnTypes.STRING;
-                    }
-                    table.addColumn(defaultTargetColumnName, columnType);
+            setupDefaultValue(dataDirectory, dataSet.getTable(i));
+        }
+    }
 
-                    for (int j = 0; j < table.getRowSize(); j++) {
-                        final DfDataRow row = table.getRow(j);
-                        row.addValue(defaultTargetColumnName, null); // value is set later
-                    }
+    protected void setupDefaultValue(String dataDirectory, DfDataTable table) { // also for streaming (no row yet)
+        final Map<String, String> defaultValueMap = getDefaultValueMap(dataDirectory);
+        final Set<String> defaultValueMapKeySet = defaultValueMap.keySet();
+        final String tableName = table.getTableDbName();
+
+        final Map<String, DfColumnMeta> metaMetaMap = getColumnMetaMap(tableName);
+        for (String defaultTargetColumnName : defaultValueMapKeySet) {
+            final String defaultValue = defaultValueMap.get(defaultTargetColumnName);
+
+            if (metaMetaMap.containsKey(defaultTargetColumnName) && !table.hasColumn(defaultTargetColumnName)) {
+                // values are resolved later so resolve type only here
+                final DfDtsColumnType columnType;
+                if (defaultValue.equalsIgnoreCase("sysdate")) {
+                    columnType = DfDtsColumnTypes.TIMESTAMP;
+                } else {
+                    columnType = DfDtsColumnTypes.STRING;
+                }
+                table.addColumn(defaultTargetColumnName, columnType);
+
+                for (int j = 0; j < table.getRowSize(); j++) {
+                    final DfDataRow row = table.getRow(j);
+                    row.addValue(defaultTargetColumnName, null); // value is set later
                 }
             }
         }
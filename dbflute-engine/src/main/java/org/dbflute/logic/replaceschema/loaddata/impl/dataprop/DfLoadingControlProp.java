@@ -529,6 +529,30 @@ public class DfLoadingControlProp {
         return false; // default is NO-trimming since 1.0.5F
     }
 
+    // ===================================================================================
+    //                                                                       Xls Streaming
+    //                                                                       =============
+    /**
+     * @param dataDirectory The directory of data files. (NotNull)
+     * @return The size of rows written at once when reading xls by streaming. (ZeroAllowed: means no streaming)
+     */
+    public int getXlsStreamingBatchSize(String dataDirectory) { // closet, xls (not xlsx) only
+        final Map<String, Object> loadingControlMap = getLoadingControlMap(dataDirectory);
+        final String prop = (String) loadingControlMap.get("xlsStreamingBatchSize");
+        if (isSpecifiedValidProperty(prop)) {
+            final int batchSize;
+            try {
+                batchSize = Integer.parseInt(prop.trim());
+            } catch (NumberFormatException e) {
+                String msg = "The property 'xlsStreamingBatchSize' should be number:";
+                msg = msg + " value=" + prop + " dataDirectory=" + dataDirectory;
+                throw new DfIllegalPropertySettingException(msg, e);
+            }
+            return batchSize > 0 ? batchSize : 0;
+        }
+        return 0; // no streaming as default
+    }
+
     // ===================================================================================
     //                                                                          Large Text
     //                                                                          ==========
@@ -554,7 +578,7 @@ public class DfLoadingControlProp {
     // ===================================================================================
     //                                                                 Loading Control Map
     //                                                                 ===================
-    protected Map<String, Object> getLoadingControlMap(String dataDirectory) {
+    protected synchronized Map<String, Object> getLoadingControlMap(String dataDirectory) { // may be called by parallel loading
         final Map<String, Object> cachedMap = _loadingControlMapMap.get(dataDirectory);
         if (cachedMap != null) {
             return cachedMap;
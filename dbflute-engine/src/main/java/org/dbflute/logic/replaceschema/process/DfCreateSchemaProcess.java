@@ -299,6 +299,7 @@ public class DfCreateSchemaProcess extends DfAbstractRepsProcess {
         final long before = System.currentTimeMillis();
         final DfSqlFileFireMan fireMan = new DfSqlFileFireMan();
         fireMan.setExecutorName("Create Schema");
+        prepareParallelFiring(fireMan, runInfo);
         final DfSqlFileFireResult result = fireMan.fire(getSqlFileRunner(runInfo), getReplaceSchemaSqlFileList());
         destroyChangeUserConnection();
         final long after = System.currentTimeMillis();
@@ -482,11 +483,7 @@ public class DfCreateSchemaProcess extends DfAbstractRepsProcess {
 
         @Override
         protected void processNonDispatch(String sql) throws SQLException {
-            if (!_retryInitializeSchemaFinished && _skippedInitializeSchema && _alreadyExistsMainSchema) {
-                _log.info("...Intercepting by retry initializing schema because of skipped before");
-                initializeSchema();
-                _retryInitializeSchemaFinished = true; // only one called
-            }
+            retryInitializeSchemaIfNeeds();
             super.processNonDispatch(sql);
         }
 
@@ -503,6 +500,14 @@ public class DfCreateSchemaProcess extends DfAbstractRepsProcess {
         }
     }
 
+    protected synchronized void retryInitializeSchemaIfNeeds() { // synchronized for parallel runners
+        if (!_retryInitializeSchemaFinished && _skippedInitializeSchema && _alreadyExistsMainSchema) {
+            _log.info("...Intercepting by retry initializing schema because of skipped before");
+            initializeSchema();
+            _retryInitializeSchemaFinished = true; // only one called
+        }
+    }
+
     /**
      * @param sql The target SQL. (NotNull)
      * @return The user changed to. (NotNull) 
@@ -605,6 +610,67 @@ public class DfCreateSchemaProcess extends DfAbstractRepsProcess {
         }
     }
 
+    // ===================================================================================
+    //                                                                     Parallel Firing
+    //                                                                     ===============
+    protected void prepareParallelFiring(DfSqlFileFireMan fireMan, DfRunnerInformation runInfo) {
+        final int parallelism = getReplaceSchemaProperties().getSqlFileParallelism();
+        if (parallelism <= 1) {
+            return;
+        }
+        final DataSource dataSource = getDataSource();
+        if (_lazyConnection || dataSource == null) { // main user connection does not exist yet
+            _log.info("*Cannot fire SQL files in parallel because of lazy connection");
+            return;
+        }
+        fireMan.acceptParallelFiring(parallelism, dataSource, dedicatedDataSource -> {
+            return new DfSqlFileRunnerExecuteCreateSchemaParallel(runInfo, dedicatedDataSource);
+        });
+    }
+
+    /**
+     * The runner for parallel-safe SQL files, which is executed by main user only. <br>
+     * So the commands about user (e.g. changeUser) are not allowed in the files,
+     * and the user state of the process is not touched by this runner.
+     */
+    protected class DfSqlFileRunnerExecuteCreateSchemaParallel extends DfSqlFileRunnerExecuteCreateSchema {
+
+        public DfSqlFileRunnerExecuteCreateSchemaParallel(DfRunnerInformation runInfo, DataSource dataSource) {
+            super(runInfo, dataSource);
+        }
+
+        @Override
+        protected void restoreRevivedUser() { // no user command in parallel file
+        }
+
+        @Override
+        protected void restoreCurrentUser() { // me too
+        }
+
+        @Override
+        protected boolean isTargetSql(String sql) {
+            if (analyzeChangeUser(sql) != null || analyzeCheckUser(sql) != null || analyzeBackToMainUser(sql)
+                    || analyzeReviveUser(sql)) {
+                throwCreateSchemaParallelUserCommandFoundException(_sqlFile, sql);
+            }
+            return true;
+        }
+    }
+
+    protected void throwCreateSchemaParallelUserCommandFoundException(File sqlFile, String sql) {
+        final ExceptionMessageBuilder br = new ExceptionMessageBuilder();
+        br.addNotice("Found the user command in the parallel SQL file.");
+        br.addItem("Advice");
+        br.addElement("The parallel SQL file is executed by main user only.");
+        br.addElement("So move the SQL with user command (e.g. changeUser) to normal SQL file.");
+        br.addItem("SQL File");
+        br.addElement(sqlFile);
+        br.addItem("SQL");
+        br.addElement(sql);
+        final String msg = br.buildExceptionMessage();
+        throw new IllegalStateException(msg);
+    }
+
     // ===================================================================================
     //                                                                          Final Info
     //                                                                          ==========
@@ -212,6 +212,7 @@ public class DfLoadDataProcess extends DfAbstractRepsProcess {
         handler.setDataWritingInterceptor(getDataWritingInterceptor());
         handler.setDefaultValueProp(_defaultValueProp);
         handler.setLoadingControlProp(_loadingControlProp);
+        handler.setLoadDataParallelism(getReplaceSchemaProperties().getLoadDataParallelism());
         _delimiterDataHandlerImpl = handler;
         return _delimiterDataHandlerImpl;
     }
@@ -19,6 +19,7 @@ import java.io.File;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 import javax.sql.DataSource;
@@ -45,7 +46,6 @@ import org.dbflute.logic.replaceschema.takefinally.sequence.DfRepsSequenceIncrem
 import org.dbflute.properties.DfReplaceSchemaProperties;
 import org.dbflute.properties.assistant.reps.DfConventionalTakeAssertMap;
 import org.dbflute.task.bs.assistant.DfDocumentSelector;
-import org.dbflute.util.DfCollectionUtil;
 import org.dbflute.util.DfTypeUtil;
 import org.dbflute.util.Srl;
 import org.slf4j.Logger;
@@ -87,8 +87,10 @@ public class DfTakeFinallyProcess extends DfAbstractRepsProcess {
     // -----------------------------------------------------
     //                                                Result
     //                                                ------
-    protected final List<File> _executedSqlFileList = DfCollectionUtil.newArrayList();
-    protected final List<DfTakeFinallyAssertionFailureException> _continuedExList = DfCollectionUtil.newArrayList();
+    // synchronized for parallel firing
+    protected final List<File> _executedSqlFileList = Collections.synchronizedList(new ArrayList<File>());
+    protected final List<DfTakeFinallyAssertionFailureException> _continuedExList =
+            Collections.synchronizedList(new ArrayList<DfTakeFinallyAssertionFailureException>());
 
     // ===================================================================================
     //                                                                         Constructor
@@ -248,6 +250,7 @@ public class DfTakeFinallyProcess extends DfAbstractRepsProcess {
         _log.info("*              *");
         _log.info("* * * * * * * **");
         final DfSqlFileFireMan fireMan = createSqlFileFireMan();
+        prepareParallelFiring(fireMan, runInfo);
         final DfSqlFileFireResult result = fireMan.fire(getSqlFileRunner4TakeFinally(runInfo), getTakeFinallySqlFileList());
         conventionalTakeAssertIfNeeds();
         return result;
@@ -271,9 +274,23 @@ public class DfTakeFinallyProcess extends DfAbstractRepsProcess {
         return fireMan;
     }
 
+    protected void prepareParallelFiring(DfSqlFileFireMan fireMan, DfRunnerInformation runInfo) {
+        final int parallelism = getReplaceSchemaProperties().getSqlFileParallelism();
+        if (parallelism <= 1) {
+            return;
+        }
+        fireMan.acceptParallelFiring(parallelism, _dataSource, dedicatedDataSource -> {
+            return createSqlFileRunner4TakeFinally(runInfo, dedicatedDataSource);
+        });
+    }
+
     protected DfSqlFileRunner getSqlFileRunner4TakeFinally(final DfRunnerInformation runInfo) {
+        return createSqlFileRunner4TakeFinally(runInfo, _dataSource);
+    }
+
+    protected DfSqlFileRunner createSqlFileRunner4TakeFinally(final DfRunnerInformation runInfo, DataSource dataSource) {
         final DfReplaceSchemaProperties prop = getReplaceSchemaProperties();
-        final DfSqlFileRunnerExecute runnerExecute = new DfSqlFileRunnerExecute(runInfo, _dataSource) {
+        final DfSqlFileRunnerExecute runnerExecute = new DfSqlFileRunnerExecute(runInfo, dataSource) {
             @Override
             protected String filterSql(String sql) {
                 sql = super.filterSql(sql);
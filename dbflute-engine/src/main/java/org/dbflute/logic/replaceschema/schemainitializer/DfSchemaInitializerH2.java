@@ -31,6 +31,44 @@ import org.dbflute.util.Srl;
  */
 public class DfSchemaInitializerH2 extends DfSchemaInitializerJdbc {
 
+    // ===================================================================================
+    //                                                                     Recreate Schema
+    //                                                                     ===============
+    @Override
+    protected boolean isRecreateSchemaSupported() {
+        // PUBLIC schema cannot be dropped
+        return _unifiedSchema.existsPureSchema() && !"PUBLIC".equalsIgnoreCase(_unifiedSchema.getPureSchema());
+    }
+
+    @Override
+    protected List<String> buildRecreateSchemaSqlList() {
+        final String schema = _unifiedSchema.getPureSchema();
+        final String schemaSqlName = quoteIdentifierIfNeeds(schema);
+        return Arrays.asList("drop schema " + schemaSqlName + " cascade", "create schema " + schemaSqlName);
+    }
+
+    protected String quoteIdentifierIfNeeds(String identifier) {
+        if (isPlainIdentifier(identifier)) {
+            return identifier;
+        }
+        return Srl.quoteDouble(Srl.replace(identifier, "\"", "\"\"")); // e.g. "Sea""Land"
+    }
+
+    protected boolean isPlainIdentifier(String identifier) { // same as folded to upper case by H2
+        if (identifier.isEmpty()) {
+            return false;
+        }
+        final char[] charArray = identifier.toCharArray();
+        for (int i = 0; i < charArray.length; i++) {
+            final char ch = charArray[i];
+            final boolean upperOrUnderscore = (ch >= 'A' && ch <= 'Z') || ch == '_';
+            if (i == 0 ? !upperOrUnderscore : !(upperOrUnderscore || (ch >= '0' && ch <= '9') || ch == '$')) {
+                return false; // e.g. SeaLand, SEA-LAND, 1SEA
+            }
+        }
+        return true;
+    }
+
     // ===================================================================================
     //                                                                       Drop Sequence
     //                                                                       =============
@@ -21,15 +21,22 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
 import javax.sql.DataSource;
 
 import org.apache.torque.engine.database.model.UnifiedSchema;
 import org.dbflute.exception.SQLFailureException;
 import org.dbflute.helper.StringSet;
+import org.dbflute.helper.jdbc.DfParallelJdbcHelper;
+import org.dbflute.helper.jdbc.connection.DfDedicatedDataSource;
+import org.dbflute.helper.jdbc.connection.DfFittingDataSource;
 import org.dbflute.helper.jdbc.facade.DfJdbcFacade;
 import org.dbflute.logic.jdbc.metadata.basic.DfForeignKeyExtractor;
 import org.dbflute.logic.jdbc.metadata.basic.DfProcedureExtractor;
@@ -39,6 +46,7 @@ import org.dbflute.logic.jdbc.metadata.info.DfProcedureMeta;
 import org.dbflute.logic.jdbc.metadata.info.DfTableMeta;
 import org.dbflute.util.DfCollectionUtil;
 import org.dbflute.util.DfNameHintUtil;
+import org.dbflute.util.DfTraceViewUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -53,6 +61,7 @@ public class DfSchemaInitializerJdbc implements DfSchemaInitializer {
     //                                                                          ==========
     private static final Logger _log = LoggerFactory.getLogger(DfSchemaInitializerJdbc.class);
     protected static final List<String> EMPTY_LIST = DfCollectionUtil.emptyList();
+    protected static final int DROP_FOREIGN_KEY_BATCH_SIZE = 100;
 
     // ===================================================================================
     //                                                                           Attribute
@@ -61,6 +70,7 @@ public class DfSchemaInitializerJdbc implements DfSchemaInitializer {
     protected UnifiedSchema _unifiedSchema;
     protected boolean _useFullQualifiedTableName;
     protected List<String> _dropObjectTypeList;
+    protected boolean _dropObjectTypeRestricted; // true if the list is specified by user (not default types)
     protected List<String> _initializeFirstSqlList;
     protected List<String> _dropTableExceptList;
     protected List<String> _dropSequenceExceptList;
@@ -79,6 +89,14 @@ public class DfSchemaInitializerJdbc implements DfSchemaInitializer {
     protected boolean _suppressLoggingSql;
     protected boolean _suppressConnectionFailure; // basically for additional drop
 
+    // /= = = = = = = = = = = = =
+    // Fast initializing options
+    // = = = = = = = = = =/
+    protected boolean _batchDropForeignKey; // uses addBatch() if the driver supports
+    protected int _dropTableParallelism = 1; // sequential as default
+    protected boolean _recreateSchemaIfPossible; // drops the schema itself if DBMS supports
+    protected final Map<String, Long> _phaseMillisMap = new LinkedHashMap<String, Long>(); // for performance view
+
     // ===================================================================================
     //                                                                   Initialize Schema
     //                                                                   =================
@@ -163,7 +181,13 @@ public class DfSchemaInitializerJdbc implements DfSchemaInitializer {
     }
 
     protected void executeObject(Connection conn, List<DfTableMeta> tableMetaList) {
+        _phaseMillisMap.clear();
         executeFirstSqlProcess(conn, tableMetaList);
+        if (isRecreateSchemaAvailable()) { // fast path, drops all objects at once
+            measurePhase("recreate schema", () -> recreateSchema(conn));
+            showPhasePerformance();
+            return;
+        }
         final boolean procedureBeforeTable = isDropProcedureBeforeTable();
         if (procedureBeforeTable) {
             executeProcedureProcess(conn, tableMetaList);
@@ -173,6 +197,7 @@ public class DfSchemaInitializerJdbc implements DfSchemaInitializer {
             executeProcedureProcess(conn, tableMetaList);
         }
         executeVariousProcess(conn, tableMetaList);
+        showPhasePerformance();
     }
 
     protected void executeFirstSqlProcess(Connection conn, List<DfTableMeta> tableMetaList) {
@@ -188,22 +213,22 @@ public class DfSchemaInitializerJdbc implements DfSchemaInitializer {
 
     protected void executeTableProcess(Connection conn, List<DfTableMeta> tableMetaList) {
         if (!_suppressTruncateTable) {
-            truncateTableIfPossible(conn, tableMetaList);
+            measurePhase("truncate table", () -> truncateTableIfPossible(conn, tableMetaList));
         } else {
             _log.info("*Suppress truncating tables");
         }
         if (!_suppressDropForeignKey) {
-            dropForeignKey(conn, tableMetaList);
+            measurePhase("drop foreign key", () -> dropForeignKey(conn, tableMetaList));
         } else {
             _log.info("*Suppress dropping foreign keys");
         }
         if (!_suppressDropTable) {
-            dropTable(conn, tableMetaList);
+            measurePhase("drop table", () -> dropTable(conn, tableMetaList));
         } else {
             _log.info("*Suppress dropping tables");
         }
         if (!_suppressDropSequence) {
-            dropSequence(conn, tableMetaList);
+            measurePhase("drop sequence", () -> dropSequence(conn, tableMetaList));
         } else {
             _log.info("*Suppress dropping sequences");
         }
@@ -211,7 +236,7 @@ public class DfSchemaInitializerJdbc implements DfSchemaInitializer {
 
     protected void executeProcedureProcess(Connection conn, List<DfTableMeta> tableMetaList) {
         if (!_suppressDropProcedure) {
-            dropProcedure(conn, tableMetaList);
+            measurePhase("drop procedure", () -> dropProcedure(conn, tableMetaList));
         } else {
             _log.info("*Suppress dropping procedures");
         }
@@ -219,12 +244,12 @@ public class DfSchemaInitializerJdbc implements DfSchemaInitializer {
 
     protected void executeVariousProcess(Connection conn, List<DfTableMeta> tableMetaList) {
         if (!_suppressDropDBLink) {
-            dropDBLink(conn, tableMetaList);
+            measurePhase("drop DB link", () -> dropDBLink(conn, tableMetaList));
         } else {
             _log.info("*Suppress dropping DB links");
         }
         if (!_suppressTruncateTable || !_suppressDropProcedure) { // belongs to the two
-            dropTypeObject(conn, tableMetaList);
+            measurePhase("drop type object", () -> dropTypeObject(conn, tableMetaList));
         } else {
             _log.info("*Suppress dropping type objectss");
         }
@@ -234,6 +259,86 @@ public class DfSchemaInitializerJdbc implements DfSchemaInitializer {
         return false;
     }
 
+    // ===================================================================================
+    //                                                                   Phase Performance
+    //                                                                   =================
+    protected void measurePhase(String phaseName, Runnable phase) {
+        final long before = System.currentTimeMillis();
+        phase.run();
+        final long after = System.currentTimeMillis();
+        _phaseMillisMap.put(phaseName, after - before);
+    }
+
+    protected void showPhasePerformance() {
+        if (_phaseMillisMap.isEmpty()) {
+            return;
+        }
+        final StringBuilder sb = new StringBuilder();
+        for (Entry<String, Long> entry : _phaseMillisMap.entrySet()) {
+            sb.append(ln()).append(" ").append(entry.getKey()).append(": ");
+            sb.append(DfTraceViewUtil.convertToPerformanceView(entry.getValue()));
+        }
+        _log.info("Initialize Schema performance of " + _unifiedSchema + ":" + sb.toString());
+    }
+
+    // ===================================================================================
+    //                                                                     Recreate Schema
+    //                                                                     ===============
+    protected boolean isRecreateSchemaAvailable() {
+        if (!_recreateSchemaIfPossible || !isRecreateSchemaSupported()) {
+            return false;
+        }
+        if (_suppressTruncateTable || _suppressDropForeignKey || _suppressDropTable || _suppressDropSequence || _suppressDropProcedure
+                || _suppressDropDBLink) { // some objects should remain
+            return false;
+        }
+        if (hasElement(_dropTableExceptList) || hasElement(_dropSequenceExceptList) || hasElement(_dropProcedureExceptList)) {
+            _log.info("*Cannot recreate the schema because of except list: " + _unifiedSchema);
+            return false;
+        }
+        if (_dropObjectTypeRestricted) { // recreating drops all object types
+            _log.info("*Cannot recreate the schema because of object type list: " + _dropObjectTypeList);
+            return false;
+        }
+        return true;
+    }
+
+    protected boolean hasElement(List<String> list) {
+        return list != null && !list.isEmpty();
+    }
+
+    /**
+     * Does the DBMS support recreating the schema? (drop the schema itself and create it) <br>
+     * The schema's own privileges (e.g. grant to other users) are also reset by recreating.
+     * @return The determination, true or false. (false if unsupported, default)
+     */
+    protected boolean isRecreateSchemaSupported() { // for sub class
+        return false;
+    }
+
+    protected void recreateSchema(Connection conn) {
+        // not use JDBC facade because it closes the connection per SQL
+        Statement st = null;
+        String currentSql = null;
+        try {
+            st = conn.createStatement();
+            for (String recreateSql : buildRecreateSchemaSqlList()) {
+                currentSql = recreateSql;
+                logReplaceSql(recreateSql);
+                st.execute(recreateSql);
+            }
+        } catch (SQLException e) {
+            String msg = "Failed to recreate the schema: " + _unifiedSchema + " by " + currentSql;
+            throw new SQLFailureException(msg, e);
+        } finally {
+            closeStatement(st);
+        }
+    }
+
+    protected List<String> buildRecreateSchemaSqlList() { // for sub class
+        return EMPTY_LIST;
+    }
+
     // ===================================================================================
     //                                                                      Truncate Table
     //                                                                      ==============
@@ -294,6 +399,8 @@ public class DfSchemaInitializerJdbc implements DfSchemaInitializer {
         Statement st = null;
         try {
             st = conn.createStatement();
+            final boolean batch = isBatchDropForeignKeyAvailable(conn);
+            int batchCount = 0;
             for (DfTableMeta tableMeta : tableMetaList) {
                 if (isSkipDropForeignKey(tableMeta)) {
                     continue;
@@ -308,9 +415,20 @@ public class DfSchemaInitializerJdbc implements DfSchemaInitializer {
                     final DfForeignKeyMeta foreignKeyMetaInfo = foreignKeyMetaInfoMap.get(foreignKeyName);
                     final String dropForeignKeySql = callback.buildDropForeignKeySql(foreignKeyMetaInfo);
                     logReplaceSql(dropForeignKeySql);
-                    st.execute(dropForeignKeySql);
+                    if (batch) {
+                        st.addBatch(dropForeignKeySql);
+                        if (++batchCount >= DROP_FOREIGN_KEY_BATCH_SIZE) {
+                            st.executeBatch();
+                            batchCount = 0;
+                        }
+                    } else {
+                        st.execute(dropForeignKeySql);
+                    }
                 }
             }
+            if (batch && batchCount > 0) {
+                st.executeBatch();
+            }
         } catch (SQLException e) {
             String msg = "Failed to drop foreign keys!";
             throw new SQLFailureException(msg, e);
@@ -323,6 +441,10 @@ public class DfSchemaInitializerJdbc implements DfSchemaInitializer {
         return false;
     }
 
+    protected boolean isBatchDropForeignKeyAvailable(Connection conn) throws SQLException {
+        return _batchDropForeignKey && conn.getMetaData().supportsBatchUpdates();
+    }
+
     protected String filterDropForeignKeyName(String foreignKeyName) {
         return foreignKeyName; // might need to be quoted e.g. PostgreSQL
     }
@@ -344,7 +466,7 @@ public class DfSchemaInitializerJdbc implements DfSchemaInitializer {
         // Drop view and drop others
         final List<DfTableMeta> sortedList = prepareSortedTableList(conn, viewList, otherList);
 
-        callbackDropTableByJdbc(conn, sortedList, new DfDropTableByJdbcCallback() {
+        final DfDropTableByJdbcCallback callback = new DfDropTableByJdbcCallback() {
             public String buildDropTableSql(DfTableMeta metaInfo) {
                 final StringBuilder sb = new StringBuilder();
                 setupDropTable(sb, metaInfo);
@@ -356,7 +478,23 @@ public class DfSchemaInitializerJdbc implements DfSchemaInitializer {
                 sb.append("drop materialized view ").append(metaInfo.getTableName());
                 return sb.toString();
             }
-        });
+        };
+        final DfFittingDataSource parallelDataSource = prepareParallelDataSource();
+        if (parallelDataSource != null) {
+            final List<DfTableMeta> sequentialList = new ArrayList<DfTableMeta>();
+            final List<DfTableMeta> parallelList = new ArrayList<DfTableMeta>();
+            for (DfTableMeta tableMeta : sortedList) {
+                if (isParallelDropTableTarget(tableMeta)) {
+                    parallelList.add(tableMeta);
+                } else { // e.g. view
+                    sequentialList.add(tableMeta);
+                }
+            }
+            callbackDropTableByJdbc(conn, sequentialList, callback); // keeps the order
+            dropTableInParallel(parallelDataSource, parallelList, callback);
+        } else { // basically here
+            callbackDropTableByJdbc(conn, sortedList, callback);
+        }
     }
 
     protected List<DfTableMeta> prepareSortedTableList(Connection conn, List<DfTableMeta> viewList, List<DfTableMeta> otherList) {
@@ -408,6 +546,72 @@ public class DfSchemaInitializerJdbc implements DfSchemaInitializer {
         }
     }
 
+    // -----------------------------------------------------
+    //                                              Parallel
+    //                                              --------
+    protected DfFittingDataSource prepareParallelDataSource() { // null allowed
+        if (_dropTableParallelism <= 1) {
+            return null;
+        }
+        if (_suppressDropForeignKey) { // tables depend on each other
+            _log.info("*Cannot drop tables in parallel because of suppressed dropping foreign key");
+            return null;
+        }
+        final DfFittingDataSource fittingDataSource = DfParallelJdbcHelper.findFittingDataSource(_dataSource);
+        if (fittingDataSource == null) { // e.g. additional drop
+            _log.info("*Cannot drop tables in parallel because of unknown data source: " + _dataSource);
+        }
+        return fittingDataSource;
+    }
+
+    /**
+     * Is the table independent from other objects after dropping foreign keys? <br>
+     * The non-target tables are dropped sequentially (in sorted order) before parallel dropping.
+     * @param tableMeta The meta of the table to be dropped. (NotNull)
+     * @return The determination, true or false.
+     */
+    protected boolean isParallelDropTableTarget(DfTableMeta tableMeta) { // for sub class
+        return !tableMeta.isTableTypeView(); // views may depend on other views
+    }
+
+    protected void dropTableInParallel(DfFittingDataSource parallelDataSource, List<DfTableMeta> tableMetaList,
+            DfDropTableByJdbcCallback callback) {
+        if (tableMetaList.isEmpty()) {
+            return;
+        }
+        final int threadCount = Math.min(_dropTableParallelism, tableMetaList.size());
+        _log.info("...Dropping tables in parallel: tables=" + tableMetaList.size() + ", threads=" + threadCount);
+        final List<List<DfTableMeta>> laneList = new ArrayList<List<DfTableMeta>>();
+        for (int i = 0; i < threadCount; i++) {
+            laneList.add(new ArrayList<DfTableMeta>());
+        }
+        for (int i = 0; i < tableMetaList.size(); i++) { // round robin
+            laneList.get(i % threadCount).add(tableMetaList.get(i));
+        }
+        final ExecutorService executor = DfParallelJdbcHelper.newWorkerPool("dbflute-initializer", threadCount);
+        try {
+            final List<Future<Void>> futureList = new ArrayList<Future<Void>>();
+            for (List<DfTableMeta> lane : laneList) {
+                futureList.add(executor.submit(() -> {
+                    final DfDedicatedDataSource dedicatedDataSource = new DfDedicatedDataSource(parallelDataSource.newConnection());
+                    try {
+                        callbackDropTableByJdbc(dedicatedDataSource.getConnection(), lane, callback);
+                        dedicatedDataSource.commitIfNeeds();
+                    } finally {
+                        dedicatedDataSource.closeReally();
+                    }
+                    return null;
+                }));
+            }
+            DfParallelJdbcHelper.waitForAll(futureList, "dropping");
+        } finally {
+            DfParallelJdbcHelper.awaitTermination(executor);
+        }
+    }
+
+    // -----------------------------------------------------
+    //                                                 Retry
+    //                                                 -----
     protected void handleDroppingRetry(DfDropTableByJdbcCallback callback, Statement st, DfTableMeta tableMeta, SQLException e)
             throws SQLException {
         final String dropMaterializedViewSql = callback.buildDropMaterializedViewSql(tableMeta);
@@ -637,6 +841,10 @@ public class DfSchemaInitializerJdbc implements DfSchemaInitializer {
         _dropObjectTypeList = dropObjectTypeList;
     }
 
+    public void setDropObjectTypeRestricted(boolean dropObjectTypeRestricted) {
+        _dropObjectTypeRestricted = dropObjectTypeRestricted;
+    }
+
     public void setInitializeFirstSqlList(List<String> initializeFirstSqlList) {
         _initializeFirstSqlList = initializeFirstSqlList;
     }
@@ -720,4 +928,36 @@ public class DfSchemaInitializerJdbc implements DfSchemaInitializer {
     public void setSuppressConnectionFailure(boolean suppressConnectionFailure) {
         _suppressConnectionFailure = suppressConnectionFailure;
     }
+
+    // /= = = = = = = = = = = = =
+    // Fast initializing options
+    // = = = = = = = = = =/
+
+    public boolean isBatchDropForeignKey() {
+        return _batchDropForeignKey;
+    }
+
+    public void setBatchDropForeignKey(boolean batchDropForeignKey) {
+        _batchDropForeignKey = batchDropForeignKey;
+    }
+
+    public int getDropTableParallelism() {
+        return _dropTableParallelism;
+    }
+
+    public void setDropTableParallelism(int dropTableParallelism) {
+        _dropTableParallelism = dropTableParallelism;
+    }
+
+    public boolean isRecreateSchemaIfPossible() {
+        return _recreateSchemaIfPossible;
+    }
+
+    public void setRecreateSchemaIfPossible(boolean recreateSchemaIfPossible) {
+        _recreateSchemaIfPossible = recreateSchemaIfPossible;
+    }
+
+    public Map<String, Long> getPhaseMillisMap() {
+        return _phaseMillisMap;
+    }
 }
\ No newline at end of file
@@ -40,6 +40,48 @@ public class DfSchemaInitializerPostgreSQL extends DfSchemaInitializerJdbc {
 
     private static final Logger _log = LoggerFactory.getLogger(DfSchemaInitializerPostgreSQL.class);
 
+    // ===================================================================================
+    //                                                                           Attribute
+    //                                                                           =========
+    protected final Set<String> _inheritTableSet = StringSet.createAsCaseInsensitive(); // for parallel dropping
+
+    // ===================================================================================
+    //                                                                     Recreate Schema
+    //                                                                     ===============
+    @Override
+    protected boolean isRecreateSchemaSupported() {
+        return _unifiedSchema.existsPureSchema();
+    }
+
+    @Override
+    protected List<String> buildRecreateSchemaSqlList() {
+        final String schema = _unifiedSchema.getPureSchema();
+        final String schemaSqlName = quoteIdentifierIfNeeds(schema);
+        return Arrays.asList("drop schema " + schemaSqlName + " cascade", "create schema " + schemaSqlName);
+    }
+
+    protected String quoteIdentifierIfNeeds(String identifier) {
+        if (isPlainIdentifier(identifier)) {
+            return identifier;
+        }
+        return Srl.quoteDouble(Srl.replace(identifier, "\"", "\"\"")); // e.g. "Sea""Land"
+    }
+
+    protected boolean isPlainIdentifier(String identifier) { // same as folded to lower case by PostgreSQL
+        if (identifier.isEmpty()) {
+            return false;
+        }
+        final char[] charArray = identifier.toCharArray();
+        for (int i = 0; i < charArray.length; i++) {
+            final char ch = charArray[i];
+            final boolean lowerOrUnderscore = (ch >= 'a' && ch <= 'z') || ch == '_';
+            if (i == 0 ? !lowerOrUnderscore : !(lowerOrUnderscore || (ch >= '0' && ch <= '9') || ch == '$')) {
+                return false; // e.g. SeaLand, sea-land, 1sea
+            }
+        }
+        return true;
+    }
+
     // ===================================================================================
     //                                                                    Drop Foreign Key
     //                                                                    ================
@@ -76,6 +118,8 @@ public class DfSchemaInitializerPostgreSQL extends DfSchemaInitializerJdbc {
         for (Map<String, String> elementMap : resultList) {
             parentSet.add(elementMap.get("parent_name"));
         }
+        _inheritTableSet.addAll(childSet);
+        _inheritTableSet.addAll(parentSet);
         final List<DfTableMeta> firstPriorityList = new ArrayList<DfTableMeta>();
         final List<DfTableMeta> secondPriorityList = new ArrayList<DfTableMeta>();
         final List<DfTableMeta> thirdPriorityList = new ArrayList<DfTableMeta>();
@@ -99,6 +143,12 @@ public class DfSchemaInitializerPostgreSQL extends DfSchemaInitializerJdbc {
         return sortedList;
     }
 
+    @Override
+    protected boolean isParallelDropTableTarget(DfTableMeta tableMeta) {
+        // inherit tables should be dropped in the order
+        return super.isParallelDropTableTarget(tableMeta) && !_inheritTableSet.contains(tableMeta.getTableDbName());
+    }
+
     protected List<Map<String, String>> selectInheritList(Connection conn) {
         final StringBuilder sb = new StringBuilder();
         sb.append("select rits.inhrelid, child_cls.relname as child_name");
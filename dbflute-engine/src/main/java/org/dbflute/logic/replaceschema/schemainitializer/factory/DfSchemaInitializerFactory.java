@@ -148,10 +148,12 @@ public class DfSchemaInitializerFactory {
             initializer.setDataSource(_dataSource);
             initializer.setUnifiedSchema(_databaseProperties.getDatabaseSchema());
             initializer.setDropObjectTypeList(_replaceSchemaProperties.getObjectTypeTargetList());
+            initializer.setDropObjectTypeRestricted(_replaceSchemaProperties.isObjectTypeTargetListSpecified());
             initializer.setInitializeFirstSqlList(_replaceSchemaProperties.getInitializeFirstSqlList());
             initializer.setDropTableExceptList(_replaceSchemaProperties.getDropTableExceptList());
             initializer.setDropSequenceExceptList(_replaceSchemaProperties.getDropSequenceExceptList());
             initializer.setDropProcedureExceptList(_replaceSchemaProperties.getDropProcedureExceptList());
+            initializer.setRecreateSchemaIfPossible(_replaceSchemaProperties.isRecreateSchemaIfPossible()); // main only
             return;
         }
 
@@ -194,6 +196,8 @@ public class DfSchemaInitializerFactory {
         initializer.setSuppressDropProcedure(_replaceSchemaProperties.isSuppressDropProcedure());
         initializer.setSuppressDropDBLink(_replaceSchemaProperties.isSuppressDropDBLink());
         initializer.setSuppressLoggingSql(_replaceSchemaProperties.isSuppressLoggingReplaceSql());
+        initializer.setBatchDropForeignKey(_replaceSchemaProperties.isBatchDropForeignKey());
+        initializer.setDropTableParallelism(_replaceSchemaProperties.getDropTableParallelism());
     }
 
     // ===================================================================================
@@ -0,0 +1,249 @@
+/*
+ * Copyright 2014-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.dbflute.logic.sql2entity.analyzer;
+
+import java.io.File;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map.Entry;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.sql.DataSource;
+
+import org.apache.torque.engine.database.model.AppData;
+import org.dbflute.exception.SQLFailureException;
+import org.dbflute.helper.jdbc.DfParallelJdbcHelper;
+import org.dbflute.helper.jdbc.DfRunnerInformation;
+import org.dbflute.helper.jdbc.connection.DfDedicatedDataSource;
+import org.dbflute.helper.jdbc.connection.DfFittingDataSource;
+import org.dbflute.helper.jdbc.sqlfile.DfSqlFileRunnerResult;
+import org.dbflute.logic.sql2entity.cmentity.DfCustomizeEntityInfo;
+import org.dbflute.logic.sql2entity.pmbean.DfPmbMetaData;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The prober of outside-SQL files in parallel for Sql2Entity. <br>
+ * Each file is analyzed on a connection borrowed from the bounded pool,
+ * registering to its own meta, and the metas are merged into the main meta in file order
+ * so the registration order is same as sequential analyzing.
+ * @author agent
+ * @since 1.2.3 (2026/10/19 Monday)
+ */
+public class DfOutsideSqlParallelProber {
+
+    // ===================================================================================
+    //                                                                          Definition
+    //                                                                          ==========
+    /** The logger instance for this class. (NotNull) */
+    private static final Logger _log = LoggerFactory.getLogger(DfOutsideSqlParallelProber.class);
+
+    protected static final int PROGRESS_STEP_COUNT = 10; // logs at every 10 percent
+    protected static final int SLOW_FILE_SHOW_COUNT = 5;
+
+    // ===================================================================================
+    //                                                                           Attribute
+    //                                                                           =========
+    protected final DfRunnerInformation _runInfo;
+    protected final DfSql2EntityMeta _sql2entityMeta;
+    protected final DfOutsideSqlPack _outsideSqlPack;
+    protected final AppData _schemaData;
+    protected final int _parallelism;
+
+    // ===================================================================================
+    //                                                                         Constructor
+    //                                                                         ===========
+    /**
+     * @param runInfo The information of runner, which should be break-cause-throw. (NotNull)
+     * @param sql2entityMeta The main meta of Sql2Entity merged after probing. (NotNull)
+     * @param outsideSqlPack The pack of outside-SQL files. (NotNull)
+     * @param schemaData The data of schema for parameter-bean. (NotNull)
+     * @param parallelism The count of threads and connections. (NotMinus, NotZero)
+     */
+    public DfOutsideSqlParallelProber(DfRunnerInformation runInfo, DfSql2EntityMeta sql2entityMeta, DfOutsideSqlPack outsideSqlPack,
+            AppData schemaData, int parallelism) {
+        _runInfo = runInfo;
+        _sql2entityMeta = sql2entityMeta;
+        _outsideSqlPack = outsideSqlPack;
+        _schemaData = schemaData;
+        _parallelism = parallelism;
+    }
+
+    // ===================================================================================
+    //                                                                               Probe
+    //                                                                               =====
+    /**
+     * Probe the outside-SQL files in parallel and merge the metas in file order.
+     * @param fittingDataSource The data source to create new connections. (NotNull)
+     * @param mainDataSource The data source of the task, only for duplicate check when merging. (NotNull)
+     */
+    public void probe(DfFittingDataSource fittingDataSource, DataSource mainDataSource) {
+        final List<File> sqlFileList = _outsideSqlPack.getPhysicalFileList();
+        final int threadCount = Math.min(_parallelism, sqlFileList.size());
+        if (threadCount <= 0) {
+            return;
+        }
+        _log.info("...Probing outside-SQL in parallel: files=" + sqlFileList.size() + ", threads=" + threadCount);
+        final long before = System.currentTimeMillis();
+        final BlockingQueue<DfDedicatedDataSource> connectionPool = new ArrayBlockingQueue<DfDedicatedDataSource>(threadCount);
+        final List<DfDedicatedDataSource> createdList = new ArrayList<DfDedicatedDataSource>();
+        final ExecutorService executor = DfParallelJdbcHelper.newWorkerPool("dbflute-sql2entity", threadCount);
+        try {
+            for (int i = 0; i < threadCount; i++) {
+                final DfDedicatedDataSource dedicatedDataSource = new DfDedicatedDataSource(fittingDataSource.newConnection());
+                createdList.add(dedicatedDataSource);
+                connectionPool.add(dedicatedDataSource);
+            }
+            final AtomicInteger doneCount = new AtomicInteger();
+            final List<Future<DfOutsideSqlProbeResult>> futureList = new ArrayList<Future<DfOutsideSqlProbeResult>>();
+            for (File sqlFile : sqlFileList) {
+                futureList.add(executor.submit(() -> {
+                    final DfDedicatedDataSource dedicatedDataSource = connectionPool.take();
+                    try {
+                        return probeFile(sqlFile, dedicatedDataSource);
+                    } finally {
+                        connectionPool.add(dedicatedDataSource);
+                        showProgress(doneCount.incrementAndGet(), sqlFileList.size());
+                    }
+                }));
+            }
+            final List<DfOutsideSqlProbeResult> resultList = DfParallelJdbcHelper.waitForAll(futureList, "probing");
+            mergeResult(resultList, mainDataSource);
+            showPerformance(resultList, System.currentTimeMillis() - before);
+        } catch (SQLException e) {
+            throw new SQLFailureException("Failed to create the connection for parallel probing.", e);
+        } finally {
+            DfParallelJdbcHelper.awaitTermination(executor); // no connection is closed under live probing
+            for (DfDedicatedDataSource dedicatedDataSource : createdList) {
+                dedicatedDataSource.closeReally();
+            }
+        }
+    }
+
+    protected DfOutsideSqlProbeResult probeFile(File sqlFile, DataSource dedicatedDataSource) {
+        final long before = System.currentTimeMillis();
+        final DfSql2EntityMeta fileMeta = new DfSql2EntityMeta(); // merged later in file order
+        final DfOutsideSqlAnalyzer analyzer = createOutsideSqlAnalyzer(dedicatedDataSource, fileMeta);
+        analyzer.prepare(sqlFile);
+        final DfSqlFileRunnerResult runnerResult = analyzer.runTransaction();
+        return new DfOutsideSqlProbeResult(sqlFile, fileMeta, runnerResult, System.currentTimeMillis() - before);
+    }
+
+    protected DfOutsideSqlAnalyzer createOutsideSqlAnalyzer(DataSource dataSource, DfSql2EntityMeta meta) {
+        return new DfOutsideSqlAnalyzer(_runInfo, dataSource, meta, _outsideSqlPack, _schemaData);
+    }
+
+    // ===================================================================================
+    //                                                                               Merge
+    //                                                                               =====
+    protected void mergeResult(List<DfOutsideSqlProbeResult> resultList, DataSource mainDataSource) {
+        final DfOutsideSqlAnalyzer mergingAnalyzer = createOutsideSqlAnalyzer(mainDataSource, _sql2entityMeta); // only for assertion
+        for (DfOutsideSqlProbeResult result : resultList) { // in file order
+            final File sqlFile = result.getSqlFile();
+            final DfSql2EntityMeta fileMeta = result.getFileMeta();
+            for (Entry<String, DfCustomizeEntityInfo> entry : fileMeta.getEntityInfoMap().entrySet()) {
+                mergingAnalyzer.assertDuplicateEntity(entry.getKey(), sqlFile); // same-name across files
+                _sql2entityMeta.addEntityInfo(entry.getKey(), entry.getValue());
+            }
+            for (Entry<String, DfPmbMetaData> entry : fileMeta.getPmbMetaDataMap().entrySet()) {
+                mergingAnalyzer.assertDuplicateParameterBean(entry.getKey(), sqlFile);
+                _sql2entityMeta.addPmbMetaData(entry.getKey(), entry.getValue());
+            }
+            for (Entry<String, String> entry : fileMeta.getExceptionInfoMap().entrySet()) {
+                _sql2entityMeta.addExceptionInfo(entry.getKey(), entry.getValue());
+            }
+        }
+    }
+
+    // ===================================================================================
+    //                                                                         Performance
+    //                                                                         ===========
+    protected void showProgress(int doneCount, int totalCount) {
+        final int step = Math.max(totalCount / PROGRESS_STEP_COUNT, 1);
+        if (doneCount % step == 0 || doneCount == totalCount) {
+            _log.info("...Probing progress: " + doneCount + "/" + totalCount + " (" + (doneCount * 100 / totalCount) + "%)");
+        }
+    }
+
+    protected void showPerformance(List<DfOutsideSqlProbeResult> resultList, long elapsedMillis) {
+        long totalMillis = 0;
+        int goodSqlCount = 0;
+        int totalSqlCount = 0;
+        for (DfOutsideSqlProbeResult result : resultList) {
+            totalMillis = totalMillis + result.getProbingMillis();
+            final DfSqlFileRunnerResult runnerResult = result.getRunnerResult();
+            if (runnerResult != null) {
+                goodSqlCount = goodSqlCount + runnerResult.getGoodSqlCount();
+                totalSqlCount = totalSqlCount + runnerResult.getTotalSqlCount();
+            }
+        }
+        final List<DfOutsideSqlProbeResult> slowList = new ArrayList<DfOutsideSqlProbeResult>(resultList);
+        slowList.sort(Comparator.comparingLong(DfOutsideSqlProbeResult::getProbingMillis).reversed());
+        final StringBuilder sb = new StringBuilder();
+        sb.append("[Parallel Probing]");
+        sb.append(ln()).append(" files=").append(resultList.size()).append(", sql=").append(goodSqlCount).append("/").append(totalSqlCount);
+        sb.append(ln()).append(" elapsed=").append(elapsedMillis).append("ms, sum of files=").append(totalMillis).append("ms");
+        for (DfOutsideSqlProbeResult result : slowList.subList(0, Math.min(SLOW_FILE_SHOW_COUNT, slowList.size()))) {
+            sb.append(ln()).append("  ").append(result.getSqlFile().getName()).append(": ").append(result.getProbingMillis()).append("ms");
+        }
+        _log.info(sb.toString());
+    }
+
+    protected String ln() {
+        return "\n";
+    }
+
+    // ===================================================================================
+    //                                                                        Probe Result
+    //                                                                        ============
+    protected static class DfOutsideSqlProbeResult {
+
+        protected final File _sqlFile;
+        protected final DfSql2EntityMeta _fileMeta;
+        protected final DfSqlFileRunnerResult _runnerResult; // null allowed: skipped
+        protected final long _probingMillis;
+
+        public DfOutsideSqlProbeResult(File sqlFile, DfSql2EntityMeta fileMeta, DfSqlFileRunnerResult runnerResult,
+                long probingMillis) {
+            _sqlFile = sqlFile;
+            _fileMeta = fileMeta;
+            _runnerResult = runnerResult;
+            _probingMillis = probingMillis;
+        }
+
+        public File getSqlFile() {
+            return _sqlFile;
+        }
+
+        public DfSql2EntityMeta getFileMeta() {
+            return _fileMeta;
+        }
+
+        public DfSqlFileRunnerResult getRunnerResult() {
+            return _runnerResult;
+        }
+
+        public long getProbingMillis() {
+            return _probingMillis;
+        }
+    }
+}
@@ -244,6 +244,10 @@ public final class DfDatabaseProperties extends DfAbstractDBFluteProperties {
         return _objectTypeTargetList;
     }
 
+    public boolean isObjectTypeTargetListSpecified() { // not default types
+        return getVariousObject("objectTypeTargetList") != null;
+    }
+
     public boolean hasObjectTypeSynonym() {
         return DfConnectionProperties.hasObjectTypeSynonym(getObjectTypeTargetList());
     }
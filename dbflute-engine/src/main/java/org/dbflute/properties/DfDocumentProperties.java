@@ -826,6 +826,22 @@ public final class DfDocumentProperties extends DfAbstractDBFluteProperties {
         }
     }
 
+    public int getLoadDataReverseExtractingParallelism() { // closet
+        // tables are extracted on new connections concurrently if two or more
+        final String parallelismExp = getProperty("extractingParallelism", null, getLoadDataReverseMap());
+        if (parallelismExp == null) {
+            return 1;
+        }
+        try {
+            final int parallelism = Integer.parseInt(parallelismExp.trim());
+            return parallelism > 1 ? parallelism : 1;
+        } catch (NumberFormatException e) {
+            String msg = "The property 'extractingParallelism' of loadDataReverse in " + KEY_oldDocumentMap;
+            msg = msg + " should be number but: value=" + parallelismExp;
+            throw new DfIllegalPropertyTypeException(msg, e);
+        }
+    }
+
     // -----------------------------------------------------
     //                                     Table Except List
     //                                     -----------------
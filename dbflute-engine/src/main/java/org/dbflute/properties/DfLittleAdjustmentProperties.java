@@ -1615,6 +1615,37 @@ public final class DfLittleAdjustmentProperties extends DfAbstractDBFlutePropert
         return isProperty("isSkipGenerateIfSameFile", true);
     }
 
+    // -----------------------------------------------------
+    //                                  Incremental Generate
+    //                                  --------------------
+    public boolean isIncrementalGenerate() { // closet
+        // outputs whose templates and schema model are not changed are not rendered
+        return isProperty("isIncrementalGenerate", false);
+    }
+
+    public String getIncrementalGenerateManifestFile() { // closet
+        final String projectName = getBasicProperties().getProjectName();
+        return "./schema/project-generate-manifest-" + projectName + ".properties";
+    }
+
+    // -----------------------------------------------------
+    //                        Generate Rendering Parallelism
+    //                        ------------------------------
+    public int getGenerateRenderingParallelism() { // closet
+        // outputs of Generate and Sql2Entity are rendered on worker threads if two or more
+        final String parallelismExp = getProperty("generateRenderingParallelism", null);
+        if (parallelismExp == null) {
+            return 1;
+        }
+        try {
+            final int parallelism = Integer.parseInt(parallelismExp.trim());
+            return parallelism > 1 ? parallelism : 1;
+        } catch (NumberFormatException e) {
+            String msg = "The property 'generateRenderingParallelism' of littleAdjustmentMap should be number but: " + parallelismExp;
+            throw new DfIllegalPropertyTypeException(msg, e);
+        }
+    }
+
     // -----------------------------------------------------
     //                ToLower in Generator Underscore Method
     //                --------------------------------------
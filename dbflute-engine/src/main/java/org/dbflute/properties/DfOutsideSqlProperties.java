@@ -266,6 +266,24 @@ public final class DfOutsideSqlProperties extends DfAbstractDBFluteProperties {
         NONE, INCLUDE, SWITCH
     }
 
+    // ===================================================================================
+    //                                                                    Parallel Probing
+    //                                                                    ================
+    public int getSql2EntityProbingParallelism() { // closet
+        // outside-SQL files are executed on new connections concurrently for meta data if two or more
+        final String parallelismExp = getProperty("sql2EntityProbingParallelism", null, getOutsideSqlDefinitionMap());
+        if (parallelismExp == null) {
+            return 1;
+        }
+        try {
+            final int parallelism = Integer.parseInt(parallelismExp.trim());
+            return parallelism > 1 ? parallelism : 1;
+        } catch (NumberFormatException e) {
+            String msg = "The property 'sql2EntityProbingParallelism' of outsideSqlMap should be number but: " + parallelismExp;
+            throw new DfIllegalPropertyTypeException(msg, e);
+        }
+    }
+
     // ===================================================================================
     //                                                                      OutsideSqlTest
     //                                                                      ==============
@@ -300,6 +318,37 @@ public final class DfOutsideSqlProperties extends DfAbstractDBFluteProperties {
         return isProperty("isSuppressParameterCommentCheck", false);
     }
 
+    public int getOutsideSqlTestParallelism() { // closet
+        // select-only outside-SQL files are executed concurrently on this count of connections if two or more
+        // (others, e.g. update files, are executed sequentially because of row locks)
+        final String parallelismExp = getProperty("outsideSqlTestParallelism", null, getOutsideSqlDefinitionMap());
+        if (parallelismExp == null) {
+            return 1;
+        }
+        try {
+            final int parallelism = Integer.parseInt(parallelismExp.trim());
+            return parallelism > 1 ? parallelism : 1;
+        } catch (NumberFormatException e) {
+            String msg = "The property 'outsideSqlTestParallelism' of outsideSqlMap should be number but: " + parallelismExp;
+            throw new DfIllegalPropertyTypeException(msg, e);
+        }
+    }
+
+    public long getOutsideSqlTestSlowThresholdMillis() { // closet
+        // OutsideSqlTest fails if SQL executions of some files take longer than this, e.g. as performance regression gate in CI
+        final String thresholdExp = getProperty("outsideSqlTestSlowThresholdMillis", null, getOutsideSqlDefinitionMap());
+        if (thresholdExp == null) {
+            return 0L; // means no threshold
+        }
+        try {
+            final long threshold = Long.parseLong(thresholdExp.trim());
+            return threshold > 0L ? threshold : 0L;
+        } catch (NumberFormatException e) {
+            String msg = "The property 'outsideSqlTestSlowThresholdMillis' of outsideSqlMap should be number but: " + thresholdExp;
+            throw new DfIllegalPropertyTypeException(msg, e);
+        }
+    }
+
     // ===================================================================================
     //                                                                     SqlFileEncoding
     //                                                                     ===============
@@ -467,6 +467,50 @@ public final class DfReplaceSchemaProperties extends DfAbstractDBFluteProperties
         return isProperty("isSuppressBatchUpdate", false, getReplaceSchemaMap());
     }
 
+    // ===================================================================================
+    //                                                              Load Data Parallelism
+    //                                                              =====================
+    /**
+     * Get the count of threads (connections) for delimiter data loading. <br>
+     * If two or more, tables of the same FK level are loaded concurrently.
+     * @return The count of parallelism, 1 means sequential (default). (NotMinus, NotZero)
+     */
+    public int getLoadDataParallelism() {
+        final String parallelismExp = getProperty("loadDataParallelism", null, getReplaceSchemaMap());
+        if (parallelismExp == null) {
+            return 1;
+        }
+        try {
+            final int parallelism = Integer.parseInt(parallelismExp.trim());
+            return parallelism > 1 ? parallelism : 1;
+        } catch (NumberFormatException e) {
+            String msg = "The property 'loadDataParallelism' of replaceSchemaMap should be number but: value=" + parallelismExp;
+            throw new DfIllegalPropertyTypeException(msg, e);
+        }
+    }
+
+    // ===================================================================================
+    //                                                              SQL File Parallelism
+    //                                                              ====================
+    /**
+     * Get the count of threads (connections) for parallel-safe SQL files of CreateSchema and TakeFinally. <br>
+     * If two or more, consecutive files whose name contains '-parallel-' are executed concurrently.
+     * @return The count of parallelism, 1 means sequential (default). (NotMinus, NotZero)
+     */
+    public int getSqlFileParallelism() {
+        final String parallelismExp = getProperty("sqlFileParallelism", null, getReplaceSchemaMap());
+        if (parallelismExp == null) {
+            return 1;
+        }
+        try {
+            final int parallelism = Integer.parseInt(parallelismExp.trim());
+            return parallelism > 1 ? parallelism : 1;
+        } catch (NumberFormatException e) {
+            String msg = "The property 'sqlFileParallelism' of replaceSchemaMap should be number but: value=" + parallelismExp;
+            throw new DfIllegalPropertyTypeException(msg, e);
+        }
+    }
+
     // ===================================================================================
     //                                                             Object Type Target List
     //                                                             =======================
@@ -493,6 +537,14 @@ public final class DfReplaceSchemaProperties extends DfAbstractDBFluteProperties
         return getDatabaseProperties().getObjectTypeTargetList(); // inherit
     }
 
+    public boolean isObjectTypeTargetListSpecified() { // e.g. restricts object types to drop
+        final Object obj = getReplaceSchemaMap().get("objectTypeTargetList");
+        if (obj instanceof List<?> && !((List<?>) obj).isEmpty()) {
+            return true;
+        }
+        return getDatabaseProperties().isObjectTypeTargetListSpecified();
+    }
+
     // ===================================================================================
     //                                                                     Additional User
     //                                                                     ===============
@@ -848,6 +900,40 @@ public final class DfReplaceSchemaProperties extends DfAbstractDBFluteProperties
         return isProperty("isSuppressDropDBLink", false, getReplaceSchemaMap());
     }
 
+    // ===================================================================================
+    //                                                           Fast Initializing Schema
+    //                                                           ========================
+    public boolean isBatchDropForeignKey() { // uses addBatch() if the driver supports
+        return isProperty("isBatchDropForeignKey", false, getReplaceSchemaMap());
+    }
+
+    /**
+     * Get the count of threads (connections) for dropping tables after dropping foreign keys.
+     * @return The count of parallelism, 1 means sequential (default). (NotMinus, NotZero)
+     */
+    public int getDropTableParallelism() {
+        final String parallelismExp = getProperty("dropTableParallelism", null, getReplaceSchemaMap());
+        if (parallelismExp == null) {
+            return 1;
+        }
+        try {
+            final int parallelism = Integer.parseInt(parallelismExp.trim());
+            return parallelism > 1 ? parallelism : 1;
+        } catch (NumberFormatException e) {
+            String msg = "The property 'dropTableParallelism' of replaceSchemaMap should be number but: value=" + parallelismExp;
+            throw new DfIllegalPropertyTypeException(msg, e);
+        }
+    }
+
+    /**
+     * Does it drop the main schema itself and create it again if the DBMS supports? (e.g. PostgreSQL, H2) <br>
+     * It is fast for many objects but the privileges of the schema are also reset.
+     * @return The determination, true or false. (default is false)
+     */
+    public boolean isRecreateSchemaIfPossible() {
+        return isProperty("isRecreateSchemaIfPossible", false, getReplaceSchemaMap());
+    }
+
     // ===================================================================================
     //                                                                           Migration
     //                                                                           =========
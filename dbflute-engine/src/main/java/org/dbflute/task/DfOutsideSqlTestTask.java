@@ -16,11 +16,17 @@
 package org.dbflute.task;
 
 import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
 import java.sql.SQLException;
 import java.util.ArrayList;
-import java.util.HashSet;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.sql.DataSource;
 
 import org.dbflute.dbway.DBDef;
 import org.dbflute.exception.DfOutsideSqlTestFailureFoundException;
@@ -56,11 +62,17 @@ public class DfOutsideSqlTestTask extends DfAbstractTask {
     /** The logger instance for this class. (NotNull) */
     private static final Logger _log = LoggerFactory.getLogger(DfOutsideSqlTestTask.class);
 
+    /** The count of slow SQL files shown in final message. */
+    protected static final int SLOW_SQL_FILE_SHOW_COUNT = 5;
+
     // ===================================================================================
     //                                                                           Attribute
     //                                                                           =========
-    /** The set of non-target SQL file. */
-    protected final Set<File> _nonTargetSqlFileSet = new HashSet<File>();
+    /** The set of non-target SQL file, thread-safe for parallel firing. */
+    protected final Set<File> _nonTargetSqlFileSet = Collections.newSetFromMap(new ConcurrentHashMap<File, Boolean>());
+
+    /** The checker of outside-SQL shared by all runners for unique checks. (NullAllowed: lazy-loaded) */
+    protected DfOutsideSqlChecker _outsideSqlChecker;
 
     /** The result of SqlFile fire. (NotNull after fire) */
     protected DfSqlFileFireResult _fireResult;
@@ -99,8 +111,10 @@ public class DfOutsideSqlTestTask extends DfAbstractTask {
         final DfRunnerInformation runInfo = createRunnerInformation();
         final DfSqlFileFireMan fireMan = createSqlFileFireMan();
         final List<File> sqlFileList = getTargetSqlFileList();
+        prepareParallelFiring(fireMan, runInfo);
         _fireResult = fireMan.fire(getSqlFileRunner(runInfo), sqlFileList);
         handleSqlFileFailure(_fireResult, sqlFileList);
+        handleSlowSqlFile(_fireResult);
     }
 
     // ===================================================================================
@@ -110,6 +124,44 @@ public class DfOutsideSqlTestTask extends DfAbstractTask {
         return new DfSqlFileFireMan();
     }
 
+    protected void prepareParallelFiring(DfSqlFileFireMan fireMan, DfRunnerInformation runInfo) {
+        final int parallelism = getOutsideSqlProperties().getOutsideSqlTestParallelism();
+        if (parallelism <= 1) {
+            return;
+        }
+        // each file is rolled back but rolled-back updates still take row locks while executing,
+        // so update files may wait for others (or deadlock) and their execution time becomes unstable for slow threshold
+        // (only select-only files are fired in parallel, others are fired sequentially between them)
+        fireMan.acceptParallelFiring(parallelism, getDataSource(), dedicatedDataSource -> {
+            return getSqlFileRunner(runInfo, dedicatedDataSource);
+        });
+        fireMan.acceptParallelFileDeterminer(sqlFile -> isSelectOnlySqlFile(sqlFile, runInfo));
+    }
+
+    protected boolean isSelectOnlySqlFile(File sqlFile, DfRunnerInformation runInfo) {
+        final String encoding = runInfo.isEncodingNull() ? "UTF-8" : runInfo.getEncoding();
+        final String sql;
+        try {
+            sql = new String(Files.readAllBytes(sqlFile.toPath()), encoding);
+        } catch (IOException e) { // the failure is reported by the runner later
+            return false;
+        }
+        final String blockRemoved = Srl.removeBlockComment(sql) + "\n"; // line-comment removal needs non-comment line
+        final String plain = Srl.removeLineComment(blockRemoved).replaceAll("\\s+", " ").toLowerCase();
+        boolean existsStatement = false;
+        for (String statement : Srl.splitListTrimmed(plain, ";")) {
+            if (statement.isEmpty()) {
+                continue;
+            }
+            // e.g. with clause may contain update, and for-update takes row locks
+            if (!statement.startsWith("select") || statement.contains("for update")) {
+                return false;
+            }
+            existsStatement = true;
+        }
+        return existsStatement;
+    }
+
     protected DfRunnerInformation createRunnerInformation() {
         final DfRunnerInformation runInfo = new DfRunnerInformation();
         runInfo.setDriver(getDriver());
@@ -146,11 +198,13 @@ public class DfOutsideSqlTestTask extends DfAbstractTask {
     }
 
     protected DfSqlFileRunnerExecute getSqlFileRunner(final DfRunnerInformation runInfo) {
+        return getSqlFileRunner(runInfo, getDataSource());
+    }
+
+    protected DfSqlFileRunnerExecute getSqlFileRunner(final DfRunnerInformation runInfo, DataSource dataSource) {
         final String nonTargetMark = "df:x";
         final DBDef currentDBDef = getDatabaseTypeFacadeProp().getCurrentDBDef();
-        return new DfSqlFileRunnerExecute(runInfo, getDataSource()) {
-
-            protected DfOutsideSqlChecker _outsideSqlChecker;
+        return new DfSqlFileRunnerExecute(runInfo, dataSource) {
 
             @Override
             protected String filterSql(String sql) {
@@ -236,14 +290,21 @@ public class DfOutsideSqlTestTask extends DfAbstractTask {
                 if (outsideSqlProp.isSuppressParameterCommentCheck()) {
                     return;
                 }
-                if (_outsideSqlChecker == null) {
-                    _outsideSqlChecker = createOutsideSqlChecker(outsideSqlProp);
+                final DfOutsideSqlChecker checker = findOutsideSqlChecker(outsideSqlProp);
+                synchronized (checker) { // unique checks across files may be called on parallel threads
+                    checker.check(sqlFile.getName(), sql);
                 }
-                _outsideSqlChecker.check(sqlFile.getName(), sql);
             }
         };
     }
 
+    protected synchronized DfOutsideSqlChecker findOutsideSqlChecker(DfOutsideSqlProperties outsideSqlProp) {
+        if (_outsideSqlChecker == null) {
+            _outsideSqlChecker = createOutsideSqlChecker(outsideSqlProp);
+        }
+        return _outsideSqlChecker;
+    }
+
     protected DfOutsideSqlChecker createOutsideSqlChecker(DfOutsideSqlProperties outsideSqlProp) {
         final DfOutsideSqlChecker checker = new DfOutsideSqlChecker();
         if (outsideSqlProp.isRequiredSqlTitle()) {
@@ -316,6 +377,40 @@ public class DfOutsideSqlTestTask extends DfAbstractTask {
         }
     }
 
+    protected void handleSlowSqlFile(DfSqlFileFireResult fireResult) {
+        final long thresholdMillis = getOutsideSqlProperties().getOutsideSqlTestSlowThresholdMillis();
+        if (thresholdMillis <= 0L) { // no gate
+            return;
+        }
+        final List<DfSqlFileRunnerResult> slowResultList = new ArrayList<DfSqlFileRunnerResult>();
+        for (DfSqlFileRunnerResult runnerResult : extractSlowOrderedResultList(fireResult)) {
+            if (runnerResult.getExecuteMillis() > thresholdMillis) {
+                slowResultList.add(runnerResult);
+            }
+        }
+        if (!slowResultList.isEmpty()) {
+            throwOutsideSqlTestSlowSqlFoundException(thresholdMillis, slowResultList);
+        }
+    }
+
+    protected void throwOutsideSqlTestSlowSqlFoundException(long thresholdMillis, List<DfSqlFileRunnerResult> slowResultList) {
+        final ExceptionMessageBuilder br = new ExceptionMessageBuilder();
+        br.addNotice("Found the slow SQL by the OutsideSqlTest.");
+        br.addItem("Advice");
+        br.addElement("The SQL files below took longer than the threshold");
+        br.addElement("'outsideSqlTestSlowThresholdMillis' of outsideSqlMap.dfprop.");
+        br.addElement("Check the execution plan of the SQL or the data of your test database.");
+        br.addElement("(the time is of the SQL executions only, not including connection and roll-back)");
+        br.addItem("Threshold");
+        br.addElement(thresholdMillis + "ms");
+        br.addItem("Slow SQL File");
+        for (DfSqlFileRunnerResult runnerResult : slowResultList) {
+            br.addElement(runnerResult.getSqlFile().getName() + " (" + runnerResult.getExecuteMillis() + "ms)");
+        }
+        final String msg = br.buildExceptionMessage();
+        throw new DfOutsideSqlTestFailureFoundException(msg);
+    }
+
     protected void throwOutsideSqlTestFailureFoundException() {
         final ExceptionMessageBuilder br = new ExceptionMessageBuilder();
         br.addNotice("Found the failure SQL by the OutsideSqlTest.");
@@ -396,10 +491,36 @@ public class DfOutsideSqlTestTask extends DfAbstractTask {
             if (countFailure > 0) {
                 sb.append(ln()).append("   x: Failure exists (").append(countFailure).append(")");
             }
+            buildSlowSqlFileMessage(sb, fireResult);
         }
         return sb.toString();
     }
 
+    protected void buildSlowSqlFileMessage(StringBuilder sb, DfSqlFileFireResult fireResult) {
+        final List<DfSqlFileRunnerResult> slowOrderedList = extractSlowOrderedResultList(fireResult);
+        if (slowOrderedList.isEmpty()) {
+            return;
+        }
+        sb.append(ln());
+        sb.append(ln()).append(" {Slow SQL}");
+        final int showCount = Math.min(SLOW_SQL_FILE_SHOW_COUNT, slowOrderedList.size());
+        for (DfSqlFileRunnerResult runnerResult : slowOrderedList.subList(0, showCount)) {
+            sb.append(ln()).append("  ").append(runnerResult.getExecuteMillis()).append("ms ");
+            sb.append(runnerResult.getSqlFile().getName());
+        }
+    }
+
+    protected List<DfSqlFileRunnerResult> extractSlowOrderedResultList(DfSqlFileFireResult fireResult) {
+        final List<DfSqlFileRunnerResult> measuredList = new ArrayList<DfSqlFileRunnerResult>();
+        for (DfSqlFileRunnerResult runnerResult : fireResult.getRunnerResultList()) {
+            if (runnerResult.getExecuteMillis() >= 0L) { // executed
+                measuredList.add(runnerResult);
+            }
+        }
+        measuredList.sort(Comparator.comparingLong(DfSqlFileRunnerResult::getExecuteMillis).reversed());
+        return measuredList;
+    }
+
     // ===================================================================================
     //                                                                       Assist Helper
     //                                                                       =============
@@ -35,7 +35,9 @@ import org.dbflute.exception.DfProcedureSetupFailureException;
 import org.dbflute.exception.IllegalOutsideSqlOperationException;
 import org.dbflute.friends.velocity.DfVelocityContextFactory;
 import org.dbflute.helper.StringKeyMap;
+import org.dbflute.helper.jdbc.DfParallelJdbcHelper;
 import org.dbflute.helper.jdbc.DfRunnerInformation;
+import org.dbflute.helper.jdbc.connection.DfFittingDataSource;
 import org.dbflute.helper.jdbc.sqlfile.DfSqlFileFireMan;
 import org.dbflute.helper.jdbc.sqlfile.DfSqlFileRunner;
 import org.dbflute.helper.message.ExceptionMessageBuilder;
@@ -48,6 +50,7 @@ import org.dbflute.logic.jdbc.schemaxml.DfSchemaXmlReader;
 import org.dbflute.logic.sql2entity.analyzer.DfOutsideSqlAnalyzer;
 import org.dbflute.logic.sql2entity.analyzer.DfOutsideSqlFile;
 import org.dbflute.logic.sql2entity.analyzer.DfOutsideSqlPack;
+import org.dbflute.logic.sql2entity.analyzer.DfOutsideSqlParallelProber;
 import org.dbflute.logic.sql2entity.analyzer.DfSql2EntityMarkAnalyzer;
 import org.dbflute.logic.sql2entity.analyzer.DfSql2EntityMeta;
 import org.dbflute.logic.sql2entity.bqp.DfBehaviorQueryPathSetupper;
@@ -144,10 +147,12 @@ public class DfSql2EntityTask extends DfAbstractTexenTask {
         runInfo.setEncoding(getOutsideSqlProperties().getSqlFileEncoding());
 
         // FireMan's fire result is ignored here because runner's option breakCauseThrow=true
-        final DfSqlFileFireMan fireMan = new DfSqlFileFireMan();
         final DfOutsideSqlPack outsideSqlPack = getTargetSqlFileList();
-        final DfSqlFileRunner runner = createSqlFileRunner(runInfo, outsideSqlPack);
-        fireMan.fire(runner, outsideSqlPack.getPhysicalFileList());
+        if (!probeOutsideSqlInParallelIfPossible(runInfo, outsideSqlPack)) {
+            final DfSqlFileFireMan fireMan = new DfSqlFileFireMan();
+            final DfSqlFileRunner runner = createSqlFileRunner(runInfo, outsideSqlPack);
+            fireMan.fire(runner, outsideSqlPack.getPhysicalFileList());
+        }
 
         setupProcedure();
 
@@ -217,6 +222,22 @@ public class DfSql2EntityTask extends DfAbstractTexenTask {
         return new DfOutsideSqlAnalyzer(runInfo, getDataSource(), _sql2entityMeta, outsideSqlPack, _schemaData);
     }
 
+    protected boolean probeOutsideSqlInParallelIfPossible(DfRunnerInformation runInfo, DfOutsideSqlPack outsideSqlPack) {
+        final int parallelism = getOutsideSqlProperties().getSql2EntityProbingParallelism();
+        if (parallelism <= 1 || outsideSqlPack.size() <= 1) {
+            return false;
+        }
+        final DfFittingDataSource fittingDataSource = DfParallelJdbcHelper.findFittingDataSource(getDataSource());
+        if (fittingDataSource == null) { // e.g. unknown data source
+            _log.info("*Cannot probe outside-SQL in parallel because of unknown data source: " + getDataSource());
+            return false;
+        }
+        final DfOutsideSqlParallelProber prober =
+                new DfOutsideSqlParallelProber(runInfo, _sql2entityMeta, outsideSqlPack, _schemaData, parallelism);
+        prober.probe(fittingDataSource, getDataSource());
+        return true;
+    }
+
     protected void handleException() {
         final Map<String, String> exceptionInfoMap = _sql2entityMeta.getExceptionInfoMap();
         if (exceptionInfoMap.isEmpty()) {
@@ -263,6 +284,14 @@ public class DfSql2EntityTask extends DfAbstractTexenTask {
         throw new DfProcedureSetupFailureException(msg, DfJDBCException.voice(e));
     }
 
+    // ===================================================================================
+    //                                                                  Parallel Rendering
+    //                                                                  ==================
+    @Override
+    protected int getRenderingParallelism() {
+        return getLittleAdjustmentProperties().getGenerateRenderingParallelism();
+    }
+
     // ===================================================================================
     //                                                                 Behavior Query Path
     //                                                                 ===================
@@ -309,9 +309,14 @@ public abstract class DfAbstractTexenTask extends TexenTask {
         if (templatePath != null) {
             generator.setTemplatePath(templatePath);
         }
+        generator.acceptRenderingParallelism(getRenderingParallelism());
         return generator;
     }
 
+    protected int getRenderingParallelism() { // you can override
+        return 1; // sequential as default
+    }
+
     protected Context setupControlContext() {
         final Context ctx;
         try {
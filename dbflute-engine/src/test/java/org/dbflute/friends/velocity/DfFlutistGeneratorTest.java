@@ -0,0 +1,171 @@
+/*
+ * Copyright 2014-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.dbflute.friends.velocity;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.apache.torque.engine.database.model.ForeignKey;
+import org.apache.torque.engine.database.model.Table;
+
+import org.apache.velocity.VelocityContext;
+import org.dbflute.unit.EngineTestCase;
+import org.dbflute.util.Srl;
+
+/**
+ * @author agent
+ * @since 1.2.3 (2026/10/19 Monday)
+ */
+public class DfFlutistGeneratorTest extends EngineTestCase {
+
+    public void test_parse_parallelRendering() throws Exception {
+        // ## Arrange ##
+        File workDir = Files.createTempDirectory("dbflute-generator").toFile();
+        File templateDir = new File(workDir, "templates");
+        File outputDir = new File(workDir, "output");
+        templateDir.mkdirs();
+        outputDir.mkdirs();
+        writeFile(new File(templateDir, "Control.vm"), "#foreach ($num in [1..20])"
+                + "$generator.parse(\"Output.vm\", \"Output${num}.txt\", \"\", \"\")#end");
+        writeFile(new File(templateDir, "Output.vm"), "num=${num}, nested=$generator.parse(\"Nested.vm\", \"\", \"\", \"\")");
+        writeFile(new File(templateDir, "Nested.vm"), "[${num}]");
+
+        // ## Act ##
+        DfFlutistGenerator first = createGenerator(templateDir, outputDir, 4);
+        first.parse("Control.vm", new VelocityContext());
+        first.shutdown();
+
+        // ## Assert ##
+        for (int i = 1; i <= 20; i++) {
+            String content = readFile(new File(outputDir, "Output" + i + ".txt"));
+            assertEquals("num=" + i + ", nested=[" + i + "]", content); // snapshot of control context
+        }
+        assertTrue(first.getSkipFileNameList().isEmpty());
+
+        // ## Act ##
+        DfFlutistGenerator second = createGenerator(templateDir, outputDir, 4);
+        second.parse("Control.vm", new VelocityContext());
+        second.shutdown();
+
+        // ## Assert ##
+        log(second.getSkipFileNameList());
+        assertEquals(20, second.getSkipFileNameList().size());
+        for (int i = 1; i <= 20; i++) {
+            assertEquals("Output" + i + ".txt", second.getSkipFileNameList().get(i - 1)); // in parsing order
+        }
+    }
+
+    public void test_parse_parallelRendering_groupedByTable() throws Exception {
+        // ## Arrange ##
+        File workDir = Files.createTempDirectory("dbflute-generator").toFile();
+        File templateDir = new File(workDir, "templates");
+        File outputDir = new File(workDir, "output");
+        templateDir.mkdirs();
+        outputDir.mkdirs();
+        StringBuilder controlSb = new StringBuilder("#foreach ($table in $tableList)");
+        for (String type : Arrays.asList("Entity", "Bhv", "CB")) {
+            controlSb.append("$generator.parse(\"Table.vm\", \"${table.name}_").append(type).append(".txt\", \"table\", $table)");
+        }
+        writeFile(new File(templateDir, "Control.vm"), controlSb.append("#end").toString());
+        writeFile(new File(templateDir, "Table.vm"), "${table.name}:${status.singleKeyReferrers.size()}"
+                + ":${status.compoundKeyReferrers.size()}:${table.singleKeyReferrers.size()}@${thread.name}");
+        Table statusTable = createTable("MEMBER_STATUS");
+        List<Table> tableList = new ArrayList<Table>();
+        for (int i = 1; i <= 40; i++) {
+            Table table = createTable("MEMBER" + i);
+            ForeignKey fk = new ForeignKey() {
+                @Override
+                public boolean canBeReferrer() { // not to use properties
+                    return true;
+                }
+            };
+            fk.setTable(table);
+            fk.addReference("MEMBER_STATUS_CODE", "MEMBER_STATUS_CODE");
+            if (i % 4 == 0) { // compound
+                fk.addReference("MEMBER_STATUS_TYPE", "MEMBER_STATUS_TYPE");
+            }
+            statusTable.addReferrer(fk);
+            tableList.add(table);
+        }
+        VelocityContext context = new VelocityContext();
+        context.put("tableList", tableList);
+        context.put("status", statusTable); // shared by all outputs
+        context.put("thread", new CurrentThread());
+
+        // ## Act ##
+        DfFlutistGenerator generator = createGenerator(templateDir, outputDir, 4);
+        generator.parse("Control.vm", context);
+        generator.shutdown();
+
+        // ## Assert ##
+        for (Table table : tableList) {
+            Set<String> threadNameSet = new HashSet<String>();
+            for (String type : Arrays.asList("Entity", "Bhv", "CB")) {
+                String content = readFile(new File(outputDir, table.getName() + "_" + type + ".txt"));
+                assertEquals(table.getName() + ":30:10:0", Srl.substringLastFront(content, "@")); // filled caches
+                threadNameSet.add(Srl.substringLastRear(content, "@"));
+            }
+            log(table.getName(), threadNameSet);
+            assertEquals(1, threadNameSet.size()); // same table on one worker
+            assertTrue(threadNameSet.iterator().next().startsWith("dbflute-rendering-"));
+        }
+    }
+
+    public static class CurrentThread {
+
+        public String getName() {
+            return Thread.currentThread().getName();
+        }
+    }
+
+    protected Table createTable(String tableName) {
+        Table table = new Table();
+        table.setName(tableName);
+        return table;
+    }
+
+    protected DfFlutistGenerator createGenerator(File templateDir, File outputDir, int parallelism) {
+        DfFlutistGenerator generator = new DfFlutistGenerator() {
+            @Override
+            protected boolean isConvertSourceCodeLineSeparator() {
+                return false;
+            }
+        };
+        generator.initializeEngine();
+        generator.setProperty("file.resource.loader.path", templateDir.getPath());
+        generator.setProperty("runtime.log", new File(outputDir.getParentFile(), "velocity.log").getPath()); // not in project
+        generator.setOutputPath(outputDir.getPath());
+        generator.setInputEncoding("UTF-8");
+        generator.setOutputEncoding("UTF-8");
+        generator.acceptRenderingParallelism(parallelism);
+        return generator;
+    }
+
+    protected void writeFile(File file, String content) throws IOException {
+        Files.write(file.toPath(), content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    protected String readFile(File file) throws IOException {
+        return new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,164 @@
+/*
+ * Copyright 2014-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.dbflute.helper.io.xls;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import org.dbflute.helper.StringKeyMap;
+import org.dbflute.helper.dataset.DfDataColumn;
+import org.dbflute.helper.dataset.DfDataRow;
+import org.dbflute.helper.dataset.DfDataSet;
+import org.dbflute.helper.dataset.DfDataTable;
+import org.dbflute.unit.EngineTestCase;
+import org.dbflute.util.DfResourceUtil;
+
+/**
+ * @author agent
+ * @since 1.2.3 (2026/10/19 Monday)
+ */
+public class DfTableXlsStreamingReaderTest extends EngineTestCase {
+
+    // ===================================================================================
+    //                                                                          Basic Read
+    //                                                                          ==========
+    public void test_read_sameAsUsermodel_basic() throws IOException {
+        assertSameAsUsermodel(prepareXlsFile("table-xls-basic.xls"), false);
+        assertSameAsUsermodel(prepareXlsFile("table-xls-basic.xls"), true);
+    }
+
+    public void test_read_sameAsUsermodel_largeData() throws IOException {
+        assertSameAsUsermodel(prepareXlsFile("table-xls-large-data.xls"), false);
+    }
+
+    public void test_read_batch() throws IOException {
+        // ## Arrange ##
+        final File xlsFile = prepareXlsFile("table-xls-basic.xls");
+        final DfTableXlsStreamingReader reader = createStreamingReader(xlsFile, false, 1);
+        final List<Integer> batchRowSizeList = new ArrayList<Integer>();
+
+        // ## Act ##
+        reader.read(new DfTableXlsStreamingHandler() {
+            public void beginTable(DfDataTable table) {
+                assertEquals(0, table.getRowSize());
+            }
+
+            public void handleRows(DfDataTable table) {
+                batchRowSizeList.add(table.getRowSize());
+            }
+
+            public void endTable(DfDataTable table) {
+                assertEquals(0, table.getRowSize()); // already flushed
+            }
+        });
+
+        // ## Assert ##
+        log(batchRowSizeList);
+        assertTrue(batchRowSizeList.size() > 1);
+        for (Integer rowSize : batchRowSizeList) {
+            assertEquals(1, rowSize.intValue());
+        }
+    }
+
+    // ===================================================================================
+    //                                                                         Test Helper
+    //                                                                         ===========
+    protected void assertSameAsUsermodel(File xlsFile, boolean rtrimCellValue) {
+        // ## Arrange ##
+        final DfDataSet dataSet = createUsermodelReader(xlsFile, rtrimCellValue).read();
+        final List<String> expectedList = new ArrayList<String>();
+        for (int i = 0; i < dataSet.getTableSize(); i++) {
+            final DfDataTable table = dataSet.getTable(i);
+            for (int rowIndex = 0; rowIndex < table.getRowSize(); rowIndex++) {
+                expectedList.add(buildRowExp(table, table.getRow(rowIndex)));
+            }
+            expectedList.add(buildTableExp(table));
+        }
+        final List<String> actualList = new ArrayList<String>();
+
+        // ## Act ##
+        createStreamingReader(xlsFile, rtrimCellValue, 2).read(new DfTableXlsStreamingHandler() {
+            public void beginTable(DfDataTable table) {
+            }
+
+            public void handleRows(DfDataTable table) {
+                for (int rowIndex = 0; rowIndex < table.getRowSize(); rowIndex++) {
+                    actualList.add(buildRowExp(table, table.getRow(rowIndex)));
+                }
+            }
+
+            public void endTable(DfDataTable table) {
+                actualList.add(buildTableExp(table));
+            }
+        });
+
+        // ## Assert ##
+        log(actualList);
+        assertFalse(expectedList.isEmpty());
+        assertEquals(expectedList, actualList);
+    }
+
+    protected String buildTableExp(DfDataTable table) {
+        final StringBuilder sb = new StringBuilder();
+        sb.append(table.getTableDbName());
+        for (int i = 0; i < table.getColumnSize(); i++) {
+            final DfDataColumn column = table.getColumn(i);
+            sb.append(", ").append(column.getColumnDbName()).append(":").append(column.getColumnType().getType());
+        }
+        return sb.toString();
+    }
+
+    protected String buildRowExp(DfDataTable table, DfDataRow row) {
+        final StringBuilder sb = new StringBuilder();
+        sb.append(table.getTableDbName()).append("(").append(row.getRowNumber()).append(")");
+        for (int i = 0; i < table.getColumnSize(); i++) {
+            final Object value = row.getValue(i);
+            sb.append(", ").append(value instanceof byte[] ? Arrays.toString((byte[]) value) : value);
+        }
+        return sb.toString();
+    }
+
+    protected File prepareXlsFile(String fileName) throws IOException {
+        final File buildDir = DfResourceUtil.getBuildDir(getClass());
+        return new File(buildDir.getCanonicalPath() + "/xls/" + fileName);
+    }
+
+    protected DfTableXlsReader createUsermodelReader(File xlsFile, boolean rtrimCellValue) {
+        return new DfTableXlsReader(xlsFile, StringKeyMap.createAsCaseInsensitive(), prepareNotTrimTableColumnMap(),
+                prepareStringEmptyTableColumnMap(), null, rtrimCellValue);
+    }
+
+    protected DfTableXlsStreamingReader createStreamingReader(File xlsFile, boolean rtrimCellValue, int batchSize) {
+        return new DfTableXlsStreamingReader(xlsFile, StringKeyMap.createAsCaseInsensitive(), prepareNotTrimTableColumnMap(),
+                prepareStringEmptyTableColumnMap(), null, rtrimCellValue, batchSize);
+    }
+
+    protected Map<String, List<String>> prepareNotTrimTableColumnMap() {
+        final Map<String, List<String>> notTrimTableColumnMap = StringKeyMap.createAsCaseInsensitive();
+        notTrimTableColumnMap.put("TEST_TABLE", Arrays.asList("EEE"));
+        return notTrimTableColumnMap;
+    }
+
+    protected Map<String, List<String>> prepareStringEmptyTableColumnMap() {
+        final Map<String, List<String>> stringEmptyTableColumnMap = StringKeyMap.createAsCaseInsensitive();
+        stringEmptyTableColumnMap.put("TEST_TABLE", Arrays.asList("CCC"));
+        return stringEmptyTableColumnMap;
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2014-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.dbflute.helper.jdbc;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+
+import org.dbflute.exception.SQLFailureException;
+import org.dbflute.unit.EngineTestCase;
+
+/**
+ * @author agent
+ * @since 1.2.3 (2026/10/19 Monday)
+ */
+public class DfParallelJdbcHelperTest extends EngineTestCase {
+
+    // ===================================================================================
+    //                                                                        Wait for All
+    //                                                                        ============
+    public void test_waitForAll_submittedOrder() {
+        // ## Arrange ##
+        ExecutorService executor = DfParallelJdbcHelper.newWorkerPool("dbflute-test", 3);
+        try {
+            List<Future<String>> futureList = new ArrayList<Future<String>>();
+            for (int i = 0; i < 10; i++) {
+                final int index = i;
+                futureList.add(executor.submit(() -> {
+                    Thread.sleep((10 - index) * 5L); // later submitted, earlier finished
+                    return "sea" + index + ":" + Thread.currentThread().getName().startsWith("dbflute-test-");
+                }));
+            }
+
+            // ## Act ##
+            List<String> resultList = DfParallelJdbcHelper.waitForAll(futureList, "testing");
+
+            // ## Assert ##
+            log(resultList);
+            assertEquals(10, resultList.size());
+            for (int i = 0; i < 10; i++) {
+                assertEquals("sea" + i + ":true", resultList.get(i));
+            }
+        } finally {
+            DfParallelJdbcHelper.awaitTermination(executor);
+        }
+        assertTrue(executor.isTerminated());
+    }
+
+    public void test_waitForAll_firstFailure() {
+        // ## Arrange ##
+        FutureTask<String> first = new FutureTask<String>(() -> {
+            throw new SQLException("first");
+        });
+        first.run(); // failed
+        FutureTask<String> second = new FutureTask<String>(() -> "second"); // not started
+        List<Future<String>> futureList = new ArrayList<Future<String>>();
+        futureList.add(first);
+        futureList.add(second);
+
+        // ## Act ##
+        // ## Assert ##
+        assertException(SQLFailureException.class, () -> DfParallelJdbcHelper.waitForAll(futureList, "testing")).handle(cause -> {
+            assertContains(cause.getMessage(), "parallel testing");
+            assertEquals("first", cause.getCause().getMessage());
+        });
+        assertTrue(second.isCancelled());
+    }
+
+    // ===================================================================================
+    //                                                                         Data Source
+    //                                                                         ===========
+    public void test_findFittingDataSource_notFitting() {
+        assertNull(DfParallelJdbcHelper.findFittingDataSource(null));
+    }
+}
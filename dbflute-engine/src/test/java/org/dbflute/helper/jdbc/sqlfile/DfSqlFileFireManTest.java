@@ -0,0 +1,254 @@
+/*
+ * Copyright 2014-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.dbflute.helper.jdbc.sqlfile;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.lang.reflect.Proxy;
+import java.nio.file.Files;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.sql.DataSource;
+
+import org.dbflute.exception.SQLFailureException;
+import org.dbflute.helper.jdbc.DfRunnerInformation;
+import org.dbflute.helper.jdbc.connection.DfFittingDataSource;
+import org.dbflute.unit.EngineTestCase;
+import org.h2.jdbcx.JdbcDataSource;
+
+/**
+ * @author agent
+ * @since 1.2.3 (2026/10/19 Monday)
+ */
+public class DfSqlFileFireManTest extends EngineTestCase {
+
+    // ===================================================================================
+    //                                                                     Parallel Firing
+    //                                                                     ===============
+    public void test_fire_parallel_basic() throws Exception {
+        // ## Arrange ##
+        final List<File> sqlFileList = prepareSqlFileList("replace-schema-10-table.sql", "replace-schema-20-parallel-view.sql",
+                "replace-schema-21-parallel-index.sql", "replace-schema-30-grant.sql");
+        final Map<String, String> threadMap = new ConcurrentHashMap<String, String>();
+        final DfSqlFileFireMan fireMan = new DfSqlFileFireMan();
+        fireMan.acceptParallelFiring(2, createMockDataSource(), dedicatedDataSource -> createMockRunner(threadMap, null));
+
+        // ## Act ##
+        final DfSqlFileFireResult result = fireMan.fire(createMockRunner(threadMap, null), sqlFileList);
+
+        // ## Assert ##
+        assertNull(result.getBreakCause());
+        assertFalse(result.isExistsError());
+        final List<DfSqlFileRunnerResult> runnerResultList = result.getRunnerResultList();
+        assertEquals(4, runnerResultList.size());
+        for (int i = 0; i < sqlFileList.size(); i++) {
+            assertEquals(sqlFileList.get(i), runnerResultList.get(i).getSqlFile()); // in file order
+        }
+        final String mainThread = Thread.currentThread().getName();
+        assertEquals(mainThread, threadMap.get("replace-schema-10-table.sql"));
+        assertTrue(threadMap.get("replace-schema-20-parallel-view.sql").startsWith("dbflute-sqlfile-"));
+        assertTrue(threadMap.get("replace-schema-21-parallel-index.sql").startsWith("dbflute-sqlfile-"));
+        assertEquals(mainThread, threadMap.get("replace-schema-30-grant.sql"));
+        log(result.getResultMessage());
+    }
+
+    public void test_fire_parallel_breakCause() throws Exception {
+        // ## Arrange ##
+        final List<File> sqlFileList = prepareSqlFileList("take-finally-10-parallel-first.sql", "take-finally-11-parallel-second.sql",
+                "take-finally-20-third.sql");
+        final Map<String, String> threadMap = new ConcurrentHashMap<String, String>();
+        final DfSqlFileFireMan fireMan = new DfSqlFileFireMan();
+        final String breakFileName = "take-finally-10-parallel-first.sql";
+        fireMan.acceptParallelFiring(2, createMockDataSource(), dedicatedDataSource -> createMockRunner(threadMap, breakFileName));
+
+        // ## Act ##
+        final DfSqlFileFireResult result = fireMan.fire(createMockRunner(threadMap, null), sqlFileList);
+
+        // ## Assert ##
+        assertNotNull(result.getBreakCause());
+        assertTrue(result.isExistsError());
+        assertEquals(2, result.getRunnerResultList().size()); // parallel group only
+        assertFalse(threadMap.containsKey("take-finally-20-third.sql")); // stopped after the group
+        log(result.getDetailMessage());
+    }
+
+    public void test_fire_sequential_ifNoParallelism() throws Exception {
+        // ## Arrange ##
+        final List<File> sqlFileList = prepareSqlFileList("replace-schema-20-parallel-view.sql", "replace-schema-21-parallel-index.sql");
+        final Map<String, String> threadMap = new ConcurrentHashMap<String, String>();
+        final DfSqlFileFireMan fireMan = new DfSqlFileFireMan();
+        fireMan.acceptParallelFiring(1, createMockDataSource(), dedicatedDataSource -> createMockRunner(threadMap, null));
+
+        // ## Act ##
+        fireMan.fire(createMockRunner(threadMap, null), sqlFileList);
+
+        // ## Assert ##
+        final String mainThread = Thread.currentThread().getName();
+        assertEquals(mainThread, threadMap.get("replace-schema-20-parallel-view.sql"));
+        assertEquals(mainThread, threadMap.get("replace-schema-21-parallel-index.sql"));
+    }
+
+    public void test_fire_parallel_determiner() throws Exception {
+        // ## Arrange ##
+        final List<File> sqlFileList = prepareSqlFileList("MemberBhv_selectSea.sql", "MemberBhv_selectLand.sql",
+                "MemberBhv_updateSea.sql", "MemberBhv_selectPiari.sql");
+        final Map<String, String> threadMap = new ConcurrentHashMap<String, String>();
+        final DfSqlFileFireMan fireMan = new DfSqlFileFireMan();
+        fireMan.acceptParallelFiring(2, createMockDataSource(), dedicatedDataSource -> createMockRunner(threadMap, null));
+        fireMan.acceptParallelFileDeterminer(sqlFile -> sqlFile.getName().contains("_select"));
+
+        // ## Act ##
+        final DfSqlFileFireResult result = fireMan.fire(createMockRunner(threadMap, null), sqlFileList);
+
+        // ## Assert ##
+        assertFalse(result.isExistsError());
+        assertEquals(4, result.getRunnerResultList().size());
+        final String mainThread = Thread.currentThread().getName();
+        assertTrue(threadMap.get("MemberBhv_selectSea.sql").startsWith("dbflute-sqlfile-"));
+        assertTrue(threadMap.get("MemberBhv_selectLand.sql").startsWith("dbflute-sqlfile-"));
+        assertEquals(mainThread, threadMap.get("MemberBhv_updateSea.sql")); // not determined
+        assertEquals(mainThread, threadMap.get("MemberBhv_selectPiari.sql")); // single file in its group
+    }
+
+    public void test_fire_parallel_fixedLanes() throws Exception {
+        // ## Arrange ##
+        final List<File> sqlFileList = prepareSqlFileList("MemberBhv_selectSea.sql", "MemberBhv_selectLand.sql",
+                "MemberBhv_selectPiari.sql", "MemberBhv_selectBonvo.sql", "MemberBhv_selectDstore.sql", "MemberBhv_selectAmba.sql",
+                "MemberBhv_selectMiraco.sql", "MemberBhv_selectDohotel.sql", "MemberBhv_selectCeleb.sql", "MemberBhv_selectMagic.sql");
+        final Map<String, String> threadMap = new ConcurrentHashMap<String, String>();
+        final AtomicInteger createdCount = new AtomicInteger();
+        final Set<DataSource> laneSet = Collections.newSetFromMap(new ConcurrentHashMap<DataSource, Boolean>());
+        final DfFittingDataSource mockDataSource = createMockDataSource();
+        final DfSqlFileFireMan fireMan = new DfSqlFileFireMan();
+        fireMan.acceptParallelFiring(3, new DfFittingDataSource(null) {
+            @Override
+            public Connection newConnection() throws SQLException {
+                createdCount.incrementAndGet();
+                return mockDataSource.newConnection();
+            }
+        }, dedicatedDataSource -> {
+            laneSet.add(dedicatedDataSource);
+            return createMockRunner(threadMap, null);
+        });
+        fireMan.acceptParallelFileDeterminer(sqlFile -> true);
+
+        // ## Act ##
+        final DfSqlFileFireResult result = fireMan.fire(createMockRunner(threadMap, null), sqlFileList);
+
+        // ## Assert ##
+        assertFalse(result.isExistsError());
+        assertEquals(10, result.getRunnerResultList().size());
+        assertEquals(10, threadMap.size());
+        assertEquals(3, createdCount.get()); // not per file
+        log(laneSet);
+        assertTrue(laneSet.size() <= 3);
+    }
+
+    // ===================================================================================
+    //                                                                        Execute Time
+    //                                                                        ============
+    public void test_fire_executeMillis_executionOnly() throws Exception {
+        // ## Arrange ##
+        final List<File> sqlFileList = prepareSqlFileList("MemberBhv_selectSea.sql");
+        final JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:executemillis");
+        final DfRunnerInformation runInfo = new DfRunnerInformation();
+        runInfo.setRollbackOnly(true);
+        final DfSqlFileRunnerExecute runner = new DfSqlFileRunnerExecute(runInfo, dataSource) {
+            @Override
+            protected List<String> extractSqlList(BufferedReader br) { // without delimiter changer of properties
+                return newArrayList("select 1");
+            }
+
+            @Override
+            protected String filterSql(String sql) { // slow preparation, not execution
+                try {
+                    Thread.sleep(300L);
+                } catch (InterruptedException e) {
+                    throw new IllegalStateException(e);
+                }
+                return sql;
+            }
+        };
+
+        // ## Act ##
+        final DfSqlFileFireResult result = new DfSqlFileFireMan().fire(runner, sqlFileList);
+
+        // ## Assert ##
+        final DfSqlFileRunnerResult runnerResult = result.getRunnerResultList().get(0);
+        log("execute=" + runnerResult.getExecuteMillis());
+        assertEquals(1, runnerResult.getGoodSqlCount());
+        assertTrue(runnerResult.getExecuteMillis() >= 0L);
+        assertTrue(runnerResult.getExecuteMillis() < 300L);
+    }
+
+    // ===================================================================================
+    //                                                                         Test Helper
+    //                                                                         ===========
+    protected List<File> prepareSqlFileList(String... fileNames) throws Exception {
+        final File dir = Files.createTempDirectory("dbflute-firetest").toFile();
+        dir.deleteOnExit();
+        final List<File> sqlFileList = newArrayList();
+        for (String fileName : fileNames) {
+            final File sqlFile = new File(dir, fileName);
+            Files.write(sqlFile.toPath(), "select 1;".getBytes("UTF-8"));
+            sqlFile.deleteOnExit();
+            sqlFileList.add(sqlFile);
+        }
+        return sqlFileList;
+    }
+
+    protected DfFittingDataSource createMockDataSource() {
+        return new DfFittingDataSource(null) {
+            @Override
+            public Connection newConnection() throws SQLException {
+                return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] { Connection.class },
+                        (proxy, method, args) -> {
+                            return boolean.class.equals(method.getReturnType()) ? false : null;
+                        });
+            }
+        };
+    }
+
+    protected DfSqlFileRunner createMockRunner(Map<String, String> threadMap, String breakFileName) {
+        return new DfSqlFileRunner() {
+            protected File _sqlFile;
+
+            public void prepare(File sqlFile) {
+                _sqlFile = sqlFile;
+            }
+
+            public DfSqlFileRunnerResult runTransaction() {
+                threadMap.put(_sqlFile.getName(), Thread.currentThread().getName());
+                final DfSqlFileRunnerResult runnerResult = new DfSqlFileRunnerResult(_sqlFile);
+                runnerResult.setTotalSqlCount(1);
+                if (_sqlFile.getName().equals(breakFileName)) {
+                    runnerResult.setBreakCause(new SQLFailureException("mock", new SQLException("mock")));
+                } else {
+                    runnerResult.setGoodSqlCount(1);
+                }
+                return runnerResult;
+            }
+        };
+    }
+}
@@ -0,0 +1,180 @@
+/*
+ * Copyright 2014-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.dbflute.logic.doc.lreverse;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.sql.DataSource;
+
+import org.apache.torque.engine.database.model.Column;
+import org.apache.torque.engine.database.model.Table;
+import org.dbflute.helper.dataset.DfDataTable;
+import org.dbflute.helper.jdbc.connection.DfFittingDataSource;
+import org.dbflute.helper.jdbc.facade.DfJFadResultSetWrapper;
+import org.dbflute.helper.jdbc.facade.DfJFadStringConverter;
+import org.dbflute.unit.EngineTestCase;
+
+/**
+ * @author agent
+ * @since 1.2.3 (2026/10/19 Monday)
+ */
+public class DfLReverseOutputHandlerTest extends EngineTestCase {
+
+    // ===================================================================================
+    //                                                                            Xls Data
+    //                                                                            ========
+    public void test_setupXlsDataTable_streamingPerTable() {
+        // ## Arrange ##
+        DfLReverseOutputHandler handler = new DfLReverseOutputHandler(null);
+        handler.setContainsCommonColumn(true); // no common column properties here
+        handler.setXlsLimit(5);
+        AtomicInteger memberNextCount = new AtomicInteger();
+        AtomicInteger purchaseNextCount = new AtomicInteger();
+
+        // ## Act ##
+        DfDataTable memberTable = handler.setupXlsDataTable(createTable("MEMBER", "MEMBER_ID", "MEMBER_NAME"),
+                createCursorResult(100, memberNextCount), -1, "MEMBER").getDataTable();
+        DfDataTable purchaseTable = handler.setupXlsDataTable(createTable("PURCHASE", "PURCHASE_ID"),
+                createCursorResult(3, purchaseNextCount), 2, "PURCHASE").getDataTable();
+
+        // ## Assert ##
+        assertEquals(5, memberTable.getRowSize()); // xls limit
+        assertEquals(5, memberNextCount.get()); // not read rest of rows
+        assertEquals("MEMBER_ID1", memberTable.getRow(0).getValue("MEMBER_ID"));
+        assertEquals("MEMBER_NAME5", memberTable.getRow(4).getValue("MEMBER_NAME"));
+        assertEquals(2, purchaseTable.getRowSize()); // extracting limit
+        assertEquals(2, purchaseNextCount.get());
+        assertEquals("PURCHASE_ID2", purchaseTable.getRow(1).getValue("PURCHASE_ID"));
+    }
+
+    // ===================================================================================
+    //                                                                    Table Processing
+    //                                                                    ================
+    public void test_processTable_parallel() {
+        // ## Arrange ##
+        AtomicInteger createdCount = new AtomicInteger();
+        DfLReverseOutputHandler handler = new DfLReverseOutputHandler(createMockDataSource(createdCount));
+        handler.setExtractingParallelism(3);
+        List<Table> tableList = new ArrayList<Table>();
+        for (int i = 1; i <= 10; i++) {
+            tableList.add(createTable("SEA_" + i, "SEA_ID"));
+        }
+        Set<DataSource> laneSet = Collections.newSetFromMap(new ConcurrentHashMap<DataSource, Boolean>());
+
+        // ## Act ##
+        List<String> resultList = handler.processTable(tableList, (table, tableIndex, dataSource) -> {
+            laneSet.add(dataSource);
+            sleep(20L); // to be overlapped
+            return tableIndex + ":" + table.getName() + "@" + Thread.currentThread().getName();
+        });
+
+        // ## Assert ##
+        log(resultList);
+        assertEquals(10, resultList.size());
+        for (int i = 0; i < resultList.size(); i++) {
+            String result = resultList.get(i);
+            assertTrue(result, result.startsWith(i + ":SEA_" + (i + 1) + "@dbflute-lreverse-")); // in table order
+        }
+        assertEquals(3, createdCount.get());
+        assertEquals(3, laneSet.size());
+    }
+
+    public void test_processTable_sequential() {
+        // ## Arrange ##
+        AtomicInteger createdCount = new AtomicInteger();
+        DfFittingDataSource dataSource = createMockDataSource(createdCount);
+        DfLReverseOutputHandler handler = new DfLReverseOutputHandler(dataSource);
+        List<Table> tableList = newArrayList(createTable("SEA", "SEA_ID"), createTable("LAND", "LAND_ID"));
+
+        // ## Act ##
+        List<String> resultList = handler.processTable(tableList, (table, tableIndex, processedDataSource) -> {
+            assertSame(dataSource, processedDataSource);
+            return table.getName() + "@" + Thread.currentThread().getName();
+        });
+
+        // ## Assert ##
+        String mainThread = Thread.currentThread().getName();
+        assertEquals(newArrayList("SEA@" + mainThread, "LAND@" + mainThread), resultList);
+        assertEquals(0, createdCount.get());
+    }
+
+    // ===================================================================================
+    //                                                                         Test Helper
+    //                                                                         ===========
+    protected Table createTable(String tableName, String... columnNames) {
+        Table table = new Table() {
+            @Override
+            public String getTableDispName() { // no little adjustment properties here
+                return getName();
+            }
+        };
+        table.setName(tableName);
+        for (String columnName : columnNames) {
+            Column column = new Column();
+            column.setName(columnName);
+            table.addColumn(column);
+        }
+        return table;
+    }
+
+    protected DfLReverseDataResult createCursorResult(int rowCount, AtomicInteger nextCount) {
+        return new DfLReverseDataResult(handler -> {
+            int[] rowNumber = new int[] { 0 };
+            ResultSet rs = (ResultSet) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] { ResultSet.class },
+                    (proxy, method, args) -> {
+                        if ("next".equals(method.getName())) {
+                            nextCount.incrementAndGet();
+                            return ++rowNumber[0] <= rowCount;
+                        } else if ("getString".equals(method.getName())) {
+                            return args[0] + String.valueOf(rowNumber[0]);
+                        }
+                        throw new IllegalStateException("Unexpected call: " + method);
+                    });
+            handler.handle(new DfJFadResultSetWrapper(rs, new HashMap<>(), (DfJFadStringConverter) null));
+        }, false);
+    }
+
+    protected DfFittingDataSource createMockDataSource(AtomicInteger createdCount) {
+        return new DfFittingDataSource(null) {
+            @Override
+            public Connection newConnection() throws SQLException {
+                createdCount.incrementAndGet();
+                return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] { Connection.class },
+                        (proxy, method, args) -> {
+                            return boolean.class.equals(method.getReturnType()) ? false : null;
+                        });
+            }
+        };
+    }
+
+    protected void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2014-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.dbflute.logic.doc.lreverse;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.dbflute.unit.EngineTestCase;
+
+/**
+ * @author agent
+ * @since 1.2.3 (2026/10/19 Monday)
+ */
+public class DfTableOrderAnalyzerTest extends EngineTestCase {
+
+    // ===================================================================================
+    //                                                                    Dependency Level
+    //                                                                    ================
+    public void test_analyzeDependencyLevel_basic() throws Exception {
+        // ## Arrange ##
+        Map<String, Set<String>> parentNameMap = new LinkedHashMap<String, Set<String>>();
+        parentNameMap.put("MEMBER", toSet("MEMBER_STATUS", "MEMBER")); // self reference
+        parentNameMap.put("MEMBER_LOGIN", toSet("MEMBER", "MEMBER_STATUS"));
+        parentNameMap.put("MEMBER_STATUS", toSet());
+        parentNameMap.put("PRODUCT", toSet("PRODUCT_CATEGORY")); // parent without data
+        parentNameMap.put("PURCHASE", toSet("MEMBER", "PRODUCT"));
+        List<String> cyclicNameList = new ArrayList<String>();
+
+        // ## Act ##
+        List<List<String>> levelList = new DfTableOrderAnalyzer().analyzeDependencyLevel(parentNameMap, cyclicNameList);
+
+        // ## Assert ##
+        log(levelList);
+        assertEquals(3, levelList.size());
+        assertEquals(Arrays.asList("MEMBER_STATUS", "PRODUCT"), levelList.get(0));
+        assertEquals(Arrays.asList("MEMBER"), levelList.get(1));
+        assertEquals(Arrays.asList("MEMBER_LOGIN", "PURCHASE"), levelList.get(2));
+        assertTrue(cyclicNameList.isEmpty());
+    }
+
+    public void test_analyzeDependencyLevel_cyclic() throws Exception {
+        // ## Arrange ##
+        Map<String, Set<String>> parentNameMap = new LinkedHashMap<String, Set<String>>();
+        parentNameMap.put("SEA", toSet("LAND"));
+        parentNameMap.put("LAND", toSet("SEA"));
+        parentNameMap.put("PIARI", toSet("SEA"));
+        parentNameMap.put("BONVO", toSet());
+        List<String> cyclicNameList = new ArrayList<String>();
+
+        // ## Act ##
+        List<List<String>> levelList = new DfTableOrderAnalyzer().analyzeDependencyLevel(parentNameMap, cyclicNameList);
+
+        // ## Assert ##
+        log(levelList, cyclicNameList);
+        assertEquals(1, levelList.size());
+        assertEquals(Arrays.asList("BONVO"), levelList.get(0));
+        assertEquals(Arrays.asList("SEA", "LAND", "PIARI"), cyclicNameList);
+    }
+
+    protected Set<String> toSet(String... names) {
+        return new LinkedHashSet<String>(Arrays.asList(names));
+    }
+}
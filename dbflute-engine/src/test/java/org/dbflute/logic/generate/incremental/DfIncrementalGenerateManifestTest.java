@@ -0,0 +1,153 @@
+/*
+ * Copyright 2014-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.dbflute.logic.generate.incremental;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import org.apache.torque.engine.database.model.Table;
+import org.dbflute.unit.EngineTestCase;
+
+/**
+ * @author agent
+ * @since 1.2.3 (2026/10/19 Monday)
+ */
+public class DfIncrementalGenerateManifestTest extends EngineTestCase {
+
+    public void test_manifest_unchanged_basic() throws IOException {
+        // ## Arrange ##
+        File workDir = Files.createTempDirectory("dbflute-incremental").toFile();
+        File schemaXml = writeFile(new File(workDir, "schema.xml"), "<database name=\"sea\"/>");
+        File output = writeFile(new File(workDir, "BsSea.java"), "class BsSea {}");
+        File manifestFile = new File(workDir, "manifest.properties");
+        String outputPath = output.getPath();
+
+        DfIncrementalGenerateFingerprinter fingerprinter = new DfIncrementalGenerateFingerprinter(schemaXml);
+        DfIncrementalGenerateManifest first = new DfIncrementalGenerateManifest(manifestFile, "base", fingerprinter);
+        first.load();
+        String fingerprint = first.buildFingerprint("BsEntity.vm", null);
+        assertFalse(first.isUnchanged(outputPath, fingerprint));
+        first.register(outputPath, fingerprint);
+        first.save();
+
+        // ## Act ##
+        DfIncrementalGenerateManifest second = new DfIncrementalGenerateManifest(manifestFile, "base", fingerprinter);
+        second.load();
+
+        // ## Assert ##
+        assertTrue(second.isUnchanged(outputPath, fingerprint));
+        assertFalse(second.isUnchanged(outputPath, second.buildFingerprint("BsBhv.vm", null)));
+        assertFalse(manifestFile.exists()); // deleted until generation succeeds
+    }
+
+    public void test_manifest_changed_base() throws IOException {
+        // ## Arrange ##
+        File workDir = Files.createTempDirectory("dbflute-incremental").toFile();
+        File schemaXml = writeFile(new File(workDir, "schema.xml"), "<database name=\"sea\"/>");
+        File output = writeFile(new File(workDir, "BsSea.java"), "class BsSea {}");
+        File manifestFile = new File(workDir, "manifest.properties");
+        String outputPath = output.getPath();
+
+        DfIncrementalGenerateFingerprinter fingerprinter = new DfIncrementalGenerateFingerprinter(schemaXml);
+        DfIncrementalGenerateManifest first = new DfIncrementalGenerateManifest(manifestFile, "base", fingerprinter);
+        String fingerprint = first.buildFingerprint("BsEntity.vm", null);
+        first.register(outputPath, fingerprint);
+        first.save();
+
+        // ## Act ##
+        DfIncrementalGenerateManifest second = new DfIncrementalGenerateManifest(manifestFile, "changed", fingerprinter);
+        second.load();
+
+        // ## Assert ##
+        assertFalse(second.isUnchanged(outputPath, fingerprint));
+    }
+
+    public void test_fingerprinter_schemaXml_changed() throws IOException {
+        // ## Arrange ##
+        File workDir = Files.createTempDirectory("dbflute-incremental").toFile();
+        File schemaXml = writeFile(new File(workDir, "schema.xml"), "<database name=\"sea\"/>");
+        String before = new DfIncrementalGenerateFingerprinter(schemaXml).findModelFingerprint(null);
+
+        // ## Act ##
+        writeFile(schemaXml, "<database name=\"land\"/>");
+        String after = new DfIncrementalGenerateFingerprinter(schemaXml).findModelFingerprint(null);
+
+        // ## Assert ##
+        log(before, after);
+        assertFalse(before.equals(after));
+    }
+
+    public void test_fingerprinter_tableElement_changed() throws IOException {
+        // ## Arrange ##
+        File workDir = Files.createTempDirectory("dbflute-incremental").toFile();
+        String memberStatus = "<table name=\"MEMBER_STATUS\" type=\"TABLE\">"
+                + "<column name=\"MEMBER_STATUS_CODE\" dbType=\"CHAR\" size=\"3\" primaryKey=\"true\" pkName=\"PK_MEMBER_STATUS\"/></table>";
+        String member = "<table name=\"MEMBER\" type=\"TABLE\">\n"
+                + "  <column name=\"MEMBER_ID\" dbType=\"INTEGER\" primaryKey=\"true\" pkName=\"PK_MEMBER\" pkPosition=\"1\"/>\n"
+                + "  <column name=\"MEMBER_NAME\" dbType=\"VARCHAR\" size=\"200\"/>\n</table>";
+        File schemaXml = writeFile(new File(workDir, "schema.xml"), "<database name=\"sea\">" + memberStatus + member + "</database>");
+        Table memberTable = createTable("MEMBER");
+        Table statusTable = createTable("MEMBER_STATUS");
+        DfIncrementalGenerateFingerprinter basic = new DfIncrementalGenerateFingerprinter(schemaXml);
+        String memberBefore = basic.findModelFingerprint(memberTable);
+        String statusBefore = basic.findModelFingerprint(statusTable);
+
+        // ## Act ##
+        // ## Assert ##
+        assertEquals(memberBefore, new DfIncrementalGenerateFingerprinter(schemaXml).findModelFingerprint(memberTable));
+        assertFalse(memberBefore.equals(statusBefore));
+        String[] changedMembers = { member.replace("pkName=\"PK_MEMBER\"", "pkName=\"PK_MEMBER_ID\""), // PK name
+                member.replace("pkPosition=\"1\"", "pkPosition=\"2\""), // PK position
+                member.replace("size=\"200\"", "size=\"300\""), // column size
+                member.replace("<column name=\"MEMBER_NAME\"", "<column comment=\"sea\" name=\"MEMBER_NAME\"") // added
+        };
+        for (String changedMember : changedMembers) {
+            writeFile(schemaXml, "<database name=\"sea\">" + memberStatus + changedMember + "</database>");
+            DfIncrementalGenerateFingerprinter changed = new DfIncrementalGenerateFingerprinter(schemaXml);
+            log(changedMember);
+            assertFalse(memberBefore.equals(changed.findModelFingerprint(memberTable)));
+            assertEquals(statusBefore, changed.findModelFingerprint(statusTable)); // not related
+        }
+        writeFile(schemaXml, "<database name=\"sea\">\n" + memberStatus + "\n" + member.replace("\n", "\n  ") + "</database>");
+        assertEquals(memberBefore, new DfIncrementalGenerateFingerprinter(schemaXml).findModelFingerprint(memberTable)); // indent only
+    }
+
+    public void test_fingerprinter_tableElement_notFound() throws IOException {
+        // ## Arrange ##
+        File workDir = Files.createTempDirectory("dbflute-incremental").toFile();
+        File schemaXml = writeFile(new File(workDir, "schema.xml"), "<database name=\"sea\"><table name=\"MEMBER\"/></database>");
+        DfIncrementalGenerateFingerprinter fingerprinter = new DfIncrementalGenerateFingerprinter(schemaXml);
+
+        // ## Act ##
+        String fingerprint = fingerprinter.findModelFingerprint(createTable("PURCHASE"));
+
+        // ## Assert ##
+        assertEquals(fingerprinter.findModelFingerprint(null), fingerprint); // as whole schema
+    }
+
+    protected Table createTable(String tableName) {
+        Table table = new Table();
+        table.setName(tableName);
+        return table;
+    }
+
+    protected File writeFile(File file, String content) throws IOException {
+        Files.write(file.toPath(), content.getBytes(StandardCharsets.UTF_8));
+        return file;
+    }
+}
@@ -15,7 +15,30 @@
  */
 package org.dbflute.logic.replaceschema.loaddata.impl;
 
-import org.dbflute.logic.replaceschema.loaddata.impl.DfDelimiterDataHandlerImpl;
+import java.io.IOException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+import javax.sql.DataSource;
+
+import org.dbflute.exception.DfDelimiterDataRegistrationFailureException;
+import org.dbflute.helper.jdbc.connection.DfFittingDataSource;
+import org.dbflute.logic.doc.lreverse.DfTableOrderAnalyzer;
+import org.dbflute.logic.replaceschema.loaddata.DfDelimiterDataResource;
+import org.dbflute.logic.replaceschema.loaddata.DfDelimiterDataResultInfo;
+import org.dbflute.logic.replaceschema.loaddata.DfLoadedDataInfo;
+import org.dbflute.logic.replaceschema.loaddata.DfLoadedFile;
+import org.dbflute.logic.replaceschema.loaddata.impl.DfDelimiterDataHandlerImpl.DfDelimiterDataWritingContext;
 import org.dbflute.unit.EngineTestCase;
 
 /**
@@ -30,4 +53,227 @@ public class DfDelimiterDataHandlerImplTest extends EngineTestCase {
         assertFalse(target.isUnsupportedEncodingDirectory("Windows-31J"));
         assertTrue(target.isUnsupportedEncodingDirectory("UTF-8sss"));
     }
+
+    public void test_extractTableDbName() throws Exception {
+        final DfDelimiterDataHandlerImpl target = new DfDelimiterDataHandlerImpl();
+        assertEquals("MEMBER", target.extractTableDbName("MEMBER.tsv"));
+        assertEquals("MEMBER_STATUS", target.extractTableDbName("01-MEMBER_STATUS.tsv"));
+        assertEquals("MEMBER-LOGIN", target.extractTableDbName("cyclic-MEMBER-LOGIN.csv"));
+    }
+
+    public void test_isParallelLoadingAvailable_default() throws Exception {
+        final DfDelimiterDataHandlerImpl target = new DfDelimiterDataHandlerImpl();
+        assertFalse(target.isParallelLoadingAvailable());
+        target.setLoadDataParallelism(4);
+        assertFalse(target.isParallelLoadingAvailable()); // no data source
+    }
+
+    // ===================================================================================
+    //                                                                    Parallel Loading
+    //                                                                    ================
+    public void test_writeDataInParallel_byForeignKeyLevel() throws Exception {
+        // ## Arrange ##
+        MockParallelLoadingHandler handler = new MockParallelLoadingHandler(null);
+        handler.addTable("MEMBER_STATUS");
+        handler.addTable("PRODUCT");
+        handler.addTable("MEMBER", "MEMBER_STATUS");
+        handler.addTable("PURCHASE", "MEMBER", "PRODUCT");
+        SortedSet<String> fileNameSet = new TreeSet<String>();
+        fileNameSet.add("01-MEMBER_STATUS.tsv");
+        fileNameSet.add("02-MEMBER.tsv");
+        fileNameSet.add("03-PRODUCT.tsv");
+        fileNameSet.add("04-PURCHASE.tsv");
+        fileNameSet.add("05-MEMBER.tsv"); // same table in same lane
+        DfDelimiterDataResultInfo resultInfo = new DfDelimiterDataResultInfo();
+        DfLoadedDataInfo loadedDataInfo = new DfLoadedDataInfo();
+
+        // ## Act ##
+        handler.writeDataInParallel(handler.createContext(), fileNameSet, resultInfo, loadedDataInfo);
+
+        // ## Assert ##
+        log(handler.eventList);
+        assertParentLoadedBefore(handler, "MEMBER", "MEMBER_STATUS");
+        assertParentLoadedBefore(handler, "PURCHASE", "MEMBER");
+        assertParentLoadedBefore(handler, "PURCHASE", "PRODUCT");
+        assertTrue(handler.eventList.indexOf("end:02-MEMBER.tsv") < handler.eventList.indexOf("begin:05-MEMBER.tsv"));
+        List<String> loadedNameList = new ArrayList<String>();
+        for (DfLoadedFile loadedFile : loadedDataInfo.getLoadedFileList()) {
+            loadedNameList.add(loadedFile.getFileName());
+        }
+        assertEquals(new ArrayList<String>(fileNameSet), loadedNameList); // same order as sequential loading
+        assertEquals(fileNameSet.size(), resultInfo.getLoadedMetaMap().get("/tmp/data/UTF-8").size());
+        assertEquals(0, handler.countLaneEvent("rollback"));
+        assertLaneFinishedBy(handler, "commit");
+    }
+
+    public void test_writeDataInParallel_failure_waitRunningAndRollback() throws Exception {
+        // ## Arrange ##
+        MockParallelLoadingHandler handler = new MockParallelLoadingHandler("BROKEN");
+        handler.addTable("MEMBER_STATUS");
+        handler.addTable("BROKEN");
+        handler.addTable("MEMBER", "MEMBER_STATUS", "BROKEN");
+        SortedSet<String> fileNameSet = new TreeSet<String>();
+        fileNameSet.add("BROKEN.tsv");
+        fileNameSet.add("MEMBER.tsv");
+        fileNameSet.add("MEMBER_STATUS.tsv");
+
+        // ## Act ##
+        try {
+            handler.writeDataInParallel(handler.createContext(), fileNameSet, new DfDelimiterDataResultInfo(), new DfLoadedDataInfo());
+            // ## Assert ##
+            fail();
+        } catch (DfDelimiterDataRegistrationFailureException e) {
+            log(e.getMessage());
+        }
+        log(handler.eventList);
+        log(handler.laneEventList);
+        assertTrue(handler.eventList.contains("end:MEMBER_STATUS.tsv")); // sibling of failure finished
+        assertFalse(handler.eventList.contains("begin:MEMBER.tsv")); // next level not started
+        assertLaneFinishedBy(handler, "rollback");
+    }
+
+    protected void assertLaneFinishedBy(MockParallelLoadingHandler handler, String lastMethodName) {
+        final List<String> eventList = handler.laneEventList;
+        assertTrue(handler.countLaneEvent("close") > 0);
+        for (int i = 0; i < eventList.size(); i++) {
+            String event = eventList.get(i);
+            if (event.startsWith("close:")) {
+                String laneId = event.substring("close:".length());
+                String lastEvent = null;
+                for (int j = 0; j < i; j++) {
+                    if (eventList.get(j).endsWith(":" + laneId)) {
+                        lastEvent = eventList.get(j);
+                    }
+                }
+                assertEquals(lastMethodName + ":" + laneId, lastEvent);
+            }
+        }
+    }
+
+    protected void assertParentLoadedBefore(MockParallelLoadingHandler handler, String tableDbName, String parentDbName) {
+        int parentEnd = -1;
+        int childBegin = Integer.MAX_VALUE;
+        for (int i = 0; i < handler.eventList.size(); i++) {
+            String event = handler.eventList.get(i);
+            if (event.startsWith("end:") && handler.extractTableDbName(event.substring("end:".length())).equals(parentDbName)) {
+                parentEnd = Math.max(parentEnd, i);
+            } else if (event.startsWith("begin:")
+                    && handler.extractTableDbName(event.substring("begin:".length())).equals(tableDbName)) {
+                childBegin = Math.min(childBegin, i);
+            }
+        }
+        assertTrue(tableDbName + " before " + parentDbName, parentEnd < childBegin);
+    }
+
+    protected static class MockParallelLoadingHandler extends DfDelimiterDataHandlerImpl {
+
+        protected final String _brokenTableDbName;
+        protected final Map<String, Set<String>> _parentNameMap = new LinkedHashMap<String, Set<String>>();
+        protected final List<String> eventList = Collections.synchronizedList(new ArrayList<String>());
+        protected final List<String> laneEventList = Collections.synchronizedList(new ArrayList<String>());
+
+        public MockParallelLoadingHandler(String brokenTableDbName) {
+            _brokenTableDbName = brokenTableDbName;
+            setLoadDataParallelism(3);
+            setDataSource(new DfFittingDataSource(null) {
+                @Override
+                public Connection newConnection() {
+                    return createLaneConnection();
+                }
+            });
+        }
+
+        public void addTable(String tableDbName, String... parentNames) {
+            final Set<String> parentSet = new LinkedHashSet<String>();
+            for (String parentName : parentNames) {
+                parentSet.add(parentName);
+            }
+            _parentNameMap.put(tableDbName, parentSet);
+        }
+
+        public DfDelimiterDataWritingContext createContext() {
+            final DfDelimiterDataResource resource = new DfDelimiterDataResource();
+            resource.setLoadType("ut");
+            resource.setBasePath("/tmp/data");
+            resource.setFileType("tsv");
+            resource.setDelimiter("\t");
+            return new DfDelimiterDataWritingContext(resource, "UTF-8", "/tmp/data/UTF-8", null, null);
+        }
+
+        public int countLaneEvent(String prefix) {
+            int count = 0;
+            for (String laneEvent : laneEventList) {
+                if (laneEvent.startsWith(prefix)) {
+                    ++count;
+                }
+            }
+            return count;
+        }
+
+        @Override
+        protected List<List<String>> analyzeLoadingLevel(Map<String, List<String>> tableFileMap, List<String> cyclicNameList) {
+            final Map<String, Set<String>> parentNameMap = new LinkedHashMap<String, Set<String>>();
+            for (String tableDbName : tableFileMap.keySet()) { // instead of foreign key meta data
+                parentNameMap.put(tableDbName, _parentNameMap.get(tableDbName));
+            }
+            return new DfTableOrderAnalyzer().analyzeDependencyLevel(parentNameMap, cyclicNameList);
+        }
+
+        @Override
+        protected DfDelimiterDataWriterImpl createDelimiterDataWriter(DfDelimiterDataWritingContext context, String fileName,
+                DataSource dataSource) {
+            final String tableDbName = extractTableDbName(fileName);
+            final DfDelimiterDataWriterImpl writer = new DfDelimiterDataWriterImpl(dataSource, null) {
+                @Override
+                public void writeData(DfDelimiterDataResultInfo resultInfo) throws IOException {
+                    eventList.add("begin:" + fileName);
+                    try {
+                        final Connection conn = _dataSource.getConnection();
+                        conn.setAutoCommit(false);
+                        Thread.sleep(tableDbName.equals(_brokenTableDbName) ? 20L : 200L); // sibling is still running when broken
+                        if (tableDbName.equals(_brokenTableDbName)) {
+                            conn.rollback(); // as real writer
+                            throw new DfDelimiterDataRegistrationFailureException("broken: " + fileName);
+                        }
+                        conn.commit(); // fails if the lane is closed under loading
+                    } catch (InterruptedException | SQLException e) {
+                        throw new IllegalStateException(e);
+                    }
+                    resultInfo.registerLoadedMeta(context.getDataDirectory(), context.toFileNamePath(fileName), 1);
+                    eventList.add("end:" + fileName);
+                }
+            };
+            writer.setFileName(context.toFileNamePath(fileName));
+            return writer;
+        }
+
+        protected Connection createLaneConnection() {
+            final boolean[] autoCommit = new boolean[] { true };
+            final boolean[] closed = new boolean[] { false };
+            return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] { Connection.class },
+                    (proxy, method, args) -> {
+                        final String methodName = method.getName();
+                        if (closed[0]) {
+                            throw new SQLException("Already closed: " + methodName);
+                        }
+                        if (methodName.equals("getAutoCommit")) {
+                            return autoCommit[0];
+                        } else if (methodName.equals("setAutoCommit")) {
+                            autoCommit[0] = (Boolean) args[0];
+                            return null;
+                        } else if (methodName.equals("commit") || methodName.equals("rollback") || methodName.equals("close")) {
+                            closed[0] = methodName.equals("close");
+                            laneEventList.add(methodName + ":" + System.identityHashCode(proxy));
+                            return null;
+                        } else if (methodName.equals("toString")) {
+                            return "lane" + System.identityHashCode(proxy);
+                        } else if (methodName.equals("hashCode")) {
+                            return System.identityHashCode(proxy);
+                        } else if (methodName.equals("equals")) {
+                            return proxy == args[0];
+                        }
+                        throw new UnsupportedOperationException(methodName);
+                    });
+        }
+    }
 }
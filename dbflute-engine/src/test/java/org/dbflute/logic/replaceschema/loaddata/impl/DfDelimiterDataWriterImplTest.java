@@ -0,0 +1,119 @@
+/*
+ * Copyright 2014-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.dbflute.logic.replaceschema.loaddata.impl;
+
+import java.io.BufferedReader;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.dbflute.logic.replaceschema.loaddata.impl.DfDelimiterDataWriterImpl.DfDelimiterRecordPipeline;
+import org.dbflute.logic.replaceschema.loaddata.impl.DfDelimiterDataWriterImpl.DfDelimiterRecordReader;
+import org.dbflute.unit.EngineTestCase;
+
+/**
+ * @author agent
+ * @since 1.2.3 (2026/10/19 Monday)
+ */
+public class DfDelimiterDataWriterImplTest extends EngineTestCase {
+
+    // ===================================================================================
+    //                                                                       Record Reader
+    //                                                                       =============
+    public void test_readRecord_basic() throws Exception {
+        // ## Arrange ##
+        DfDelimiterDataWriterImpl writer = createWriter();
+        String text = "1\tsea\tmystic\n2\t\"land\noneman\"\tpiari\n3\t\"bon\nvo\nya\"\t\n4\t\"dstore";
+        DfDelimiterRecordReader reader = writer.new DfDelimiterRecordReader(new BufferedReader(new StringReader(text)));
+
+        // ## Act ##
+        List<List<String>> recordList = readAll(reader, null);
+
+        // ## Assert ##
+        log(recordList);
+        assertEquals(3, recordList.size()); // continued record at the end is ignored
+        assertEquals(newArrayList("1", "sea", "mystic"), recordList.get(0));
+        assertEquals(newArrayList("2", "land\noneman", "piari"), recordList.get(1));
+        assertEquals(newArrayList("3", "bon\nvo\nya", ""), recordList.get(2));
+    }
+
+    public void test_takeRecord_sameAsReader() throws Exception {
+        // ## Arrange ##
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 3000; i++) { // over queue capacity
+            sb.append(i).append("\tsea").append(i).append(i % 7 == 0 ? "\t\"land\nmulti\"" : "\tland").append("\n");
+        }
+        String text = sb.toString();
+        DfDelimiterDataWriterImpl writer = createWriter();
+        DfDelimiterRecordReader sequentialReader = writer.new DfDelimiterRecordReader(new BufferedReader(new StringReader(text)));
+        DfDelimiterRecordReader pipelineReader = writer.new DfDelimiterRecordReader(new BufferedReader(new StringReader(text)));
+        DfDelimiterRecordPipeline pipeline = writer.new DfDelimiterRecordPipeline(pipelineReader, "SEA");
+
+        // ## Act ##
+        List<List<String>> expectedList = readAll(sequentialReader, null);
+        pipeline.start();
+        List<List<String>> actualList;
+        try {
+            actualList = readAll(null, pipeline);
+        } finally {
+            pipeline.stop();
+        }
+
+        // ## Assert ##
+        assertEquals(3000, expectedList.size());
+        assertEquals(expectedList, actualList);
+    }
+
+    public void test_stop_beforeEnd() throws Exception {
+        // ## Arrange ##
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 5000; i++) {
+            sb.append(i).append("\tsea\n");
+        }
+        DfDelimiterDataWriterImpl writer = createWriter();
+        BufferedReader br = new BufferedReader(new StringReader(sb.toString()));
+        DfDelimiterRecordPipeline pipeline = writer.new DfDelimiterRecordPipeline(writer.new DfDelimiterRecordReader(br), "SEA");
+        pipeline.start();
+        List<String> valueList = new ArrayList<String>();
+        assertTrue(pipeline.takeRecord(valueList));
+
+        // ## Act ##
+        pipeline.stop(); // e.g. registration failure
+
+        // ## Assert ##
+        assertEquals(newArrayList("0", "sea"), valueList);
+        assertFalse(pipeline._parserThread.isAlive());
+    }
+
+    protected DfDelimiterDataWriterImpl createWriter() {
+        DfDelimiterDataWriterImpl writer = new DfDelimiterDataWriterImpl(null, null);
+        writer.setDelimiter("\t");
+        return writer;
+    }
+
+    protected List<List<String>> readAll(DfDelimiterRecordReader reader, DfDelimiterRecordPipeline pipeline) throws Exception {
+        List<List<String>> recordList = new ArrayList<List<String>>();
+        while (true) {
+            List<String> valueList = new ArrayList<String>();
+            boolean exists = reader != null ? reader.readRecord(valueList) : pipeline.takeRecord(valueList);
+            if (!exists) {
+                break;
+            }
+            recordList.add(valueList);
+        }
+        return recordList;
+    }
+}
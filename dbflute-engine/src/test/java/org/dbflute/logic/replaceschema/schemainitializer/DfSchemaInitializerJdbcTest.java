@@ -0,0 +1,209 @@
+/*
+ * Copyright 2014-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.dbflute.logic.replaceschema.schemainitializer;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import org.apache.torque.engine.database.model.UnifiedSchema;
+
+import org.dbflute.helper.jdbc.connection.DfFittingDataSource;
+import org.dbflute.logic.jdbc.metadata.info.DfTableMeta;
+import org.dbflute.unit.EngineTestCase;
+import org.h2.jdbcx.JdbcDataSource;
+
+/**
+ * @author agent
+ * @since 1.2.3 (2026/10/19 Monday)
+ */
+public class DfSchemaInitializerJdbcTest extends EngineTestCase {
+
+    // ===================================================================================
+    //                                                                     Recreate Schema
+    //                                                                     ===============
+    public void test_isRecreateSchemaAvailable_basic() throws Exception {
+        // ## Arrange ##
+        final DfSchemaInitializerJdbc initializer = new DfSchemaInitializerJdbc() {
+            @Override
+            protected boolean isRecreateSchemaSupported() {
+                return true;
+            }
+        };
+
+        // ## Act ##
+        // ## Assert ##
+        assertFalse(initializer.isRecreateSchemaAvailable()); // not option
+        initializer.setRecreateSchemaIfPossible(true);
+        assertTrue(initializer.isRecreateSchemaAvailable());
+        initializer.setDropTableExceptList(Arrays.asList("prefix:MEMBER"));
+        assertFalse(initializer.isRecreateSchemaAvailable()); // should remain
+        initializer.setDropTableExceptList(null);
+        initializer.setSuppressDropSequence(true);
+        assertFalse(initializer.isRecreateSchemaAvailable()); // should remain
+        initializer.setSuppressDropSequence(false);
+        initializer.setDropObjectTypeList(Arrays.asList("TABLE"));
+        initializer.setDropObjectTypeRestricted(true);
+        assertFalse(initializer.isRecreateSchemaAvailable()); // e.g. views should remain
+    }
+
+    public void test_isRecreateSchemaAvailable_unsupported() throws Exception {
+        // ## Arrange ##
+        final DfSchemaInitializerJdbc initializer = new DfSchemaInitializerJdbc();
+        initializer.setRecreateSchemaIfPossible(true);
+
+        // ## Act ##
+        // ## Assert ##
+        assertFalse(initializer.isRecreateSchemaAvailable());
+    }
+
+    public void test_recreateSchema_H2() throws Exception {
+        // ## Arrange ##
+        final JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:recreateschema;DB_CLOSE_DELAY=-1");
+        final DfSchemaInitializerH2 initializer = new DfSchemaInitializerH2();
+        initializer.setDataSource(dataSource);
+        initializer.setUnifiedSchema(new UnifiedSchema(null, "RECREATE_SEA") {
+            @Override
+            protected boolean isCompletelyUnsupportedDBMS() {
+                return false;
+            }
+        });
+        initializer.setRecreateSchemaIfPossible(true);
+        try (Connection conn = dataSource.getConnection(); Statement st = conn.createStatement()) {
+            st.execute("create schema RECREATE_SEA");
+            st.execute("create table RECREATE_SEA.MEMBER_STATUS (MEMBER_STATUS_CODE char(3) primary key)");
+            st.execute("create table RECREATE_SEA.MEMBER (MEMBER_ID integer primary key, MEMBER_STATUS_CODE char(3)"
+                    + ", foreign key (MEMBER_STATUS_CODE) references RECREATE_SEA.MEMBER_STATUS (MEMBER_STATUS_CODE))");
+            st.execute("create view RECREATE_SEA.VW_MEMBER as select * from RECREATE_SEA.MEMBER");
+            st.execute("create sequence RECREATE_SEA.SEQ_MEMBER");
+            assertEquals(3, selectCount(st, "select count(*) from information_schema.tables where TABLE_SCHEMA = 'RECREATE_SEA'"));
+
+            // ## Act ##
+            initializer.executeObject(conn, new ArrayList<DfTableMeta>());
+
+            // ## Assert ##
+            assertTrue(initializer.getPhaseMillisMap().containsKey("recreate schema"));
+            assertEquals(1, selectCount(st, "select count(*) from information_schema.schemata where SCHEMA_NAME = 'RECREATE_SEA'"));
+            assertEquals(0, selectCount(st, "select count(*) from information_schema.tables where TABLE_SCHEMA = 'RECREATE_SEA'"));
+            assertEquals(0, selectCount(st, "select count(*) from information_schema.sequences where SEQUENCE_SCHEMA = 'RECREATE_SEA'"));
+        } finally {
+            try (Connection conn = dataSource.getConnection(); Statement st = conn.createStatement()) {
+                st.execute("drop schema if exists RECREATE_SEA cascade");
+            }
+        }
+    }
+
+    public void test_recreateSchema_H2_quoted() throws Exception {
+        // ## Arrange ##
+        final JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:recreatequoted;DB_CLOSE_DELAY=-1");
+        final DfSchemaInitializerH2 initializer = new DfSchemaInitializerH2();
+        initializer.setDataSource(dataSource);
+        initializer.setUnifiedSchema(new UnifiedSchema(null, "Recreate-Land") {
+            @Override
+            protected boolean isCompletelyUnsupportedDBMS() {
+                return false;
+            }
+        });
+        initializer.setRecreateSchemaIfPossible(true);
+        try (Connection conn = dataSource.getConnection(); Statement st = conn.createStatement()) {
+            st.execute("create schema \"Recreate-Land\"");
+            st.execute("create table \"Recreate-Land\".MEMBER (MEMBER_ID integer primary key)");
+
+            // ## Act ##
+            initializer.executeObject(conn, new ArrayList<DfTableMeta>());
+
+            // ## Assert ##
+            assertEquals(1, selectCount(st, "select count(*) from information_schema.schemata where SCHEMA_NAME = 'Recreate-Land'"));
+            assertEquals(0, selectCount(st, "select count(*) from information_schema.tables where TABLE_SCHEMA = 'Recreate-Land'"));
+        } finally {
+            try (Connection conn = dataSource.getConnection(); Statement st = conn.createStatement()) {
+                st.execute("drop schema if exists \"Recreate-Land\" cascade");
+            }
+        }
+    }
+
+    public void test_buildRecreateSchemaSqlList_H2() throws Exception {
+        // ## Arrange ##
+        final DfSchemaInitializerH2 initializer = new DfSchemaInitializerH2();
+
+        // ## Act ##
+        // ## Assert ##
+        assertEquals("MAIHAMADB", initializer.quoteIdentifierIfNeeds("MAIHAMADB"));
+        assertEquals("SEA_LAND$1", initializer.quoteIdentifierIfNeeds("SEA_LAND$1"));
+        assertEquals("\"MaihamaDB\"", initializer.quoteIdentifierIfNeeds("MaihamaDB"));
+        assertEquals("\"SEA-LAND\"", initializer.quoteIdentifierIfNeeds("SEA-LAND"));
+        assertEquals("\"1SEA\"", initializer.quoteIdentifierIfNeeds("1SEA"));
+        assertEquals("\"SEA\"\"LAND\"", initializer.quoteIdentifierIfNeeds("SEA\"LAND"));
+    }
+
+    public void test_buildRecreateSchemaSqlList_PostgreSQL() throws Exception {
+        // ## Arrange ##
+        final DfSchemaInitializerPostgreSQL initializer = new DfSchemaInitializerPostgreSQL();
+
+        // ## Act ##
+        // ## Assert ##
+        assertEquals("maihamadb", initializer.quoteIdentifierIfNeeds("maihamadb"));
+        assertEquals("sea_land$1", initializer.quoteIdentifierIfNeeds("sea_land$1"));
+        assertEquals("\"MaihamaDB\"", initializer.quoteIdentifierIfNeeds("MaihamaDB"));
+        assertEquals("\"sea-land\"", initializer.quoteIdentifierIfNeeds("sea-land"));
+        assertEquals("\"1sea\"", initializer.quoteIdentifierIfNeeds("1sea"));
+        assertEquals("\"sea\"\"land\"", initializer.quoteIdentifierIfNeeds("sea\"land"));
+    }
+
+    protected int selectCount(Statement st, String sql) throws SQLException {
+        try (ResultSet rs = st.executeQuery(sql)) {
+            rs.next();
+            return rs.getInt(1);
+        }
+    }
+
+    // ===================================================================================
+    //                                                                     Parallel Drop
+    //                                                                     =============
+    public void test_prepareParallelDataSource_basic() throws Exception {
+        // ## Arrange ##
+        final DfSchemaInitializerJdbc initializer = new DfSchemaInitializerJdbc();
+        final DfFittingDataSource fittingDataSource = new DfFittingDataSource(null);
+        initializer.setDataSource(fittingDataSource);
+
+        // ## Act ##
+        // ## Assert ##
+        assertNull(initializer.prepareParallelDataSource()); // sequential as default
+        initializer.setDropTableParallelism(4);
+        assertSame(fittingDataSource, initializer.prepareParallelDataSource());
+        initializer.setSuppressDropForeignKey(true);
+        assertNull(initializer.prepareParallelDataSource()); // tables depend on each other
+    }
+
+    public void test_isParallelDropTableTarget_basic() throws Exception {
+        // ## Arrange ##
+        final DfSchemaInitializerJdbc initializer = new DfSchemaInitializerJdbc();
+        final DfTableMeta table = new DfTableMeta();
+        table.setTableType("TABLE");
+        final DfTableMeta view = new DfTableMeta();
+        view.setTableType("VIEW");
+
+        // ## Act ##
+        // ## Assert ##
+        assertTrue(initializer.isParallelDropTableTarget(table));
+        assertFalse(initializer.isParallelDropTableTarget(view));
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2014-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.dbflute.logic.sql2entity.analyzer;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.dbflute.dbway.DBDef;
+import org.dbflute.exception.DfCustomizeEntityDuplicateException;
+import org.dbflute.logic.jdbc.metadata.info.DfColumnMeta;
+import org.dbflute.logic.sql2entity.analyzer.DfOutsideSqlParallelProber.DfOutsideSqlProbeResult;
+import org.dbflute.logic.sql2entity.cmentity.DfCustomizeEntityInfo;
+import org.dbflute.unit.EngineTestCase;
+
+/**
+ * @author agent
+ * @since 1.2.3 (2026/10/19 Monday)
+ */
+public class DfOutsideSqlParallelProberTest extends EngineTestCase {
+
+    // ===================================================================================
+    //                                                                               Merge
+    //                                                                               =====
+    public void test_mergeResult_fileOrder() {
+        // ## Arrange ##
+        DfSql2EntityMeta mainMeta = new DfSql2EntityMeta();
+        DfOutsideSqlParallelProber prober = createProber(mainMeta);
+        List<DfOutsideSqlProbeResult> resultList = new ArrayList<DfOutsideSqlProbeResult>();
+        resultList.add(createResult("MemberBhv_selectSea.sql", 30L, "SeaEntity", "LandEntity"));
+        resultList.add(createResult("MemberBhv_selectPiari.sql", 10L, "PiariEntity"));
+        resultList.add(createResult("MemberBhv_selectBonvo.sql", 20L, "BonvoEntity"));
+        mainMeta.addExceptionInfo("MemberBhv_selectDstore.sql", "before probing");
+
+        // ## Act ##
+        prober.mergeResult(resultList, null);
+
+        // ## Assert ##
+        List<String> entityNameList = new ArrayList<String>(mainMeta.getEntityInfoMap().keySet());
+        log(entityNameList);
+        assertEquals(newArrayList("SeaEntity", "LandEntity", "PiariEntity", "BonvoEntity"), entityNameList);
+        assertEquals("MemberBhv_selectPiari.sql", mainMeta.getEntityInfoMap().get("PiariEntity").getSqlFile().getName());
+        List<String> exceptionFileList = new ArrayList<String>(mainMeta.getExceptionInfoMap().keySet());
+        assertEquals(newArrayList("MemberBhv_selectDstore.sql", "MemberBhv_selectSea.sql", "MemberBhv_selectPiari.sql",
+                "MemberBhv_selectBonvo.sql"), exceptionFileList);
+    }
+
+    public void test_mergeResult_duplicateEntity() {
+        // ## Arrange ##
+        DfSql2EntityMeta mainMeta = new DfSql2EntityMeta();
+        DfOutsideSqlParallelProber prober = createProber(mainMeta);
+        List<DfOutsideSqlProbeResult> resultList = new ArrayList<DfOutsideSqlProbeResult>();
+        resultList.add(createResult("MemberBhv_selectSea.sql", 10L, "SeaEntity"));
+        resultList.add(createResult("MemberBhv_selectLand.sql", 10L, "LandEntity"));
+        resultList.add(createResult("PurchaseBhv_selectSea.sql", 10L, "SeaEntity"));
+
+        // ## Act ##
+        // ## Assert ##
+        assertException(DfCustomizeEntityDuplicateException.class, () -> prober.mergeResult(resultList, null)).handle(cause -> {
+            String msg = cause.getMessage();
+            assertContains(msg, "SeaEntity");
+            assertContains(msg, "MemberBhv_selectSea.sql");
+            assertContains(msg, "PurchaseBhv_selectSea.sql");
+        });
+        assertEquals(newArrayList("SeaEntity", "LandEntity"), new ArrayList<String>(mainMeta.getEntityInfoMap().keySet()));
+    }
+
+    // ===================================================================================
+    //                                                                        Assist Logic
+    //                                                                        ============
+    protected DfOutsideSqlParallelProber createProber(DfSql2EntityMeta mainMeta) {
+        return new DfOutsideSqlParallelProber(null, mainMeta, null, null, 2) {
+            @Override
+            protected DfOutsideSqlAnalyzer createOutsideSqlAnalyzer(DataSource dataSource, DfSql2EntityMeta meta) {
+                return new DfOutsideSqlAnalyzer(null, dataSource, meta, null, null) {
+                    @Override
+                    protected DBDef currentDBDef() { // no database properties here
+                        return DBDef.H2;
+                    }
+                };
+            }
+        };
+    }
+
+    protected DfOutsideSqlProbeResult createResult(String fileName, long millis, String... entityNames) {
+        File sqlFile = new File("./exbhv/" + fileName);
+        DfSql2EntityMeta fileMeta = new DfSql2EntityMeta();
+        for (String entityName : entityNames) {
+            DfCustomizeEntityInfo entityInfo = new DfCustomizeEntityInfo(entityName, new LinkedHashMap<String, DfColumnMeta>());
+            entityInfo.setSqlFile(sqlFile);
+            fileMeta.addEntityInfo(entityName, entityInfo);
+        }
+        fileMeta.addExceptionInfo(fileName, "probed");
+        return new DfOutsideSqlProbeResult(sqlFile, fileMeta, null, millis);
+    }
+}
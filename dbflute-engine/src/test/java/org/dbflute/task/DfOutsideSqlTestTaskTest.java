@@ -0,0 +1,53 @@
+/*
+ * Copyright 2014-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.dbflute.task;
+
+import java.io.File;
+import java.nio.file.Files;
+
+import org.dbflute.helper.jdbc.DfRunnerInformation;
+import org.dbflute.unit.EngineTestCase;
+
+/**
+ * @author agent
+ * @since 1.2.3 (2026/10/19 Monday)
+ */
+public class DfOutsideSqlTestTaskTest extends EngineTestCase {
+
+    public void test_isSelectOnlySqlFile_basic() throws Exception {
+        // ## Arrange ##
+        DfOutsideSqlTestTask task = new DfOutsideSqlTestTask();
+        DfRunnerInformation runInfo = new DfRunnerInformation();
+
+        // ## Act ##
+        // ## Assert ##
+        assertTrue(task.isSelectOnlySqlFile(prepareSqlFile("-- #df:entity#\nselect * from MEMBER\n where /*IF pmb.sea != null*/..."
+                + "/*END*/;"), runInfo));
+        assertTrue(task.isSelectOnlySqlFile(prepareSqlFile("/* comment */ SELECT 1;\nselect 2"), runInfo));
+        assertFalse(task.isSelectOnlySqlFile(prepareSqlFile("update MEMBER set MEMBER_NAME = 'sea'"), runInfo));
+        assertFalse(task.isSelectOnlySqlFile(prepareSqlFile("select 1;\ndelete from MEMBER"), runInfo));
+        assertFalse(task.isSelectOnlySqlFile(prepareSqlFile("select * from MEMBER for\n update"), runInfo)); // row locks
+        assertFalse(task.isSelectOnlySqlFile(prepareSqlFile("with sea as (select 1) select * from sea"), runInfo));
+        assertFalse(task.isSelectOnlySqlFile(prepareSqlFile("-- only comment"), runInfo));
+    }
+
+    protected File prepareSqlFile(String sql) throws Exception {
+        File sqlFile = Files.createTempFile("outsidesql", ".sql").toFile();
+        sqlFile.deleteOnExit();
+        Files.write(sqlFile.toPath(), sql.getBytes("UTF-8"));
+        return sqlFile;
+    }
+}
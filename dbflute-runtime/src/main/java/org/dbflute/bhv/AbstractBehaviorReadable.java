@@ -26,6 +26,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.concurrent.Callable;
 
 import org.dbflute.Entity;
 import org.dbflute.bhv.core.BehaviorCommand;
@@ -33,6 +34,7 @@ import org.dbflute.bhv.core.BehaviorCommandInvoker;
 import org.dbflute.bhv.core.command.AbstractAllBehaviorCommand;
 import org.dbflute.bhv.core.command.AbstractCountableUpdateCommand;
 import org.dbflute.bhv.core.command.InsertEntityCommand;
+import org.dbflute.bhv.core.command.SelectColumnarCBCommand;
 import org.dbflute.bhv.core.command.SelectCountCBCommand;
 import org.dbflute.bhv.core.command.SelectCursorCBCommand;
 import org.dbflute.bhv.core.command.SelectEntityCBCommand;
@@ -40,9 +42,12 @@ import org.dbflute.bhv.core.command.SelectListCBCommand;
 import org.dbflute.bhv.core.command.SelectNextValCommand;
 import org.dbflute.bhv.core.command.SelectNextValSubCommand;
 import org.dbflute.bhv.core.command.SelectScalarCBCommand;
+import org.dbflute.bhv.core.context.ContextStack;
 import org.dbflute.bhv.exception.BehaviorExceptionThrower;
 import org.dbflute.bhv.readable.CBCall;
 import org.dbflute.bhv.readable.EntityRowHandler;
+import org.dbflute.bhv.readable.coins.ParallelCursorPartition;
+import org.dbflute.bhv.readable.coins.ParallelCursorResult;
 import org.dbflute.bhv.referrer.LoadReferrerOption;
 import org.dbflute.bhv.referrer.NestedReferrerListGateway;
 import org.dbflute.bhv.referrer.ReferrerConditionSetupper;
@@ -55,6 +60,7 @@ import org.dbflute.cbean.chelper.HpSLSExecutor;
 import org.dbflute.cbean.chelper.HpSLSFunction;
 import org.dbflute.cbean.ckey.ConditionKey;
 import org.dbflute.cbean.coption.CursorSelectOption;
+import org.dbflute.cbean.coption.PagingSelectAndQuerySplitOption;
 import org.dbflute.cbean.exception.ConditionBeanExceptionThrower;
 import org.dbflute.cbean.paging.PagingBean;
 import org.dbflute.cbean.paging.PagingHandler;
@@ -62,9 +68,13 @@ import org.dbflute.cbean.paging.PagingInvoker;
 import org.dbflute.cbean.result.ListResultBean;
 import org.dbflute.cbean.result.PagingResultBean;
 import org.dbflute.cbean.result.ResultBeanBuilder;
+import org.dbflute.cbean.result.columnar.ColumnarChunk;
+import org.dbflute.cbean.result.columnar.ColumnarChunkHandler;
+import org.dbflute.cbean.result.columnar.ColumnarVector;
 import org.dbflute.cbean.scoping.AndQuery;
 import org.dbflute.cbean.scoping.OrQuery;
 import org.dbflute.cbean.scoping.UnionQuery;
+import org.dbflute.cbean.sqlclause.SqlClause;
 import org.dbflute.cbean.sqlclause.clause.SelectClauseType;
 import org.dbflute.cbean.sqlclause.orderby.OrderByClause;
 import org.dbflute.cbean.sqlclause.orderby.OrderByElement;
@@ -83,6 +93,7 @@ import org.dbflute.helper.beans.DfBeanDesc;
 import org.dbflute.helper.beans.DfPropertyDesc;
 import org.dbflute.helper.beans.factory.DfBeanDescFactory;
 import org.dbflute.helper.message.ExceptionMessageBuilder;
+import org.dbflute.helper.thread.BoundedWorkerPool;
 import org.dbflute.optional.OptionalEntity;
 import org.dbflute.optional.OptionalThing;
 import org.dbflute.optional.OptionalThingExceptionThrower;
@@ -138,9 +149,23 @@ public abstract class AbstractBehaviorReadable<ENTITY extends Entity, CB extends
         assertCBCallNotNull(cbCall);
         final CB cb = newConditionBean();
         cbCall.callback(cb);
+        acceptSplitConditionBeanCopierIfNeeds(cb, cbCall);
         return cb;
     }
 
+    protected void acceptSplitConditionBeanCopierIfNeeds(CB cb, CBCall<CB> cbCall) {
+        // parallel chunks of PagingSelectAndQuerySplit need their own condition-bean
+        // because condition-bean is not thread-safe, so copied by calling the callback again
+        final PagingSelectAndQuerySplitOption splitOption = cb.getPagingSelectAndQuerySplitOption();
+        if (splitOption != null && splitOption.isParallel()) {
+            splitOption.xacceptConditionBeanCopier(() -> {
+                final CB copy = newConditionBean();
+                cbCall.callback(copy);
+                return copy;
+            });
+        }
+    }
+
     /** {@inheritDoc} */
     public abstract CB newConditionBean(); // defined here to resolve generic of return type
 
@@ -496,6 +521,113 @@ public abstract class AbstractBehaviorReadable<ENTITY extends Entity, CB extends
         }
     }
 
+    // -----------------------------------------------------
+    //                                       Parallel Cursor
+    //                                       ---------------
+    protected ParallelCursorResult facadeSelectCursorParallel(CBCall<CB> cbCall, int partitionCount,
+            EntityRowHandler<ENTITY> entityRowHandler) {
+        return doSelectCursorParallel(cbCall, partitionCount, entityRowHandler, typeOfSelectedEntity());
+    }
+
+    /**
+     * Select the cursor concurrently by partitions of primary-key range. <br>
+     * The range is derived by min/max of the numeric primary key (of all records),
+     * and each partition is selected by its own condition-bean (created by the callback) on its own thread. <br>
+     * So the partitions are executed on other connections from the data source (not in current transaction),
+     * and the entity row handler should be thread-safe.
+     * @param <RESULT> The type of result entity.
+     * @param cbCall The callback for condition-bean, called per partition. (NotNull)
+     * @param partitionCount The count of partitions, concurrent up to the bounded worker pool. (NotMinus, NotZero)
+     * @param handler The thread-safe handler of entity row. (NotNull)
+     * @param entityType The type of result entity. (NotNull)
+     * @return The result of parallel cursor, which has partitions with their progress. (NotNull)
+     */
+    protected <RESULT extends ENTITY> ParallelCursorResult doSelectCursorParallel(CBCall<CB> cbCall, int partitionCount,
+            EntityRowHandler<RESULT> handler, Class<? extends RESULT> entityType) {
+        assertCBCallNotNull(cbCall);
+        assertObjectNotNull("entityRowHandler", handler);
+        assertObjectNotNull("entityType", entityType);
+        if (partitionCount < 1) {
+            String msg = "The argument 'partitionCount' should not be minus or zero: " + partitionCount;
+            throw new IllegalArgumentException(msg);
+        }
+        final ColumnInfo pkColumn = helpSelectCursorParallelNumericPK();
+        final List<ParallelCursorPartition> partitionList = helpSelectCursorParallelPartition(pkColumn, partitionCount);
+        final ParallelCursorResult result = new ParallelCursorResult(partitionList);
+        if (partitionList.isEmpty()) { // e.g. no record
+            return result;
+        }
+        final ContextStack capturedContext = ContextStack.captureAllContextOnThread();
+        final List<Callable<Void>> taskList = new ArrayList<Callable<Void>>(partitionList.size());
+        for (ParallelCursorPartition partition : partitionList) {
+            final CB cb = createCB(cbCall); // per partition because condition-bean is not thread-safe
+            helpSelectCursorParallelRangeQuery(cb, pkColumn, partition);
+            taskList.add(() -> {
+                ContextStack.inheritAllContextOnThread(capturedContext);
+                final long before = System.currentTimeMillis();
+                try {
+                    doSelectCursor(cb, new EntityRowHandler<RESULT>() {
+                        public void handle(RESULT entity) {
+                            partition.incrementHandledCount();
+                            handler.handle(entity);
+                        }
+
+                        public boolean isBreakCursor() { // shared by all partitions
+                            return handler.isBreakCursor();
+                        }
+                    }, entityType);
+                    return null;
+                } finally {
+                    partition.finish(System.currentTimeMillis() - before);
+                    ContextStack.clearAllInheritedContext();
+                }
+            });
+        }
+        // remaining partitions are cancelled if failure, and running ones are waited for
+        prepareSelectCursorParallelWorkerPool().executeInOrder(taskList, partitionList.size());
+        return result;
+    }
+
+    protected ColumnInfo helpSelectCursorParallelNumericPK() {
+        final DBMeta dbmeta = asDBMeta();
+        if (!dbmeta.hasPrimaryKey() || dbmeta.getPrimaryInfo().isCompoundKey()) {
+            String msg = "The parallel cursor select needs only-one column key table: " + asTableDbName();
+            throw new IllegalConditionBeanOperationException(msg);
+        }
+        final ColumnInfo pkColumn = dbmeta.getPrimaryInfo().getFirstColumn();
+        if (!pkColumn.isObjectNativeTypeNumber()) {
+            String msg = "The parallel cursor select needs numeric primary key: " + pkColumn;
+            throw new IllegalConditionBeanOperationException(msg);
+        }
+        return pkColumn;
+    }
+
+    protected List<ParallelCursorPartition> helpSelectCursorParallelPartition(ColumnInfo pkColumn, int partitionCount) {
+        @SuppressWarnings("unchecked")
+        final Class<Number> pkType = (Class<Number>) pkColumn.getObjectNativeType();
+        final Number minValue = doScalarSelect(pkType, newConditionBean()).min(cb -> {
+            cb.localSp().xspecifyColumn(pkColumn.getColumnDbName());
+        }).orElse(null);
+        if (minValue == null) { // no record
+            return new ArrayList<ParallelCursorPartition>(0);
+        }
+        final Number maxValue = doScalarSelect(pkType, newConditionBean()).max(cb -> {
+            cb.localSp().xspecifyColumn(pkColumn.getColumnDbName());
+        }).orElse(null);
+        return ParallelCursorPartition.splitRange(minValue, maxValue, partitionCount, pkType);
+    }
+
+    protected void helpSelectCursorParallelRangeQuery(CB cb, ColumnInfo pkColumn, ParallelCursorPartition partition) {
+        final String columnDbName = pkColumn.getColumnDbName();
+        cb.localCQ().invokeQuery(columnDbName, ConditionKey.CK_GREATER_EQUAL.getConditionKey(), partition.getLowerBound());
+        final ConditionKey upperKey = partition.isLastPartition() ? ConditionKey.CK_LESS_EQUAL : ConditionKey.CK_LESS_THAN;
+        cb.localCQ().invokeQuery(columnDbName, upperKey.getConditionKey(), partition.getUpperBound());
+    }
+
+    protected BoundedWorkerPool prepareSelectCursorParallelWorkerPool() { // might be overridden to use application pool
+        return BoundedWorkerPool.getShared(); // bounded even if many parallel cursors
+    }
+
     // -----------------------------------------------------
     //                                    Interface Dispatch
     //                                    ------------------
@@ -504,6 +636,60 @@ public abstract class AbstractBehaviorReadable<ENTITY extends Entity, CB extends
         facadeSelectCursor(downcast(cb), (EntityRowHandler<ENTITY>) entityLambda);
     }
 
+    // ===================================================================================
+    //                                                                     Columnar Select
+    //                                                                     ===============
+    /** The default size of chunk for columnar select. */
+    protected static final int COLUMNAR_DEFAULT_CHUNK_SIZE = 1024;
+
+    protected ColumnarChunk facadeSelectColumnar(CB cb) {
+        return doSelectColumnar(cb, COLUMNAR_DEFAULT_CHUNK_SIZE, null);
+    }
+
+    protected void facadeSelectColumnar(CB cb, int chunkSize, ColumnarChunkHandler chunkHandler) {
+        assertObjectNotNull("chunkHandler", chunkHandler);
+        doSelectColumnar(cb, chunkSize, chunkHandler);
+    }
+
+    /**
+     * Select the specified columns as columnar result, which has primitive arrays per column. <br>
+     * It does not create entities so it is for analytic select of many rows with a few numeric or date columns.
+     * @param cb The condition-bean that specifies the columns to select. (NotNull)
+     * @param chunkSize The size of chunk, growth size of vectors or delivery size of streaming. (NotMinus, NotZero)
+     * @param chunkHandler The handler of chunk for streaming. (NullAllowed: if null, returns all rows in one chunk)
+     * @return The chunk that has all rows. (NullAllowed: when streaming)
+     */
+    protected ColumnarChunk doSelectColumnar(CB cb, int chunkSize, ColumnarChunkHandler chunkHandler) {
+        assertCBStateValid(cb);
+        if (chunkSize < 1) {
+            String msg = "The argument 'chunkSize' should not be minus or zero: " + chunkSize;
+            throw new IllegalArgumentException(msg);
+        }
+        final List<ColumnInfo> columnInfoList = helpSelectColumnarSpecifiedColumn(cb);
+        final ColumnarChunk chunk = new ColumnarChunk(columnInfoList, chunkSize, chunkHandler);
+        invoke(createSelectColumnarCBCommand(cb, chunk));
+        return chunk.isStreaming() ? null : chunk;
+    }
+
+    protected List<ColumnInfo> helpSelectColumnarSpecifiedColumn(CB cb) {
+        final List<ColumnInfo> columnInfoList = new ArrayList<ColumnInfo>();
+        final SqlClause sqlClause = cb.getSqlClause();
+        sqlClause.handleSpecifiedSelectColumn(sqlClause.getBasePointAliasName(), (tableAliasName, specifiedColumn) -> {
+            final ColumnInfo columnInfo = specifiedColumn.getColumnInfo();
+            if (ColumnarVector.determineKind(columnInfo.getObjectNativeType()) == null) {
+                String msg = "The columnar select supports only number or local date column: " + columnInfo;
+                msg = msg + " (" + columnInfo.getObjectNativeType().getName() + ")";
+                throw new IllegalConditionBeanOperationException(msg);
+            }
+            columnInfoList.add(columnInfo);
+        });
+        if (columnInfoList.isEmpty()) {
+            String msg = "The columnar select needs specified columns of base table: " + cb.asTableDbName();
+            throw new IllegalConditionBeanOperationException(msg);
+        }
+        return columnInfoList;
+    }
+
     // ===================================================================================
     //                                                                       Scalar Select
     //                                                                       =============
@@ -1500,6 +1686,19 @@ public abstract class AbstractBehaviorReadable<ENTITY extends Entity, CB extends
         return new SelectCursorCBCommand<RESULT>();
     }
 
+    protected SelectColumnarCBCommand createSelectColumnarCBCommand(ConditionBean cb, ColumnarChunk chunk) {
+        assertBehaviorCommandInvoker("createSelectColumnarCBCommand");
+        final SelectColumnarCBCommand cmd = newSelectColumnarCBCommand();
+        xsetupSelectCommand(cmd);
+        cmd.setConditionBean(cb);
+        cmd.setColumnarChunk(chunk);
+        return cmd;
+    }
+
+    protected SelectColumnarCBCommand newSelectColumnarCBCommand() {
+        return new SelectColumnarCBCommand();
+    }
+
     protected <RESULT> SelectNextValCommand<RESULT> createSelectNextValCommand(Class<RESULT> resultType) {
         assertBehaviorCommandInvoker("createSelectNextValCommand");
         final SelectNextValCommand<RESULT> cmd = newSelectNextValCommand();
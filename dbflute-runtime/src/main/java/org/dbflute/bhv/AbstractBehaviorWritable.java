@@ -15,9 +15,12 @@
  */
 package org.dbflute.bhv;
 
+import java.sql.Statement;
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Set;
+import java.util.stream.Stream;
 
 import org.dbflute.Entity;
 import org.dbflute.bhv.core.BehaviorCommandMeta;
@@ -27,6 +30,7 @@ import org.dbflute.bhv.core.command.BatchDeleteNonstrictCommand;
 import org.dbflute.bhv.core.command.BatchInsertCommand;
 import org.dbflute.bhv.core.command.BatchUpdateCommand;
 import org.dbflute.bhv.core.command.BatchUpdateNonstrictCommand;
+import org.dbflute.bhv.core.command.BulkLoadCommand;
 import org.dbflute.bhv.core.command.DeleteEntityCommand;
 import org.dbflute.bhv.core.command.DeleteNonstrictEntityCommand;
 import org.dbflute.bhv.core.command.InsertEntityCommand;
@@ -41,6 +45,7 @@ import org.dbflute.bhv.writable.InsertOption;
 import org.dbflute.bhv.writable.QueryInsertSetupper;
 import org.dbflute.bhv.writable.UpdateOption;
 import org.dbflute.bhv.writable.WritableOptionCall;
+import org.dbflute.bhv.writable.coins.BulkLoadEntityResource;
 import org.dbflute.cbean.ConditionBean;
 import org.dbflute.cbean.scoping.SpecifyQuery;
 import org.dbflute.dbmeta.DBMeta;
@@ -569,6 +574,138 @@ public abstract class AbstractBehaviorWritable<ENTITY extends Entity, CB extends
         return doBatchInsert(downcast(entityList), downcast(option));
     }
 
+    // -----------------------------------------------------
+    //                                             Bulk Load
+    //                                             ---------
+    protected int doBulkLoad(List<ENTITY> entityList, WritableOptionCall<CB, InsertOption<CB>> opCall) {
+        assertEntityListNotNull(entityList);
+        return doBulkLoad(entityList.stream(), opCall);
+    }
+
+    /**
+     * Load the entities by native loading of DB if the DB-way supports it and the DB can read the loaded file,
+     * or by chunked batch-insert. <br>
+     * The native loading streams entities to the loaded file, and the chunked batch-insert consumes the stream chunk by chunk,
+     * so entities in memory are bounded either way. <br>
+     * The stream is closed at the end, e.g. lines of file behind it.
+     * @param entityStream The stream of entity to be loaded. (NotNull)
+     * @param opCall The callback for option of insert per chunk. (NullAllowed: if null, plain option)
+     * @return The loaded count of all entities. (NotMinus)
+     */
+    protected int doBulkLoad(Stream<ENTITY> entityStream, WritableOptionCall<CB, InsertOption<CB>> opCall) {
+        assertObjectNotNull("entityStream", entityStream);
+        try {
+            if (opCall == null && isBulkLoadNativeAvailable()) { // option is not supported in native loading
+                return doBulkLoadNative(entityStream);
+            }
+            return doBulkLoadChunked(entityStream, opCall);
+        } finally {
+            entityStream.close();
+        }
+    }
+
+    // -----------------------------------------------------
+    //                                      Native Bulk Load
+    //                                      ----------------
+    protected boolean isBulkLoadNativeAvailable() { // might be overridden by generator option
+        return asDBMeta().getCurrentDBDef().dbway().isBulkLoadCsvSupported();
+    }
+
+    /**
+     * Load the entities natively, e.g. CSVREAD of H2. <br>
+     * Each entity is adjusted for insert (sequence, common columns) while it is streamed to the loaded file. <br>
+     * If the DB cannot read the loaded file, e.g. H2 in server mode, the entities are loaded by chunked batch-insert. <br>
+     * The insert hooks receive {@link BulkLoadEntityResource} as entity resource because entities are not kept.
+     * @param entityStream The stream of entity to be loaded. (NotNull)
+     * @return The loaded count. (NotMinus)
+     */
+    protected int doBulkLoadNative(Stream<ENTITY> entityStream) {
+        final Iterator<ENTITY> ite = entityStream.iterator();
+        if (!ite.hasNext()) {
+            return 0;
+        }
+        final BulkLoadEntityResource entityResource = new BulkLoadEntityResource(asTableDbName());
+        final OptionalThing<InsertOption<? extends ConditionBean>> optOption = createOptionalInsertOption(null);
+        final Iterator<ENTITY> adjustedIte = new Iterator<ENTITY>() {
+            public boolean hasNext() {
+                return ite.hasNext();
+            }
+
+            public ENTITY next() {
+                final ENTITY entity = ite.next();
+                adjustEntityBeforeInsert(entity, optOption);
+                entityResource.xincrementStreamedCount();
+                return entity;
+            }
+        };
+        final BulkLoadCommand command = createBulkLoadCommand(adjustedIte);
+        if (!command.isLoadedFileReadable()) { // e.g. H2 in server mode, the local file is not found
+            return doBulkLoadChunked(ite, null); // nothing consumed yet
+        }
+        RuntimeException cause = null;
+        try {
+            hookBeforeInsert(command, entityResource, emptyOpt(), optOption);
+            final Integer loadedCount = invoke(command);
+            return loadedCount != null ? loadedCount : 0;
+        } catch (RuntimeException e) {
+            cause = e;
+            throw e;
+        } finally {
+            hookFinallyInsert(command, entityResource, emptyOpt(), optOption, createOptionalCause(cause));
+        }
+    }
+
+    // -----------------------------------------------------
+    //                                     Chunked Bulk Load
+    //                                     -----------------
+    /**
+     * Load the entities by chunked batch-insert, consuming the stream chunk by chunk. <br>
+     * The size of chunk is determined by DB-way, so entities in memory are bounded by it. <br>
+     * The insert option is created per chunk because modified properties may be different between chunks.
+     * @param entityStream The stream of entity to be loaded. (NotNull)
+     * @param opCall The callback for option of insert per chunk. (NullAllowed: if null, plain option)
+     * @return The loaded count of all chunks. (NotMinus)
+     */
+    protected int doBulkLoadChunked(Stream<ENTITY> entityStream, WritableOptionCall<CB, InsertOption<CB>> opCall) {
+        return doBulkLoadChunked(entityStream.iterator(), opCall);
+    }
+
+    protected int doBulkLoadChunked(Iterator<ENTITY> ite, WritableOptionCall<CB, InsertOption<CB>> opCall) {
+        final int chunkSize = determineBulkLoadChunkSize();
+        int loadedCount = 0;
+        List<ENTITY> chunkList = new ArrayList<ENTITY>(chunkSize);
+        while (ite.hasNext()) {
+            chunkList.add(ite.next());
+            if (chunkList.size() >= chunkSize) {
+                loadedCount += doBulkLoadChunk(chunkList, opCall);
+                chunkList = new ArrayList<ENTITY>(chunkSize); // not clear() because the list might be kept by hook
+            }
+        }
+        if (!chunkList.isEmpty()) {
+            loadedCount += doBulkLoadChunk(chunkList, opCall);
+        }
+        return loadedCount;
+    }
+
+    protected int doBulkLoadChunk(List<ENTITY> chunkList, WritableOptionCall<CB, InsertOption<CB>> opCall) {
+        final InsertOption<CB> option = opCall != null ? createInsertOption(opCall) : null;
+        final int[] resultArray = doBatchInsert(chunkList, option);
+        int chunkCount = 0;
+        for (int result : resultArray) {
+            if (result > 0) {
+                chunkCount += result;
+            } else if (result == Statement.SUCCESS_NO_INFO) { // e.g. Oracle, rewritten MySQL
+                ++chunkCount;
+            }
+        }
+        return chunkCount;
+    }
+
+    protected int determineBulkLoadChunkSize() { // might be overridden by generator option
+        final int chunkSize = asDBMeta().getCurrentDBDef().dbway().getBulkLoadChunkSize();
+        return chunkSize > 0 ? chunkSize : 1; // just in case
+    }
+
     // -----------------------------------------------------
     //                                          Batch Update
     //                                          ------------
@@ -1208,11 +1345,11 @@ public abstract class AbstractBehaviorWritable<ENTITY extends Entity, CB extends
     }
 
     /**
-     * Hook before insert, contains entity insert, batch insert, query insert, also varying. (for extension) <br>
+     * Hook before insert, contains entity insert, batch insert, query insert, bulk load, also varying. (for extension) <br>
      * As best you can, your overriding code needs not to depends on internal specification. (might be changed) <br>
      * Finally process is called even if exception in before process.
      * @param command The command meta of behavior for insert. (NotNull)
-     * @param entityResource The resource of entity for insert, entity or list. (NotNull)
+     * @param entityResource The resource of entity for insert, entity, list or {@link BulkLoadEntityResource} (bulk load). (NotNull)
      * @param cbResource The optional resource of condition-bean for insert. (NotNull, EmptyAllowed: except query-insert)
      * @param option The optional option of insert. (NotNull, EmptyAllowed: when no option)
      */
@@ -1221,12 +1358,12 @@ public abstract class AbstractBehaviorWritable<ENTITY extends Entity, CB extends
     }
 
     /**
-     * Hook finally of insert, contains entity insert, batch insert, query insert, also varying. (for extension) <br>
+     * Hook finally of insert, contains entity insert, batch insert, query insert, bulk load, also varying. (for extension) <br>
      * As best you can, your overriding code needs not to depends on internal specification. (might be changed) <br>
      * Finally process is called even if exception in before process. <br>
      * And called when both success and exception.
      * @param command The command meta of behavior for insert. (NotNull)
-     * @param entityResource The resource of entity for insert, entity or list. (NotNull)
+     * @param entityResource The resource of entity for insert, entity, list or {@link BulkLoadEntityResource} (bulk load). (NotNull)
      * @param cbResource The optional resource of condition-bean for insert. (NotNull, EmptyAllowed: except query-insert)
      * @param option The optional option of insert. (NotNull, EmptyAllowed: when no option)
      * @param cause The optional cause exception from insert. (NotNull, EmptyAllowed: when no failure)
@@ -1596,6 +1733,20 @@ public abstract class AbstractBehaviorWritable<ENTITY extends Entity, CB extends
         return new BatchInsertCommand();
     }
 
+    protected BulkLoadCommand createBulkLoadCommand(Iterator<? extends Entity> entityIterator) {
+        assertBehaviorCommandInvoker("createBulkLoadCommand");
+        final BulkLoadCommand cmd = newBulkLoadCommand();
+        cmd.setTableDbName(asTableDbName());
+        _behaviorCommandInvoker.injectComponentProperty(cmd);
+        cmd.setTargetDBMeta(asDBMeta());
+        cmd.setEntityIterator(entityIterator);
+        return cmd;
+    }
+
+    protected BulkLoadCommand newBulkLoadCommand() {
+        return new BulkLoadCommand();
+    }
+
     protected BatchUpdateCommand createBatchUpdateCommand(List<? extends Entity> entityList, UpdateOption<? extends ConditionBean> option) {
         assertBehaviorCommandInvoker("createBatchUpdateCommand");
         final BatchUpdateCommand cmd = newBatchUpdateCommand();
@@ -16,6 +16,8 @@
 package org.dbflute.bhv.core;
 
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
@@ -63,6 +65,7 @@ import org.dbflute.util.Srl;
  *   o clearExecutionCache();
  *   o isExecutionCacheEmpty();
  *   o getExecutionCacheSize();
+ *   o getExecutionKeyList();
  *   o injectComponentProperty(BehaviorCommandComponentSetup behaviorCommand);
  *   o invoke(BehaviorCommand behaviorCommand);
  *   o createOutsideSqlBasicExecutor(String tableDbName);
@@ -123,6 +126,16 @@ public class BehaviorCommandInvoker {
         return _executionMap.size();
     }
 
+    /**
+     * Get the list of keys of cached SQL executions, e.g. for hot keys manifest of warm-up.
+     * @return The snapshot list of execution keys, sorted. (NotNull)
+     */
+    public List<String> getExecutionKeyList() {
+        final List<String> keyList = new ArrayList<String>(_executionMap.keySet());
+        Collections.sort(keyList);
+        return keyList;
+    }
+
     // ===================================================================================
     //                                                                      Command Set up
     //                                                                      ==============
@@ -370,11 +383,17 @@ public class BehaviorCommandInvoker {
     protected <RESULT> void initializeSqlExecution(BehaviorCommand<RESULT> behaviorCommand) {
         final String key = behaviorCommand.buildSqlExecutionKey();
         final SqlExecutionCreator creator = behaviorCommand.createSqlExecutionCreator();
-        final SqlExecution execution = getSqlExecution(key);
-        if (execution != null) {
+        if (getSqlExecution(key) != null) {
             return; // already initialized
         }
-        getOrCreateSqlExecution(key, creator); // initialize
+        // created outside of the lock so that warm-up threads can initialize in parallel
+        // (creation is idempotent so the loser's execution is just discarded)
+        final SqlExecution execution = creator.createSqlExecution();
+        assertCreatorReturnExecution(key, creator, execution);
+        synchronized (_executionCacheLock) {
+            _executionMap.putIfAbsent(key, execution);
+        }
+        toBeDisposable(); // for HotDeploy
     }
 
     /**
@@ -142,6 +142,10 @@ public abstract class AbstractAllBehaviorCommand<RESULT> implements BehaviorComm
         return _resultSetHandlerFactory.createDynamicScalarResultSetHandler(objectType);
     }
 
+    protected TnResultSetHandler createColumnarResultSetHandler() {
+        return _resultSetHandlerFactory.createColumnarResultSetHandler();
+    }
+
     // ===================================================================================
     //                                                                 Runtime Information
     //                                                                 ===================
@@ -0,0 +1,226 @@
+/*
+ * Copyright 2014-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.dbflute.bhv.core.command;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+import org.dbflute.Entity;
+import org.dbflute.bhv.core.SqlExecution;
+import org.dbflute.bhv.core.SqlExecutionCreator;
+import org.dbflute.cbean.ConditionBean;
+import org.dbflute.dbmeta.DBMeta;
+import org.dbflute.dbway.DBWay;
+import org.dbflute.outsidesql.OutsideSqlOption;
+import org.dbflute.s2dao.sqlcommand.TnBulkLoadCsvCommand;
+
+/**
+ * The command to load entities natively by the way of DB, e.g. CSVREAD of H2. <br>
+ * The entities are streamed to the loaded file so they are not kept in memory.
+ * @author agent
+ * @since 1.2.3 (2026/10/19 Monday)
+ */
+public class BulkLoadCommand extends AbstractAllBehaviorCommand<Integer> {
+
+    // ===================================================================================
+    //                                                                           Attribute
+    //                                                                           =========
+    /** The DB meta of loaded table. (Required) */
+    protected DBMeta _targetDBMeta;
+
+    /** The iterator of loaded entities, already adjusted for insert. (Required) */
+    protected Iterator<? extends Entity> _entityIterator;
+
+    // ===================================================================================
+    //                                                                   Basic Information
+    //                                                                   =================
+    public String getCommandName() {
+        return "bulkLoad";
+    }
+
+    public Class<?> getCommandReturnType() {
+        return Integer.class;
+    }
+
+    // ===================================================================================
+    //                                                                  Detail Information
+    //                                                                  ==================
+    public boolean isConditionBean() {
+        return false;
+    }
+
+    public boolean isOutsideSql() {
+        return false;
+    }
+
+    public boolean isProcedure() {
+        return false;
+    }
+
+    public boolean isSelect() {
+        return false;
+    }
+
+    public boolean isSelectCount() {
+        return false;
+    }
+
+    public boolean isSelectCursor() {
+        return false;
+    }
+
+    public boolean isInsert() {
+        return true;
+    }
+
+    public boolean isUpdate() {
+        return false;
+    }
+
+    public boolean isDelete() {
+        return false;
+    }
+
+    public boolean isEntityUpdateFamily() {
+        return false;
+    }
+
+    public boolean isBatchUpdateFamily() {
+        return false; // not JDBC batch
+    }
+
+    public boolean isQueryUpdateFamily() {
+        return false;
+    }
+
+    // ===================================================================================
+    //                                                                    Process Callback
+    //                                                                    ================
+    public void beforeGettingSqlExecution() {
+    }
+
+    public void afterExecuting() {
+    }
+
+    // ===================================================================================
+    //                                                                         Loaded File
+    //                                                                         ===========
+    /**
+     * Can the DB read the loaded file written on this side? <br>
+     * The loaded file is a local temporary file, so it is not found by e.g. H2 in server mode.
+     * @return The determination, true or false. (false if the connection URL is unknown)
+     */
+    public boolean isLoadedFileReadable() {
+        assertStatus("isLoadedFileReadable");
+        final DBWay dbway = _targetDBMeta.getCurrentDBDef().dbway();
+        if (!dbway.isBulkLoadCsvSupported()) {
+            return false;
+        }
+        final String connectionUrl = extractConnectionUrl();
+        return connectionUrl != null && dbway.isBulkLoadCsvReadable(connectionUrl);
+    }
+
+    protected String extractConnectionUrl() {
+        try (Connection conn = _dataSource.getConnection()) {
+            return conn.getMetaData().getURL();
+        } catch (SQLException ignored) {
+            return null; // unknown so not native loading
+        }
+    }
+
+    // ===================================================================================
+    //                                                               SqlExecution Handling
+    //                                                               =====================
+    public String buildSqlExecutionKey() {
+        assertStatus("buildSqlExecutionKey");
+        return _tableDbName + ":" + getCommandName() + "()";
+    }
+
+    public SqlExecutionCreator createSqlExecutionCreator() {
+        assertStatus("createSqlExecutionCreator");
+        return () -> createBulkLoadCsvCommand();
+    }
+
+    protected SqlExecution createBulkLoadCsvCommand() {
+        final TnBulkLoadCsvCommand cmd = newBulkLoadCsvCommand();
+        cmd.setTargetDBMeta(_targetDBMeta);
+        return cmd;
+    }
+
+    protected TnBulkLoadCsvCommand newBulkLoadCsvCommand() {
+        return new TnBulkLoadCsvCommand(_dataSource, _statementFactory);
+    }
+
+    public Object[] getSqlExecutionArgument() {
+        assertStatus("getSqlExecutionArgument");
+        return new Object[] { _entityIterator };
+    }
+
+    // ===================================================================================
+    //                                                                Argument Information
+    //                                                                ====================
+    public ConditionBean getConditionBean() {
+        return null;
+    }
+
+    public Entity getEntity() {
+        return null; // because of non one entity here
+    }
+
+    public List<Entity> getEntityList() {
+        return Collections.emptyList(); // streamed so not kept
+    }
+
+    public String getOutsideSqlPath() {
+        return null;
+    }
+
+    public Object getParameterBean() {
+        return null;
+    }
+
+    public OutsideSqlOption getOutsideSqlOption() {
+        return null;
+    }
+
+    // ===================================================================================
+    //                                                                       Assert Helper
+    //                                                                       =============
+    protected void assertStatus(String methodName) {
+        assertBasicProperty(methodName);
+        assertComponentProperty(methodName);
+        if (_targetDBMeta == null) {
+            throw new IllegalStateException(buildAssertMessage("_targetDBMeta", methodName));
+        }
+        if (_entityIterator == null) {
+            throw new IllegalStateException(buildAssertMessage("_entityIterator", methodName));
+        }
+    }
+
+    // ===================================================================================
+    //                                                                            Accessor
+    //                                                                            ========
+    public void setTargetDBMeta(DBMeta targetDBMeta) {
+        _targetDBMeta = targetDBMeta;
+    }
+
+    public void setEntityIterator(Iterator<? extends Entity> entityIterator) {
+        _entityIterator = entityIterator;
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright 2014-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.dbflute.bhv.core.command;
+
+import org.dbflute.bhv.core.SqlExecutionCreator;
+import org.dbflute.bhv.core.context.ConditionBeanContext;
+import org.dbflute.bhv.core.context.FetchAssistContext;
+import org.dbflute.cbean.ConditionBean;
+import org.dbflute.cbean.result.columnar.ColumnarChunk;
+import org.dbflute.s2dao.jdbc.TnResultSetHandler;
+
+/**
+ * The command to select as columnar result (primitive arrays per specified column).
+ * @author agent
+ * @since 1.2.3 (2026/10/19 Monday)
+ */
+public class SelectColumnarCBCommand extends AbstractSelectCBCommand<ColumnarChunk> {
+
+    // ===================================================================================
+    //                                                                           Attribute
+    //                                                                           =========
+    /** The chunk of columnar result, which may have streaming handler. (NotNull) */
+    protected ColumnarChunk _columnarChunk;
+
+    // ===================================================================================
+    //                                                                   Basic Information
+    //                                                                   =================
+    public String getCommandName() {
+        return "selectColumnar";
+    }
+
+    public Class<?> getCommandReturnType() {
+        return ColumnarChunk.class;
+    }
+
+    // ===================================================================================
+    //                                                                  Detail Information
+    //                                                                  ==================
+    public boolean isSelectCount() {
+        return false;
+    }
+
+    public boolean isSelectCursor() {
+        return true; // reads all rows sequentially so uses cursor fetch size
+    }
+
+    // ===================================================================================
+    //                                                                    Process Callback
+    //                                                                    ================
+    public void beforeGettingSqlExecution() {
+        assertStatus("beforeGettingSqlExecution");
+        final ConditionBean cb = _conditionBean;
+        FetchAssistContext.setFetchBeanOnThread(cb);
+        ConditionBeanContext.setConditionBeanOnThread(cb);
+        ConditionBeanContext.setColumnarChunkOnThread(_columnarChunk);
+    }
+
+    public void afterExecuting() {
+        assertStatus("afterExecuting");
+    }
+
+    // ===================================================================================
+    //                                                               SqlExecution Handling
+    //                                                               =====================
+    public SqlExecutionCreator createSqlExecutionCreator() {
+        assertStatus("createSqlExecutionCreator");
+        return () -> {
+            final TnResultSetHandler handler = createColumnarResultSetHandler(); // stateless, chunk is on thread
+            return createSelectCBExecution(_conditionBean.getClass(), handler);
+        };
+    }
+
+    // ===================================================================================
+    //                                                                       Assert Helper
+    //                                                                       =============
+    @Override
+    protected void assertStatus(String methodName) {
+        super.assertStatus(methodName);
+        if (_columnarChunk == null) {
+            throw new IllegalStateException(buildAssertMessage("_columnarChunk", methodName));
+        }
+    }
+
+    // ===================================================================================
+    //                                                                            Accessor
+    //                                                                            ========
+    public void setColumnarChunk(ColumnarChunk columnarChunk) {
+        _columnarChunk = columnarChunk;
+    }
+}
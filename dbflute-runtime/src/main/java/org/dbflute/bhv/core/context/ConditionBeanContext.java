@@ -18,6 +18,7 @@ package org.dbflute.bhv.core.context;
 import org.dbflute.Entity;
 import org.dbflute.bhv.readable.EntityRowHandler;
 import org.dbflute.cbean.ConditionBean;
+import org.dbflute.cbean.result.columnar.ColumnarChunk;
 import org.dbflute.system.DBFluteSystem;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -117,6 +118,47 @@ public class ConditionBeanContext {
         _entityRowHandlerLocal.set(null);
     }
 
+    // ===================================================================================
+    //                                                             ColumnarChunk on Thread
+    //                                                             =======================
+    /** The thread-local for columnar chunk. */
+    private static final ThreadLocal<ColumnarChunk> _columnarChunkLocal = new ThreadLocal<ColumnarChunk>();
+
+    /**
+     * Get the chunk of columnar result on thread.
+     * @return The chunk of columnar result. (NullAllowed)
+     */
+    public static ColumnarChunk getColumnarChunkOnThread() {
+        return _columnarChunkLocal.get();
+    }
+
+    /**
+     * Set the chunk of columnar result on thread.
+     * @param chunk The chunk of columnar result. (NotNull)
+     */
+    public static void setColumnarChunkOnThread(ColumnarChunk chunk) {
+        if (chunk == null) {
+            String msg = "The argument[chunk] must not be null.";
+            throw new IllegalArgumentException(msg);
+        }
+        _columnarChunkLocal.set(chunk);
+    }
+
+    /**
+     * Is existing the chunk of columnar result on thread?
+     * @return The determination, true or false.
+     */
+    public static boolean isExistColumnarChunkOnThread() {
+        return (_columnarChunkLocal.get() != null);
+    }
+
+    /**
+     * Clear the chunk of columnar result on thread.
+     */
+    public static void clearColumnarChunkOnThread() {
+        _columnarChunkLocal.set(null);
+    }
+
     // ===================================================================================
     //                                                                        Cool Classes
     //                                                                        ============
@@ -15,6 +15,7 @@
  */
 package org.dbflute.bhv.core.context;
 
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
@@ -23,6 +24,7 @@ import java.util.Stack;
 import org.dbflute.Entity;
 import org.dbflute.bhv.readable.EntityRowHandler;
 import org.dbflute.cbean.ConditionBean;
+import org.dbflute.hook.CallbackContext;
 import org.dbflute.jdbc.FetchBean;
 import org.dbflute.outsidesql.OutsideSqlContext;
 
@@ -133,6 +135,74 @@ public class ContextStack {
         }
     }
 
+    // ===================================================================================
+    //                                                                  Thread Inheritance
+    //                                                                  ==================
+    /**
+     * Capture all context on the current thread to inherit them to worker threads. <br>
+     * Contexts other than the internal map are shared between threads, so they should be read-only there.
+     * @return The captured context-stack, not pushed to the stack on thread. (NotNull)
+     */
+    public static ContextStack captureAllContextOnThread() {
+        final ContextStack contextStack = new ContextStack();
+        if (ConditionBeanContext.isExistConditionBeanOnThread()) {
+            contextStack.setConditionBean(ConditionBeanContext.getConditionBeanOnThread());
+        }
+        if (OutsideSqlContext.isExistOutsideSqlContextOnThread()) {
+            contextStack.setOutsideSqlContext(OutsideSqlContext.getOutsideSqlContextOnThread());
+        }
+        if (FetchAssistContext.isExistFetchBeanOnThread()) {
+            contextStack.setFetchBean(FetchAssistContext.getFetchBeanOnThread());
+        }
+        if (InternalMapContext.isExistInternalMapContextOnThread()) {
+            contextStack.setInternalMap(new HashMap<String, Object>(InternalMapContext.internalMap()));
+        }
+        if (ResourceContext.isExistResourceContextOnThread()) {
+            contextStack.setResourceContext(ResourceContext.getResourceContextOnThread());
+        }
+        if (CallbackContext.isExistCallbackContextOnThread()) {
+            contextStack.setCallbackContext(CallbackContext.getCallbackContextOnThread());
+        }
+        return contextStack;
+    }
+
+    /**
+     * Inherit the captured context to the current (worker) thread. <br>
+     * You should call clearAllInheritedContext() after your process in the thread.
+     * @param contextStack The context-stack captured by captureAllContextOnThread(). (NotNull)
+     */
+    public static void inheritAllContextOnThread(ContextStack contextStack) {
+        if (contextStack == null) {
+            throw new IllegalArgumentException("The argument 'contextStack' should not be null.");
+        }
+        final ConditionBean cb = contextStack.getConditionBean();
+        if (cb != null) {
+            ConditionBeanContext.setConditionBeanOnThread(cb);
+        }
+        final OutsideSqlContext outsideSqlContext = contextStack.getOutsideSqlContext();
+        if (outsideSqlContext != null) {
+            OutsideSqlContext.setOutsideSqlContextOnThread(outsideSqlContext);
+        }
+        final FetchBean fetchBean = contextStack.getFetchBean();
+        if (fetchBean != null) {
+            FetchAssistContext.setFetchBeanOnThread(fetchBean);
+        }
+        final Map<String, Object> internalMap = contextStack.getInternalMap();
+        if (internalMap != null) { // copied per thread because it is modified by SQL handlers
+            for (Entry<String, Object> entry : internalMap.entrySet()) {
+                InternalMapContext.setObject(entry.getKey(), entry.getValue());
+            }
+        }
+        final ResourceContext resourceContext = contextStack.getResourceContext();
+        if (resourceContext != null) {
+            ResourceContext.setResourceContextOnThread(resourceContext);
+        }
+        final CallbackContext callbackContext = contextStack.getCallbackContext();
+        if (callbackContext != null) {
+            CallbackContext.setCallbackContextOnThread(callbackContext);
+        }
+    }
+
     public static void clearAllCurrentContext() {
         if (ConditionBeanContext.isExistConditionBeanOnThread()) {
             ConditionBeanContext.clearConditionBeanOnThread();
@@ -140,6 +210,9 @@ public class ContextStack {
         if (ConditionBeanContext.isExistEntityRowHandlerOnThread()) {
             ConditionBeanContext.clearEntityRowHandlerOnThread();
         }
+        if (ConditionBeanContext.isExistColumnarChunkOnThread()) {
+            ConditionBeanContext.clearColumnarChunkOnThread();
+        }
         if (OutsideSqlContext.isExistOutsideSqlContextOnThread()) {
             OutsideSqlContext.clearOutsideSqlContextOnThread();
         }
@@ -154,6 +227,13 @@ public class ContextStack {
         }
     }
 
+    public static void clearAllInheritedContext() { // for worker threads
+        clearAllCurrentContext();
+        if (CallbackContext.isExistCallbackContextOnThread()) {
+            CallbackContext.clearCallbackContextOnThread();
+        }
+    }
+
     // ===================================================================================
     //                                                                           Attribute
     //                                                                           =========
@@ -163,6 +243,7 @@ public class ContextStack {
     private FetchBean _fetchBean;
     private Map<String, Object> _internalMap;
     private ResourceContext _resourceContext;
+    private CallbackContext _callbackContext; // only for thread inheritance
 
     // ===================================================================================
     //                                                                            Accessor
@@ -214,4 +295,12 @@ public class ContextStack {
     public void setResourceContext(ResourceContext resourceContext) {
         this._resourceContext = resourceContext;
     }
+
+    public CallbackContext getCallbackContext() {
+        return _callbackContext;
+    }
+
+    public void setCallbackContext(CallbackContext callbackContext) {
+        this._callbackContext = callbackContext;
+    }
 }
@@ -16,21 +16,29 @@
 package org.dbflute.bhv.core.execution;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
 
 import javax.sql.DataSource;
 
 import org.dbflute.Entity;
 import org.dbflute.bhv.core.BehaviorCommandMeta;
+import org.dbflute.bhv.core.context.ConditionBeanContext;
+import org.dbflute.bhv.core.context.ContextStack;
+import org.dbflute.bhv.core.context.FetchAssistContext;
 import org.dbflute.bhv.core.context.InternalMapContext;
 import org.dbflute.bhv.core.context.ResourceContext;
 import org.dbflute.cbean.ConditionBean;
 import org.dbflute.cbean.ckey.ConditionKey;
+import org.dbflute.cbean.coption.PagingSelectAndQuerySplitOption;
 import org.dbflute.cbean.sqlclause.SqlClause;
 import org.dbflute.dbmeta.DBMeta;
 import org.dbflute.dbmeta.info.ColumnInfo;
 import org.dbflute.dbmeta.info.PrimaryInfo;
+import org.dbflute.helper.thread.BoundedWorkerPool;
 import org.dbflute.hook.CallbackContext;
 import org.dbflute.hook.SqlStringFilter;
 import org.dbflute.jdbc.StatementFactory;
@@ -39,6 +47,8 @@ import org.dbflute.s2dao.sqlhandler.TnBasicParameterHandler;
 import org.dbflute.s2dao.sqlhandler.TnBasicSelectHandler;
 import org.dbflute.twowaysql.context.CommandContext;
 import org.dbflute.twowaysql.node.Node;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * The SQL execution of select by condition-bean. <br>
@@ -47,6 +57,11 @@ import org.dbflute.twowaysql.node.Node;
  */
 public class SelectCBExecution extends AbstractFixedArgExecution {
 
+    // ===================================================================================
+    //                                                                          Definition
+    //                                                                          ==========
+    private static final Logger _log = LoggerFactory.getLogger(SelectCBExecution.class);
+
     // ===================================================================================
     //                                                                           Attribute
     //                                                                           =========
@@ -143,14 +158,29 @@ public class SelectCBExecution extends AbstractFixedArgExecution {
         }
         final ColumnInfo pkColumn = primaryInfo.getFirstColumn();
         final SqlClause sqlClause = cb.getSqlClause();
+        final long firstBefore = System.currentTimeMillis();
         final List<Object> pkList = doSplitSelectFirst(args, cb, dbmeta, sqlClause);
+        final long firstAfter = System.currentTimeMillis();
         if (pkList == null) { // no way just in case
             return null;
         }
         if (pkList.isEmpty()) {
+            acceptSplitPhaseMillis(cb, firstAfter - firstBefore, 0L);
             return pkList;
         }
-        return doSplitSelectSecond(args, cb, pkColumn, sqlClause, pkList);
+        final Object secondResult = doSplitSelectSecond(args, cb, pkColumn, sqlClause, pkList);
+        acceptSplitPhaseMillis(cb, firstAfter - firstBefore, System.currentTimeMillis() - firstAfter);
+        return secondResult;
+    }
+
+    protected void acceptSplitPhaseMillis(ConditionBean cb, long firstPhaseMillis, long secondPhaseMillis) {
+        if (_log.isDebugEnabled()) {
+            _log.debug("...Splitting select and query: first=" + firstPhaseMillis + "ms, second=" + secondPhaseMillis + "ms");
+        }
+        final PagingSelectAndQuerySplitOption option = cb.getPagingSelectAndQuerySplitOption();
+        if (option != null) {
+            option.xacceptPhaseMillis(firstPhaseMillis, secondPhaseMillis);
+        }
     }
 
     protected List<Object> doSplitSelectFirst(Object[] args, ConditionBean cb, DBMeta dbmeta, SqlClause sqlClause) {
@@ -181,6 +211,11 @@ public class SelectCBExecution extends AbstractFixedArgExecution {
             sqlClause.clearWhereClauseOnBaseQuery();
             sqlClause.suppressFetchScope();
 
+            final PagingSelectAndQuerySplitOption option = cb.getPagingSelectAndQuerySplitOption();
+            if (option != null && option.needsChunk(pkList.size())) {
+                return doSplitSelectSecondByChunk(args, cb, pkColumn, sqlClause, pkList, option);
+            }
+
             // order by is inherited
             // basically small list here so one more order-by is not problem
             final String ckey = ConditionKey.CK_IN_SCOPE.getConditionKey();
@@ -193,6 +228,135 @@ public class SelectCBExecution extends AbstractFixedArgExecution {
         }
     }
 
+    // -----------------------------------------------------
+    //                                          Second Chunk
+    //                                          ------------
+    protected List<Object> doSplitSelectSecondByChunk(Object[] args, ConditionBean cb, ColumnInfo pkColumn, SqlClause sqlClause,
+            List<Object> pkList, PagingSelectAndQuerySplitOption option) {
+        final List<List<Object>> chunkList = splitPKChunk(pkList, option.getChunkSize());
+        final String ckey = ConditionKey.CK_IN_SCOPE.getConditionKey();
+        final List<Object> mergedList = new ArrayList<Object>(pkList.size());
+        if (option.canExecuteChunkParallel()) {
+            // condition-bean is not thread-safe so each chunk has its own condition-bean (copied by callback)
+            // and the executions (with their own connections) are run concurrently
+            final List<SplitChunkStatement> statementList = new ArrayList<SplitChunkStatement>(chunkList.size());
+            for (List<Object> chunk : chunkList) {
+                final ConditionBean chunkCB = prepareSplitChunkConditionBean(option, pkColumn, chunk);
+                statementList.add(prepareSplitChunkStatement(chunkCB));
+            }
+            for (Object chunkResult : executeSplitChunkParallel(statementList, option)) {
+                mergeSplitChunkResult(mergedList, chunkResult);
+            }
+        } else {
+            for (List<Object> chunk : chunkList) {
+                sqlClause.clearWhereClauseOnBaseQuery();
+                cb.localCQ().invokeQuery(pkColumn.getColumnDbName(), ckey, chunk);
+                mergeSplitChunkResult(mergedList, superExecute(args));
+            }
+        }
+        return restoreSplitFirstOrder(cb.asDBMeta(), pkList, mergedList);
+    }
+
+    protected List<List<Object>> splitPKChunk(List<Object> pkList, int chunkSize) {
+        final List<List<Object>> chunkList = new ArrayList<List<Object>>();
+        for (int i = 0; i < pkList.size(); i += chunkSize) {
+            chunkList.add(new ArrayList<Object>(pkList.subList(i, Math.min(i + chunkSize, pkList.size()))));
+        }
+        return chunkList;
+    }
+
+    protected void mergeSplitChunkResult(List<Object> mergedList, Object chunkResult) {
+        if (chunkResult instanceof List<?>) { // basically here
+            mergedList.addAll((List<?>) chunkResult);
+        }
+    }
+
+    protected List<Object> restoreSplitFirstOrder(DBMeta dbmeta, List<Object> pkList, List<Object> mergedList) {
+        // the order of chunks are independent so the order of the first select is restored
+        final Map<Object, Object> entityMap = new HashMap<Object, Object>(mergedList.size());
+        for (Object element : mergedList) {
+            final Map<String, Object> primaryKeyMap = dbmeta.extractPrimaryKeyMap((Entity) element);
+            entityMap.put(primaryKeyMap.values().iterator().next(), element); // only-one here
+        }
+        final List<Object> orderedList = new ArrayList<Object>(mergedList.size());
+        for (Object pk : pkList) {
+            final Object entity = entityMap.get(pk);
+            if (entity != null) { // might be deleted between the first and the second
+                orderedList.add(entity);
+            }
+        }
+        return orderedList;
+    }
+
+    protected ConditionBean prepareSplitChunkConditionBean(PagingSelectAndQuerySplitOption option, ColumnInfo pkColumn,
+            List<Object> chunk) {
+        final ConditionBean chunkCB = option.getConditionBeanCopier().get(); // same condition as the first select
+        final SqlClause chunkClause = chunkCB.getSqlClause();
+        chunkClause.clearWhereClauseOnBaseQuery();
+        chunkClause.suppressFetchScope();
+        chunkCB.localCQ().invokeQuery(pkColumn.getColumnDbName(), ConditionKey.CK_IN_SCOPE.getConditionKey(), chunk);
+        return chunkCB;
+    }
+
+    protected SplitChunkStatement prepareSplitChunkStatement(ConditionBean chunkCB) { // same as super.execute() without execution
+        final Object[] args = new Object[] { chunkCB };
+        final Node rootNode = getRootNode(args);
+        final CommandContext ctx = apply(rootNode, args, getArgNames(args), getArgTypes(args));
+        final String executedSql = filterExecutedSql(ctx);
+        final TnBasicParameterHandler handler = createBasicParameterHandler(ctx, executedSql);
+        return new SplitChunkStatement(chunkCB, handler, ctx.getBindVariables(), ctx.getBindVariableTypes());
+    }
+
+    protected List<Object> executeSplitChunkParallel(List<SplitChunkStatement> statementList, PagingSelectAndQuerySplitOption option) {
+        final ContextStack capturedContext = ContextStack.captureAllContextOnThread();
+        final List<Callable<Object>> taskList = new ArrayList<Callable<Object>>(statementList.size());
+        for (SplitChunkStatement statement : statementList) {
+            taskList.add(() -> {
+                ContextStack.inheritAllContextOnThread(capturedContext);
+                final ConditionBean chunkCB = statement.getConditionBean();
+                if (chunkCB != null) { // basically here, own condition-bean instead of the inherited one
+                    ConditionBeanContext.setConditionBeanOnThread(chunkCB);
+                    FetchAssistContext.setFetchBeanOnThread(chunkCB);
+                }
+                try {
+                    return filterReturnValue(statement.execute());
+                } finally {
+                    ContextStack.clearAllInheritedContext();
+                }
+            });
+        }
+        return prepareSplitChunkWorkerPool(option).executeInOrder(taskList, option.getParallelism()); // keeps chunk order
+    }
+
+    protected BoundedWorkerPool prepareSplitChunkWorkerPool(PagingSelectAndQuerySplitOption option) {
+        final Executor executor = option.getExecutor();
+        return executor != null ? new BoundedWorkerPool(executor) : BoundedWorkerPool.getShared();
+    }
+
+    protected static class SplitChunkStatement {
+
+        protected final ConditionBean _conditionBean; // own condition-bean of the chunk (NullAllowed: no context)
+        protected final TnBasicParameterHandler _handler;
+        protected final Object[] _bindVariables;
+        protected final Class<?>[] _bindVariableTypes;
+
+        public SplitChunkStatement(ConditionBean conditionBean, TnBasicParameterHandler handler, Object[] bindVariables,
+                Class<?>[] bindVariableTypes) {
+            _conditionBean = conditionBean;
+            _handler = handler;
+            _bindVariables = bindVariables;
+            _bindVariableTypes = bindVariableTypes;
+        }
+
+        public Object execute() {
+            return _handler.execute(_bindVariables, _bindVariableTypes);
+        }
+
+        public ConditionBean getConditionBean() {
+            return _conditionBean;
+        }
+    }
+
     // ===================================================================================
     //                                                                             Handler
     //                                                                             =======
@@ -0,0 +1,180 @@
+/*
+ * Copyright 2014-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.dbflute.bhv.core.supplement;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.dbflute.util.DfTraceViewUtil;
+
+/**
+ * The report of behavior warm-up, which has timing of each table.
+ * @author agent
+ * @since 1.2.3 (2026/10/19 Monday)
+ */
+public class BehaviorWarmUpReport {
+
+    // ===================================================================================
+    //                                                                          Definition
+    //                                                                          ==========
+    protected static final int SLOWEST_DISPLAY_COUNT = 5;
+
+    // ===================================================================================
+    //                                                                           Attribute
+    //                                                                           =========
+    protected final List<WarmUpResult> _resultList; // not null, in warm-up order
+    protected final long _elapsedMillis;
+
+    // ===================================================================================
+    //                                                                         Constructor
+    //                                                                         ===========
+    /**
+     * @param resultList The list of warm-up result of each table. (NotNull)
+     * @param elapsedMillis The elapsed milliseconds of whole warm-up. (NotMinus)
+     */
+    public BehaviorWarmUpReport(List<WarmUpResult> resultList, long elapsedMillis) {
+        _resultList = resultList;
+        _elapsedMillis = elapsedMillis;
+    }
+
+    /**
+     * The result of warm-up for one table.
+     */
+    public static class WarmUpResult {
+
+        protected final String _tableDbName; // not null
+        protected final long _costMillis;
+        protected final RuntimeException _failureCause; // null allowed: when success or skipped
+        protected final boolean _skipped; // e.g. suppressed behavior
+
+        public WarmUpResult(String tableDbName, long costMillis, RuntimeException failureCause, boolean skipped) {
+            _tableDbName = tableDbName;
+            _costMillis = costMillis;
+            _failureCause = failureCause;
+            _skipped = skipped;
+        }
+
+        @Override
+        public String toString() {
+            return _tableDbName + "(" + _costMillis + "ms" + (_skipped ? ", skipped" : "") + (_failureCause != null ? ", failed" : "") + ")";
+        }
+
+        public String getTableDbName() {
+            return _tableDbName;
+        }
+
+        public long getCostMillis() {
+            return _costMillis;
+        }
+
+        public RuntimeException getFailureCause() {
+            return _failureCause;
+        }
+
+        public boolean isSkipped() {
+            return _skipped;
+        }
+
+        public boolean isFailure() {
+            return _failureCause != null;
+        }
+    }
+
+    // ===================================================================================
+    //                                                                             Display
+    //                                                                             =======
+    /**
+     * Convert to display string for logging, e.g. <br>
+     * Warm-up: 120 tables (warmed=118, skipped=1, failed=1) [00m01s234ms] slowest=[MEMBER(320ms), PURCHASE(210ms)]
+     * @return The display string of the report. (NotNull)
+     */
+    public String toDisplay() {
+        final StringBuilder sb = new StringBuilder();
+        sb.append("Warm-up: ").append(_resultList.size()).append(" tables");
+        sb.append(" (warmed=").append(countWarmed());
+        sb.append(", skipped=").append(countSkipped());
+        sb.append(", failed=").append(getFailureList().size()).append(")");
+        sb.append(" [").append(DfTraceViewUtil.convertToPerformanceView(_elapsedMillis)).append("]");
+        sb.append(" slowest=").append(getSlowestList(SLOWEST_DISPLAY_COUNT));
+        return sb.toString();
+    }
+
+    // ===================================================================================
+    //                                                                        Result Query
+    //                                                                        ============
+    /**
+     * @param limit The max count of returned results. (NotMinus)
+     * @return The list of results sorted by cost descending. (NotNull)
+     */
+    public List<WarmUpResult> getSlowestList(int limit) {
+        final List<WarmUpResult> sortedList = new ArrayList<WarmUpResult>(_resultList);
+        sortedList.sort((left, right) -> Long.compare(right.getCostMillis(), left.getCostMillis()));
+        return sortedList.subList(0, Math.min(limit, sortedList.size()));
+    }
+
+    /**
+     * @return The list of failure results, you can get the cause from them. (NotNull)
+     */
+    public List<WarmUpResult> getFailureList() {
+        final List<WarmUpResult> failureList = new ArrayList<WarmUpResult>();
+        for (WarmUpResult result : _resultList) {
+            if (result.isFailure()) {
+                failureList.add(result);
+            }
+        }
+        return failureList;
+    }
+
+    protected int countWarmed() {
+        int count = 0;
+        for (WarmUpResult result : _resultList) {
+            if (!result.isSkipped() && !result.isFailure()) {
+                ++count;
+            }
+        }
+        return count;
+    }
+
+    protected int countSkipped() {
+        int count = 0;
+        for (WarmUpResult result : _resultList) {
+            if (result.isSkipped()) {
+                ++count;
+            }
+        }
+        return count;
+    }
+
+    // ===================================================================================
+    //                                                                      Basic Override
+    //                                                                      ==============
+    @Override
+    public String toString() {
+        return toDisplay();
+    }
+
+    // ===================================================================================
+    //                                                                            Accessor
+    //                                                                            ========
+    public List<WarmUpResult> getResultList() {
+        return Collections.unmodifiableList(_resultList);
+    }
+
+    public long getElapsedMillis() {
+        return _elapsedMillis;
+    }
+}
@@ -0,0 +1,310 @@
+/*
+ * Copyright 2014-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.dbflute.bhv.core.supplement;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.dbflute.bhv.BehaviorReadable;
+import org.dbflute.bhv.BehaviorSelector;
+import org.dbflute.bhv.core.BehaviorCommandInvoker;
+import org.dbflute.bhv.core.supplement.BehaviorWarmUpReport.WarmUpResult;
+import org.dbflute.dbmeta.DBMeta;
+import org.dbflute.dbmeta.info.ColumnInfo;
+import org.dbflute.exception.DBMetaNotFoundException;
+import org.dbflute.exception.IllegalBehaviorStateException;
+import org.dbflute.system.DBFluteSystem;
+
+/**
+ * The warm-upper of behaviors, which initializes SQL executions, DB metas, bean meta data
+ * and classifications of tables in parallel before application traffic.
+ * <pre>
+ * BehaviorWarmUpper warmUpper = new BehaviorWarmUpper(behaviorSelector);
+ * BehaviorWarmUpReport report = warmUpper.warmUpByManifest(manifestPath, allTableDbNameList);
+ * logger.info(report.toDisplay());
+ * ... (before application shutdown)
+ * BehaviorWarmUpper.writeHotKeyManifest(behaviorCommandInvoker, manifestPath);
+ * </pre>
+ * The hot keys manifest is the list of SQL execution keys used in previous run.
+ * The tables of the keys are warmed up, but outside-SQL executions themselves are not pre-built
+ * because they need their parameter-beans.
+ * @author agent
+ * @since 1.2.3 (2026/10/19 Monday)
+ */
+public class BehaviorWarmUpper {
+
+    // ===================================================================================
+    //                                                                          Definition
+    //                                                                          ==========
+    protected static final String MANIFEST_COMMENT_PREFIX = "#";
+    protected static final String KEY_TABLE_DELIMITER = ":";
+    protected static final String SEQUENCE_KEY_SUFFIX = ":selectNextVal()";
+    protected static final String THREAD_NAME_PREFIX = "dbflute-warmup-";
+
+    // ===================================================================================
+    //                                                                           Attribute
+    //                                                                           =========
+    protected final BehaviorSelector _behaviorSelector;
+    protected int _parallelism = Runtime.getRuntime().availableProcessors();
+
+    // ===================================================================================
+    //                                                                         Constructor
+    //                                                                         ===========
+    /**
+     * @param behaviorSelector The selector of behavior to warm up. (NotNull)
+     */
+    public BehaviorWarmUpper(BehaviorSelector behaviorSelector) {
+        if (behaviorSelector == null) {
+            throw new IllegalArgumentException("The argument 'behaviorSelector' should not be null.");
+        }
+        _behaviorSelector = behaviorSelector;
+    }
+
+    /**
+     * @param parallelism The count of threads for warm-up, 1 means on caller thread. (NotMinus, NotZero)
+     * @return this. (NotNull)
+     */
+    public BehaviorWarmUpper parallelism(int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("The argument 'parallelism' should not be minus or zero: " + parallelism);
+        }
+        _parallelism = parallelism;
+        return this;
+    }
+
+    // ===================================================================================
+    //                                                                             Warm up
+    //                                                                             =======
+    /**
+     * Warm up the behaviors of the tables.
+     * @param tableDbNames The collection of table DB name to warm up. (NotNull)
+     * @return The report of warm-up, which has timing of each table. (NotNull)
+     */
+    public BehaviorWarmUpReport warmUp(Collection<String> tableDbNames) {
+        if (tableDbNames == null) {
+            throw new IllegalArgumentException("The argument 'tableDbNames' should not be null.");
+        }
+        final long before = currentTimeMillis();
+        final List<WarmUpResult> resultList;
+        if (_parallelism == 1 || tableDbNames.size() <= 1) {
+            resultList = new ArrayList<WarmUpResult>(tableDbNames.size());
+            for (String tableDbName : tableDbNames) {
+                resultList.add(warmUpTable(tableDbName));
+            }
+        } else {
+            resultList = warmUpInParallel(tableDbNames);
+        }
+        return new BehaviorWarmUpReport(resultList, currentTimeMillis() - before);
+    }
+
+    /**
+     * Warm up the behaviors of the tables in the hot keys manifest. <br>
+     * If the manifest does not exist (e.g. first deploy), the fallback tables are warmed up.
+     * @param manifestPath The path of hot keys manifest written by previous run. (NotNull)
+     * @param fallbackTableDbNames The collection of table DB name when no manifest. (NotNull)
+     * @return The report of warm-up, which has timing of each table. (NotNull)
+     */
+    public BehaviorWarmUpReport warmUpByManifest(Path manifestPath, Collection<String> fallbackTableDbNames) {
+        if (manifestPath == null) {
+            throw new IllegalArgumentException("The argument 'manifestPath' should not be null.");
+        }
+        if (!Files.exists(manifestPath)) {
+            return warmUp(fallbackTableDbNames);
+        }
+        return warmUp(filterExistingTable(extractTableDbNames(readHotKeyManifest(manifestPath))));
+    }
+
+    protected List<String> filterExistingTable(Collection<String> tableDbNames) {
+        // the keys of sub-sequence (TABLE.COLUMN:selectNextVal()) look like table names but are not tables
+        final List<String> tableDbNameList = new ArrayList<String>(tableDbNames.size());
+        for (String tableDbName : tableDbNames) {
+            if (existsTable(tableDbName)) {
+                tableDbNameList.add(tableDbName);
+            }
+        }
+        return tableDbNameList;
+    }
+
+    protected boolean existsTable(String tableDbName) {
+        try {
+            _behaviorSelector.byName(tableDbName);
+            return true;
+        } catch (DBMetaNotFoundException ignored) {
+            return false;
+        } catch (RuntimeException ignored) { // e.g. suppressed behavior, reported by warm-up
+            return true;
+        }
+    }
+
+    protected List<WarmUpResult> warmUpInParallel(Collection<String> tableDbNames) {
+        final ExecutorService executor = Executors.newFixedThreadPool(Math.min(_parallelism, tableDbNames.size()), createThreadFactory());
+        try {
+            final List<Future<WarmUpResult>> futureList = new ArrayList<Future<WarmUpResult>>(tableDbNames.size());
+            for (String tableDbName : tableDbNames) {
+                futureList.add(executor.submit(() -> warmUpTable(tableDbName)));
+            }
+            final List<WarmUpResult> resultList = new ArrayList<WarmUpResult>(futureList.size());
+            for (Future<WarmUpResult> future : futureList) {
+                resultList.add(future.get()); // warmUpTable() does not throw
+            }
+            return resultList;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted the warm-up of behaviors: " + tableDbNames, e);
+        } catch (ExecutionException e) { // basically no way
+            throw new IllegalStateException("Failed to warm up the behaviors: " + tableDbNames, e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    protected ThreadFactory createThreadFactory() {
+        final AtomicInteger threadNumber = new AtomicInteger();
+        return runnable -> {
+            final Thread thread = new Thread(runnable, THREAD_NAME_PREFIX + threadNumber.incrementAndGet());
+            thread.setDaemon(true); // not to block application shutdown
+            return thread;
+        };
+    }
+
+    protected WarmUpResult warmUpTable(String tableDbName) {
+        final long before = currentTimeMillis();
+        try {
+            final BehaviorReadable bhv = _behaviorSelector.byName(tableDbName);
+            bhv.warmUpCommand(); // SQL executions and bean meta data
+            warmUpClassification(bhv.asDBMeta());
+            return new WarmUpResult(tableDbName, currentTimeMillis() - before, null, false);
+        } catch (IllegalBehaviorStateException ignored) { // means the behavior is suppressed
+            return new WarmUpResult(tableDbName, currentTimeMillis() - before, null, true);
+        } catch (RuntimeException e) { // warm-up failure should not stop the application boot
+            return new WarmUpResult(tableDbName, currentTimeMillis() - before, e, false);
+        }
+    }
+
+    protected void warmUpClassification(DBMeta dbmeta) {
+        for (ColumnInfo columnInfo : dbmeta.getColumnInfoList()) {
+            columnInfo.getClassificationMeta(); // to initialize classification class (and its maps)
+        }
+    }
+
+    // ===================================================================================
+    //                                                                     Hot Keys Manifest
+    //                                                                     =================
+    /**
+     * Write the hot keys manifest, which is the list of cached SQL execution keys.
+     * @param invoker The invoker of behavior command that has execution cache. (NotNull)
+     * @param manifestPath The path of manifest file, overridden if exists. (NotNull)
+     */
+    public static void writeHotKeyManifest(BehaviorCommandInvoker invoker, Path manifestPath) {
+        if (invoker == null) {
+            throw new IllegalArgumentException("The argument 'invoker' should not be null.");
+        }
+        if (manifestPath == null) {
+            throw new IllegalArgumentException("The argument 'manifestPath' should not be null.");
+        }
+        final List<String> lineList = new ArrayList<String>();
+        lineList.add(MANIFEST_COMMENT_PREFIX + " hot keys of SQL execution at " + DBFluteSystem.currentLocalDateTime());
+        lineList.addAll(invoker.getExecutionKeyList());
+        try {
+            final Path parent = manifestPath.getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            Files.write(manifestPath, lineList, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write the hot keys manifest: " + manifestPath, e);
+        }
+    }
+
+    /**
+     * Read the hot keys manifest.
+     * @param manifestPath The path of existing manifest file. (NotNull)
+     * @return The list of SQL execution keys, without comment and empty lines. (NotNull)
+     */
+    public static List<String> readHotKeyManifest(Path manifestPath) {
+        if (manifestPath == null) {
+            throw new IllegalArgumentException("The argument 'manifestPath' should not be null.");
+        }
+        final List<String> lineList;
+        try {
+            lineList = Files.readAllLines(manifestPath, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read the hot keys manifest: " + manifestPath, e);
+        }
+        final List<String> keyList = new ArrayList<String>(lineList.size());
+        for (String line : lineList) {
+            final String trimmed = line.trim();
+            if (!trimmed.isEmpty() && !trimmed.startsWith(MANIFEST_COMMENT_PREFIX)) {
+                keyList.add(trimmed);
+            }
+        }
+        return keyList;
+    }
+
+    /**
+     * Extract the table DB names from the SQL execution keys, e.g. MEMBER:selectList(MemberCB) to MEMBER.
+     * @param keyList The list of SQL execution keys. (NotNull)
+     * @return The set of table DB name, in key order, also contains the table candidates of sequence keys. (NotNull)
+     */
+    public static Set<String> extractTableDbNames(List<String> keyList) {
+        final Set<String> tableDbNameSet = new LinkedHashSet<String>();
+        for (String key : keyList) {
+            final int delimiterIndex = key.indexOf(KEY_TABLE_DELIMITER);
+            if (delimiterIndex > 0) { // also outside-SQL keys start with table name
+                final String tableDbName = key.substring(0, delimiterIndex);
+                if (isTableDbNameLike(tableDbName)) {
+                    tableDbNameSet.add(tableDbName);
+                    final int columnIndex = tableDbName.lastIndexOf('.');
+                    if (key.endsWith(SEQUENCE_KEY_SUFFIX) && columnIndex > 0) { // might be sub-sequence key
+                        tableDbNameSet.add(tableDbName.substring(0, columnIndex)); // its table, filtered later if not exists
+                    }
+                }
+            }
+        }
+        return tableDbNameSet;
+    }
+
+    protected static boolean isTableDbNameLike(String tableDbName) {
+        for (int i = 0; i < tableDbName.length(); i++) {
+            final char ch = tableDbName.charAt(i);
+            if (!Character.isLetterOrDigit(ch) && ch != '_' && ch != '.' && ch != '$') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // ===================================================================================
+    //                                                                        Small Helper
+    //                                                                        ============
+    protected long currentTimeMillis() {
+        return System.currentTimeMillis(); // real time for performance
+    }
+}
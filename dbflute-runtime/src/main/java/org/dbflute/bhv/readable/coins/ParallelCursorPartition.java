@@ -0,0 +1,144 @@
+/*
+ * Copyright 2014-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.dbflute.bhv.readable.coins;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.dbflute.util.DfTypeUtil;
+
+/**
+ * The partition of parallel cursor select, which is a range of primary key. <br>
+ * The handled count is updated by the thread of the partition so you can watch the progress.
+ * @author agent
+ * @since 1.2.3 (2026/10/19 Monday)
+ */
+public class ParallelCursorPartition {
+
+    // ===================================================================================
+    //                                                                           Attribute
+    //                                                                           =========
+    protected final int _partitionNumber; // 1 origin
+    protected final Number _lowerBound; // inclusive
+    protected final Number _upperBound; // exclusive, or inclusive if last
+    protected final boolean _lastPartition;
+    protected final AtomicLong _handledCount = new AtomicLong();
+    protected volatile long _elapsedMillis = -1L; // set after finished
+
+    // ===================================================================================
+    //                                                                         Constructor
+    //                                                                         ===========
+    public ParallelCursorPartition(int partitionNumber, Number lowerBound, Number upperBound, boolean lastPartition) {
+        _partitionNumber = partitionNumber;
+        _lowerBound = lowerBound;
+        _upperBound = upperBound;
+        _lastPartition = lastPartition;
+    }
+
+    // ===================================================================================
+    //                                                                        Range Split
+    //                                                                        ===========
+    /**
+     * Split the range of numeric primary key into partitions of (almost) same width.
+     * @param minValue The minimum value of the primary key. (NotNull)
+     * @param maxValue The maximum value of the primary key. (NotNull)
+     * @param partitionCount The requested count of partitions. (NotMinus, NotZero)
+     * @param pkType The native type of the primary key to convert bounds. (NotNull)
+     * @return The list of partitions, might be smaller than the requested count if small range. (NotNull, NotEmpty)
+     */
+    public static List<ParallelCursorPartition> splitRange(Number minValue, Number maxValue, int partitionCount, Class<?> pkType) {
+        if (partitionCount < 1) {
+            String msg = "The argument 'partitionCount' should not be minus or zero: " + partitionCount;
+            throw new IllegalArgumentException(msg);
+        }
+        final BigDecimal min = DfTypeUtil.toBigDecimal(minValue);
+        final BigDecimal max = DfTypeUtil.toBigDecimal(maxValue);
+        final BigDecimal span = max.subtract(min).add(BigDecimal.ONE); // both inclusive
+        BigDecimal width = span.divide(BigDecimal.valueOf(partitionCount), 0, RoundingMode.CEILING);
+        if (width.compareTo(BigDecimal.ONE) < 0) { // e.g. same min and max
+            width = BigDecimal.ONE;
+        }
+        final List<ParallelCursorPartition> partitionList = new ArrayList<ParallelCursorPartition>(partitionCount);
+        BigDecimal lower = min;
+        for (int i = 0; i < partitionCount; i++) {
+            final BigDecimal upper = lower.add(width);
+            final boolean last = i == partitionCount - 1 || upper.compareTo(max) > 0;
+            final Number lowerBound = DfTypeUtil.toNumber(lower, pkType);
+            final Number upperBound = DfTypeUtil.toNumber(last ? max : upper, pkType);
+            partitionList.add(new ParallelCursorPartition(i + 1, lowerBound, upperBound, last));
+            if (last) {
+                break;
+            }
+            lower = upper;
+        }
+        return partitionList;
+    }
+
+    // ===================================================================================
+    //                                                                            Progress
+    //                                                                            ========
+    public void incrementHandledCount() {
+        _handledCount.incrementAndGet();
+    }
+
+    public void finish(long elapsedMillis) {
+        _elapsedMillis = elapsedMillis;
+    }
+
+    public boolean isFinished() {
+        return _elapsedMillis >= 0;
+    }
+
+    // ===================================================================================
+    //                                                                      Basic Override
+    //                                                                      ==============
+    @Override
+    public String toString() {
+        final String upperMark = _lastPartition ? "]" : ")";
+        return "#" + _partitionNumber + "[" + _lowerBound + ", " + _upperBound + upperMark + " handled=" + _handledCount.get()
+                + (isFinished() ? " (" + _elapsedMillis + "ms)" : " (running)");
+    }
+
+    // ===================================================================================
+    //                                                                            Accessor
+    //                                                                            ========
+    public int getPartitionNumber() {
+        return _partitionNumber;
+    }
+
+    public Number getLowerBound() {
+        return _lowerBound;
+    }
+
+    public Number getUpperBound() {
+        return _upperBound;
+    }
+
+    public boolean isLastPartition() {
+        return _lastPartition;
+    }
+
+    public long getHandledCount() {
+        return _handledCount.get();
+    }
+
+    public long getElapsedMillis() {
+        return _elapsedMillis;
+    }
+}
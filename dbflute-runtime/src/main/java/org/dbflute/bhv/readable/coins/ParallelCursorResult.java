@@ -0,0 +1,69 @@
+/*
+ * Copyright 2014-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.dbflute.bhv.readable.coins;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The result of parallel cursor select, which has partitions of primary-key range.
+ * @author agent
+ * @since 1.2.3 (2026/10/19 Monday)
+ */
+public class ParallelCursorResult {
+
+    // ===================================================================================
+    //                                                                           Attribute
+    //                                                                           =========
+    protected final List<ParallelCursorPartition> _partitionList;
+
+    // ===================================================================================
+    //                                                                         Constructor
+    //                                                                         ===========
+    public ParallelCursorResult(List<ParallelCursorPartition> partitionList) {
+        _partitionList = partitionList;
+    }
+
+    // ===================================================================================
+    //                                                                         Total Count
+    //                                                                         ===========
+    /**
+     * Get the count of handled rows in all partitions.
+     * @return The total count. (NotMinus)
+     */
+    public long getTotalCount() {
+        long totalCount = 0;
+        for (ParallelCursorPartition partition : _partitionList) {
+            totalCount += partition.getHandledCount();
+        }
+        return totalCount;
+    }
+
+    // ===================================================================================
+    //                                                                      Basic Override
+    //                                                                      ==============
+    @Override
+    public String toString() {
+        return "{total=" + getTotalCount() + ", partitions=" + _partitionList + "}";
+    }
+
+    // ===================================================================================
+    //                                                                            Accessor
+    //                                                                            ========
+    public List<ParallelCursorPartition> getPartitionList() {
+        return Collections.unmodifiableList(_partitionList);
+    }
+}
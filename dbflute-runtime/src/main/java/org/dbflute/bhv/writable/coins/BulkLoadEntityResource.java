@@ -0,0 +1,73 @@
+/*
+ * Copyright 2014-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.dbflute.bhv.writable.coins;
+
+/**
+ * The resource of entities for bulk loading, passed to the insert hooks of behavior as entity resource. <br>
+ * The entities are streamed to the loaded file so they are not kept here, only the count of streamed entities.
+ * @author agent
+ * @since 1.2.3 (2026/10/19 Monday)
+ */
+public class BulkLoadEntityResource {
+
+    // ===================================================================================
+    //                                                                           Attribute
+    //                                                                           =========
+    protected final String _tableDbName; // not null
+    protected int _streamedCount; // streamed in the thread of loading
+
+    // ===================================================================================
+    //                                                                         Constructor
+    //                                                                         ===========
+    /**
+     * @param tableDbName The DB name of loaded table. (NotNull)
+     */
+    public BulkLoadEntityResource(String tableDbName) {
+        _tableDbName = tableDbName;
+    }
+
+    // ===================================================================================
+    //                                                                      Basic Override
+    //                                                                      ==============
+    @Override
+    public String toString() {
+        return "bulkLoad:{" + _tableDbName + ", streamed=" + _streamedCount + "}";
+    }
+
+    // ===================================================================================
+    //                                                                            Accessor
+    //                                                                            ========
+    /**
+     * Get the DB name of loaded table.
+     * @return The DB name of table. (NotNull)
+     */
+    public String getTableDbName() {
+        return _tableDbName;
+    }
+
+    /**
+     * Get the count of entities streamed to the loaded file. <br>
+     * It is zero in the before hook, and all entities (or until failure) in the finally hook.
+     * @return The count of streamed entities. (NotMinus)
+     */
+    public int getStreamedCount() {
+        return _streamedCount;
+    }
+
+    public void xincrementStreamedCount() { // internal
+        ++_streamedCount;
+    }
+}
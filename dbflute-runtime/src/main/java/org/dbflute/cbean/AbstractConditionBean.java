@@ -38,6 +38,7 @@ import org.dbflute.cbean.chelper.HpSpQyHas;
 import org.dbflute.cbean.chelper.HpSpQyQy;
 import org.dbflute.cbean.cipher.ColumnFunctionCipher;
 import org.dbflute.cbean.coption.CursorSelectOption;
+import org.dbflute.cbean.coption.PagingSelectAndQuerySplitOption;
 import org.dbflute.cbean.coption.DerivedReferrerOption;
 import org.dbflute.cbean.coption.DerivedReferrerOptionFactory;
 import org.dbflute.cbean.coption.SVOptionCall;
@@ -119,6 +120,9 @@ public abstract class AbstractConditionBean implements ConditionBean {
     /** Does it split SQL execution as select and query? {Internal} */
     protected boolean _pagingSelectAndQuerySplit;
 
+    /** The option of paging select and query split. {Internal} (NullAllowed: when no option) */
+    protected PagingSelectAndQuerySplitOption _pagingSelectAndQuerySplitOption;
+
     // -----------------------------------------------------
     //                                                 Union
     //                                                 -----
@@ -950,9 +954,38 @@ public abstract class AbstractConditionBean implements ConditionBean {
         _pagingSelectAndQuerySplit = true;
     }
 
+    /**
+     * Enable that it splits the SQL execute select and query of paging, with the option. <br>
+     * The second select by primary keys can be split into chunks, executed concurrently if parallel.
+     * <pre>
+     * cb.enablePagingSelectAndQuerySplit(op -&gt; op.splitByChunkParallel(100, 4));
+     * </pre>
+     * Other specifications are same as enablePagingSelectAndQuerySplit().
+     * @param opLambda The callback for option of the split. (NotNull)
+     * @deprecated This is rare handling for performance tuning so don't use this easily.
+     */
+    @Deprecated
+    public void enablePagingSelectAndQuerySplit(SVOptionCall<PagingSelectAndQuerySplitOption> opLambda) {
+        assertObjectNotNull("opLambda", opLambda);
+        enablePagingSelectAndQuerySplit();
+        final PagingSelectAndQuerySplitOption op = newPagingSelectAndQuerySplitOption();
+        opLambda.callback(op);
+        _pagingSelectAndQuerySplitOption = op;
+    }
+
+    protected PagingSelectAndQuerySplitOption newPagingSelectAndQuerySplitOption() {
+        return new PagingSelectAndQuerySplitOption();
+    }
+
     public void disablePagingSelectAndQuerySplit() {
         assertOptionThatBadTiming("disablePagingSelectAndQuerySplit()");
         _pagingSelectAndQuerySplit = false;
+        _pagingSelectAndQuerySplitOption = null;
+    }
+
+    /** {@inheritDoc} */
+    public PagingSelectAndQuerySplitOption getPagingSelectAndQuerySplitOption() {
+        return _pagingSelectAndQuerySplitOption;
     }
 
     // -----------------------------------------------------
@@ -20,6 +20,7 @@ import java.util.Map;
 import org.dbflute.cbean.chelper.HpCBPurpose;
 import org.dbflute.cbean.chelper.HpColumnSpHandler;
 import org.dbflute.cbean.coption.CursorSelectOption;
+import org.dbflute.cbean.coption.PagingSelectAndQuerySplitOption;
 import org.dbflute.cbean.coption.ScalarSelectOption;
 import org.dbflute.cbean.coption.StatementConfigCall;
 import org.dbflute.cbean.dream.SpecifiedColumn;
@@ -299,6 +300,14 @@ public interface ConditionBean extends PagingBean, WelcomeToDreamCruise {
      */
     boolean canPagingSelectAndQuerySplit();
 
+    /**
+     * Get the option of paging select and query split.
+     * @return The option of the split. (NullAllowed: when no option)
+     */
+    default PagingSelectAndQuerySplitOption getPagingSelectAndQuerySplitOption() {
+        return null; // as default, no option
+    }
+
     // ===================================================================================
     //                                                                        Lock Setting
     //                                                                        ============
@@ -0,0 +1,178 @@
+/*
+ * Copyright 2014-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.dbflute.cbean.coption;
+
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
+import org.dbflute.cbean.ConditionBean;
+
+/**
+ * The option for PagingSelectAndQuerySplit. <br>
+ * The second select (by primary keys selected at the first select) can be split into chunks
+ * and the chunks can be executed concurrently. The order of the first select is restored in memory.
+ * @author agent
+ * @since 1.2.3 (2026/10/19 Monday)
+ */
+public class PagingSelectAndQuerySplitOption {
+
+    // ===================================================================================
+    //                                                                           Attribute
+    //                                                                           =========
+    protected int _chunkSize; // zero means no chunk (one in-scope query)
+    protected int _parallelism = 1; // one means serial
+    protected Executor _executor; // null means shared bounded pool of runtime
+    protected Supplier<? extends ConditionBean> _conditionBeanCopier; // null means no copy so serial chunks
+    protected long _firstPhaseMillis = -1L; // set after execution
+    protected long _secondPhaseMillis = -1L; // me too
+
+    // ===================================================================================
+    //                                                                        Second Phase
+    //                                                                        ============
+    /**
+     * Split the second select into chunks of primary keys. <br>
+     * The chunks are executed one by one on the current connection.
+     * @param chunkSize The count of primary keys in one chunk. (NotMinus, NotZero)
+     * @return this. (NotNull)
+     */
+    public PagingSelectAndQuerySplitOption splitByChunk(int chunkSize) {
+        assertChunkSizeValid(chunkSize);
+        _chunkSize = chunkSize;
+        _parallelism = 1;
+        return this;
+    }
+
+    /**
+     * Split the second select into chunks of primary keys and execute them concurrently. <br>
+     * The chunks are executed on other connections from the data source (not in current transaction),
+     * so you should use this only for read-only pages that don't need to see uncommitted data. <br>
+     * The threads are from the bounded pool shared in the runtime, or from your executor by executeOn(). <br>
+     * Each chunk is selected by its own condition-bean, which is created by calling your condition-bean callback again,
+     * so the chunks are executed concurrently only when the condition-bean is from callback of behavior, e.g. selectPage(cb -&gt; {...}).
+     * (otherwise executed one by one)
+     * @param chunkSize The count of primary keys in one chunk. (NotMinus, NotZero)
+     * @param parallelism The max count of concurrent threads (and connections). (NotMinus, NotZero)
+     * @return this. (NotNull)
+     */
+    public PagingSelectAndQuerySplitOption splitByChunkParallel(int chunkSize, int parallelism) {
+        assertChunkSizeValid(chunkSize);
+        if (parallelism < 1) {
+            String msg = "The argument 'parallelism' should not be minus or zero: " + parallelism;
+            throw new IllegalArgumentException(msg);
+        }
+        _chunkSize = chunkSize;
+        _parallelism = parallelism;
+        return this;
+    }
+
+    /**
+     * Execute the parallel chunks on your executor instead of the shared pool of runtime. <br>
+     * The parallelism is kept even on your executor, so the executor does not need to be dedicated.
+     * @param executor The executor to run the chunks, e.g. application managed pool. (NotNull)
+     * @return this. (NotNull)
+     */
+    public PagingSelectAndQuerySplitOption executeOn(Executor executor) {
+        if (executor == null) {
+            String msg = "The argument 'executor' should not be null.";
+            throw new IllegalArgumentException(msg);
+        }
+        _executor = executor;
+        return this;
+    }
+
+    protected void assertChunkSizeValid(int chunkSize) {
+        if (chunkSize < 1) {
+            String msg = "The argument 'chunkSize' should not be minus or zero: " + chunkSize;
+            throw new IllegalArgumentException(msg);
+        }
+    }
+
+    /**
+     * Does the second select need to be split by the option?
+     * @param pkCount The count of primary keys selected at the first select.
+     * @return The determination, true or false.
+     */
+    public boolean needsChunk(int pkCount) {
+        return _chunkSize > 0 && pkCount > _chunkSize;
+    }
+
+    public boolean isParallel() {
+        return _parallelism > 1;
+    }
+
+    /**
+     * Can the chunks be executed concurrently? (parallel and each chunk can have its own condition-bean)
+     * @return The determination, true or false.
+     */
+    public boolean canExecuteChunkParallel() {
+        return isParallel() && _conditionBeanCopier != null;
+    }
+
+    public void xacceptConditionBeanCopier(Supplier<? extends ConditionBean> conditionBeanCopier) { // internal
+        _conditionBeanCopier = conditionBeanCopier;
+    }
+
+    // ===================================================================================
+    //                                                                              Metric
+    //                                                                              ======
+    public void xacceptPhaseMillis(long firstPhaseMillis, long secondPhaseMillis) { // internal
+        _firstPhaseMillis = firstPhaseMillis;
+        _secondPhaseMillis = secondPhaseMillis;
+    }
+
+    /**
+     * Get the time spent in the first select (primary keys only) of the latest execution.
+     * @return The milliseconds of the first phase. (minus: not executed yet)
+     */
+    public long getFirstPhaseMillis() {
+        return _firstPhaseMillis;
+    }
+
+    /**
+     * Get the time spent in the second select (by primary keys) of the latest execution.
+     * @return The milliseconds of the second phase. (minus: not executed yet)
+     */
+    public long getSecondPhaseMillis() {
+        return _secondPhaseMillis;
+    }
+
+    // ===================================================================================
+    //                                                                      Basic Override
+    //                                                                      ==============
+    @Override
+    public String toString() {
+        return "{" + _chunkSize + ", " + _parallelism + ", " + _firstPhaseMillis + ", " + _secondPhaseMillis + "}";
+    }
+
+    // ===================================================================================
+    //                                                                            Accessor
+    //                                                                            ========
+    public int getChunkSize() {
+        return _chunkSize;
+    }
+
+    public int getParallelism() {
+        return _parallelism;
+    }
+
+    public Executor getExecutor() {
+        return _executor;
+    }
+
+    public Supplier<? extends ConditionBean> getConditionBeanCopier() {
+        return _conditionBeanCopier;
+    }
+}
@@ -0,0 +1,188 @@
+/*
+ * Copyright 2014-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.dbflute.cbean.result.columnar;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.dbflute.cbean.result.columnar.ColumnarVector.ColumnarKind;
+import org.dbflute.dbmeta.info.ColumnInfo;
+import org.dbflute.helper.StringKeyMap;
+
+/**
+ * The chunk of columnar result, which has vectors of specified columns. <br>
+ * If streaming handler exists, the chunk is delivered to the handler whenever it becomes full,
+ * and the vectors are cleared and reused for next rows. Otherwise, the vectors grow in chunk size.
+ * <pre>
+ * ColumnarChunk chunk = memberBhv.selectColumnar(cb -&gt; {
+ *     cb.specify().columnMemberId();
+ *     cb.specify().columnBirthdate();
+ * });
+ * ColumnarVector birthdate = chunk.vector("BIRTHDATE");
+ * for (int i = 0; i &lt; chunk.getRowCount(); i++) {
+ *     if (!birthdate.isNull(i)) {
+ *         ... = birthdate.getEpochDay(i);
+ *     }
+ * }
+ * </pre>
+ * @author agent
+ * @since 1.2.3 (2026/10/19 Monday)
+ */
+public class ColumnarChunk {
+
+    // ===================================================================================
+    //                                                                           Attribute
+    //                                                                           =========
+    protected final List<ColumnInfo> _columnInfoList; // not null, not empty
+    protected final List<ColumnarVector> _vectorList; // not null, same order as column list
+    protected final Map<String, ColumnarVector> _vectorMap; // not null, flexible key
+    protected final int _chunkSize; // not minus, not zero
+    protected final ColumnarChunkHandler _streamingHandler; // null allowed
+    protected int _rowCount;
+    protected int _chunkNumber = 1; // incremented per delivery
+    protected long _totalRowCount;
+
+    // ===================================================================================
+    //                                                                         Constructor
+    //                                                                         ===========
+    /**
+     * @param columnInfoList The list of column info for vectors. (NotNull, NotEmpty)
+     * @param chunkSize The size of chunk, growth size of vectors or delivery size of streaming. (NotMinus, NotZero)
+     * @param streamingHandler The handler of chunk for streaming. (NullAllowed: if null, not streaming)
+     */
+    public ColumnarChunk(List<ColumnInfo> columnInfoList, int chunkSize, ColumnarChunkHandler streamingHandler) {
+        if (columnInfoList == null || columnInfoList.isEmpty()) {
+            throw new IllegalArgumentException("The argument 'columnInfoList' should not be null or empty: " + columnInfoList);
+        }
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("The argument 'chunkSize' should not be minus or zero: " + chunkSize);
+        }
+        _columnInfoList = columnInfoList;
+        _chunkSize = chunkSize;
+        _streamingHandler = streamingHandler;
+        _vectorList = new ArrayList<ColumnarVector>(columnInfoList.size());
+        _vectorMap = StringKeyMap.createAsFlexible();
+        for (ColumnInfo columnInfo : columnInfoList) {
+            final ColumnarKind kind = ColumnarVector.determineKind(columnInfo.getObjectNativeType());
+            if (kind == null) {
+                String msg = "Unsupported type for columnar result: " + columnInfo + " (" + columnInfo.getObjectNativeType() + ")";
+                throw new IllegalArgumentException(msg);
+            }
+            final ColumnarVector vector = new ColumnarVector(columnInfo.getColumnDbName(), kind, chunkSize);
+            _vectorList.add(vector);
+            _vectorMap.put(columnInfo.getColumnDbName(), vector);
+        }
+    }
+
+    // ===================================================================================
+    //                                                                              Vector
+    //                                                                              ======
+    /**
+     * Get the vector of the column.
+     * @param columnDbName The DB name of column, flexible e.g. MEMBER_ID, memberId. (NotNull)
+     * @return The vector of the column. (NotNull)
+     */
+    public ColumnarVector vector(String columnDbName) {
+        final ColumnarVector vector = _vectorMap.get(columnDbName);
+        if (vector == null) {
+            String msg = "Not found the vector of the column: " + columnDbName + ", existing=" + _vectorMap.keySet();
+            throw new IllegalArgumentException(msg);
+        }
+        return vector;
+    }
+
+    // ===================================================================================
+    //                                                                      Row Management
+    //                                                                      ==============
+    /**
+     * Accept the row that values are already appended to all vectors. (internal)
+     */
+    public void xacceptRow() {
+        ++_rowCount;
+        ++_totalRowCount;
+        if (_streamingHandler != null && _rowCount >= _chunkSize) {
+            xdeliverChunk();
+        }
+    }
+
+    /**
+     * Deliver the remaining rows to the streaming handler if it needs. (internal)
+     */
+    public void xfinishRows() {
+        if (_streamingHandler != null && _rowCount > 0) {
+            xdeliverChunk();
+        }
+    }
+
+    protected void xdeliverChunk() {
+        _streamingHandler.handle(this);
+        for (ColumnarVector vector : _vectorList) {
+            vector.clear();
+        }
+        _rowCount = 0;
+        ++_chunkNumber;
+    }
+
+    // ===================================================================================
+    //                                                                      Basic Override
+    //                                                                      ==============
+    @Override
+    public String toString() {
+        return "{chunk=" + _chunkNumber + ", rows=" + _rowCount + ", vectors=" + _vectorList + "}";
+    }
+
+    // ===================================================================================
+    //                                                                            Accessor
+    //                                                                            ========
+    public List<ColumnInfo> getColumnInfoList() {
+        return Collections.unmodifiableList(_columnInfoList);
+    }
+
+    public List<ColumnarVector> getVectorList() {
+        return Collections.unmodifiableList(_vectorList);
+    }
+
+    /**
+     * @return The count of rows in this chunk (current delivery if streaming). (NotMinus)
+     */
+    public int getRowCount() {
+        return _rowCount;
+    }
+
+    /**
+     * @return The number of current chunk, one origin. (NotMinus, NotZero)
+     */
+    public int getChunkNumber() {
+        return _chunkNumber;
+    }
+
+    /**
+     * @return The count of all rows including delivered chunks. (NotMinus)
+     */
+    public long getTotalRowCount() {
+        return _totalRowCount;
+    }
+
+    public int getChunkSize() {
+        return _chunkSize;
+    }
+
+    public boolean isStreaming() {
+        return _streamingHandler != null;
+    }
+}
@@ -0,0 +1,32 @@
+/*
+ * Copyright 2014-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.dbflute.cbean.result.columnar;
+
+/**
+ * The handler of columnar chunk for streaming.
+ * @author agent
+ * @since 1.2.3 (2026/10/19 Monday)
+ */
+@FunctionalInterface
+public interface ColumnarChunkHandler {
+
+    /**
+     * Handle the full (or last) chunk. <br>
+     * The vectors are reused after this callback so don't keep the chunk or its arrays.
+     * @param chunk The chunk of columnar result. (NotNull)
+     */
+    void handle(ColumnarChunk chunk);
+}
@@ -0,0 +1,308 @@
+/*
+ * Copyright 2014-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.dbflute.cbean.result.columnar;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.LocalDate;
+import java.util.Arrays;
+
+/**
+ * The vector of one column in columnar result, which has values as primitive array. <br>
+ * Integer family is stored as long[], decimal family as double[] and local date as int[] of epoch days.
+ * Null values are managed by bitmap (the primitive value is zero at the index).
+ * @author agent
+ * @since 1.2.3 (2026/10/19 Monday)
+ */
+public class ColumnarVector {
+
+    // ===================================================================================
+    //                                                                          Definition
+    //                                                                          ==========
+    /**
+     * The kind of columnar vector, which determines the primitive array.
+     */
+    public enum ColumnarKind {
+        LONG, DOUBLE, EPOCH_DAY
+    }
+
+    // ===================================================================================
+    //                                                                           Attribute
+    //                                                                           =========
+    protected final String _columnDbName; // not null
+    protected final ColumnarKind _kind; // not null
+    protected final int _growthSize; // not minus, not zero
+    protected long[] _longValues; // exists if LONG
+    protected double[] _doubleValues; // exists if DOUBLE
+    protected int[] _epochDayValues; // exists if EPOCH_DAY
+    protected long[] _nullBits; // not null, bit per row
+    protected int _size;
+
+    // ===================================================================================
+    //                                                                         Constructor
+    //                                                                         ===========
+    /**
+     * @param columnDbName The DB name of the column. (NotNull)
+     * @param kind The kind of vector. (NotNull)
+     * @param growthSize The size to grow the arrays, basically chunk size. (NotMinus, NotZero)
+     */
+    public ColumnarVector(String columnDbName, ColumnarKind kind, int growthSize) {
+        if (columnDbName == null) {
+            throw new IllegalArgumentException("The argument 'columnDbName' should not be null.");
+        }
+        if (kind == null) {
+            throw new IllegalArgumentException("The argument 'kind' should not be null.");
+        }
+        if (growthSize < 1) {
+            throw new IllegalArgumentException("The argument 'growthSize' should not be minus or zero: " + growthSize);
+        }
+        _columnDbName = columnDbName;
+        _kind = kind;
+        _growthSize = growthSize;
+        if (ColumnarKind.LONG.equals(kind)) {
+            _longValues = new long[growthSize];
+        } else if (ColumnarKind.DOUBLE.equals(kind)) {
+            _doubleValues = new double[growthSize];
+        } else {
+            _epochDayValues = new int[growthSize];
+        }
+        _nullBits = new long[toNullBitsLength(growthSize)];
+    }
+
+    /**
+     * Determine the kind of vector for the native type of column.
+     * @param nativeType The native type of column, e.g. Integer, BigDecimal, LocalDate. (NotNull)
+     * @return The kind of vector. (NullAllowed: null means unsupported type)
+     */
+    public static ColumnarKind determineKind(Class<?> nativeType) {
+        if (Long.class.equals(nativeType) || Integer.class.equals(nativeType) || Short.class.equals(nativeType)
+                || Byte.class.equals(nativeType) || BigInteger.class.equals(nativeType)) {
+            return ColumnarKind.LONG;
+        } else if (BigDecimal.class.equals(nativeType) || Double.class.equals(nativeType) || Float.class.equals(nativeType)) {
+            return ColumnarKind.DOUBLE;
+        } else if (LocalDate.class.equals(nativeType)) {
+            return ColumnarKind.EPOCH_DAY;
+        }
+        return null;
+    }
+
+    // ===================================================================================
+    //                                                                              Append
+    //                                                                              ======
+    public void appendLong(long value) {
+        assertKind(ColumnarKind.LONG);
+        prepareCapacity();
+        _longValues[_size] = value;
+        ++_size;
+    }
+
+    public void appendDouble(double value) {
+        assertKind(ColumnarKind.DOUBLE);
+        prepareCapacity();
+        _doubleValues[_size] = value;
+        ++_size;
+    }
+
+    public void appendEpochDay(int epochDay) {
+        assertKind(ColumnarKind.EPOCH_DAY);
+        prepareCapacity();
+        _epochDayValues[_size] = epochDay;
+        ++_size;
+    }
+
+    public void appendNull() {
+        prepareCapacity();
+        if (_longValues != null) { // array might be reused so clear it
+            _longValues[_size] = 0L;
+        } else if (_doubleValues != null) {
+            _doubleValues[_size] = 0d;
+        } else {
+            _epochDayValues[_size] = 0;
+        }
+        _nullBits[_size >>> 6] |= (1L << (_size & 63));
+        ++_size;
+    }
+
+    protected void prepareCapacity() {
+        final int capacity = getCapacity();
+        if (_size < capacity) {
+            return;
+        }
+        final int newCapacity = capacity + _growthSize; // grows in chunks (not double) to save memory
+        if (_longValues != null) {
+            _longValues = Arrays.copyOf(_longValues, newCapacity);
+        } else if (_doubleValues != null) {
+            _doubleValues = Arrays.copyOf(_doubleValues, newCapacity);
+        } else {
+            _epochDayValues = Arrays.copyOf(_epochDayValues, newCapacity);
+        }
+        final int nullBitsLength = toNullBitsLength(newCapacity);
+        if (_nullBits.length < nullBitsLength) {
+            _nullBits = Arrays.copyOf(_nullBits, nullBitsLength);
+        }
+    }
+
+    protected int getCapacity() {
+        if (_longValues != null) {
+            return _longValues.length;
+        } else if (_doubleValues != null) {
+            return _doubleValues.length;
+        } else {
+            return _epochDayValues.length;
+        }
+    }
+
+    protected static int toNullBitsLength(int capacity) {
+        return (capacity + 63) >>> 6;
+    }
+
+    /**
+     * Clear the values to reuse the arrays for next chunk. (capacity is kept)
+     */
+    public void clear() {
+        Arrays.fill(_nullBits, 0, toNullBitsLength(_size), 0L);
+        _size = 0;
+    }
+
+    // ===================================================================================
+    //                                                                              Access
+    //                                                                              ======
+    /**
+     * @param index The index of row in the vector. (NotMinus, LessThanSize)
+     * @return The determination, true or false.
+     */
+    public boolean isNull(int index) {
+        assertIndex(index);
+        return (_nullBits[index >>> 6] & (1L << (index & 63))) != 0;
+    }
+
+    /**
+     * @param index The index of row in the vector. (NotMinus, LessThanSize)
+     * @return The primitive value. (zero if null)
+     */
+    public long getLong(int index) {
+        assertKind(ColumnarKind.LONG);
+        assertIndex(index);
+        return _longValues[index];
+    }
+
+    /**
+     * @param index The index of row in the vector. (NotMinus, LessThanSize)
+     * @return The primitive value. (zero if null)
+     */
+    public double getDouble(int index) {
+        assertKind(ColumnarKind.DOUBLE);
+        assertIndex(index);
+        return _doubleValues[index];
+    }
+
+    /**
+     * @param index The index of row in the vector. (NotMinus, LessThanSize)
+     * @return The count of days from 1970-01-01. (zero if null)
+     */
+    public int getEpochDay(int index) {
+        assertKind(ColumnarKind.EPOCH_DAY);
+        assertIndex(index);
+        return _epochDayValues[index];
+    }
+
+    /**
+     * @param index The index of row in the vector. (NotMinus, LessThanSize)
+     * @return The local date converted from epoch day. (NullAllowed: when null value)
+     */
+    public LocalDate getLocalDate(int index) {
+        final int epochDay = getEpochDay(index);
+        return isNull(index) ? null : LocalDate.ofEpochDay(epochDay);
+    }
+
+    // -----------------------------------------------------
+    //                                             Raw Array
+    //                                             ---------
+    /**
+     * Get the raw array of long values, valid until the size. (not copied, for e.g. vectorized loop)
+     * @return The internal array. (NotNull)
+     */
+    public long[] getLongArray() {
+        assertKind(ColumnarKind.LONG);
+        return _longValues;
+    }
+
+    /**
+     * Get the raw array of double values, valid until the size. (not copied, for e.g. vectorized loop)
+     * @return The internal array. (NotNull)
+     */
+    public double[] getDoubleArray() {
+        assertKind(ColumnarKind.DOUBLE);
+        return _doubleValues;
+    }
+
+    /**
+     * Get the raw array of epoch days, valid until the size. (not copied, for e.g. vectorized loop)
+     * @return The internal array. (NotNull)
+     */
+    public int[] getEpochDayArray() {
+        assertKind(ColumnarKind.EPOCH_DAY);
+        return _epochDayValues;
+    }
+
+    /**
+     * Get the raw bitmap of null values, bit per row. (not copied)
+     * @return The internal array. (NotNull)
+     */
+    public long[] getNullBits() {
+        return _nullBits;
+    }
+
+    // ===================================================================================
+    //                                                                       Assert Helper
+    //                                                                       =============
+    protected void assertKind(ColumnarKind kind) {
+        if (!_kind.equals(kind)) {
+            String msg = "The vector kind is not " + kind + ": " + toString();
+            throw new IllegalStateException(msg);
+        }
+    }
+
+    protected void assertIndex(int index) {
+        if (index < 0 || index >= _size) {
+            String msg = "The index is out of the vector: index=" + index + ", size=" + _size + ", column=" + _columnDbName;
+            throw new IndexOutOfBoundsException(msg);
+        }
+    }
+
+    // ===================================================================================
+    //                                                                      Basic Override
+    //                                                                      ==============
+    @Override
+    public String toString() {
+        return "{" + _columnDbName + ", " + _kind + ", size=" + _size + "}";
+    }
+
+    // ===================================================================================
+    //                                                                            Accessor
+    //                                                                            ========
+    public String getColumnDbName() {
+        return _columnDbName;
+    }
+
+    public ColumnarKind getKind() {
+        return _kind;
+    }
+
+    public int size() {
+        return _size;
+    }
+}
@@ -52,6 +52,7 @@ import org.dbflute.dbmeta.property.PropertyWriter;
 import org.dbflute.dbmeta.valuemap.MetaHandlingEntityToMapMapper;
 import org.dbflute.dbmeta.valuemap.MetaHandlingMapToEntityMapper;
 import org.dbflute.exception.DBMetaNotFoundException;
+import org.dbflute.helper.CaseFoldingKeyMap;
 import org.dbflute.helper.StringKeyMap;
 import org.dbflute.helper.message.ExceptionMessageBuilder;
 import org.dbflute.jdbc.Classification;
@@ -85,7 +86,7 @@ public abstract class AbstractDBMeta implements DBMeta {
     //                                  --------------------
     // lazy-initialized at corresponding getters
     private volatile List<ColumnInfo> _columnInfoList;
-    private volatile StringKeyMap<ColumnInfo> _columnInfoFlexibleMap;
+    private volatile Map<String, ColumnInfo> _columnInfoFlexibleMap; // frozen
     private volatile PrimaryInfo _primaryInfo;
     private volatile List<UniqueInfo> _uniqueInfoList;
     private volatile List<ForeignInfo> _foreignInfoList;
@@ -161,6 +162,17 @@ public abstract class AbstractDBMeta implements DBMeta {
         return propertyGatewayMap.get(foreignPropertyName);
     }
 
+    // -----------------------------------------------------
+    //                                        Column Ordinal
+    //                                        --------------
+    protected Object xreadColumnByGateway(Entity entity, int columnOrdinal) { // for generated switch
+        return getColumnInfoList().get(columnOrdinal).getPropertyGateway().read(entity);
+    }
+
+    protected void xwriteColumnByGateway(Entity entity, int columnOrdinal, Object value) { // for generated switch
+        getColumnInfoList().get(columnOrdinal).getPropertyGateway().write(entity, value);
+    }
+
     // -----------------------------------------------------
     //                                       Write Converter
     //                                       ---------------
@@ -358,7 +370,15 @@ public abstract class AbstractDBMeta implements DBMeta {
             if (_columnInfoList != null) {
                 return _columnInfoList;
             }
-            _columnInfoList = Collections.unmodifiableList(ccil());
+            final List<ColumnInfo> columnInfoList = ccil();
+            int columnOrdinal = 0;
+            for (ColumnInfo columnInfo : columnInfoList) {
+                if (columnInfo.getDBMeta() == this) { // basically true
+                    columnInfo.xacceptColumnOrdinal(columnOrdinal);
+                }
+                ++columnOrdinal;
+            }
+            _columnInfoList = Collections.unmodifiableList(columnInfoList);
             return _columnInfoList;
         }
     }
@@ -378,10 +398,11 @@ public abstract class AbstractDBMeta implements DBMeta {
             if (_columnInfoFlexibleMap != null) {
                 return _columnInfoFlexibleMap;
             }
-            _columnInfoFlexibleMap = createFlexibleConcurrentMap();
+            final CaseFoldingKeyMap<ColumnInfo> map = createFlexibleFrozenableMap(columnInfoList.size() * 3);
             for (ColumnInfo columnInfo : columnInfoList) {
-                columnInfo.diveIntoFlexibleMap(_columnInfoFlexibleMap);
+                columnInfo.diveIntoFlexibleMap(map);
             }
+            _columnInfoFlexibleMap = map.freeze(); // published after completely set up
             return _columnInfoFlexibleMap;
         }
     }
@@ -632,11 +653,11 @@ public abstract class AbstractDBMeta implements DBMeta {
             if (_foreignInfoFlexibleMap != null) {
                 return _foreignInfoFlexibleMap;
             }
-            final StringKeyMap<ForeignInfo> map = createFlexibleConcurrentMap();
+            final CaseFoldingKeyMap<ForeignInfo> map = createFlexibleFrozenableMap(foreignInfoList.size());
             for (ForeignInfo foreignInfo : foreignInfoList) {
                 map.put(foreignInfo.getForeignPropertyName(), foreignInfo);
             }
-            _foreignInfoFlexibleMap = Collections.unmodifiableMap(map);
+            _foreignInfoFlexibleMap = map.freeze(); // read-only
             return _foreignInfoFlexibleMap;
         }
     }
@@ -776,11 +797,11 @@ public abstract class AbstractDBMeta implements DBMeta {
             if (_referrerInfoFlexibleMap != null) {
                 return _referrerInfoFlexibleMap;
             }
-            final StringKeyMap<ReferrerInfo> map = createFlexibleConcurrentMap();
+            final CaseFoldingKeyMap<ReferrerInfo> map = createFlexibleFrozenableMap(referrerInfoList.size());
             for (ReferrerInfo referrerInfo : referrerInfoList) {
                 map.put(referrerInfo.getReferrerPropertyName(), referrerInfo);
             }
-            _referrerInfoFlexibleMap = Collections.unmodifiableMap(map);
+            _referrerInfoFlexibleMap = map.freeze(); // read-only
             return _referrerInfoFlexibleMap;
         }
     }
@@ -1068,6 +1089,10 @@ public abstract class AbstractDBMeta implements DBMeta {
         return StringKeyMap.createAsFlexibleConcurrent();
     }
 
+    protected <VALUE> CaseFoldingKeyMap<VALUE> createFlexibleFrozenableMap(int expectedSize) { // frozen after setup
+        return CaseFoldingKeyMap.createAsFlexible(expectedSize);
+    }
+
     // -----------------------------------------------------
     //                                         Assert Object
     //                                         -------------
@@ -82,6 +82,38 @@ public interface DBMeta {
      */
     PropertyGateway findForeignPropertyGateway(String foreignPropertyName);
 
+    // ===================================================================================
+    //                                                                      Column Ordinal
+    //                                                                      ==============
+    /**
+     * Does the DB meta have direct access to column properties by ordinal? <br>
+     * The generated DB meta returns true, it accesses getters and setters by switch (without gateway objects).
+     * @return The determination, true or false.
+     */
+    default boolean hasColumnOrdinalAccess() {
+        return false;
+    }
+
+    /**
+     * Read the column value of the entity by the ordinal of column.
+     * @param entity The target entity of this DB meta. (NotNull)
+     * @param columnOrdinal The ordinal of column, index in column info list. (NotMinus)
+     * @return The read value, plain value in entity as property access type. (NullAllowed)
+     */
+    default Object readColumnByOrdinal(Entity entity, int columnOrdinal) {
+        return getColumnInfoList().get(columnOrdinal).getPropertyGateway().read(entity);
+    }
+
+    /**
+     * Write the column value to the entity by the ordinal of column, with basic conversion.
+     * @param entity The target entity of this DB meta. (NotNull)
+     * @param columnOrdinal The ordinal of column, index in column info list. (NotMinus)
+     * @param value The written value. (NullAllowed: if null, null value is written)
+     */
+    default void writeColumnByOrdinal(Entity entity, int columnOrdinal, Object value) {
+        getColumnInfoList().get(columnOrdinal).getPropertyGateway().write(entity, value);
+    }
+
     // ===================================================================================
     //                                                                          Table Info
     //                                                                          ==========
@@ -106,6 +106,8 @@ public class ColumnInfo {
     protected final PropertyMethodFinder _propertyMethodFinder;
     protected final Method _readMethod;
     protected final Method _writeMethod;
+    protected volatile int _columnOrdinal = -1; // index in column list of DB meta, set by DB meta initialization (published last)
+    protected volatile boolean _ordinalAccess; // true if DB meta has direct access by ordinal, set before ordinal
 
     // ===================================================================================
     //                                                                         Constructor
@@ -182,6 +184,10 @@ public class ColumnInfo {
      */
     @SuppressWarnings("unchecked")
     public <PROPERTY> PROPERTY read(Entity entity) {
+        final int columnOrdinal = _columnOrdinal; // read once, -1 if not initialized yet
+        if (columnOrdinal >= 0 && _ordinalAccess) { // generated switch (direct getter call)
+            return (PROPERTY) _dbmeta.readColumnByOrdinal(entity, columnOrdinal);
+        }
         return (PROPERTY) _propertyGateway.read(entity);
     }
 
@@ -203,6 +209,11 @@ public class ColumnInfo {
      * @param value The written value. (NullAllowed: if null, null value is written)
      */
     public void write(Entity entity, Object value) {
+        final int columnOrdinal = _columnOrdinal; // read once, -1 if not initialized yet
+        if (columnOrdinal >= 0 && _ordinalAccess) { // generated switch (direct setter call)
+            _dbmeta.writeColumnByOrdinal(entity, columnOrdinal, value);
+            return;
+        }
         _propertyGateway.write(entity, value);
     }
 
@@ -214,6 +225,26 @@ public class ColumnInfo {
         return _writeMethod;
     }
 
+    // -----------------------------------------------------
+    //                                               Ordinal
+    //                                               -------
+    /**
+     * Accept the ordinal of this column in the DB meta. (internal, called by DB meta initialization)
+     * @param columnOrdinal The index in column info list of the DB meta. (NotMinus)
+     */
+    public void xacceptColumnOrdinal(int columnOrdinal) {
+        _ordinalAccess = _dbmeta.hasColumnOrdinalAccess(); // before ordinal, visible to threads that see the ordinal
+        _columnOrdinal = columnOrdinal;
+    }
+
+    /**
+     * Get the ordinal of this column, index in column info list of the DB meta.
+     * @return The ordinal of column. (NotMinus: if not initialized, -1)
+     */
+    public int getColumnOrdinal() {
+        return _columnOrdinal;
+    }
+
     // -----------------------------------------------------
     //                                               Generic
     //                                               -------
@@ -54,6 +54,48 @@ public interface DBWay {
     //                                                                        ============
     boolean isScrollableCursorSupported();
 
+    // ===================================================================================
+    //                                                                       Bulk Load Way
+    //                                                                       =============
+    /**
+     * Get the size of one chunk for bulk loading, executed as one JDBC batch. <br>
+     * Entities of bulk loading are serialized chunk by chunk, so this is also their memory bound.
+     * @return The size of one chunk. (NotMinus, NotZero)
+     */
+    default int getBulkLoadChunkSize() {
+        return 1000; // as general JDBC batch
+    }
+
+    /**
+     * Does the DB support native loading of CSV file? (then bulk loading uses it instead of batch insert)
+     * @return The determination, true or false.
+     */
+    default boolean isBulkLoadCsvSupported() {
+        return false; // as default, chunked batch insert
+    }
+
+    /**
+     * Can the DB read the CSV file written on this side by the connection? <br>
+     * The CSV file is a local temporary file, so it is not found if the DB process runs on other side.
+     * @param connectionUrl The URL of the JDBC connection. (NotNull)
+     * @return The determination, true or false.
+     */
+    default boolean isBulkLoadCsvReadable(String connectionUrl) {
+        return isBulkLoadCsvSupported(); // as default, readable if supported
+    }
+
+    /**
+     * Build the SQL to load the CSV file into the table natively. <br>
+     * The CSV file has a header line of column names, and all values are quoted except null as empty field.
+     * @param tableSqlName The SQL name of the loaded table. (NotNull)
+     * @param columnSqlNameList The list of SQL name of loaded columns, same order as CSV fields. (NotNull, NotEmpty)
+     * @param csvFilePath The absolute path of the CSV file, encoded by UTF-8. (NotNull)
+     * @return The SQL to load the CSV file. (NullAllowed: when not supported)
+     */
+    default String buildBulkLoadCsvSql(String tableSqlName, List<String> columnSqlNameList, String csvFilePath) {
+        return null; // as default, not supported
+    }
+
     // ===================================================================================
     //                                                                 LikeSearch WildCard
     //                                                                 ===================
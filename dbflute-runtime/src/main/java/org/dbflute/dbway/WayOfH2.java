@@ -31,6 +31,9 @@ public class WayOfH2 implements DBWay, Serializable {
     /** The serial version UID for object serialization. (Default) */
     private static final long serialVersionUID = 1L;
 
+    /** The prefix of JDBC URL for H2. */
+    protected static final String H2_URL_PREFIX = "jdbc:h2:";
+
     // ===================================================================================
     //                                                                        Sequence Way
     //                                                                        ============
@@ -63,6 +66,35 @@ public class WayOfH2 implements DBWay, Serializable {
         return true;
     }
 
+    // ===================================================================================
+    //                                                                       Bulk Load Way
+    //                                                                       =============
+    @Override
+    public boolean isBulkLoadCsvSupported() {
+        return true;
+    }
+
+    @Override
+    public boolean isBulkLoadCsvReadable(String connectionUrl) {
+        // CSVREAD() is resolved by the DB process, so embedded mode only
+        // e.g. jdbc:h2:mem:..., jdbc:h2:file:..., jdbc:h2:~/...
+        // not e.g. jdbc:h2:tcp://..., jdbc:h2:ssl://..., AUTO_SERVER=TRUE (may be served by other process)
+        final String url = connectionUrl.toLowerCase();
+        if (!url.startsWith(H2_URL_PREFIX)) { // e.g. wrapped by driver spy
+            return false;
+        }
+        final String rear = url.substring(H2_URL_PREFIX.length());
+        return !rear.startsWith("tcp:") && !rear.startsWith("ssl:") && !rear.contains("auto_server=true");
+    }
+
+    @Override
+    public String buildBulkLoadCsvSql(String tableSqlName, List<String> columnSqlNameList, String csvFilePath) {
+        final String columnExp = String.join(", ", columnSqlNameList);
+        final String pathExp = csvFilePath.replace("'", "''");
+        return "insert into " + tableSqlName + " (" + columnExp + ")" // into the table
+                + " select * from CSVREAD('" + pathExp + "', null, 'charset=UTF-8')"; // unquoted empty field is null
+    }
+
     // ===================================================================================
     //                                                                 LikeSearch WildCard
     //                                                                 ===================
@@ -82,6 +82,14 @@ public class WayOfMySQL implements DBWay, Serializable {
         return true;
     }
 
+    // ===================================================================================
+    //                                                                       Bulk Load Way
+    //                                                                       =============
+    @Override
+    public int getBulkLoadChunkSize() {
+        return 5000; // packed into multi-values insert if rewriteBatchedStatements
+    }
+
     // ===================================================================================
     //                                                                 LikeSearch WildCard
     //                                                                 ===================
@@ -0,0 +1,521 @@
+/*
+ * Copyright 2014-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.dbflute.helper;
+
+import java.io.Serializable;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * The map of string key as case insensitive (or flexible) that folds keys without allocation. <br>
+ * Unlike {@link StringKeyMap}, the search key is not converted to new string for every access,
+ * the hash code and equality are calculated by characters of the plain key. <br>
+ * You can set null key and value, plain keys are kept, and the iteration order is insertion order. <br>
+ * The map is not thread-safe for writing, but you can freeze it as read-only map
+ * that can be shared between threads, e.g. metadata maps.
+ * <pre>
+ * CaseFoldingKeyMap&lt;ColumnInfo&gt; map = CaseFoldingKeyMap.createAsFlexible();
+ * map.put("MEMBER_NAME", columnInfo);
+ * map.freeze();
+ * map.get("memberName"); // found
+ * </pre>
+ * @author agent
+ * @since 1.2.3 (2026/10/19 Monday)
+ * @param <VALUE> The type of value.
+ */
+public class CaseFoldingKeyMap<VALUE> extends AbstractMap<String, VALUE> implements Serializable {
+
+    // ===================================================================================
+    //                                                                          Definition
+    //                                                                          ==========
+    /** The serial version UID for object serialization. (Default) */
+    private static final long serialVersionUID = 1L;
+
+    protected static final int DEFAULT_CAPACITY = 16; // should be power of two
+    protected static final int MAXIMUM_CAPACITY = 1 << 30;
+
+    // ===================================================================================
+    //                                                                           Attribute
+    //                                                                           =========
+    protected final boolean _flexible; // ignores quotations, '_', '-' and ' ' as StringKeyMap
+    protected FoldingEntry<VALUE>[] _table; // not null, length is power of two
+    protected FoldingEntry<VALUE> _head; // first of insertion order, null if empty
+    protected FoldingEntry<VALUE> _tail; // last of insertion order, null if empty
+    protected int _size;
+    protected int _modCount; // for fail-fast iterator
+    protected volatile boolean _frozen; // read-only if true
+    protected transient EntrySetView _entrySetView; // lazy-loaded
+
+    // ===================================================================================
+    //                                                                         Constructor
+    //                                                                         ===========
+    protected CaseFoldingKeyMap(boolean flexible, int initialCapacity) {
+        _flexible = flexible;
+        _table = newTable(tableSizeFor(initialCapacity));
+    }
+
+    /**
+     * Create the map of string key as case insensitive.
+     * @param <VALUE> The type of value.
+     * @return The new-created map of string key as case insensitive. (NotNull)
+     */
+    public static <VALUE> CaseFoldingKeyMap<VALUE> createAsCaseInsensitive() {
+        return new CaseFoldingKeyMap<VALUE>(false, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Create the map of string key as case insensitive with the expected size.
+     * @param <VALUE> The type of value.
+     * @param expectedSize The expected count of entries, which is used to avoid resizing. (NotMinus)
+     * @return The new-created map of string key as case insensitive. (NotNull)
+     */
+    public static <VALUE> CaseFoldingKeyMap<VALUE> createAsCaseInsensitive(int expectedSize) {
+        return new CaseFoldingKeyMap<VALUE>(false, capacityOf(expectedSize));
+    }
+
+    /**
+     * Create the map of string key as flexible, e.g. MEMBER_NAME, memberName, "Member_Name" are same key.
+     * @param <VALUE> The type of value.
+     * @return The new-created map of string key as flexible. (NotNull)
+     */
+    public static <VALUE> CaseFoldingKeyMap<VALUE> createAsFlexible() {
+        return new CaseFoldingKeyMap<VALUE>(true, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Create the map of string key as flexible with the expected size.
+     * @param <VALUE> The type of value.
+     * @param expectedSize The expected count of entries, which is used to avoid resizing. (NotMinus)
+     * @return The new-created map of string key as flexible. (NotNull)
+     */
+    public static <VALUE> CaseFoldingKeyMap<VALUE> createAsFlexible(int expectedSize) {
+        return new CaseFoldingKeyMap<VALUE>(true, capacityOf(expectedSize));
+    }
+
+    protected static int capacityOf(int expectedSize) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("The argument 'expectedSize' should not be minus: " + expectedSize);
+        }
+        return (int) Math.min((long) (expectedSize / 0.75f) + 1L, MAXIMUM_CAPACITY);
+    }
+
+    // ===================================================================================
+    //                                                                              Freeze
+    //                                                                              ======
+    /**
+     * Freeze this map as read-only. <br>
+     * The frozen map can be shared between threads if it is published safely, e.g. by volatile field.
+     * @return this. (NotNull)
+     */
+    public CaseFoldingKeyMap<VALUE> freeze() {
+        _frozen = true;
+        return this;
+    }
+
+    public boolean isFrozen() {
+        return _frozen;
+    }
+
+    protected void assertNotFrozen() {
+        if (_frozen) {
+            throw new UnsupportedOperationException("The map is frozen as read-only: " + keySet());
+        }
+    }
+
+    // ===================================================================================
+    //                                                                        Map Emulator
+    //                                                                        ============
+    // -----------------------------------------------------
+    //                                           Key Related
+    //                                           -----------
+    @Override
+    public VALUE get(Object key) {
+        final FoldingEntry<VALUE> entry = findEntry(key);
+        return entry != null ? entry._value : null;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return findEntry(key) != null;
+    }
+
+    @Override
+    public VALUE put(String key, VALUE value) {
+        assertNotFrozen();
+        final int hash = foldHash(key);
+        final FoldingEntry<VALUE>[] table = _table;
+        final int index = hash & (table.length - 1);
+        for (FoldingEntry<VALUE> current = table[index]; current != null; current = current._next) {
+            if (current._hash == hash && foldEquals(current._key, key)) {
+                final VALUE previous = current._value;
+                current._value = value; // plain key is kept as first one
+                return previous;
+            }
+        }
+        final FoldingEntry<VALUE> entry = new FoldingEntry<VALUE>(key, hash, value, table[index]);
+        table[index] = entry;
+        linkLast(entry);
+        ++_size;
+        ++_modCount;
+        if (_size > threshold()) {
+            resize();
+        }
+        return null;
+    }
+
+    @Override
+    public VALUE remove(Object key) {
+        assertNotFrozen();
+        if (key != null && !(key instanceof String)) {
+            return null;
+        }
+        final String stringKey = (String) key;
+        final int hash = foldHash(stringKey);
+        final int index = hash & (_table.length - 1);
+        FoldingEntry<VALUE> previous = null;
+        for (FoldingEntry<VALUE> current = _table[index]; current != null; current = current._next) {
+            if (current._hash == hash && foldEquals(current._key, stringKey)) {
+                if (previous != null) {
+                    previous._next = current._next;
+                } else {
+                    _table[index] = current._next;
+                }
+                unlink(current);
+                --_size;
+                ++_modCount;
+                return current._value;
+            }
+            previous = current;
+        }
+        return null;
+    }
+
+    protected FoldingEntry<VALUE> findEntry(Object key) {
+        if (key != null && !(key instanceof String)) {
+            return null;
+        }
+        final String stringKey = (String) key;
+        final int hash = foldHash(stringKey);
+        final FoldingEntry<VALUE>[] table = _table;
+        for (FoldingEntry<VALUE> current = table[hash & (table.length - 1)]; current != null; current = current._next) {
+            if (current._hash == hash && foldEquals(current._key, stringKey)) {
+                return current;
+            }
+        }
+        return null;
+    }
+
+    // -----------------------------------------------------
+    //                                              Delegate
+    //                                              --------
+    @Override
+    public void clear() {
+        assertNotFrozen();
+        if (_size == 0) {
+            return;
+        }
+        for (int i = 0; i < _table.length; i++) {
+            _table[i] = null;
+        }
+        _head = null;
+        _tail = null;
+        _size = 0;
+        ++_modCount;
+    }
+
+    @Override
+    public int size() {
+        return _size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return _size == 0;
+    }
+
+    @Override
+    public Set<Entry<String, VALUE>> entrySet() {
+        if (_entrySetView == null) {
+            _entrySetView = new EntrySetView();
+        }
+        return _entrySetView;
+    }
+
+    // ===================================================================================
+    //                                                                        Key Folding
+    //                                                                        ===========
+    /**
+     * Calculate the hash code of the key by folded characters, without creating new string.
+     * @param key The plain key. (NullAllowed: hash is zero)
+     * @return The hash code as case insensitive (or flexible).
+     */
+    protected int foldHash(String key) {
+        if (key == null) {
+            return 0;
+        }
+        final int end = foldEnd(key);
+        int hash = 1; // to differ from null key
+        for (int i = foldBegin(key); i < end; i++) {
+            final char ch = key.charAt(i);
+            if (isSkippedChar(ch)) {
+                continue;
+            }
+            hash = 31 * hash + Character.toLowerCase(ch);
+        }
+        return hash ^ (hash >>> 16); // spread for power-of-two table
+    }
+
+    /**
+     * Does the two keys equal as case insensitive (or flexible)?
+     * @param existing The existing key in the map. (NullAllowed)
+     * @param key The searched key. (NullAllowed)
+     * @return The determination, true or false.
+     */
+    protected boolean foldEquals(String existing, String key) {
+        if (existing == key) { // also null
+            return true;
+        }
+        if (existing == null || key == null) {
+            return false;
+        }
+        final int existingEnd = foldEnd(existing);
+        final int keyEnd = foldEnd(key);
+        int existingIndex = foldBegin(existing);
+        int keyIndex = foldBegin(key);
+        while (true) {
+            existingIndex = skipChars(existing, existingIndex, existingEnd);
+            keyIndex = skipChars(key, keyIndex, keyEnd);
+            final boolean existingOver = existingIndex >= existingEnd;
+            final boolean keyOver = keyIndex >= keyEnd;
+            if (existingOver || keyOver) {
+                return existingOver && keyOver;
+            }
+            final char existingCh = existing.charAt(existingIndex);
+            final char keyCh = key.charAt(keyIndex);
+            if (existingCh != keyCh && Character.toLowerCase(existingCh) != Character.toLowerCase(keyCh)) {
+                return false;
+            }
+            ++existingIndex;
+            ++keyIndex;
+        }
+    }
+
+    protected int skipChars(String key, int index, int end) {
+        while (index < end && isSkippedChar(key.charAt(index))) {
+            ++index;
+        }
+        return index;
+    }
+
+    protected boolean isSkippedChar(char ch) { // non-compilable marks in Java when flexible
+        return _flexible && (ch == '_' || ch == '-' || ch == ' ');
+    }
+
+    protected int foldBegin(String key) {
+        return _flexible && isQuoted(key) ? 1 : 0;
+    }
+
+    protected int foldEnd(String key) {
+        final int length = key.length();
+        return _flexible && isQuoted(key) ? length - 1 : length;
+    }
+
+    protected boolean isQuoted(String key) { // both side quotations
+        final int length = key.length();
+        if (length < 2) {
+            return false;
+        }
+        final char first = key.charAt(0);
+        return (first == '\'' || first == '"') && key.charAt(length - 1) == first;
+    }
+
+    // ===================================================================================
+    //                                                                        Table Helper
+    //                                                                        ============
+    protected int threshold() {
+        return (int) (_table.length * 0.75f);
+    }
+
+    protected void resize() {
+        final int newLength = _table.length << 1;
+        if (newLength > MAXIMUM_CAPACITY || newLength < 0) {
+            return; // keeps chaining
+        }
+        final FoldingEntry<VALUE>[] newTable = newTable(newLength);
+        for (FoldingEntry<VALUE> current = _head; current != null; current = current._after) {
+            final int index = current._hash & (newLength - 1);
+            current._next = newTable[index];
+            newTable[index] = current;
+        }
+        _table = newTable;
+    }
+
+    protected void linkLast(FoldingEntry<VALUE> entry) {
+        final FoldingEntry<VALUE> last = _tail;
+        entry._before = last;
+        _tail = entry;
+        if (last == null) {
+            _head = entry;
+        } else {
+            last._after = entry;
+        }
+    }
+
+    protected void unlink(FoldingEntry<VALUE> entry) {
+        final FoldingEntry<VALUE> before = entry._before;
+        final FoldingEntry<VALUE> after = entry._after;
+        if (before == null) {
+            _head = after;
+        } else {
+            before._after = after;
+        }
+        if (after == null) {
+            _tail = before;
+        } else {
+            after._before = before;
+        }
+    }
+
+    protected static int tableSizeFor(int capacity) {
+        int size = DEFAULT_CAPACITY;
+        while (size < capacity && size < MAXIMUM_CAPACITY) {
+            size <<= 1;
+        }
+        return size;
+    }
+
+    @SuppressWarnings("unchecked")
+    protected static <VALUE> FoldingEntry<VALUE>[] newTable(int length) {
+        return (FoldingEntry<VALUE>[]) new FoldingEntry<?>[length];
+    }
+
+    // ===================================================================================
+    //                                                                       Entry Classes
+    //                                                                       =============
+    protected static class FoldingEntry<VALUE> implements Entry<String, VALUE>, Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        protected final String _key; // plain key
+        protected final int _hash; // folded hash
+        protected VALUE _value;
+        protected FoldingEntry<VALUE> _next; // in bucket
+        protected FoldingEntry<VALUE> _before; // insertion order
+        protected FoldingEntry<VALUE> _after; // insertion order
+
+        public FoldingEntry(String key, int hash, VALUE value, FoldingEntry<VALUE> next) {
+            _key = key;
+            _hash = hash;
+            _value = value;
+            _next = next;
+        }
+
+        public String getKey() {
+            return _key;
+        }
+
+        public VALUE getValue() {
+            return _value;
+        }
+
+        public VALUE setValue(VALUE value) {
+            throw new UnsupportedOperationException("Use put() of the map instead: " + _key);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof Entry<?, ?>)) {
+                return false;
+            }
+            final Entry<?, ?> entry = (Entry<?, ?>) obj;
+            return eq(_key, entry.getKey()) && eq(_value, entry.getValue());
+        }
+
+        protected boolean eq(Object left, Object right) {
+            return left == null ? right == null : left.equals(right);
+        }
+
+        @Override
+        public int hashCode() {
+            return (_key != null ? _key.hashCode() : 0) ^ (_value != null ? _value.hashCode() : 0);
+        }
+
+        @Override
+        public String toString() {
+            return _key + "=" + _value;
+        }
+    }
+
+    protected class EntrySetView extends AbstractSet<Entry<String, VALUE>> implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public Iterator<Entry<String, VALUE>> iterator() {
+            return new EntryIterator();
+        }
+
+        @Override
+        public int size() {
+            return _size;
+        }
+
+        @Override
+        public void clear() {
+            CaseFoldingKeyMap.this.clear();
+        }
+    }
+
+    protected class EntryIterator implements Iterator<Entry<String, VALUE>> {
+
+        protected FoldingEntry<VALUE> _nextEntry = _head;
+        protected FoldingEntry<VALUE> _lastReturned;
+        protected int _expectedModCount = _modCount;
+
+        public boolean hasNext() {
+            return _nextEntry != null;
+        }
+
+        public Entry<String, VALUE> next() {
+            if (_modCount != _expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            final FoldingEntry<VALUE> entry = _nextEntry;
+            if (entry == null) {
+                throw new NoSuchElementException();
+            }
+            _nextEntry = entry._after;
+            _lastReturned = entry;
+            return entry;
+        }
+
+        public void remove() {
+            if (_lastReturned == null) {
+                throw new IllegalStateException("Not found the element to be removed.");
+            }
+            if (_modCount != _expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            CaseFoldingKeyMap.this.remove(_lastReturned._key);
+            _lastReturned = null;
+            _expectedModCount = _modCount;
+        }
+    }
+}
@@ -28,7 +28,7 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
 
-import org.dbflute.helper.StringKeyMap;
+import org.dbflute.helper.CaseFoldingKeyMap;
 import org.dbflute.helper.beans.DfBeanDesc;
 import org.dbflute.helper.beans.DfCoupleProperties;
 import org.dbflute.helper.beans.DfPropertyDesc;
@@ -71,7 +71,7 @@ public class DfBeanDescImpl implements DfBeanDesc {
     //protected final boolean _readOnly; // cannot block public field but OK, basically for saving memory
     //protected final DfBeanDescSetupFilter _setupFilter; // might be null
 
-    protected final StringKeyMap<DfPropertyDesc> _propertyDescMap = StringKeyMap.createAsCaseInsensitive();
+    protected final CaseFoldingKeyMap<DfPropertyDesc> _propertyDescMap = CaseFoldingKeyMap.createAsCaseInsensitive();
     protected final Map<String, Method[]> _methodsMap = new HashMap<String, Method[]>();
     protected final Map<String, Field> _fieldMap = new HashMap<String, Field>();
 
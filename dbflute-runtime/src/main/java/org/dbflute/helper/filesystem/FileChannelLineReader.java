@@ -0,0 +1,198 @@
+/*
+ * Copyright 2014-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.dbflute.helper.filesystem;
+
+import java.io.Closeable;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.IllegalCharsetNameException;
+import java.nio.charset.StandardCharsets;
+import java.nio.charset.UnsupportedCharsetException;
+import java.util.Arrays;
+
+/**
+ * The line reader by file channel for ASCII-compatible encodings. <br>
+ * The file is read chunk by chunk into a reused heap buffer, line separators are scanned directly on bytes,
+ * and ASCII-only lines are decoded without charset decoder. (no memory mapping so the file is released at close())
+ * The lines are same as {@link java.io.BufferedReader#readLine()}, so LF, CR and CR + LF are line separators.
+ * <pre>
+ * if (FileChannelLineReader.isChannelReadable(ins, encoding)) {
+ *     try (FileChannelLineReader reader = FileChannelLineReader.of((FileInputStream) ins, encoding)) {
+ *         String line;
+ *         while ((line = reader.readLine()) != null) {
+ *             ...
+ *         }
+ *     }
+ * }
+ * </pre>
+ * @author agent
+ * @since 1.2.3 (2026/10/19 Monday)
+ */
+public class FileChannelLineReader implements FileLineReader, Closeable {
+
+    // ===================================================================================
+    //                                                                          Definition
+    //                                                                          ==========
+    protected static final int DEFAULT_CHUNK_SIZE = 64 * 1024;
+
+    protected static final int DEFAULT_LINE_CAPACITY = 256;
+
+    // ===================================================================================
+    //                                                                           Attribute
+    //                                                                           =========
+    protected final FileInputStream _ins; // closed with this reader
+    protected final FileChannel _channel;
+    protected final Charset _charset; // ASCII-compatible
+    protected final ByteBuffer _chunk; // reused for each chunk, empty (no remaining) at first
+    protected boolean _endOfFile;
+    protected byte[] _lineBytes = new byte[DEFAULT_LINE_CAPACITY]; // reused for each line
+    protected boolean _skipLineFeed; // after CR, for CR + LF
+
+    // ===================================================================================
+    //                                                                         Constructor
+    //                                                                         ===========
+    /**
+     * @param ins The input stream of the file, read from its current position. (NotNull)
+     * @param charset The charset of the file, which should be ASCII-compatible. (NotNull)
+     * @param chunkSize The byte size of one chunk read from the channel. (NotMinus, NotZero)
+     */
+    protected FileChannelLineReader(FileInputStream ins, Charset charset, int chunkSize) {
+        _ins = ins;
+        _channel = ins.getChannel();
+        _charset = charset;
+        _chunk = ByteBuffer.allocate(chunkSize);
+        _chunk.flip(); // as empty
+    }
+
+    /**
+     * Create the reader for the file stream.
+     * @param ins The input stream of the file, which is closed by close() of the reader. (NotNull)
+     * @param encoding The encoding of the file, which should be channel-readable. (NotNull)
+     * @return The new-created reader. (NotNull)
+     */
+    public static FileChannelLineReader of(FileInputStream ins, String encoding) {
+        if (!isChannelReadableEncoding(encoding)) {
+            throw new IllegalArgumentException("The encoding is not channel-readable: " + encoding);
+        }
+        return new FileChannelLineReader(ins, Charset.forName(encoding), DEFAULT_CHUNK_SIZE);
+    }
+
+    // ===================================================================================
+    //                                                                       Determination
+    //                                                                       =============
+    /**
+     * Can the stream be read by the channel reader? <br>
+     * (file stream and UTF-8, US-ASCII or ISO-8859-1)
+     * @param ins The input stream to be read. (NullAllowed: if null, false)
+     * @param encoding The encoding of the stream. (NullAllowed: if null, false)
+     * @return The determination, true or false.
+     */
+    public static boolean isChannelReadable(InputStream ins, String encoding) {
+        return ins instanceof FileInputStream && isChannelReadableEncoding(encoding);
+    }
+
+    protected static boolean isChannelReadableEncoding(String encoding) {
+        if (encoding == null) {
+            return false;
+        }
+        final Charset charset;
+        try {
+            charset = Charset.forName(encoding);
+        } catch (IllegalCharsetNameException | UnsupportedCharsetException e) {
+            return false; // the fallback reader throws the exception
+        }
+        return StandardCharsets.UTF_8.equals(charset) || StandardCharsets.US_ASCII.equals(charset)
+                || StandardCharsets.ISO_8859_1.equals(charset);
+    }
+
+    // ===================================================================================
+    //                                                                           Read Line
+    //                                                                           =========
+    /**
+     * Read the next line without line separator.
+     * @return The string of the line. (NullAllowed: when end of file)
+     * @throws IOException When it fails to read the channel.
+     */
+    public String readLine() throws IOException {
+        int length = 0;
+        boolean asciiOnly = true;
+        boolean consumed = false;
+        while (true) {
+            if (!_chunk.hasRemaining()) {
+                if (!readNextChunk()) { // end of file
+                    return consumed ? decodeLine(length, asciiOnly) : null;
+                }
+            }
+            final byte current = _chunk.get();
+            if (_skipLineFeed) {
+                _skipLineFeed = false;
+                if (current == '\n') { // CR + LF
+                    continue;
+                }
+            }
+            consumed = true;
+            if (current == '\n') {
+                return decodeLine(length, asciiOnly);
+            } else if (current == '\r') {
+                _skipLineFeed = true;
+                return decodeLine(length, asciiOnly);
+            }
+            if (current < 0) { // over 0x7F
+                asciiOnly = false;
+            }
+            if (length == _lineBytes.length) {
+                _lineBytes = Arrays.copyOf(_lineBytes, length * 2);
+            }
+            _lineBytes[length] = current;
+            ++length;
+        }
+    }
+
+    protected boolean readNextChunk() throws IOException {
+        if (_endOfFile) {
+            return false;
+        }
+        _chunk.clear();
+        int readSize;
+        do {
+            readSize = _channel.read(_chunk); // zero if empty buffer but it has capacity
+        } while (readSize == 0);
+        _chunk.flip();
+        if (readSize < 0) {
+            _endOfFile = true;
+            return false;
+        }
+        return true;
+    }
+
+    protected String decodeLine(int length, boolean asciiOnly) {
+        if (asciiOnly) { // same characters in ASCII-compatible charsets
+            return new String(_lineBytes, 0, length, StandardCharsets.ISO_8859_1);
+        }
+        return new String(_lineBytes, 0, length, _charset); // malformed is replaced same as reader
+    }
+
+    // ===================================================================================
+    //                                                                               Close
+    //                                                                               =====
+    public void close() throws IOException {
+        _ins.close(); // also closes the channel, and no mapping remains so the file is released here
+    }
+}
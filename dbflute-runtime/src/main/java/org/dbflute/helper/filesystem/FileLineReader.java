@@ -0,0 +1,33 @@
+/*
+ * Copyright 2014-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.dbflute.helper.filesystem;
+
+import java.io.IOException;
+
+/**
+ * The reader of text lines, e.g. buffered reader or file channel.
+ * @author agent
+ * @since 1.2.3 (2026/10/19 Monday)
+ */
+@FunctionalInterface
+public interface FileLineReader {
+
+    /**
+     * @return The string of next line without line separator. (NullAllowed: when end of file)
+     * @throws IOException When it fails to read the file.
+     */
+    String readLine() throws IOException;
+}
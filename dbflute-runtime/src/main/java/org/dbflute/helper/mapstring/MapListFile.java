@@ -17,6 +17,7 @@ package org.dbflute.helper.mapstring;
 
 import java.io.BufferedReader;
 import java.io.BufferedWriter;
+import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
@@ -30,6 +31,9 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
 
+import org.dbflute.helper.filesystem.FileChannelLineReader;
+import org.dbflute.helper.filesystem.FileLineReader;
+
 /**
  * @author jflute
  * @since 0.9.7.1 (2010/06/06 Sunday)
@@ -234,44 +238,19 @@ public class MapListFile {
      */
     public String readString(InputStream ins) throws IOException {
         final String encoding = getFileEncoding();
-        final String lineComment = getLineCommentMark();
         final StringBuilder sb = new StringBuilder();
-        final boolean addLn = !_skipLineSeparator;
+        if (FileChannelLineReader.isChannelReadable(ins, encoding)) { // fast path for file stream
+            try (FileChannelLineReader reader = FileChannelLineReader.of((FileInputStream) ins, encoding)) {
+                readLines(reader, encoding, sb);
+            }
+            return sb.toString();
+        }
         InputStreamReader ir = null;
         BufferedReader br = null;
         try {
             ir = new InputStreamReader(ins, encoding);
             br = new BufferedReader(ir);
-
-            int loopIndex = -1;
-            int validlineCount = -1;
-            boolean previousLineComment = false;
-            while (true) {
-                ++loopIndex;
-                String lineString = br.readLine();
-                if (lineString == null) {
-                    if (previousLineComment && addLn) {
-                        sb.append(ln()); // line separator adjustment
-                    }
-                    break;
-                }
-                if (loopIndex == 0) {
-                    // it needs to before line comment process
-                    // because the BOM character is not trimmed by trim()
-                    lineString = removeInitialUnicodeBomIfNeeds(encoding, lineString);
-                }
-                // if the line is comment, skip to read
-                if (lineString.trim().startsWith(lineComment)) {
-                    previousLineComment = true;
-                    continue;
-                }
-                previousLineComment = false;
-                ++validlineCount;
-                if (validlineCount > 0 && addLn) {
-                    sb.append(ln());
-                }
-                sb.append(lineString);
-            }
+            readLines(br::readLine, encoding, sb);
         } catch (UnsupportedEncodingException e) {
             String msg = "The encoding is unsupported: " + encoding;
             throw new IllegalStateException(msg, e);
@@ -285,6 +264,40 @@ public class MapListFile {
         return sb.toString();
     }
 
+    protected void readLines(FileLineReader lineReader, String encoding, StringBuilder sb) throws IOException {
+        final String lineComment = getLineCommentMark();
+        final boolean addLn = !_skipLineSeparator;
+        int loopIndex = -1;
+        int validlineCount = -1;
+        boolean previousLineComment = false;
+        while (true) {
+            ++loopIndex;
+            String lineString = lineReader.readLine();
+            if (lineString == null) {
+                if (previousLineComment && addLn) {
+                    sb.append(ln()); // line separator adjustment
+                }
+                break;
+            }
+            if (loopIndex == 0) {
+                // it needs to before line comment process
+                // because the BOM character is not trimmed by trim()
+                lineString = removeInitialUnicodeBomIfNeeds(encoding, lineString);
+            }
+            // if the line is comment, skip to read
+            if (lineString.trim().startsWith(lineComment)) {
+                previousLineComment = true;
+                continue;
+            }
+            previousLineComment = false;
+            ++validlineCount;
+            if (validlineCount > 0 && addLn) {
+                sb.append(ln());
+            }
+            sb.append(lineString);
+        }
+    }
+
     // -----------------------------------------------------
     //                                                 Write
     //                                                 -----
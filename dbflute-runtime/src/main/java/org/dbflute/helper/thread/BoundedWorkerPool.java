@@ -0,0 +1,227 @@
+/*
+ * Copyright 2014-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.dbflute.helper.thread;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * The bounded pool of worker threads, shared by parallel executions of runtime (e.g. parallel cursor). <br>
+ * The tasks of one execution are pulled by limited workers so the parallelism is kept per execution,
+ * and the count of threads is bounded by the pool size even if many executions are running.
+ * <pre>
+ * List&lt;Member&gt; resultList = BoundedWorkerPool.getShared().executeInOrder(taskList, 4);
+ * </pre>
+ * @author agent
+ * @since 1.2.3 (2026/10/19 Monday)
+ */
+public class BoundedWorkerPool {
+
+    // ===================================================================================
+    //                                                                          Definition
+    //                                                                          ==========
+    protected static final int SHARED_POOL_SIZE = Math.max(4, Runtime.getRuntime().availableProcessors());
+    protected static final long KEEP_ALIVE_SECONDS = 60L;
+    protected static final BoundedWorkerPool _shared = new BoundedWorkerPool("dbflute-worker", SHARED_POOL_SIZE);
+
+    /** The executor of the worker running on the thread. (NullAllowed: when not worker) */
+    protected static final ThreadLocal<Executor> _runningExecutorLocal = new ThreadLocal<Executor>();
+
+    // ===================================================================================
+    //                                                                           Attribute
+    //                                                                           =========
+    protected final Executor _executor;
+
+    // ===================================================================================
+    //                                                                         Constructor
+    //                                                                         ===========
+    /**
+     * Create the pool with own threads, which are daemon and released when idle.
+     * @param threadNamePrefix The prefix of thread name, e.g. "dbflute-worker". (NotNull)
+     * @param poolSize The max count of threads. (NotMinus, NotZero)
+     */
+    public BoundedWorkerPool(String threadNamePrefix, int poolSize) {
+        if (threadNamePrefix == null) {
+            throw new IllegalArgumentException("The argument 'threadNamePrefix' should not be null.");
+        }
+        if (poolSize < 1) {
+            throw new IllegalArgumentException("The argument 'poolSize' should not be minus or zero: " + poolSize);
+        }
+        final ThreadPoolExecutor executor = new ThreadPoolExecutor(poolSize, poolSize, KEEP_ALIVE_SECONDS, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<Runnable>(), createThreadFactory(threadNamePrefix));
+        executor.allowCoreThreadTimeOut(true); // no threads while idle
+        _executor = executor;
+    }
+
+    /**
+     * Create the pool on the executor of caller, e.g. application managed pool.
+     * @param executor The executor to run workers. (NotNull)
+     */
+    public BoundedWorkerPool(Executor executor) {
+        if (executor == null) {
+            throw new IllegalArgumentException("The argument 'executor' should not be null.");
+        }
+        _executor = executor;
+    }
+
+    protected static ThreadFactory createThreadFactory(String threadNamePrefix) {
+        final AtomicInteger threadNumber = new AtomicInteger();
+        return runnable -> {
+            final Thread thread = new Thread(runnable, threadNamePrefix + "-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true); // not to block application shutdown
+            return thread;
+        };
+    }
+
+    /**
+     * Get the pool shared in the runtime. (bounded by count of processors, at least four)
+     * @return The shared instance. (NotNull)
+     */
+    public static BoundedWorkerPool getShared() {
+        return _shared;
+    }
+
+    // ===================================================================================
+    //                                                                             Execute
+    //                                                                             =======
+    /**
+     * Execute the tasks concurrently and return their results in the order of the tasks. <br>
+     * When a task fails, the tasks not started yet are cancelled, the running tasks are waited for,
+     * and then the first failure is thrown. (so no task is running after this method) <br>
+     * If called by a worker of the same executor (nested execution), the tasks are executed one by one
+     * on the calling thread, because waiting workers for nested tasks might starve the pool.
+     * @param <RESULT> The type of result.
+     * @param taskList The list of task, which should be thread-safe each other. (NotNull, EmptyAllowed)
+     * @param parallelism The max count of concurrent tasks in this execution. (NotMinus, NotZero)
+     * @return The list of results, same order as the tasks. (NotNull)
+     * @throws RuntimeException The first failure of tasks. (checked exception is wrapped by IllegalStateException)
+     */
+    public <RESULT> List<RESULT> executeInOrder(List<? extends Callable<RESULT>> taskList, int parallelism) {
+        if (taskList == null) {
+            throw new IllegalArgumentException("The argument 'taskList' should not be null.");
+        }
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("The argument 'parallelism' should not be minus or zero: " + parallelism);
+        }
+        if (isNestedExecution()) { // e.g. parallel split select in a partition of parallel cursor
+            return executeOnCallerThread(taskList);
+        }
+        final int taskCount = taskList.size();
+        final Object[] results = new Object[taskCount];
+        final AtomicInteger nextIndex = new AtomicInteger();
+        final AtomicReference<Throwable> firstFailure = new AtomicReference<Throwable>();
+        final int workerCount = Math.min(parallelism, taskCount);
+        final CountDownLatch workerLatch = new CountDownLatch(workerCount);
+        for (int i = 0; i < workerCount; i++) {
+            try {
+                _executor.execute(() -> {
+                    _runningExecutorLocal.set(_executor);
+                    try {
+                        pullTask(taskList, results, nextIndex, firstFailure);
+                    } finally {
+                        _runningExecutorLocal.remove();
+                        workerLatch.countDown();
+                    }
+                });
+            } catch (RejectedExecutionException e) { // e.g. the executor of caller is shutdown
+                firstFailure.compareAndSet(null, e);
+                for (int j = i; j < workerCount; j++) {
+                    workerLatch.countDown(); // for workers not submitted
+                }
+                break;
+            }
+        }
+        awaitWorkers(workerLatch, firstFailure);
+        final Throwable failure = firstFailure.get();
+        if (failure != null) {
+            throwTaskFailure(failure);
+        }
+        final List<RESULT> resultList = new ArrayList<RESULT>(taskCount);
+        for (Object result : results) { // visible after the latch
+            @SuppressWarnings("unchecked")
+            final RESULT cast = (RESULT) result;
+            resultList.add(cast);
+        }
+        return resultList;
+    }
+
+    protected boolean isNestedExecution() {
+        return _runningExecutorLocal.get() == _executor;
+    }
+
+    protected <RESULT> List<RESULT> executeOnCallerThread(List<? extends Callable<RESULT>> taskList) {
+        final List<RESULT> resultList = new ArrayList<RESULT>(taskList.size());
+        for (Callable<RESULT> task : taskList) { // stops at the first failure
+            try {
+                resultList.add(task.call());
+            } catch (Throwable e) {
+                throwTaskFailure(e);
+            }
+        }
+        return resultList;
+    }
+
+    protected <RESULT> void pullTask(List<? extends Callable<RESULT>> taskList, Object[] results, AtomicInteger nextIndex,
+            AtomicReference<Throwable> firstFailure) {
+        while (firstFailure.get() == null) { // remaining tasks are cancelled if failure
+            final int index = nextIndex.getAndIncrement();
+            if (index >= taskList.size()) {
+                break;
+            }
+            try {
+                results[index] = taskList.get(index).call();
+            } catch (Throwable e) {
+                firstFailure.compareAndSet(null, e);
+            }
+        }
+    }
+
+    protected void awaitWorkers(CountDownLatch workerLatch, AtomicReference<Throwable> firstFailure) {
+        boolean interrupted = false;
+        while (true) {
+            try {
+                workerLatch.await();
+                break;
+            } catch (InterruptedException e) { // stop pulling and wait for running tasks
+                firstFailure.compareAndSet(null, e);
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    protected void throwTaskFailure(Throwable failure) {
+        if (failure instanceof RuntimeException) { // basically here e.g. SQLFailureException
+            throw (RuntimeException) failure;
+        }
+        if (failure instanceof Error) {
+            throw (Error) failure;
+        }
+        throw new IllegalStateException("Failed to execute the task of parallel execution.", failure);
+    }
+}
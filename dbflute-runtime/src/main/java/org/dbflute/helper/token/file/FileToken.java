@@ -24,6 +24,7 @@ import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.io.InterruptedIOException;
 import java.io.OutputStream;
 import java.io.OutputStreamWriter;
 import java.io.UnsupportedEncodingException;
@@ -35,8 +36,13 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 
+import org.dbflute.helper.filesystem.FileChannelLineReader;
+import org.dbflute.helper.filesystem.FileLineReader;
 import org.dbflute.helper.message.ExceptionMessageBuilder;
 import org.dbflute.helper.token.file.exception.FileMakingInvalidValueCountException;
 import org.dbflute.helper.token.file.exception.FileMakingRequiredOptionNotFoundException;
@@ -84,6 +90,9 @@ public class FileToken {
     /** The mark that means first line done for writing process. */
     protected static final String FIRST_LINE_DONE_MARK = "firstLineDone";
 
+    /** The prefix of thread name for pipeline worker of tokenizing. */
+    protected static final String PIPELINE_THREAD_NAME_PREFIX = "dbflute-filetoken-";
+
     // ===================================================================================
     //                                                                           Attribute
     //                                                                           =========
@@ -143,7 +152,8 @@ public class FileToken {
     /**
      * Tokenize (read) token data to specified file. (named file-tokenizing) <br>
      * CR + LF is treated as LF. <br>
-     * This method uses {@link InputStreamReader} and {@link BufferedReader} that wrap the stream. <br>
+     * This method uses {@link InputStreamReader} and {@link BufferedReader} that wrap the stream,
+     * or uses {@link FileChannelLineReader} if file stream of UTF-8, US-ASCII or ISO-8859-1. <br>
      * And these objects are closed. (close() called finally)
      * <pre>
      * File tsvFile = ... <span style="color: #3F7E5E">// input file</span>
@@ -175,62 +185,38 @@ public class FileToken {
         assertObjectNotNull("delimiter", delimiter);
         assertStringNotNullAndNotTrimmedEmpty("encoding", encoding);
 
-        String lineString = null;
-        String preContinueString = "";
-        final List<String> temporaryValueList = new ArrayList<String>();
-        final List<String> filteredValueList = new ArrayList<String>();
-
+        if (FileChannelLineReader.isChannelReadable(ins, encoding)) { // fast path for e.g. UTF-8 file
+            try (FileChannelLineReader reader = FileChannelLineReader.of((FileInputStream) ins, encoding)) {
+                doTokenizeLines(reader, handlingCall, option);
+            }
+            return;
+        }
         BufferedReader br = null;
         try {
             br = new BufferedReader(new InputStreamReader(ins, encoding));
-
-            final StringBuilder realRowStringSb = new StringBuilder();
-            FileTokenizingHeaderInfo headerInfo = null;
-            int count = -1;
-            int rowNumber = 1;
-            int lineNumber = 0;
-            while (true) {
-                ++count;
-                if ("".equals(preContinueString)) {
-                    lineNumber = count + 1;
-                }
-
-                lineString = br.readLine();
-                if (lineString == null) {
-                    break;
-                }
-                if (count == 0) {
-                    if (option.isBeginFirstLine()) {
-                        headerInfo = createFileTokenizingHeaderInfo(); // as empty
-                    } else {
-                        headerInfo = analyzeHeaderInfo(delimiter, lineString);
-                        continue;
-                    }
-                }
-                final String rowString;
-                if (preContinueString.equals("")) {
-                    rowString = lineString;
-                    realRowStringSb.append(lineString);
-                } else {
-                    final String lineSeparator = getTokenizedRestoredLineSeparator();
-                    rowString = preContinueString + lineSeparator + lineString;
-                    realRowStringSb.append(lineSeparator).append(lineString);
-                }
-                final ValueLineInfo valueLineInfo = arrangeValueList(rowString, delimiter);
-                final List<String> ls = valueLineInfo.getValueList();
-                if (valueLineInfo.isContinueNextLine()) {
-                    preContinueString = (String) ls.remove(ls.size() - 1);
-                    temporaryValueList.addAll(ls);
-                    continue;
+            doTokenizeLines(br::readLine, handlingCall, option);
+        } finally {
+            try {
+                if (br != null) {
+                    br.close();
                 }
-                temporaryValueList.addAll(ls);
+            } catch (IOException ignored) {}
+        }
+    }
 
-                try {
+    protected void doTokenizeLines(FileLineReader lineReader, FileTokenizingCallback handlingCall, FileTokenizingOption option)
+            throws IOException {
+        try {
+            if (option.isPipeline()) {
+                doTokenizeByPipeline(lineReader, handlingCall, option);
+            } else {
+                final List<String> filteredValueList = new ArrayList<String>();
+                readTokenizedRows(lineReader, option, false, (headerInfo, rowString, valueList, rowNumber, lineNumber) -> {
                     final FileTokenizingRowResource resource = createFileTokenizingRowResource();
                     resource.setHeaderInfo(headerInfo);
-
                     if (option.isHandleEmptyAsNull()) {
-                        for (final Iterator<String> ite = temporaryValueList.iterator(); ite.hasNext();) {
+                        filteredValueList.clear();
+                        for (final Iterator<String> ite = valueList.iterator(); ite.hasNext();) {
                             final String value = (String) ite.next();
                             if ("".equals(value)) {
                                 filteredValueList.add(null);
@@ -240,31 +226,246 @@ public class FileToken {
                         }
                         resource.setValueList(filteredValueList);
                     } else {
-                        resource.setValueList(temporaryValueList);
+                        resource.setValueList(valueList);
                     }
-
-                    final String realRowString = realRowStringSb.toString();
-                    realRowStringSb.setLength(0);
-                    resource.setRowString(realRowString);
+                    resource.setRowString(rowString);
                     resource.setRowNumber(rowNumber);
                     resource.setLineNumber(lineNumber);
                     handlingCall.handleRow(resource);
-                } finally {
-                    ++rowNumber;
-                    temporaryValueList.clear();
-                    filteredValueList.clear();
-                    preContinueString = "";
-                }
+                });
             }
         } catch (SQLException e) {
             String msg = "SQL handling failed in the row handling process: option=" + option;
             throw new FileTokenizingSQLHandlingFailureException(msg, e);
+        }
+    }
+
+    /**
+     * Read the rows from the reader and tokenize them, which handles header and continued lines.
+     * @param lineReader The reader of lines in token file. (NotNull)
+     * @param option The option of file-tokenizing. (NotNull)
+     * @param plainRowAcceptable Can the acceptor accept the row without quotation as not-split? (null value list)
+     * @param acceptor The acceptor of tokenized row, called on the reader thread. (NotNull)
+     * @throws IOException When the file reading failed.
+     * @throws SQLException When the SQL handling fails in the row handling process.
+     */
+    protected void readTokenizedRows(FileLineReader lineReader, FileTokenizingOption option, boolean plainRowAcceptable,
+            TokenizedRowAcceptor acceptor) throws IOException, SQLException {
+        final String delimiter = option.getDelimiter();
+        String lineString = null;
+        String preContinueString = "";
+        final List<String> temporaryValueList = new ArrayList<String>();
+        final StringBuilder realRowStringSb = new StringBuilder();
+        FileTokenizingHeaderInfo headerInfo = null;
+        int count = -1;
+        int rowNumber = 1;
+        int lineNumber = 0;
+        while (true) {
+            ++count;
+            if ("".equals(preContinueString)) {
+                lineNumber = count + 1;
+            }
+
+            lineString = lineReader.readLine();
+            if (lineString == null) {
+                break;
+            }
+            if (count == 0) {
+                if (option.isBeginFirstLine()) {
+                    headerInfo = createFileTokenizingHeaderInfo(); // as empty
+                } else {
+                    headerInfo = analyzeHeaderInfo(delimiter, lineString);
+                    continue;
+                }
+            }
+            if (plainRowAcceptable && preContinueString.equals("") && lineString.indexOf('"') < 0) {
+                try { // no quotation means simple split so it is split lazily by field view
+                    acceptor.accept(headerInfo, lineString, null, rowNumber, lineNumber);
+                } finally {
+                    ++rowNumber;
+                }
+                continue;
+            }
+            final String rowString;
+            if (preContinueString.equals("")) {
+                rowString = lineString;
+                realRowStringSb.append(lineString);
+            } else {
+                final String lineSeparator = getTokenizedRestoredLineSeparator();
+                rowString = preContinueString + lineSeparator + lineString;
+                realRowStringSb.append(lineSeparator).append(lineString);
+            }
+            final ValueLineInfo valueLineInfo = arrangeValueList(rowString, delimiter);
+            final List<String> ls = valueLineInfo.getValueList();
+            if (valueLineInfo.isContinueNextLine()) {
+                preContinueString = (String) ls.remove(ls.size() - 1);
+                temporaryValueList.addAll(ls);
+                continue;
+            }
+            temporaryValueList.addAll(ls);
+
+            try {
+                final String realRowString = realRowStringSb.toString();
+                realRowStringSb.setLength(0);
+                acceptor.accept(headerInfo, realRowString, temporaryValueList, rowNumber, lineNumber);
+            } finally {
+                ++rowNumber;
+                temporaryValueList.clear();
+                preContinueString = "";
+            }
+        }
+    }
+
+    @FunctionalInterface
+    protected static interface TokenizedRowAcceptor {
+
+        /**
+         * @param headerInfo The header info of the token file. (NotNull)
+         * @param rowString The real string of row. (NotNull)
+         * @param valueList The recycled list of value. (NullAllowed: when plain row, not split yet)
+         * @param rowNumber The number of row. (NotZero, NotMinus)
+         * @param lineNumber The number of line. (NotZero, NotMinus)
+         * @throws IOException When the IO handling fails in the row handling process.
+         * @throws SQLException When the SQL handling fails in the row handling process.
+         */
+        void accept(FileTokenizingHeaderInfo headerInfo, String rowString, List<String> valueList, int rowNumber, int lineNumber)
+                throws IOException, SQLException;
+    }
+
+    // -----------------------------------------------------
+    //                                              Pipeline
+    //                                              --------
+    protected void doTokenizeByPipeline(FileLineReader lineReader, FileTokenizingCallback handlingCall, FileTokenizingOption option)
+            throws IOException, SQLException {
+        final int workerCount = option.getPipelineWorkerCount();
+        final int queueCapacity = option.getPipelineQueueCapacity();
+        final BlockingQueue<FileTokenizingRowResource> rowQueue = new ArrayBlockingQueue<FileTokenizingRowResource>(queueCapacity);
+        final int bufferCount = queueCapacity + workerCount; // rows in queue and rows in handling
+        final BlockingQueue<FileTokenizingRowResource> freeQueue = new ArrayBlockingQueue<FileTokenizingRowResource>(bufferCount);
+        for (int i = 0; i < bufferCount; i++) {
+            freeQueue.add(createFileTokenizingRowResource());
+        }
+        final FileTokenizingRowResource endMark = createFileTokenizingRowResource(); // per worker
+        final AtomicReference<Throwable> failureRef = new AtomicReference<Throwable>();
+        final List<Thread> workerList = new ArrayList<Thread>(workerCount);
+        for (int i = 0; i < workerCount; i++) {
+            final Thread worker = new Thread(() -> {
+                handlePipelineRows(handlingCall, rowQueue, freeQueue, endMark, failureRef);
+            }, PIPELINE_THREAD_NAME_PREFIX + (i + 1));
+            worker.setDaemon(true); // not to block application shutdown
+            workerList.add(worker);
+            worker.start();
+        }
+        final String delimiter = option.getDelimiter();
+        final boolean handleEmptyAsNull = option.isHandleEmptyAsNull();
+        try {
+            readTokenizedRows(lineReader, option, true, (headerInfo, rowString, valueList, rowNumber, lineNumber) -> {
+                if (failureRef.get() != null) {
+                    throw new PipelineStoppedException(); // stop reading
+                }
+                final FileTokenizingRowResource resource = takePipelineQueue(freeQueue); // blocked if all buffers in use
+                resource.setHeaderInfo(headerInfo);
+                if (valueList != null) {
+                    resource.xacceptSplitValues(valueList, handleEmptyAsNull);
+                } else {
+                    resource.xacceptPlainRow(rowString, delimiter, handleEmptyAsNull);
+                }
+                resource.setRowString(rowString);
+                resource.setRowNumber(rowNumber);
+                resource.setLineNumber(lineNumber);
+                putPipelineQueue(rowQueue, resource);
+            });
+        } catch (PipelineStoppedException ignored) { // the failure is thrown later
         } finally {
+            finishPipelineWorkers(workerList, rowQueue, endMark);
+        }
+        throwPipelineFailureIfExists(failureRef.get());
+    }
+
+    protected void handlePipelineRows(FileTokenizingCallback handlingCall, BlockingQueue<FileTokenizingRowResource> rowQueue,
+            BlockingQueue<FileTokenizingRowResource> freeQueue, FileTokenizingRowResource endMark, AtomicReference<Throwable> failureRef) {
+        while (true) {
+            final FileTokenizingRowResource resource;
             try {
-                if (br != null) {
-                    br.close();
+                resource = rowQueue.take();
+            } catch (InterruptedException e) {
+                failureRef.compareAndSet(null, e);
+                return;
+            }
+            if (resource == endMark) {
+                return;
+            }
+            try {
+                if (failureRef.get() == null) { // skip remaining rows after failure (but release the buffers)
+                    handlingCall.handleRow(resource);
                 }
-            } catch (IOException ignored) {}
+            } catch (Throwable e) { // includes SQLException, IOException
+                failureRef.compareAndSet(null, e);
+            } finally {
+                freeQueue.offer(resource); // always has space
+            }
+        }
+    }
+
+    protected void finishPipelineWorkers(List<Thread> workerList, BlockingQueue<FileTokenizingRowResource> rowQueue,
+            FileTokenizingRowResource endMark) throws IOException {
+        for (int i = 0; i < workerList.size(); i++) {
+            putPipelineQueue(rowQueue, endMark); // one mark per worker
+        }
+        for (Thread worker : workerList) {
+            try {
+                worker.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while waiting for the pipeline worker: " + worker.getName());
+            }
+        }
+    }
+
+    protected FileTokenizingRowResource takePipelineQueue(BlockingQueue<FileTokenizingRowResource> queue) throws IOException {
+        try {
+            return queue.take();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for free row buffer of the pipeline.");
+        }
+    }
+
+    protected void putPipelineQueue(BlockingQueue<FileTokenizingRowResource> queue, FileTokenizingRowResource resource)
+            throws IOException {
+        try {
+            queue.put(resource);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for space of the pipeline queue.");
+        }
+    }
+
+    protected void throwPipelineFailureIfExists(Throwable failure) throws IOException, SQLException {
+        if (failure == null) {
+            return;
+        }
+        if (failure instanceof IOException) {
+            throw (IOException) failure;
+        } else if (failure instanceof SQLException) {
+            throw (SQLException) failure;
+        } else if (failure instanceof RuntimeException) {
+            throw (RuntimeException) failure;
+        } else if (failure instanceof Error) {
+            throw (Error) failure;
+        } else if (failure instanceof InterruptedException) {
+            throw new InterruptedIOException("Interrupted the pipeline worker: " + failure.getMessage());
+        } else { // no way
+            throw new IllegalStateException("Failed to handle the row in the pipeline worker.", failure);
+        }
+    }
+
+    protected static class PipelineStoppedException extends RuntimeException {
+
+        private static final long serialVersionUID = 1L;
+
+        public PipelineStoppedException() {
+            super(null, null, false, false); // no stack trace, only for control
         }
     }
 
@@ -0,0 +1,221 @@
+/*
+ * Copyright 2014-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.dbflute.helper.token.file;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The view of fields in one row for file-tokenizing. <br>
+ * If the row has no quotation, the fields are not split to strings,
+ * so you can read only needed columns without string allocation of other cells.
+ * <pre>
+ * FileTokenizingFieldView view = resource.getFieldView();
+ * CharSequence memberName = view.getField(1); <span style="color: #3F7E5E">// no copy, recycled for next row</span>
+ * String birthdate = view.getFieldAsString(3); <span style="color: #3F7E5E">// only this cell is allocated</span>
+ * </pre>
+ * @author agent
+ * @since 1.2.3 (2026/10/19 Monday)
+ */
+public class FileTokenizingFieldView {
+
+    // ===================================================================================
+    //                                                                          Definition
+    //                                                                          ==========
+    protected static final int DEFAULT_FIELD_CAPACITY = 16;
+
+    // ===================================================================================
+    //                                                                           Attribute
+    //                                                                           =========
+    protected String _rowString; // null if value list
+    protected int[] _beginIndexes = new int[DEFAULT_FIELD_CAPACITY];
+    protected int[] _endIndexes = new int[DEFAULT_FIELD_CAPACITY];
+    protected FieldSlice[] _slices = new FieldSlice[DEFAULT_FIELD_CAPACITY]; // lazy-loaded per index, recycled
+    protected List<String> _valueList; // null if plain row
+    protected int _fieldCount;
+    protected boolean _handleEmptyAsNull;
+
+    // ===================================================================================
+    //                                                                       Accept Source
+    //                                                                       =============
+    /**
+     * Accept the plain row (without quotation) as split indexes. (internal)
+     * @param rowString The string of row that has no quotation. (NotNull)
+     * @param delimiter The delimiter of fields. (NotNull, NotEmpty)
+     * @param handleEmptyAsNull Does it handle empty field as null?
+     */
+    public void xacceptPlainRow(String rowString, String delimiter, boolean handleEmptyAsNull) {
+        _rowString = rowString;
+        _valueList = null;
+        _handleEmptyAsNull = handleEmptyAsNull;
+        int count = 0;
+        int beginIndex = 0;
+        int delimiterIndex = rowString.indexOf(delimiter);
+        while (delimiterIndex >= 0) { // same as line token
+            addIndexes(count, beginIndex, delimiterIndex);
+            ++count;
+            beginIndex = delimiterIndex + delimiter.length();
+            delimiterIndex = rowString.indexOf(delimiter, beginIndex);
+        }
+        addIndexes(count, beginIndex, rowString.length());
+        _fieldCount = count + 1;
+    }
+
+    protected void addIndexes(int fieldIndex, int beginIndex, int endIndex) {
+        if (fieldIndex >= _beginIndexes.length) {
+            final int newLength = _beginIndexes.length * 2;
+            _beginIndexes = Arrays.copyOf(_beginIndexes, newLength);
+            _endIndexes = Arrays.copyOf(_endIndexes, newLength);
+            _slices = Arrays.copyOf(_slices, newLength);
+        }
+        _beginIndexes[fieldIndex] = beginIndex;
+        _endIndexes[fieldIndex] = endIndex;
+    }
+
+    /**
+     * Accept the already-split value list, e.g. when the row has quotation. (internal)
+     * @param valueList The list of value, empty is already filtered as null if it needs. (NotNull)
+     */
+    public void xacceptValueList(List<String> valueList) {
+        _rowString = null;
+        _valueList = valueList;
+        _fieldCount = valueList.size();
+        _handleEmptyAsNull = false; // already filtered
+    }
+
+    // ===================================================================================
+    //                                                                         Field Value
+    //                                                                         ===========
+    /**
+     * @return The count of fields in the row. (NotMinus)
+     */
+    public int getFieldCount() {
+        return _fieldCount;
+    }
+
+    /**
+     * Get the field as character sequence without copy. <br>
+     * The instance is recycled for next row so convert it by toString() if you keep it.
+     * @param index The index of field, zero origin. (NotMinus)
+     * @return The sequence of field characters. (NullAllowed: when empty and handleEmptyAsNull)
+     */
+    public CharSequence getField(int index) {
+        assertFieldIndex(index);
+        if (_valueList != null) {
+            return _valueList.get(index);
+        }
+        final int beginIndex = _beginIndexes[index];
+        final int endIndex = _endIndexes[index];
+        if (_handleEmptyAsNull && beginIndex == endIndex) {
+            return null;
+        }
+        FieldSlice slice = _slices[index];
+        if (slice == null) {
+            slice = new FieldSlice();
+            _slices[index] = slice;
+        }
+        slice.reset(_rowString, beginIndex, endIndex);
+        return slice;
+    }
+
+    /**
+     * Get the field as string, which is allocated only for the field.
+     * @param index The index of field, zero origin. (NotMinus)
+     * @return The string of field. (NullAllowed: when empty and handleEmptyAsNull)
+     */
+    public String getFieldAsString(int index) {
+        assertFieldIndex(index);
+        if (_valueList != null) {
+            return _valueList.get(index);
+        }
+        final int beginIndex = _beginIndexes[index];
+        final int endIndex = _endIndexes[index];
+        if (_handleEmptyAsNull && beginIndex == endIndex) {
+            return null;
+        }
+        return _rowString.substring(beginIndex, endIndex);
+    }
+
+    /**
+     * Convert all fields to strings into the list. (internal)
+     * @param valueList The list to be added. (NotNull)
+     */
+    public void xmaterializeTo(List<String> valueList) {
+        for (int i = 0; i < _fieldCount; i++) {
+            valueList.add(getFieldAsString(i));
+        }
+    }
+
+    /**
+     * @return Is the row not split to strings yet? (means no quotation in the row)
+     */
+    public boolean isPlainRow() {
+        return _rowString != null;
+    }
+
+    protected void assertFieldIndex(int index) {
+        if (index < 0 || index >= _fieldCount) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + _fieldCount);
+        }
+    }
+
+    // ===================================================================================
+    //                                                                         Field Slice
+    //                                                                         ===========
+    protected static class FieldSlice implements CharSequence {
+
+        protected String _source;
+        protected int _beginIndex;
+        protected int _endIndex;
+
+        protected void reset(String source, int beginIndex, int endIndex) {
+            _source = source;
+            _beginIndex = beginIndex;
+            _endIndex = endIndex;
+        }
+
+        public int length() {
+            return _endIndex - _beginIndex;
+        }
+
+        public char charAt(int index) {
+            if (index < 0 || index >= length()) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Length: " + length());
+            }
+            return _source.charAt(_beginIndex + index);
+        }
+
+        public CharSequence subSequence(int start, int end) {
+            if (start < 0 || end > length() || start > end) {
+                throw new IndexOutOfBoundsException("start: " + start + ", end: " + end + ", length: " + length());
+            }
+            return _source.subSequence(_beginIndex + start, _beginIndex + end);
+        }
+
+        @Override
+        public String toString() {
+            return _source.substring(_beginIndex, _endIndex);
+        }
+    }
+
+    // ===================================================================================
+    //                                                                      Basic Override
+    //                                                                      ==============
+    @Override
+    public String toString() {
+        return "{fields=" + _fieldCount + ", plain=" + isPlainRow() + "}";
+    }
+}
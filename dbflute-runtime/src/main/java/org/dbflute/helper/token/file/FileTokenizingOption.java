@@ -25,6 +25,12 @@ package org.dbflute.helper.token.file;
  */
 public class FileTokenizingOption {
 
+    // =====================================================================================
+    //                                                                            Definition
+    //                                                                            ==========
+    /** The default capacity of row queue for pipeline, also count of reusable row buffers. */
+    public static final int DEFAULT_PIPELINE_QUEUE_CAPACITY = 1024;
+
     // =====================================================================================
     //                                                                             Attribute
     //                                                                             =========
@@ -32,6 +38,9 @@ public class FileTokenizingOption {
     protected String _encoding;
     protected boolean _beginFirstLine;
     protected boolean _handleEmptyAsNull;
+    protected int _pipelineWorkerCount; // zero means no pipeline (row handling on reader thread)
+    protected boolean _pipelineRowOrdered;
+    protected int _pipelineQueueCapacity = DEFAULT_PIPELINE_QUEUE_CAPACITY;
 
     // =====================================================================================
     //                                                                           Easy-to-Use
@@ -82,12 +91,56 @@ public class FileTokenizingOption {
         return this;
     }
 
+    // -----------------------------------------------------
+    //                                              Pipeline
+    //                                              --------
+    /**
+     * Handle rows by the worker threads while the reader thread decodes and splits next rows. <br>
+     * The callback is called on the workers concurrently so it should be thread-safe. <br>
+     * The row resources (and their value lists) are recycled so don't keep them after the callback.
+     * @param workerCount The count of worker threads for row handling. (NotMinus, NotZero)
+     * @return this. (NotNull)
+     */
+    public FileTokenizingOption pipelineByWorkers(int workerCount) {
+        if (workerCount < 1) {
+            throw new IllegalArgumentException("The argument 'workerCount' should not be minus or zero: " + workerCount);
+        }
+        _pipelineWorkerCount = workerCount;
+        return this;
+    }
+
+    /**
+     * Keep row order in pipeline handling, the rows are handled by one worker thread in row order. <br>
+     * (the reader thread still works in parallel with the worker)
+     * @return this. (NotNull)
+     */
+    public FileTokenizingOption pipelineInRowOrder() {
+        _pipelineRowOrdered = true;
+        if (_pipelineWorkerCount == 0) {
+            _pipelineWorkerCount = 1;
+        }
+        return this;
+    }
+
+    /**
+     * @param queueCapacity The capacity of row queue between reader and workers. (NotMinus, NotZero)
+     * @return this. (NotNull)
+     */
+    public FileTokenizingOption pipelineQueueCapacity(int queueCapacity) {
+        if (queueCapacity < 1) {
+            throw new IllegalArgumentException("The argument 'queueCapacity' should not be minus or zero: " + queueCapacity);
+        }
+        _pipelineQueueCapacity = queueCapacity;
+        return this;
+    }
+
     // ===================================================================================
     //                                                                      Basic Override
     //                                                                      ==============
     @Override
     public String toString() {
-        return "{" + _delimiter + ", " + _encoding + ", " + _beginFirstLine + ", " + _handleEmptyAsNull + "}";
+        final String pipelineExp = isPipeline() ? ", pipeline=" + _pipelineWorkerCount + (_pipelineRowOrdered ? "(ordered)" : "") : "";
+        return "{" + _delimiter + ", " + _encoding + ", " + _beginFirstLine + ", " + _handleEmptyAsNull + pipelineExp + "}";
     }
 
     // =====================================================================================
@@ -116,4 +169,20 @@ public class FileTokenizingOption {
     public boolean isHandleEmptyAsNull() {
         return _handleEmptyAsNull;
     }
+
+    public boolean isPipeline() {
+        return _pipelineWorkerCount > 0;
+    }
+
+    public int getPipelineWorkerCount() {
+        return _pipelineRowOrdered ? 1 : _pipelineWorkerCount; // one worker keeps order
+    }
+
+    public boolean isPipelineRowOrdered() {
+        return _pipelineRowOrdered;
+    }
+
+    public int getPipelineQueueCapacity() {
+        return _pipelineQueueCapacity;
+    }
 }
\ No newline at end of file
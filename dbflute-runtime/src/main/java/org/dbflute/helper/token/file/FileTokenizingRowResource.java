@@ -15,6 +15,7 @@
  */
 package org.dbflute.helper.token.file;
 
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -34,6 +35,8 @@ public class FileTokenizingRowResource {
     protected String _rowString;
     protected int _rowNumber;
     protected int _lineNumber;
+    protected FileTokenizingFieldView _fieldView; // null allowed: lazy-loaded if no pipeline
+    protected List<String> _reusableValueList; // null allowed: only when pipeline
 
     // ===================================================================================
     //                                                                        Map Handling
@@ -46,24 +49,69 @@ public class FileTokenizingRowResource {
         if (_headerInfo == null || _headerInfo.isEmpty()) {
             return null;
         }
-        if (_valueList == null || _valueList.isEmpty()) {
+        final List<String> valueList = getValueList(); // materialized if plain row in pipeline
+        if (valueList == null || valueList.isEmpty()) {
             return null;
         }
         final List<String> columnNameList = _headerInfo.getColumnNameList();
-        if (columnNameList.size() != _valueList.size()) {
+        if (columnNameList.size() != valueList.size()) {
             String msg = "Different count between header columns and values:";
-            msg = msg + " " + columnNameList.size() + ", " + _valueList.size();
+            msg = msg + " " + columnNameList.size() + ", " + valueList.size();
             throw new FileTokenizingInvalidValueCountException(msg);
         }
         final Map<String, String> map = new LinkedHashMap<String, String>(columnNameList.size());
         for (int i = 0; i < columnNameList.size(); i++) {
             final String columnName = columnNameList.get(i);
-            final String value = _valueList.get(i);
+            final String value = valueList.get(i);
             map.put(columnName, value);
         }
         return map;
     }
 
+    // ===================================================================================
+    //                                                                      Pipeline Reuse
+    //                                                                      ==============
+    /**
+     * Accept the plain row (without quotation) that is not split to strings yet. (internal)
+     * @param rowString The string of row. (NotNull)
+     * @param delimiter The delimiter of fields. (NotNull)
+     * @param handleEmptyAsNull Does it handle empty field as null?
+     */
+    public void xacceptPlainRow(String rowString, String delimiter, boolean handleEmptyAsNull) {
+        prepareFieldView().xacceptPlainRow(rowString, delimiter, handleEmptyAsNull);
+        _valueList = null; // lazy-loaded
+    }
+
+    /**
+     * Accept the already-split values, which are copied to the reusable list. (internal)
+     * @param valueList The list of value. (NotNull)
+     * @param handleEmptyAsNull Does it handle empty value as null?
+     */
+    public void xacceptSplitValues(List<String> valueList, boolean handleEmptyAsNull) {
+        final List<String> reusableList = prepareReusableValueList();
+        for (String value : valueList) {
+            reusableList.add(handleEmptyAsNull && "".equals(value) ? null : value);
+        }
+        prepareFieldView().xacceptValueList(reusableList);
+        _valueList = reusableList;
+    }
+
+    protected FileTokenizingFieldView prepareFieldView() {
+        if (_fieldView == null) {
+            _fieldView = new FileTokenizingFieldView();
+        }
+        return _fieldView;
+    }
+
+    protected List<String> prepareReusableValueList() {
+        if (_reusableValueList == null) {
+            _reusableValueList = new ArrayList<String>();
+        } else {
+            _reusableValueList.clear();
+        }
+        return _reusableValueList;
+    }
+
     // ===================================================================================
     //                                                                      Basic Override
     //                                                                      ==============
@@ -94,6 +142,11 @@ public class FileTokenizingRowResource {
      * @return The list of value. (NotNull, NotEmpty in callback)
      */
     public List<String> getValueList() {
+        if (_valueList == null && _fieldView != null && _fieldView.isPlainRow()) { // plain row in pipeline
+            final List<String> valueList = prepareReusableValueList();
+            _fieldView.xmaterializeTo(valueList);
+            _valueList = valueList;
+        }
         return _valueList;
     }
 
@@ -101,6 +154,19 @@ public class FileTokenizingRowResource {
         _valueList = valueList;
     }
 
+    /**
+     * Get the view of fields, which can read a field without string allocation of other cells. <br>
+     * The view instance is recycled for next line, so you cannot save it.
+     * @return The view of fields in the row. (NotNull in callback)
+     */
+    public FileTokenizingFieldView getFieldView() {
+        if (_fieldView == null) { // no pipeline
+            _fieldView = new FileTokenizingFieldView();
+            _fieldView.xacceptValueList(_valueList);
+        }
+        return _fieldView;
+    }
+
     /**
      * Get the row string with delimiters. e.g. foo,bar,qux
      * @return The string of row. (NotNull in callback)
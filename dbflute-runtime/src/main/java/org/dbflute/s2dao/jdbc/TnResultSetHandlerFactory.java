@@ -18,6 +18,7 @@ package org.dbflute.s2dao.jdbc;
 import org.dbflute.jdbc.ValueType;
 import org.dbflute.s2dao.extension.TnRelationRowOptionalHandler;
 import org.dbflute.s2dao.metadata.TnBeanMetaData;
+import org.dbflute.s2dao.rshandler.TnColumnarResultSetHandler;
 
 /**
  * @author jflute
@@ -38,4 +39,8 @@ public interface TnResultSetHandlerFactory {
     TnResultSetHandler createScalarListResultSetHandler(ValueType valueType);
 
     TnResultSetHandler createDynamicScalarResultSetHandler(Class<?> objectType);
+
+    default TnResultSetHandler createColumnarResultSetHandler() { // since 1.2.3
+        return new TnColumnarResultSetHandler();
+    }
 }
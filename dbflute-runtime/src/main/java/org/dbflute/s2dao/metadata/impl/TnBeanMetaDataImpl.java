@@ -23,7 +23,7 @@ import java.util.Set;
 
 import org.dbflute.dbmeta.DBMeta;
 import org.dbflute.dbmeta.name.ColumnSqlName;
-import org.dbflute.helper.StringKeyMap;
+import org.dbflute.helper.CaseFoldingKeyMap;
 import org.dbflute.helper.beans.DfBeanDesc;
 import org.dbflute.helper.beans.DfPropertyDesc;
 import org.dbflute.helper.beans.exception.DfBeanPropertyNotFoundException;
@@ -65,7 +65,7 @@ public class TnBeanMetaDataImpl implements TnBeanMetaData {
     /** The name of table. (NotNull: after initialized, if it's not entity, this value is 'df:Unknown') */
     protected String _tableName;
 
-    protected final StringKeyMap<TnPropertyType> _propertyTypeMap = StringKeyMap.createAsCaseInsensitive();
+    protected final CaseFoldingKeyMap<TnPropertyType> _propertyTypeMap = CaseFoldingKeyMap.createAsCaseInsensitive();
     protected final List<TnPropertyType> _propertyTypeList = new ArrayList<TnPropertyType>();
     protected TnBeanAnnotationReader _beanAnnotationReader;
     protected TnPropertyTypeFactory _propertyTypeFactory;
@@ -74,10 +74,10 @@ public class TnBeanMetaDataImpl implements TnBeanMetaData {
     protected TnPropertyType[] _primaryKeys;
 
     // should be initialized in a process synchronized
-    protected final Map<String, TnPropertyType> _columnPropertyTypeMap = StringKeyMap.createAsCaseInsensitive();
+    protected final Map<String, TnPropertyType> _columnPropertyTypeMap = CaseFoldingKeyMap.createAsCaseInsensitive();
     protected final List<TnRelationPropertyType> _relationPropertyTypes = new ArrayList<TnRelationPropertyType>();
     protected final List<TnIdentifierGenerator> _identifierGeneratorList = new ArrayList<TnIdentifierGenerator>();
-    protected final Map<String, TnIdentifierGenerator> _identifierGeneratorsByPropertyName = StringKeyMap.createAsCaseInsensitive();
+    protected final Map<String, TnIdentifierGenerator> _identifierGeneratorsByPropertyName = CaseFoldingKeyMap.createAsCaseInsensitive();
 
     protected String _versionNoPropertyName;
     protected String _timestampPropertyName;
@@ -21,7 +21,7 @@ import java.util.List;
 import java.util.Map;
 
 import org.dbflute.bhv.core.context.ResourceContext;
-import org.dbflute.helper.StringKeyMap;
+import org.dbflute.helper.CaseFoldingKeyMap;
 import org.dbflute.s2dao.extension.TnRelationRowCreatorExtension;
 import org.dbflute.s2dao.metadata.TnBeanMetaData;
 import org.dbflute.s2dao.metadata.TnPropertyMapping;
@@ -143,7 +143,7 @@ public abstract class TnRelationRowCreatorImpl implements TnRelationRowCreator {
     }
 
     protected Map<String, Map<String, TnPropertyMapping>> newRelationPropertyCache() {
-        return StringKeyMap.createAsCaseInsensitive();
+        return CaseFoldingKeyMap.createAsCaseInsensitive();
     }
 
     protected TnRelationRowCreationResource createResourceForPropertyCache(TnRelationPropertyType rpt, Map<String, String> selectColumnMap,
@@ -20,7 +20,7 @@ import java.util.List;
 import java.util.Map;
 
 import org.dbflute.bhv.core.context.ResourceContext;
-import org.dbflute.helper.StringKeyMap;
+import org.dbflute.helper.CaseFoldingKeyMap;
 import org.dbflute.s2dao.metadata.TnBeanMetaData;
 import org.dbflute.s2dao.metadata.TnPropertyMapping;
 import org.dbflute.s2dao.metadata.TnPropertyType;
@@ -95,6 +95,6 @@ public abstract class TnRowCreatorImpl implements TnRowCreator {
     //                                                Common
     //                                                ------
     protected Map<String, TnPropertyMapping> newPropertyCache() {
-        return StringKeyMap.createAsCaseInsensitive();
+        return CaseFoldingKeyMap.createAsCaseInsensitive();
     }
 }
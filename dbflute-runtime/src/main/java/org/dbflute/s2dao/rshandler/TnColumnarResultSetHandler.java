@@ -0,0 +1,112 @@
+/*
+ * Copyright 2014-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.dbflute.s2dao.rshandler;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import org.dbflute.bhv.core.context.ConditionBeanContext;
+import org.dbflute.bhv.core.context.ResourceContext;
+import org.dbflute.cbean.result.columnar.ColumnarChunk;
+import org.dbflute.cbean.result.columnar.ColumnarVector;
+import org.dbflute.cbean.result.columnar.ColumnarVector.ColumnarKind;
+import org.dbflute.cbean.sqlclause.SqlClause;
+import org.dbflute.dbmeta.info.ColumnInfo;
+import org.dbflute.jdbc.ValueType;
+import org.dbflute.s2dao.jdbc.TnResultSetHandler;
+import org.dbflute.s2dao.valuetype.TnValueTypes;
+
+/**
+ * The handler of result set for columnar result. <br>
+ * Values are read by primitive getters of result set (without boxing) into the chunk on thread,
+ * and local date is read by its value type (for DBMS-specific date handling).
+ * @author agent
+ * @since 1.2.3 (2026/10/19 Monday)
+ */
+public class TnColumnarResultSetHandler implements TnResultSetHandler {
+
+    // ===================================================================================
+    //                                                                              Handle
+    //                                                                              ======
+    public Object handle(ResultSet rs) throws SQLException {
+        if (!ConditionBeanContext.isExistColumnarChunkOnThread()) {
+            String msg = "Columnar result handling should have the chunk on thread.";
+            throw new IllegalStateException(msg);
+        }
+        final ColumnarChunk chunk = ConditionBeanContext.getColumnarChunkOnThread();
+        final List<ColumnarVector> vectorList = chunk.getVectorList();
+        final int vectorSize = vectorList.size();
+        final ColumnarVector[] vectors = vectorList.toArray(new ColumnarVector[vectorSize]);
+        final ColumnarKind[] kinds = new ColumnarKind[vectorSize];
+        for (int i = 0; i < vectorSize; i++) {
+            kinds[i] = vectors[i].getKind();
+        }
+        final int[] indexes = resolveSelectIndexes(rs, chunk.getColumnInfoList());
+        final ValueType localDateType = TnValueTypes.getValueType(LocalDate.class);
+        while (rs.next()) {
+            for (int i = 0; i < vectorSize; i++) {
+                final ColumnarVector vector = vectors[i];
+                final int index = indexes[i];
+                final ColumnarKind kind = kinds[i];
+                if (ColumnarKind.LONG.equals(kind)) {
+                    final long value = rs.getLong(index);
+                    if (rs.wasNull()) {
+                        vector.appendNull();
+                    } else {
+                        vector.appendLong(value);
+                    }
+                } else if (ColumnarKind.DOUBLE.equals(kind)) {
+                    final double value = rs.getDouble(index);
+                    if (rs.wasNull()) {
+                        vector.appendNull();
+                    } else {
+                        vector.appendDouble(value);
+                    }
+                } else { // epoch day
+                    final LocalDate value = (LocalDate) localDateType.getValue(rs, index);
+                    if (value == null) {
+                        vector.appendNull();
+                    } else {
+                        vector.appendEpochDay((int) value.toEpochDay());
+                    }
+                }
+            }
+            chunk.xacceptRow(); // may deliver the chunk if streaming
+        }
+        chunk.xfinishRows();
+        return chunk.isStreaming() ? null : chunk;
+    }
+
+    protected int[] resolveSelectIndexes(ResultSet rs, List<ColumnInfo> columnInfoList) throws SQLException {
+        final Map<String, Map<String, Integer>> selectIndexMap = ResourceContext.getSelectIndexMap(); // null allowed
+        final Map<String, Integer> localIndexMap = selectIndexMap != null ? selectIndexMap.get(SqlClause.BASE_POINT_HANDLING_ENTITY_NO) : null;
+        final int[] indexes = new int[columnInfoList.size()];
+        int current = 0;
+        for (ColumnInfo columnInfo : columnInfoList) {
+            final Integer selectIndex = localIndexMap != null ? localIndexMap.get(columnInfo.getColumnDbName()) : null;
+            if (selectIndex != null) {
+                indexes[current] = selectIndex;
+            } else { // select index is disabled
+                indexes[current] = rs.findColumn(columnInfo.getColumnSqlName().toString());
+            }
+            ++current;
+        }
+        return indexes;
+    }
+}
@@ -24,6 +24,7 @@ import org.dbflute.twowaysql.SqlAnalyzer;
 import org.dbflute.twowaysql.context.CommandContext;
 import org.dbflute.twowaysql.context.CommandContextCreator;
 import org.dbflute.twowaysql.node.Node;
+import org.dbflute.twowaysql.node.RootNode;
 
 /**
  * The SQL execution of 2Way-SQL.
@@ -108,7 +109,13 @@ public abstract class TnAbstractTwoWaySqlCommand extends TnAbstractBasicSqlComma
     //                                                                   Argument Handling
     //                                                                   =================
     protected CommandContext apply(Node rootNode, Object[] args, String[] argNames, Class<?>[] argTypes) {
-        final CommandContext ctx = createCommandContext(args, argNames, argTypes);
+        final CommandContext ctx;
+        if (rootNode instanceof RootNode) { // compiled by analyzer
+            final int sqlCapacity = ((RootNode) rootNode).getSqlCapacityHint();
+            ctx = createCommandContextCreator(argNames, argTypes).createCommandContext(args, sqlCapacity);
+        } else {
+            ctx = createCommandContext(args, argNames, argTypes);
+        }
         rootNode.accept(ctx);
         return ctx;
     }
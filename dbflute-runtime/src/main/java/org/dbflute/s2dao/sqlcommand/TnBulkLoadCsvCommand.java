@@ -0,0 +1,211 @@
+/*
+ * Copyright 2014-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.dbflute.s2dao.sqlcommand;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.dbflute.Entity;
+import org.dbflute.dbmeta.DBMeta;
+import org.dbflute.dbmeta.info.ColumnInfo;
+import org.dbflute.dbway.DBWay;
+import org.dbflute.jdbc.StatementFactory;
+import org.dbflute.s2dao.sqlhandler.TnBasicUpdateHandler;
+import org.dbflute.util.Srl;
+
+/**
+ * The command to load entities by the native CSV loading of DB. <br>
+ * The entities are written to a temporary CSV file one by one, and the file is loaded by the SQL of DB-way.
+ * @author agent
+ * @since 1.2.3 (2026/10/19 Monday)
+ */
+public class TnBulkLoadCsvCommand extends TnAbstractBasicSqlCommand {
+
+    // ===================================================================================
+    //                                                                          Definition
+    //                                                                          ==========
+    protected static final char[] HEX_CHARS = "0123456789ABCDEF".toCharArray();
+
+    // ===================================================================================
+    //                                                                           Attribute
+    //                                                                           =========
+    /** The DB meta of loaded table. (Required) */
+    protected DBMeta _targetDBMeta;
+
+    // ===================================================================================
+    //                                                                         Constructor
+    //                                                                         ===========
+    public TnBulkLoadCsvCommand(DataSource dataSource, StatementFactory statementFactory) {
+        super(dataSource, statementFactory);
+    }
+
+    // ===================================================================================
+    //                                                                             Execute
+    //                                                                             =======
+    public Object execute(Object[] args) {
+        final Iterator<? extends Entity> entityIterator = extractEntityIteratorWithCheck(args);
+        final List<ColumnInfo> columnInfoList = extractLoadedColumnList();
+        final File csvFile = createTemporaryCsvFile();
+        try {
+            writeCsvFile(csvFile, entityIterator, columnInfoList);
+            final String sql = buildLoadingSql(csvFile, columnInfoList);
+            final TnBasicUpdateHandler handler = createLoadingHandler(sql);
+            return handler.execute(new Object[] {});
+        } finally {
+            if (csvFile.exists() && !csvFile.delete()) {
+                csvFile.deleteOnExit(); // retry at least
+            }
+        }
+    }
+
+    protected Iterator<? extends Entity> extractEntityIteratorWithCheck(Object[] args) {
+        assertArgument(args);
+        final Object firstArg = args[0];
+        if (!(firstArg instanceof Iterator<?>)) {
+            String msg = "The type of first argument should be Iterator: " + firstArg;
+            throw new IllegalArgumentException(msg);
+        }
+        @SuppressWarnings("unchecked")
+        final Iterator<? extends Entity> entityIterator = (Iterator<? extends Entity>) firstArg;
+        return entityIterator;
+    }
+
+    protected void assertArgument(Object[] args) {
+        if (args == null || args.length == 0) {
+            String msg = "The arguments should have one argument at least: " + args;
+            throw new IllegalArgumentException(msg);
+        }
+    }
+
+    protected List<ColumnInfo> extractLoadedColumnList() {
+        final List<ColumnInfo> columnInfoList = new ArrayList<ColumnInfo>();
+        for (ColumnInfo columnInfo : _targetDBMeta.getColumnInfoList()) {
+            if (columnInfo.isAutoIncrement()) { // identity is generated by DB
+                continue;
+            }
+            columnInfoList.add(columnInfo);
+        }
+        return columnInfoList;
+    }
+
+    // ===================================================================================
+    //                                                                            CSV File
+    //                                                                            ========
+    protected File createTemporaryCsvFile() {
+        try {
+            return File.createTempFile("dbflute-bulkload-", ".csv");
+        } catch (IOException e) {
+            String msg = "Failed to create the temporary CSV file for bulk load: " + _targetDBMeta.getTableDbName();
+            throw new IllegalStateException(msg, e);
+        }
+    }
+
+    protected void writeCsvFile(File csvFile, Iterator<? extends Entity> entityIterator, List<ColumnInfo> columnInfoList) {
+        try (Writer writer = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(csvFile), StandardCharsets.UTF_8))) {
+            final StringBuilder sb = new StringBuilder();
+            for (ColumnInfo columnInfo : columnInfoList) {
+                if (sb.length() > 0) {
+                    sb.append(",");
+                }
+                sb.append(columnInfo.getColumnDbName());
+            }
+            writer.write(sb.append("\n").toString());
+            while (entityIterator.hasNext()) {
+                final Entity entity = entityIterator.next();
+                sb.setLength(0);
+                boolean first = true;
+                for (ColumnInfo columnInfo : columnInfoList) {
+                    if (!first) {
+                        sb.append(",");
+                    }
+                    first = false;
+                    final Object value = columnInfo.read(entity);
+                    if (value != null) { // null is unquoted empty field
+                        sb.append("\"").append(Srl.replace(formatCsvValue(value), "\"", "\"\"")).append("\"");
+                    }
+                }
+                writer.write(sb.append("\n").toString());
+            }
+        } catch (IOException e) {
+            String msg = "Failed to write the CSV file for bulk load: " + csvFile;
+            throw new IllegalStateException(msg, e);
+        }
+    }
+
+    protected String formatCsvValue(Object value) {
+        if (value instanceof LocalDateTime) {
+            return value.toString().replace('T', ' '); // SQL style
+        } else if (value instanceof BigDecimal) {
+            return ((BigDecimal) value).toPlainString(); // without exponent
+        } else if (value instanceof byte[]) {
+            return toHex((byte[]) value);
+        } else if (value instanceof java.util.Date && !(value instanceof java.sql.Date || value instanceof java.sql.Time)) {
+            return new Timestamp(((java.util.Date) value).getTime()).toString();
+        } else {
+            return value.toString();
+        }
+    }
+
+    protected String toHex(byte[] bytes) {
+        final StringBuilder sb = new StringBuilder(bytes.length * 2);
+        for (byte b : bytes) {
+            sb.append(HEX_CHARS[(b >> 4) & 0x0F]).append(HEX_CHARS[b & 0x0F]);
+        }
+        return sb.toString();
+    }
+
+    // ===================================================================================
+    //                                                                         Loading SQL
+    //                                                                         ===========
+    protected String buildLoadingSql(File csvFile, List<ColumnInfo> columnInfoList) {
+        final List<String> columnSqlNameList = new ArrayList<String>(columnInfoList.size());
+        for (ColumnInfo columnInfo : columnInfoList) {
+            columnSqlNameList.add(columnInfo.getColumnSqlName().toString());
+        }
+        final DBWay dbway = _targetDBMeta.getCurrentDBDef().dbway();
+        final String tableSqlName = _targetDBMeta.getTableSqlName().toString();
+        final String sql = dbway.buildBulkLoadCsvSql(tableSqlName, columnSqlNameList, csvFile.getAbsolutePath());
+        if (!dbway.isBulkLoadCsvSupported() || sql == null) {
+            String msg = "The DB-way does not support native bulk load: " + _targetDBMeta.getCurrentDBDef();
+            throw new IllegalStateException(msg);
+        }
+        return sql;
+    }
+
+    protected TnBasicUpdateHandler createLoadingHandler(String sql) {
+        return new TnBasicUpdateHandler(_dataSource, _statementFactory, sql);
+    }
+
+    // ===================================================================================
+    //                                                                            Accessor
+    //                                                                            ========
+    public void setTargetDBMeta(DBMeta targetDBMeta) {
+        _targetDBMeta = targetDBMeta;
+    }
+}
@@ -21,6 +21,7 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.Date;
 import java.util.List;
 
 import javax.sql.DataSource;
@@ -213,7 +214,10 @@ public abstract class TnAbstractBasicSqlHandler {
     protected void doLogSql(Object[] args, Class<?>[] argTypes, boolean logEnabled, boolean hasSqlFireHook, boolean hasSqlLog,
             boolean hasSqlResult) {
         final String firstDisplaySql;
-        if (logEnabled) { // build at once
+        if (logEnabled && isAsyncLogRendering()) { // build on background thread
+            submitAsyncDisplaySql(_sql, new Object[][] { args }, false);
+            firstDisplaySql = null; // hooks build it lazily if they need
+        } else if (logEnabled) { // build at once
             if (isInternalDebugEnabled()) {
                 _log.debug("...Building DisplaySql by " + logEnabled);
             }
@@ -254,6 +258,54 @@ public abstract class TnAbstractBasicSqlHandler {
         return displaySql != null ? displaySql.contains(ln()) : false;
     }
 
+    // -----------------------------------------------------
+    //                                       Async Rendering
+    //                                       ---------------
+    protected boolean isAsyncLogRendering() {
+        return QLog.isAsyncRendering();
+    }
+
+    /**
+     * Submit the display SQL building to the background thread. <br>
+     * The date display style is resolved here because it depends on thread-local resources.
+     * @param sql The executed SQL. (NotNull)
+     * @param argsArray The array of bind arguments per statement, batch has several statements. (NotNull)
+     * @param batch Is it batch logging? (joined with semicolon)
+     */
+    protected void submitAsyncDisplaySql(String sql, Object[][] argsArray, boolean batch) {
+        final DisplaySqlBuilder builder = createDisplaySqlBuilder();
+        final Object[][] snapshotArray = new Object[argsArray.length][];
+        for (int i = 0; i < argsArray.length; i++) {
+            snapshotArray[i] = snapshotBindArgs(argsArray[i]);
+        }
+        final String ln = ln();
+        QLog.getAsyncRenderer().submit(() -> {
+            if (!batch) {
+                final String displaySql = builder.buildDisplaySql(sql, snapshotArray[0]);
+                return (displaySql.contains(ln) ? ln : "") + displaySql; // same as logDisplaySql()
+            }
+            final StringBuilder sb = new StringBuilder(sql.length() * snapshotArray.length);
+            for (Object[] snapshot : snapshotArray) { // same as batch logging
+                sb.append(ln).append(builder.buildDisplaySql(sql, snapshot)).append(";");
+            }
+            return sb.toString();
+        });
+    }
+
+    protected Object[] snapshotBindArgs(Object[] args) {
+        if (args == null) {
+            return null;
+        }
+        final Object[] snapshot = args.clone(); // the array might be reused by caller
+        for (int i = 0; i < snapshot.length; i++) {
+            final Object arg = snapshot[i];
+            if (arg instanceof Date) { // mutable, also keeps nanos of timestamp
+                snapshot[i] = ((Date) arg).clone();
+            }
+        }
+        return snapshot;
+    }
+
     protected String buildDisplaySql(String sql, Object[] args) {
         return createDisplaySqlBuilder().buildDisplaySql(sql, args);
     }
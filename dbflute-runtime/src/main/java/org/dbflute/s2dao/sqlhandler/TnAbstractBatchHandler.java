@@ -18,6 +18,7 @@ package org.dbflute.s2dao.sqlhandler;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
 
@@ -53,6 +54,7 @@ public abstract class TnAbstractBatchHandler extends TnAbstractEntityHandler {
     //                                                                           =========
     // non-thread-safe because handler is created per execution
     protected StringBuilder _batchLoggingSb;
+    protected List<Object[]> _batchLoggingArgsList; // for async rendering instead of string builder
     protected int _loggingRecordCount;
     protected int _loggingScopeSize;
     protected boolean _existsSkippedLogging;
@@ -156,11 +158,18 @@ public abstract class TnAbstractBatchHandler extends TnAbstractEntityHandler {
     @Override
     protected boolean processBeforeLogging(Object[] args, Class<?>[] argTypes, boolean logEnabled, boolean hasSqlFireHook,
             boolean hasSqlLog, boolean hasSqlResult) {
-        if (_batchLoggingSb == null) {
-            _batchLoggingSb = new StringBuilder(1000);
+        if (isAsyncBatchLogging(logEnabled, hasSqlFireHook, hasSqlResult)) { // only keeps arguments
+            if (_batchLoggingArgsList == null) {
+                _batchLoggingArgsList = new ArrayList<Object[]>();
+            }
+            saveBatchLoggingArgs(args);
+        } else {
+            if (_batchLoggingSb == null) {
+                _batchLoggingSb = new StringBuilder(1000);
+            }
+            final String displaySql = buildDisplaySql(_sql, args);
+            saveBatchLoggingSql(displaySql);
         }
-        final String displaySql = buildDisplaySql(_sql, args);
-        saveBatchLoggingSql(displaySql);
         doLogSql(args, argTypes, false, false, hasSqlLog, false); // process non-batch handling
         if (needsBreakLoggingScope()) {
             handleBatchLogging(); // and also cleared
@@ -174,11 +183,28 @@ public abstract class TnAbstractBatchHandler extends TnAbstractEntityHandler {
         _batchLoggingSb.append(ln()).append(displaySql).append(";");
     }
 
+    protected boolean isAsyncBatchLogging(boolean logEnabled, boolean hasSqlFireHook, boolean hasSqlResult) {
+        // hook and result handler need the batch SQL synchronously
+        return logEnabled && isAsyncLogRendering() && !hasSqlFireHook && !hasSqlResult;
+    }
+
+    protected void saveBatchLoggingArgs(Object[] args) {
+        ++_loggingRecordCount;
+        ++_loggingScopeSize;
+        _batchLoggingArgsList.add(snapshotBindArgs(args)); // array is reused per element
+    }
+
     protected boolean needsBreakLoggingScope() {
         return _loggingScopeSize >= 100; // per 100 statements
     }
 
     protected String handleBatchLogging() {
+        if (_batchLoggingArgsList != null) { // async rendering
+            submitAsyncDisplaySql(_sql, _batchLoggingArgsList.toArray(new Object[_batchLoggingArgsList.size()][]), true);
+            clearBatchLogging();
+            handleBatchResultSqlSaving(null); // no hook and result handler here, just in case
+            return null;
+        }
         if (_batchLoggingSb == null) { // may be limited by option
             handleBatchResultSqlSaving(null); // but SqlResultHandler handling is needed
             return null;
@@ -222,6 +248,7 @@ public abstract class TnAbstractBatchHandler extends TnAbstractEntityHandler {
 
     protected void clearBatchLogging() {
         _batchLoggingSb = null;
+        _batchLoggingArgsList = null;
         _loggingScopeSize = 0;
     }
 
@@ -31,6 +31,7 @@ import org.dbflute.bhv.writable.DeleteOption;
 import org.dbflute.bhv.writable.InsertOption;
 import org.dbflute.bhv.writable.UpdateOption;
 import org.dbflute.cbean.ConditionBean;
+import org.dbflute.dbmeta.info.ColumnInfo;
 import org.dbflute.exception.EntityAlreadyUpdatedException;
 import org.dbflute.helper.beans.DfPropertyDesc;
 import org.dbflute.jdbc.StatementFactory;
@@ -158,7 +159,7 @@ public abstract class TnAbstractEntityHandler extends TnAbstractBasicSqlHandler
                 addNewVersionNo(firstNo);
                 varList.add(firstNo);
             } else {
-                varList.add(pt.getPropertyDesc().getValue(bean));
+                varList.add(readBoundValue(bean, pt));
             }
             varValueTypeList.add(pt.getValueType());
         }
@@ -187,7 +188,7 @@ public abstract class TnAbstractEntityHandler extends TnAbstractBasicSqlHandler
                 if (!_versionNoAutoIncrementOnMemory) { // means OnQuery
                     continue; // because of 'VERSION_NO = VERSION_NO + 1'
                 }
-                final Object value = pt.getPropertyDesc().getValue(bean); // already null-checked
+                final Object value = readBoundValue(bean, pt); // already null-checked
                 final long longValue = DfTypeUtil.toPrimitiveLong(value) + 1L;
                 final Long versionNo = Long.valueOf(longValue);
                 addNewVersionNo(versionNo);
@@ -195,7 +196,7 @@ public abstract class TnAbstractEntityHandler extends TnAbstractBasicSqlHandler
             } else if (_updateOption != null && _updateOption.hasStatement(pt.getColumnDbName())) {
                 continue; // because of 'FOO_COUNT = FOO_COUNT + 1'
             } else {
-                varList.add(pt.getPropertyDesc().getValue(bean));
+                varList.add(readBoundValue(bean, pt));
             }
             varValueTypeList.add(pt.getValueType());
         }
@@ -249,11 +250,18 @@ public abstract class TnAbstractEntityHandler extends TnAbstractBasicSqlHandler
 
     protected void doRegisterUpdateWhereBindVariable(List<Object> varList, List<ValueType> varValueTypeList, Object bean,
             TnPropertyType pt) {
-        final DfPropertyDesc pd = pt.getPropertyDesc();
-        varList.add(pd.getValue(bean));
+        varList.add(readBoundValue(bean, pt));
         varValueTypeList.add(pt.getValueType());
     }
 
+    protected Object readBoundValue(Object bean, TnPropertyType pt) {
+        final ColumnInfo columnInfo = pt.getEntityColumnInfo();
+        if (columnInfo != null && bean instanceof Entity) { // mainly here, by ordinal if generated DB meta
+            return columnInfo.read((Entity) bean);
+        }
+        return pt.getPropertyDesc().getValue(bean); // e.g. manual-created bean
+    }
+
     // ===================================================================================
     //                                                                 Timestamp/VersionNo
     //                                                                 ===================
@@ -32,11 +32,14 @@ import org.dbflute.s2dao.valuetype.basic.CharacterType;
 import org.dbflute.s2dao.valuetype.basic.ClassificationType;
 import org.dbflute.s2dao.valuetype.basic.DoubleType;
 import org.dbflute.s2dao.valuetype.basic.FloatType;
+import org.dbflute.s2dao.valuetype.basic.IntegerAsPrimitiveType;
 import org.dbflute.s2dao.valuetype.basic.IntegerType;
 import org.dbflute.s2dao.valuetype.basic.LocalDateAsSqlDateType;
 import org.dbflute.s2dao.valuetype.basic.LocalDateAsTimestampType;
+import org.dbflute.s2dao.valuetype.basic.LocalDateTimeAsDirectType;
 import org.dbflute.s2dao.valuetype.basic.LocalDateTimeAsTimestampType;
 import org.dbflute.s2dao.valuetype.basic.LocalTimeAsTimeType;
+import org.dbflute.s2dao.valuetype.basic.LongAsPrimitiveType;
 import org.dbflute.s2dao.valuetype.basic.LongType;
 import org.dbflute.s2dao.valuetype.basic.ObjectType;
 import org.dbflute.s2dao.valuetype.basic.ShortType;
@@ -92,6 +95,11 @@ public class TnValueTypes {
     public static final ValueType UUID_AS_DIRECT = new UUIDAsDirectType();
     public static final ValueType UUID_AS_STRING = new UUIDAsStringType();
 
+    // basic (typed getter)
+    public static final ValueType INTEGER_AS_PRIMITIVE = new IntegerAsPrimitiveType();
+    public static final ValueType LONG_AS_PRIMITIVE = new LongAsPrimitiveType();
+    public static final ValueType LOCALDATETIME_AS_DIRECT = new LocalDateTimeAsDirectType();
+
     // basic (interface)
     public static final ValueType CLASSIFICATION = new ClassificationType(); // DBFlute original class
 
@@ -129,12 +137,17 @@ public class TnValueTypes {
 
     protected static void initialize() {
         _valueTypesMap.put(DBDef.MySQL, createValueTypes());
-        _valueTypesMap.put(DBDef.PostgreSQL, createValueTypes());
+        {
+            final TnPlainValueTypes valueTypes = createValueTypes();
+            valueTypes.registerBasicValueType(java.time.LocalDateTime.class, LOCALDATETIME_AS_DIRECT); // JDBC 4.2 driver
+            _valueTypesMap.put(DBDef.PostgreSQL, valueTypes);
+        }
         {
             final TnPlainValueTypes valueTypes = createValueTypes();
             valueTypes.registerBasicValueType(java.util.Date.class, UTILDATE_AS_TIMESTAMP);
             valueTypes.registerBasicValueType(java.time.LocalDate.class, LOCALDATE_AS_TIMESTAMP);
             valueTypes.registerBasicValueType(java.time.LocalDateTime.class, LOCALDATETIME_AS_TIMESTAMP);
+            registerPrimitiveGetterValueType(valueTypes); // getObject() returns BigDecimal for NUMBER
             _valueTypesMap.put(DBDef.Oracle, valueTypes);
         }
         _valueTypesMap.put(DBDef.DB2, createValueTypes());
@@ -143,7 +156,11 @@ public class TnValueTypes {
             valueTypes.registerBasicValueType(UUID.class, UUID_AS_STRING);
             _valueTypesMap.put(DBDef.SQLServer, valueTypes);
         }
-        _valueTypesMap.put(DBDef.H2, createValueTypes());
+        {
+            final TnPlainValueTypes valueTypes = createValueTypes();
+            valueTypes.registerBasicValueType(java.time.LocalDateTime.class, LOCALDATETIME_AS_DIRECT); // JDBC 4.2 driver
+            _valueTypesMap.put(DBDef.H2, valueTypes);
+        }
         _valueTypesMap.put(DBDef.Derby, createValueTypes());
         _valueTypesMap.put(DBDef.SQLite, createValueTypes());
         _valueTypesMap.put(DBDef.Firebird, createValueTypes());
@@ -155,6 +172,15 @@ public class TnValueTypes {
         return new TnPlainValueTypes();
     }
 
+    protected static void registerPrimitiveGetterValueType(TnPlainValueTypes valueTypes) {
+        // typed getter with fall-back to general conversion
+        // for drivers whose getObject() returns non-target type, e.g. BigDecimal of Oracle
+        valueTypes.registerBasicValueType(int.class, INTEGER_AS_PRIMITIVE);
+        valueTypes.registerBasicValueType(Integer.class, INTEGER_AS_PRIMITIVE);
+        valueTypes.registerBasicValueType(long.class, LONG_AS_PRIMITIVE);
+        valueTypes.registerBasicValueType(Long.class, LONG_AS_PRIMITIVE);
+    }
+
     protected static TnPlainValueTypes getValueTypes() {
         final DBDef currentDBDef = ResourceContext.currentDBDef();
         return findValueTypes(currentDBDef);
@@ -67,11 +67,12 @@ public class ClassificationType extends TnAbstractValueType {
                 throw new IllegalStateException(msg);
             }
             final Classification cls = (Classification) value;
-            if (ClassificationCodeType.String.equals(cls.meta().codeType())) {
+            final ClassificationCodeType codeType = cls.meta().codeType(); // resolve once per binding
+            if (ClassificationCodeType.String.equals(codeType)) {
                 ps.setString(index, cls.code());
-            } else if (ClassificationCodeType.Number.equals(cls.meta().codeType())) {
+            } else if (ClassificationCodeType.Number.equals(codeType)) {
                 ps.setInt(index, DfTypeUtil.toInteger(cls.code()));
-            } else if (ClassificationCodeType.Boolean.equals(cls.meta().codeType())) {
+            } else if (ClassificationCodeType.Boolean.equals(codeType)) {
                 ps.setBoolean(index, DfTypeUtil.toBoolean(cls.code()));
             } else {
                 ps.setObject(index, cls.code());
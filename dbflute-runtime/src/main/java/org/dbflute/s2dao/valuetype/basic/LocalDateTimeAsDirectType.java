@@ -0,0 +1,98 @@
+/*
+ * Copyright 2014-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.dbflute.s2dao.valuetype.basic;
+
+import java.sql.CallableStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.TimeZone;
+
+/**
+ * The value type of local date-time that reads the value by JDBC 4.2 typed getter, getObject(index, LocalDateTime.class). <br>
+ * It does not create intermediate timestamp and conversion by time zone. <br>
+ * The driver returns wall-clock date-time so it is used only when the mapping time zone is same as default time zone,
+ * and falls back to the timestamp conversion of super class if different zone or failure of the typed getter. <br>
+ * The fallback is per call (no latch), and real failures are thrown by the timestamp conversion.
+ * @author agent
+ * @since 1.2.3 (2026/10/19 Monday)
+ */
+public class LocalDateTimeAsDirectType extends LocalDateTimeAsTimestampType {
+
+    // ===================================================================================
+    //                                                                           Get Value
+    //                                                                           =========
+    // fallback is decided per call without latch because drivers differ in how they reject the typed getter
+    // (e.g. not-supported feature, or conversion error for non-timestamp column like DATE)
+    // real failures, e.g. closed result set, are thrown by the timestamp conversion again
+    @Override
+    public Object getValue(ResultSet rs, int index) throws SQLException {
+        if (canGetDirectly()) {
+            try {
+                return rs.getObject(index, LocalDateTime.class);
+            } catch (SQLException | AbstractMethodError e) { // e.g. old driver, unsupported conversion
+                // fall back to the timestamp conversion only at this call
+            }
+        }
+        return super.getValue(rs, index);
+    }
+
+    @Override
+    public Object getValue(ResultSet rs, String columnName) throws SQLException {
+        if (canGetDirectly()) {
+            try {
+                return rs.getObject(columnName, LocalDateTime.class);
+            } catch (SQLException | AbstractMethodError e) { // e.g. old driver, unsupported conversion
+                // fall back to the timestamp conversion only at this call
+            }
+        }
+        return super.getValue(rs, columnName);
+    }
+
+    @Override
+    public Object getValue(CallableStatement cs, int index) throws SQLException {
+        if (canGetDirectly()) {
+            try {
+                return cs.getObject(index, LocalDateTime.class);
+            } catch (SQLException | AbstractMethodError e) { // e.g. old driver, unsupported conversion
+                // fall back to the timestamp conversion only at this call
+            }
+        }
+        return super.getValue(cs, index);
+    }
+
+    @Override
+    public Object getValue(CallableStatement cs, String parameterName) throws SQLException {
+        if (canGetDirectly()) {
+            try {
+                return cs.getObject(parameterName, LocalDateTime.class);
+            } catch (SQLException | AbstractMethodError e) { // e.g. old driver, unsupported conversion
+                // fall back to the timestamp conversion only at this call
+            }
+        }
+        return super.getValue(cs, parameterName);
+    }
+
+    // ===================================================================================
+    //                                                                       Assist Helper
+    //                                                                       =============
+    protected boolean canGetDirectly() {
+        // the driver converts timestamp by default time zone
+        // so the mapping zone should be same to get the same value as timestamp conversion
+        // (compared by ID because rules comparison is heavy for per-cell determination)
+        return getTimeZone().getID().equals(TimeZone.getDefault().getID());
+    }
+}
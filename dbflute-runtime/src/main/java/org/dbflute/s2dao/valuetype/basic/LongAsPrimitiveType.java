@@ -0,0 +1,77 @@
+/*
+ * Copyright 2014-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.dbflute.s2dao.valuetype.basic;
+
+import java.sql.CallableStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * The value type of Long that reads the value by typed getter, e.g. getLong() and wasNull(). <br>
+ * It does not allocate intermediate objects, e.g. BigDecimal of getObject() on Oracle,
+ * and falls back to the general conversion of super class if the typed getter fails.
+ * @author agent
+ * @since 1.2.3 (2026/10/19 Monday)
+ */
+public class LongAsPrimitiveType extends LongType {
+
+    // ===================================================================================
+    //                                                                           Get Value
+    //                                                                           =========
+    @Override
+    public Object getValue(ResultSet rs, int index) throws SQLException {
+        final long value;
+        try {
+            value = rs.getLong(index);
+        } catch (SQLException e) { // e.g. out of range, not numeric string
+            return super.getValue(rs, index);
+        }
+        return rs.wasNull() ? null : Long.valueOf(value);
+    }
+
+    @Override
+    public Object getValue(ResultSet rs, String columnName) throws SQLException {
+        final long value;
+        try {
+            value = rs.getLong(columnName);
+        } catch (SQLException e) { // e.g. out of range, not numeric string
+            return super.getValue(rs, columnName);
+        }
+        return rs.wasNull() ? null : Long.valueOf(value);
+    }
+
+    @Override
+    public Object getValue(CallableStatement cs, int index) throws SQLException {
+        final long value;
+        try {
+            value = cs.getLong(index);
+        } catch (SQLException e) { // e.g. out of range, not numeric string
+            return super.getValue(cs, index);
+        }
+        return cs.wasNull() ? null : Long.valueOf(value);
+    }
+
+    @Override
+    public Object getValue(CallableStatement cs, String parameterName) throws SQLException {
+        final long value;
+        try {
+            value = cs.getLong(parameterName);
+        } catch (SQLException e) { // e.g. out of range, not numeric string
+            return super.getValue(cs, parameterName);
+        }
+        return cs.wasNull() ? null : Long.valueOf(value);
+    }
+}
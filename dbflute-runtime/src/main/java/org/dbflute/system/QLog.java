@@ -31,6 +31,7 @@ public class QLog {
 
     protected static boolean _queryLogLevelInfo;
     protected static boolean _loggingInHolidayMood;
+    protected static QLogAsyncRenderer _asyncRenderer; // null allowed, synchronous if null
     protected static boolean _locked = true;
 
     // ===================================================================================
@@ -84,6 +85,34 @@ public class QLog {
         lock(); // auto-lock here, because of deep world
     }
 
+    // -----------------------------------------------------
+    //                                       Async Rendering
+    //                                       ---------------
+    public static boolean isAsyncRendering() { // very internal
+        return _asyncRenderer != null;
+    }
+
+    public static QLogAsyncRenderer getAsyncRenderer() { // very internal
+        return _asyncRenderer;
+    }
+
+    /**
+     * Set the renderer to build and log display SQL on background thread.
+     * @param asyncRenderer The renderer of query log. (NullAllowed: if null, synchronous logging)
+     */
+    public static void setAsyncRenderer(QLogAsyncRenderer asyncRenderer) {
+        assertUnlocked();
+        if (_log.isInfoEnabled()) {
+            _log.info("...Setting asyncRenderer: " + asyncRenderer);
+        }
+        final QLogAsyncRenderer existing = _asyncRenderer;
+        _asyncRenderer = asyncRenderer;
+        if (existing != null && existing != asyncRenderer) {
+            existing.shutdown(1000L); // flush remaining logs of previous one
+        }
+        lock(); // auto-lock here, because of deep world
+    }
+
     // ===================================================================================
     //                                                                        Logging Lock
     //                                                                        ============
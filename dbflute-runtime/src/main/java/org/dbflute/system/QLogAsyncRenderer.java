@@ -0,0 +1,270 @@
+/*
+ * Copyright 2014-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.dbflute.system;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The renderer of query log on background thread. <br>
+ * The SQL and snapshot of bind values are captured into bounded ring buffer by the caller,
+ * and display SQL is built and logged by the background thread. <br>
+ * So the query logs may be delayed and not ordered with other logs of the caller thread.
+ * <pre>
+ * QLog.unlock();
+ * QLog.setAsyncRenderer(new QLogAsyncRenderer(8192, QLogAsyncOverflowPolicy.DROP));
+ * </pre>
+ * @author agent
+ * @since 1.2.3 (2026/10/19 Monday)
+ */
+public class QLogAsyncRenderer {
+
+    // ===================================================================================
+    //                                                                          Definition
+    //                                                                          ==========
+    /** The logger instance for this class. (NotNull) */
+    private static final Logger _log = LoggerFactory.getLogger(QLogAsyncRenderer.class);
+
+    /**
+     * The policy when the ring buffer is full.
+     */
+    public enum QLogAsyncOverflowPolicy {
+        /** drops the new log (counted as dropped), no latency for caller */
+        DROP,
+        /** waits for free space in the buffer (back-pressure), no log is lost */
+        BLOCK,
+        /** renders and logs it on the caller thread (same as synchronous logging) */
+        CALLER_RUNS
+    }
+
+    protected static final String THREAD_NAME = "dbflute-qlog-async";
+
+    // ===================================================================================
+    //                                                                           Attribute
+    //                                                                           =========
+    protected final BlockingQueue<Supplier<String>> _ringBuffer; // array-based, bounded
+    protected final QLogAsyncOverflowPolicy _overflowPolicy;
+    protected volatile Thread _workerThread; // lazy-started, null if stopped
+    protected volatile boolean _stopped;
+
+    // -----------------------------------------------------
+    //                                              Counters
+    //                                              --------
+    protected final AtomicLong _submittedCount = new AtomicLong();
+    protected final AtomicLong _renderedCount = new AtomicLong();
+    protected final AtomicLong _droppedCount = new AtomicLong();
+    protected final AtomicLong _blockedCount = new AtomicLong();
+    protected final AtomicLong _callerRunsCount = new AtomicLong();
+    protected final AtomicLong _failedCount = new AtomicLong();
+
+    // ===================================================================================
+    //                                                                         Constructor
+    //                                                                         ===========
+    /**
+     * @param capacity The capacity of ring buffer, count of pending logs. (NotMinus, NotZero)
+     * @param overflowPolicy The policy when the ring buffer is full. (NotNull)
+     */
+    public QLogAsyncRenderer(int capacity, QLogAsyncOverflowPolicy overflowPolicy) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("The argument 'capacity' should not be minus or zero: " + capacity);
+        }
+        if (overflowPolicy == null) {
+            throw new IllegalArgumentException("The argument 'overflowPolicy' should not be null.");
+        }
+        _ringBuffer = new ArrayBlockingQueue<Supplier<String>>(capacity);
+        _overflowPolicy = overflowPolicy;
+    }
+
+    // ===================================================================================
+    //                                                                              Submit
+    //                                                                              ======
+    /**
+     * Submit the rendering of query log. <br>
+     * The renderer should use only captured (immutable) resources because it runs on other thread.
+     * @param renderer The supplier of display SQL to be logged. (NotNull)
+     */
+    public void submit(Supplier<String> renderer) {
+        if (renderer == null) {
+            throw new IllegalArgumentException("The argument 'renderer' should not be null.");
+        }
+        if (_stopped) { // after shutdown, e.g. application closing
+            renderOnCaller(renderer);
+            return;
+        }
+        prepareWorkerThread();
+        _submittedCount.incrementAndGet();
+        if (_ringBuffer.offer(renderer)) {
+            return; // basically here
+        }
+        if (QLogAsyncOverflowPolicy.DROP.equals(_overflowPolicy)) {
+            _droppedCount.incrementAndGet();
+        } else if (QLogAsyncOverflowPolicy.BLOCK.equals(_overflowPolicy)) {
+            _blockedCount.incrementAndGet();
+            try {
+                _ringBuffer.put(renderer);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt(); // keep status for caller
+                _droppedCount.incrementAndGet();
+            }
+        } else { // caller runs
+            _callerRunsCount.incrementAndGet();
+            renderOnCaller(renderer);
+        }
+    }
+
+    protected void renderOnCaller(Supplier<String> renderer) {
+        try {
+            QLog.log(renderer.get());
+        } catch (RuntimeException e) {
+            _failedCount.incrementAndGet();
+            _log.warn("Failed to render the query log.", e);
+        }
+    }
+
+    // ===================================================================================
+    //                                                                       Worker Thread
+    //                                                                       =============
+    protected void prepareWorkerThread() {
+        if (_workerThread != null) {
+            return;
+        }
+        synchronized (this) {
+            if (_workerThread != null || _stopped) {
+                return;
+            }
+            final Thread thread = new Thread(() -> runWorker(), THREAD_NAME);
+            thread.setDaemon(true); // not to block application shutdown
+            thread.start();
+            _workerThread = thread;
+        }
+    }
+
+    protected void runWorker() {
+        while (!_stopped) {
+            final Supplier<String> renderer;
+            try {
+                renderer = _ringBuffer.poll(500L, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                break; // shutdown
+            }
+            if (renderer != null) {
+                render(renderer);
+            }
+        }
+        drainRemaining();
+    }
+
+    protected void drainRemaining() {
+        Supplier<String> renderer;
+        while ((renderer = _ringBuffer.poll()) != null) {
+            render(renderer);
+        }
+    }
+
+    protected void render(Supplier<String> renderer) {
+        try {
+            QLog.log(renderer.get());
+            _renderedCount.incrementAndGet();
+        } catch (RuntimeException e) { // e.g. bind value's toString() failure
+            _failedCount.incrementAndGet();
+            _log.warn("Failed to render the query log on background.", e);
+        }
+    }
+
+    // ===================================================================================
+    //                                                                            Shutdown
+    //                                                                            ========
+    /**
+     * Stop the background thread after logging the remaining logs. <br>
+     * Logs submitted after this are rendered on the caller thread.
+     * @param timeoutMillis The milliseconds to wait for the remaining logs. (NotMinus)
+     */
+    public void shutdown(long timeoutMillis) {
+        final Thread thread;
+        synchronized (this) {
+            _stopped = true;
+            thread = _workerThread;
+            _workerThread = null;
+        }
+        if (thread == null) {
+            drainRemaining();
+            return;
+        }
+        try {
+            thread.join(timeoutMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // ===================================================================================
+    //                                                                      Basic Override
+    //                                                                      ==============
+    @Override
+    public String toString() {
+        return "{" + _overflowPolicy + ", pending=" + getPendingCount() + ", submitted=" + getSubmittedCount() + ", rendered="
+                + getRenderedCount() + ", dropped=" + getDroppedCount() + ", blocked=" + getBlockedCount() + ", callerRuns="
+                + getCallerRunsCount() + ", failed=" + getFailedCount() + "}";
+    }
+
+    // ===================================================================================
+    //                                                                            Accessor
+    //                                                                            ========
+    public QLogAsyncOverflowPolicy getOverflowPolicy() {
+        return _overflowPolicy;
+    }
+
+    public int getPendingCount() {
+        return _ringBuffer.size();
+    }
+
+    public long getSubmittedCount() {
+        return _submittedCount.get();
+    }
+
+    public long getRenderedCount() {
+        return _renderedCount.get();
+    }
+
+    public long getDroppedCount() {
+        return _droppedCount.get();
+    }
+
+    /**
+     * @return The count of submits that waited for free space by BLOCK policy. (NotMinus)
+     */
+    public long getBlockedCount() {
+        return _blockedCount.get();
+    }
+
+    public long getCallerRunsCount() {
+        return _callerRunsCount.get();
+    }
+
+    public long getFailedCount() {
+        return _failedCount.get();
+    }
+
+    public boolean isStopped() {
+        return _stopped;
+    }
+}
@@ -29,6 +29,7 @@ import org.dbflute.twowaysql.exception.IfCommentConditionEmptyException;
 import org.dbflute.twowaysql.factory.DefaultNodeAdviceFactory;
 import org.dbflute.twowaysql.factory.NodeAdviceFactory;
 import org.dbflute.twowaysql.factory.SqlAnalyzerFactory;
+import org.dbflute.twowaysql.node.AbstractNode;
 import org.dbflute.twowaysql.node.BeginNode;
 import org.dbflute.twowaysql.node.BindVariableNode;
 import org.dbflute.twowaysql.node.ElseNode;
@@ -136,7 +137,15 @@ public class SqlAnalyzer {
         while (SqlTokenizer.EOF != _tokenizer.next()) {
             parseToken();
         }
-        return pop();
+        final Node rootNode = pop();
+        compileNode(rootNode);
+        return rootNode;
+    }
+
+    protected void compileNode(Node rootNode) { // node tree is immutable after this
+        if (rootNode instanceof AbstractNode) {
+            ((AbstractNode) rootNode).xcompileChildren();
+        }
     }
 
     protected RootNode createRootNode() {
@@ -48,7 +48,20 @@ public class CommandContextCreator {
      * @return The command context as root context. (NotNull)
      */
     public CommandContext createCommandContext(Object[] args) {
-        final CommandContext ctx = createCommandContext();
+        return setupArgs(createCommandContext(), args);
+    }
+
+    /**
+     * Create the command context as root context with pre-sized SQL buffer.
+     * @param args The array of arguments. (NullAllowed)
+     * @param sqlCapacity The initial capacity of SQL building, e.g. hint of compiled root node. (NotMinus)
+     * @return The command context as root context. (NotNull)
+     */
+    public CommandContext createCommandContext(Object[] args, int sqlCapacity) {
+        return setupArgs(createCommandContext(sqlCapacity), args);
+    }
+
+    protected CommandContext setupArgs(CommandContext ctx, Object[] args) {
         if (args != null) {
             for (int i = 0; i < args.length; ++i) {
                 Class<?> argType = null;
@@ -72,4 +85,8 @@ public class CommandContextCreator {
     protected CommandContext createCommandContext() {
         return CommandContextImpl.createCommandContextImplAsRoot();
     }
+
+    protected CommandContext createCommandContext(int sqlCapacity) {
+        return CommandContextImpl.createCommandContextImplAsRoot(sqlCapacity);
+    }
 }
@@ -17,7 +17,7 @@ package org.dbflute.twowaysql.context.impl;
 
 import java.util.List;
 
-import org.dbflute.helper.StringKeyMap;
+import org.dbflute.helper.CaseFoldingKeyMap;
 import org.dbflute.twowaysql.context.CommandContext;
 import org.dbflute.util.DfCollectionUtil;
 
@@ -30,12 +30,12 @@ public class CommandContextImpl implements CommandContext {
     //                                                                           Attribute
     //                                                                           =========
     /** The arguments. it should be allowed null value. */
-    protected final StringKeyMap<Object> _args = StringKeyMap.createAsCaseInsensitive();
+    protected final CaseFoldingKeyMap<Object> _args = CaseFoldingKeyMap.createAsCaseInsensitive();
 
     /** The types of argument. it should be allowed null value. */
-    protected final StringKeyMap<Class<?>> _argTypes = StringKeyMap.createAsCaseInsensitive();
+    protected final CaseFoldingKeyMap<Class<?>> _argTypes = CaseFoldingKeyMap.createAsCaseInsensitive();
 
-    protected final StringBuilder _sqlSb = new StringBuilder(100);
+    protected final StringBuilder _sqlSb;
     protected final List<Object> _bindVariables = DfCollectionUtil.newArrayList();
     protected final List<Class<?>> _bindVariableTypes = DfCollectionUtil.newArrayList();
     protected final CommandContext _parent;
@@ -44,6 +44,11 @@ public class CommandContextImpl implements CommandContext {
     protected boolean _beginChild;
     protected boolean _alreadySkippedConnector;
 
+    // ===================================================================================
+    //                                                                          Definition
+    //                                                                          ==========
+    protected static final int DEFAULT_SQL_CAPACITY = 100;
+
     // ===================================================================================
     //                                                                         Constructor
     //                                                                         ===========
@@ -51,6 +56,15 @@ public class CommandContextImpl implements CommandContext {
      * Constructor for root context.
      */
     protected CommandContextImpl() {
+        this(DEFAULT_SQL_CAPACITY);
+    }
+
+    /**
+     * Constructor for root context with initial capacity of SQL.
+     * @param sqlCapacity The initial capacity of SQL building. (NotMinus)
+     */
+    protected CommandContextImpl(int sqlCapacity) {
+        _sqlSb = new StringBuilder(sqlCapacity);
         _parent = null;
         _enabled = true; // immutable since here
     }
@@ -60,6 +74,7 @@ public class CommandContextImpl implements CommandContext {
      * @param parent The parent context. (NotNull)
      */
     protected CommandContextImpl(CommandContext parent) {
+        _sqlSb = new StringBuilder(DEFAULT_SQL_CAPACITY);
         _parent = parent;
         _enabled = false; // changing depends on child elements
     }
@@ -75,6 +90,15 @@ public class CommandContextImpl implements CommandContext {
         return new CommandContextImpl();
     }
 
+    /**
+     * Create the implementation of command context as root with pre-sized SQL buffer.
+     * @param sqlCapacity The initial capacity of SQL building, e.g. estimated from compiled node. (NotMinus)
+     * @return The implementation of command context as root. (NotNull)
+     */
+    public static CommandContextImpl createCommandContextImplAsRoot(int sqlCapacity) { // basically for creator
+        return new CommandContextImpl(Math.max(sqlCapacity, DEFAULT_SQL_CAPACITY));
+    }
+
     /**
      * Create the implementation of command context as BEGIN child.
      * @param parent The parent context. (NotNull)
@@ -93,8 +117,9 @@ public class CommandContextImpl implements CommandContext {
     //                                                                    Context Handling
     //                                                                    ================
     public Object getArg(String name) {
-        if (_args.containsKey(name)) {
-            return _args.get(name);
+        final Object arg = _args.get(name); // one lookup for basic case
+        if (arg != null || _args.containsKey(name)) { // null value is allowed
+            return arg;
         } else if (_parent != null) {
             return _parent.getArg(name);
         } else {
@@ -107,8 +132,9 @@ public class CommandContextImpl implements CommandContext {
     }
 
     public Class<?> getArgType(String name) {
-        if (_argTypes.containsKey(name)) {
-            return (Class<?>) _argTypes.get(name);
+        final Class<?> argType = _argTypes.get(name); // one lookup for basic case
+        if (argType != null || _argTypes.containsKey(name)) { // null value is allowed
+            return argType;
         } else if (_parent != null) {
             return _parent.getArgType(name);
         } else {
@@ -15,6 +15,7 @@
  */
 package org.dbflute.twowaysql.node;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import org.dbflute.twowaysql.context.CommandContext;
@@ -52,6 +53,42 @@ public abstract class AbstractNode implements Node {
         _childList.add(node);
     }
 
+    // ===================================================================================
+    //                                                                             Compile
+    //                                                                             =======
+    /**
+     * Compile the children after analyzing, e.g. adjacent static SQL parts are joined into one. (internal) <br>
+     * The nodes are not changed after this so the tree can be shared between threads as template.
+     */
+    public void xcompileChildren() {
+        if (_childList.isEmpty()) {
+            return;
+        }
+        final List<Node> compiledList = new ArrayList<Node>(_childList.size());
+        SqlPartsNode previousParts = null;
+        for (Node child : _childList) {
+            if (child instanceof AbstractNode) {
+                ((AbstractNode) child).xcompileChildren();
+            }
+            if (child instanceof SqlPartsNode) {
+                final SqlPartsNode currentParts = (SqlPartsNode) child;
+                if (previousParts != null && previousParts.isJoinable(currentParts)) {
+                    previousParts = previousParts.join(currentParts);
+                    compiledList.set(compiledList.size() - 1, previousParts);
+                    continue;
+                }
+                previousParts = currentParts;
+            } else {
+                previousParts = null;
+            }
+            compiledList.add(child);
+        }
+        if (compiledList.size() < _childList.size()) {
+            _childList.clear();
+            _childList.addAll(compiledList);
+        }
+    }
+
     protected boolean isBeginChildAndValidSql(CommandContext ctx, String sql) {
         return ctx.isBeginChild() && Srl.is_NotNull_and_NotTrimmedEmpty(sql);
     }
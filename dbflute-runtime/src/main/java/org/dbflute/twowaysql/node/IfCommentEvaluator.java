@@ -21,6 +21,7 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
@@ -150,6 +151,56 @@ public class IfCommentEvaluator {
         }
     }
 
+    /**
+     * Evaluate the clauses compiled in advance, e.g. by IF node shared as template. <br>
+     * The expression should be asserted before this (at least once).
+     * @param clauseList The list of boolean clauses split by connector. (NotNull, NotEmpty)
+     * @param orConnector Is the connector of clauses OR? (false if AND or single clause)
+     * @return The result of evaluation.
+     */
+    public boolean evaluateCompiled(List<String> clauseList, boolean orConnector) {
+        if (orConnector) {
+            for (String booleanClause : clauseList) {
+                if (evaluateBooleanClause(booleanClause)) {
+                    return true;
+                }
+            }
+            return false;
+        } else { // AND or single clause
+            for (String booleanClause : clauseList) {
+                if (!evaluateBooleanClause(booleanClause)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Compile the expression to boolean clauses split by connector. <br>
+     * The split is by the same hook as evaluate() so the clauses are the same as non-compiled evaluation.
+     * The expression should be asserted before this.
+     * @return The read-only list of boolean clauses. (NotNull, NotEmpty)
+     */
+    public List<String> compileClauseList() {
+        final List<String> clauseList;
+        if (_expression.contains(AND)) {
+            clauseList = splitList(_expression, AND);
+        } else if (_expression.contains(OR)) {
+            clauseList = splitList(_expression, OR);
+        } else {
+            clauseList = Collections.singletonList(_expression);
+        }
+        return Collections.unmodifiableList(clauseList);
+    }
+
+    /**
+     * @return Is the connector of clauses OR? (false if AND or single clause)
+     */
+    public boolean isOrConnectorExpression() {
+        return !_expression.contains(AND) && _expression.contains(OR);
+    }
+
     public void assertExpression() {
         if (_expression == null || _expression.trim().length() == 0) {
             throwIfCommentEmptyExpressionException();
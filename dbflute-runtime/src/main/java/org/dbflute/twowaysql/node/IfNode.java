@@ -15,6 +15,8 @@
  */
 package org.dbflute.twowaysql.node;
 
+import java.util.List;
+
 import org.dbflute.twowaysql.context.CommandContext;
 import org.dbflute.util.DfTypeUtil;
 import org.dbflute.util.Srl;
@@ -34,6 +36,7 @@ public class IfNode extends ScopeNode implements LoopAcceptable, SqlConnectorAdj
     //                                                                           =========
     protected final String _expression;
     protected final String _specifiedSql;
+    protected volatile CompiledClause _compiledClause; // lazy compiled at first evaluation, null if not yet
     protected ElseNode _elseNode; // lazy setting
 
     // ===================================================================================
@@ -57,7 +60,7 @@ public class IfNode extends ScopeNode implements LoopAcceptable, SqlConnectorAdj
 
     protected void doAcceptByEvaluator(CommandContext ctx, LoopInfo loopInfo) {
         final IfCommentEvaluator evaluator = createIfCommentEvaluator(ctx, loopInfo);
-        final boolean result = evaluator.evaluate();
+        final boolean result = evaluateByCompiled(evaluator);
         if (result) {
             processAcceptingChildren(ctx, loopInfo);
             ctx.setEnabled(true);
@@ -70,6 +73,35 @@ public class IfNode extends ScopeNode implements LoopAcceptable, SqlConnectorAdj
         }
     }
 
+    protected boolean evaluateByCompiled(IfCommentEvaluator evaluator) {
+        CompiledClause compiled = _compiledClause;
+        if (compiled == null) { // first evaluation (no lock because compiling twice is harmless)
+            evaluator.assertExpression(); // assertion is needed only once for shared node
+            compiled = new CompiledClause(evaluator.compileClauseList(), evaluator.isOrConnectorExpression());
+            _compiledClause = compiled;
+        }
+        return evaluator.evaluateCompiled(compiled.getClauseList(), compiled.isOrConnector());
+    }
+
+    protected static class CompiledClause { // immutable to be shared by threads
+
+        protected final List<String> _clauseList; // split by the evaluator's hook
+        protected final boolean _orConnector;
+
+        public CompiledClause(List<String> clauseList, boolean orConnector) {
+            _clauseList = clauseList;
+            _orConnector = orConnector;
+        }
+
+        public List<String> getClauseList() {
+            return _clauseList;
+        }
+
+        public boolean isOrConnector() {
+            return _orConnector;
+        }
+    }
+
     protected IfCommentEvaluator createIfCommentEvaluator(final CommandContext ctx, final LoopInfo loopInfo) {
         return new IfCommentEvaluator(name -> ctx.getArg(name), _expression, _specifiedSql, loopInfo);
     }
@@ -100,4 +132,15 @@ public class IfNode extends ScopeNode implements LoopAcceptable, SqlConnectorAdj
     public void setElseNode(ElseNode elseNode) {
         this._elseNode = elseNode;
     }
+
+    // ===================================================================================
+    //                                                                             Compile
+    //                                                                             =======
+    @Override
+    public void xcompileChildren() {
+        super.xcompileChildren();
+        if (_elseNode != null) {
+            _elseNode.xcompileChildren();
+        }
+    }
 }
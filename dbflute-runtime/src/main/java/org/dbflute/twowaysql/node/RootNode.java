@@ -22,6 +22,17 @@ import org.dbflute.twowaysql.context.CommandContext;
  */
 public class RootNode extends AbstractNode {
 
+    // ===================================================================================
+    //                                                                          Definition
+    //                                                                          ==========
+    /** The estimated length of SQL for one dynamic node, e.g. bind variable, IF comment. */
+    protected static final int DYNAMIC_NODE_SQL_LENGTH = 8;
+
+    // ===================================================================================
+    //                                                                           Attribute
+    //                                                                           =========
+    protected int _sqlCapacityHint; // calculated by compiling, zero if not compiled
+
     // ===================================================================================
     //                                                                         Constructor
     //                                                                         ===========
@@ -37,4 +48,37 @@ public class RootNode extends AbstractNode {
             getChild(i).accept(ctx);
         }
     }
-}
\ No newline at end of file
+
+    // ===================================================================================
+    //                                                                             Compile
+    //                                                                             =======
+    @Override
+    public void xcompileChildren() {
+        super.xcompileChildren();
+        _sqlCapacityHint = calculateSqlLength(this);
+    }
+
+    protected int calculateSqlLength(Node node) {
+        int length = 0;
+        final int childSize = node.getChildSize();
+        for (int i = 0; i < childSize; i++) {
+            final Node child = node.getChild(i);
+            if (child instanceof SqlPartsNode) {
+                length += ((SqlPartsNode) child).getSqlParts().length();
+            } else {
+                length += DYNAMIC_NODE_SQL_LENGTH + calculateSqlLength(child);
+            }
+        }
+        return length;
+    }
+
+    // ===================================================================================
+    //                                                                            Accessor
+    //                                                                            ========
+    /**
+     * @return The hint of initial capacity for SQL building. (NotMinus: zero if not compiled)
+     */
+    public int getSqlCapacityHint() {
+        return _sqlCapacityHint;
+    }
+}
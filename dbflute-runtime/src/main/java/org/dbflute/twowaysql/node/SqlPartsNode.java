@@ -67,6 +67,26 @@ public class SqlPartsNode extends AbstractNode {
         return !_independent && isBeginChildAndValidSql(ctx, _sqlParts);
     }
 
+    // ===================================================================================
+    //                                                                             Compile
+    //                                                                             =======
+    /**
+     * @param next The SQL parts node placed just after this. (NotNull)
+     * @return Can the two nodes be joined to one node without behavior change?
+     */
+    public boolean isJoinable(SqlPartsNode next) {
+        return _independent == next._independent; // already-skipped mark is same when joined
+    }
+
+    /**
+     * @param next The SQL parts node placed just after this, should be joinable. (NotNull)
+     * @return The new-created node that has the joined SQL parts. (NotNull)
+     */
+    public SqlPartsNode join(SqlPartsNode next) {
+        final SqlPartsNode joined = new SqlPartsNode(_sqlParts + next._sqlParts);
+        return _independent ? joined.asIndependent() : joined;
+    }
+
     // ===================================================================================
     //                                                                      Basic Override
     //                                                                      ==============
@@ -81,4 +101,8 @@ public class SqlPartsNode extends AbstractNode {
     public String getSqlParts() {
         return _sqlParts;
     }
+
+    public boolean isIndependent() {
+        return _independent;
+    }
 }
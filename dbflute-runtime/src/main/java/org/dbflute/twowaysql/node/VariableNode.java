@@ -15,6 +15,7 @@
  */
 package org.dbflute.twowaysql.node;
 
+import java.util.Collections;
 import java.util.List;
 
 import org.dbflute.twowaysql.context.CommandContext;
@@ -40,7 +41,9 @@ public abstract class VariableNode extends AbstractNode implements LoopAcceptabl
     protected final String _expression;
     protected final String _testValue;
     protected final String _optionDef;
+    protected final List<String> _optionList; // compiled from option definition, empty if no option
     protected final List<String> _nameList;
+    protected final String _firstName; // first element of name list, resolved once
     protected final String _specifiedSql;
     protected final boolean _blockNullParameter;
     protected final NodeAdviceFactory _nodeAdviceFactory;
@@ -58,12 +61,21 @@ public abstract class VariableNode extends AbstractNode implements LoopAcceptabl
             _optionDef = null;
         }
         _testValue = testValue;
+        _optionList = compileOptionList(_optionDef);
         _nameList = Srl.splitList(_expression, ".");
+        _firstName = _nameList.get(0);
         _specifiedSql = specifiedSql;
         _blockNullParameter = blockNullParameter;
         _nodeAdviceFactory = nodeAdviceFactory;
     }
 
+    protected List<String> compileOptionList(String optionDef) { // node is shared so immutable
+        if (Srl.is_NotNull_and_NotTrimmedEmpty(optionDef)) {
+            return Collections.unmodifiableList(Srl.splitListTrimmed(optionDef, "|"));
+        }
+        return Collections.emptyList();
+    }
+
     // ===================================================================================
     //                                                                              Accept
     //                                                                              ======
@@ -72,7 +84,7 @@ public abstract class VariableNode extends AbstractNode implements LoopAcceptabl
     }
 
     public void accept(CommandContext ctx, LoopInfo loopInfo) { // for FOR comment
-        final String firstName = _nameList.get(0);
+        final String firstName = _firstName;
         if (firstName.equals(ForNode.CURRENT_VARIABLE)) { // use loop element
             final Object parameter = loopInfo.getCurrentParameter();
             final Class<?> parameterType = loopInfo.getCurrentParameterType();
@@ -83,7 +95,7 @@ public abstract class VariableNode extends AbstractNode implements LoopAcceptabl
     }
 
     protected void doAccept(CommandContext ctx, LoopInfo loopInfo) {
-        final String firstName = _nameList.get(0);
+        final String firstName = _firstName;
         assertFirstNameAsNormal(ctx, firstName);
         final Object firstValue = ctx.getArg(firstName);
         final Class<?> firstType = ctx.getArgType(firstName);
@@ -149,9 +161,8 @@ public abstract class VariableNode extends AbstractNode implements LoopAcceptabl
     }
 
     protected boolean isAcceptableLikeSearch(LoopInfo loopInfo) {
-        if (loopInfo != null && Srl.is_NotNull_and_NotTrimmedEmpty(_optionDef)) {
-            final List<String> optionList = Srl.splitListTrimmed(_optionDef, "|");
-            if (optionList.contains(INLOOP_OPTION_NOT_LIKE)) {
+        if (loopInfo != null && !_optionList.isEmpty()) {
+            if (_optionList.contains(INLOOP_OPTION_NOT_LIKE)) {
                 return false; // specified not-like in loop
             }
         }
@@ -159,11 +170,8 @@ public abstract class VariableNode extends AbstractNode implements LoopAcceptabl
     }
 
     protected FilteringBindOption findInLoopForcedLikeSearchOption(LoopInfo loopInfo) {
-        if (Srl.is_NotNull_and_NotTrimmedEmpty(_optionDef)) {
-            final List<String> optionList = Srl.splitListTrimmed(_optionDef, "|");
-            for (String option : optionList) {
-                return prepareInLoopLikeSearchOption(option);
-            }
+        if (!_optionList.isEmpty()) {
+            return prepareInLoopLikeSearchOption(_optionList.get(0));
         }
         return null;
     }
@@ -173,10 +181,9 @@ public abstract class VariableNode extends AbstractNode implements LoopAcceptabl
     }
 
     protected void assertInLoopOnlyOptionInLoop(LoopInfo loopInfo) {
-        if (loopInfo == null && Srl.is_NotNull_and_NotTrimmedEmpty(_optionDef)) {
+        if (loopInfo == null && !_optionList.isEmpty()) {
             final String onlyInLoop = INLOOP_OPTION_NOT_LIKE;
-            final List<String> optionList = Srl.splitListTrimmed(_optionDef, "|");
-            for (String option : optionList) {
+            for (String option : _optionList) {
                 if (onlyInLoop.equals(option)) {
                     // means 'notLike' is specified at out of loop
                     throwInLoopOptionOutOfLoopException();
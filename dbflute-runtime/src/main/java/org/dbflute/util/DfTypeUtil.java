@@ -213,7 +213,7 @@ public final class DfTypeUtil {
 
     protected static String doConvertToStringLocalDate(LocalDate value, String pattern) {
         final String realPattern = pattern != null ? pattern : DEFAULT_DATE_PATTERN;
-        return value.format(DateTimeFormatter.ofPattern(realPattern, chooseRealLocale(null)));
+        return value.format(getCachedDateTimeFormatter(realPattern, chooseRealLocale(null)));
     }
 
     /**
@@ -229,7 +229,7 @@ public final class DfTypeUtil {
 
     protected static String doConvertToStringLocalDateTime(LocalDateTime value, String pattern) {
         final String realPattern = pattern != null ? pattern : DEFAULT_TIMESTAMP_PATTERN; // only millisecond (not nanosecond) as default
-        return value.format(DateTimeFormatter.ofPattern(realPattern, chooseRealLocale(null)));
+        return value.format(getCachedDateTimeFormatter(realPattern, chooseRealLocale(null)));
     }
 
     /**
@@ -245,7 +245,7 @@ public final class DfTypeUtil {
 
     protected static String doConvertToStringLocalTime(LocalTime value, String pattern) {
         final String realPattern = pattern != null ? pattern : DEFAULT_TIME_PATTERN; // not use nanosecond part as default
-        return value.format(DateTimeFormatter.ofPattern(realPattern, chooseRealLocale(null)));
+        return value.format(getCachedDateTimeFormatter(realPattern, chooseRealLocale(null)));
     }
 
     public static String toStringDate(Date value, TimeZone timeZone, String pattern, Locale locale) {
@@ -1077,11 +1077,15 @@ public final class DfTypeUtil {
         final boolean keepMillisMore = false;
         if (pattern != null) {
             try {
-                return LocalDate.parse(str, DateTimeFormatter.ofPattern(pattern, chooseRealLocale(locale)));
+                return LocalDate.parse(str, getCachedDateTimeFormatter(pattern, chooseRealLocale(locale)));
             } catch (DateTimeParseException e) {
                 throw new ParseDateException("Failed to parse the expression: " + str + ", pattern=" + pattern, e);
             }
         } else {
+            final LocalDate fastParsed = fastParseIsoLocalDate(str); // for basic shapes
+            if (fastParsed != null) {
+                return fastParsed;
+            }
             String filtered = filterDateStringValueFlexibly(str, includeTime, includeMillis, keepMillisMore);
             if (filtered.startsWith("-0000")) { // e.g. BC0001 converted to -0000
                 filtered = Srl.ltrim(filtered, "-"); // local date cannot parse -0000
@@ -1234,11 +1238,15 @@ public final class DfTypeUtil {
         final boolean keepMillisMore = true; // local date can use nanosecond
         if (pattern != null) {
             try {
-                return LocalDateTime.parse(str, DateTimeFormatter.ofPattern(pattern, chooseRealLocale(locale)));
+                return LocalDateTime.parse(str, getCachedDateTimeFormatter(pattern, chooseRealLocale(locale)));
             } catch (DateTimeParseException e) {
                 throw new ParseDateException("Failed to parse the expression: " + str + ", pattern=" + pattern, e);
             }
         } else {
+            final LocalDateTime fastParsed = fastParseIsoLocalDateTime(str); // for basic shapes
+            if (fastParsed != null) {
+                return fastParsed;
+            }
             final String filtered = filterDateStringValueFlexibly(str, includeTime, includeMillis, keepMillisMore);
             final LocalDate localDate = doParseStringAsLocalDate(filtered, null, locale);
             final LocalTime localTime = doParseStringAsLocalTime(filtered, null, locale);
@@ -1382,11 +1390,15 @@ public final class DfTypeUtil {
         }
         if (pattern != null) {
             try {
-                return LocalTime.parse(str, DateTimeFormatter.ofPattern(pattern, chooseRealLocale(locale)));
+                return LocalTime.parse(str, getCachedDateTimeFormatter(pattern, chooseRealLocale(locale)));
             } catch (DateTimeParseException e) {
                 throw new ParseDateException("Failed to parse the expression: " + str + " pattern=" + pattern, e);
             }
         }
+        final LocalTime fastParsed = fastParseIsoLocalTime(str); // for basic shapes
+        if (fastParsed != null) {
+            return fastParsed;
+        }
         final boolean includeMillis = true;
         final boolean keepMillisMore = true; // local date can use nanosecond
         final String timePart = filterTimeStringValueFlexibly(str, includeMillis, keepMillisMore); // HH:mm:ss[.SSS...]
@@ -1423,6 +1435,129 @@ public final class DfTypeUtil {
         return Srl.rfill(millis, 9, '0');
     }
 
+    // -----------------------------------------------------
+    //                                      Fast ISO Parsing
+    //                                      ----------------
+    // parse basic shapes without filtering, e.g. 2014-10-28, 2014/10/28 12:34:56.789, 2014-10-28T12:34:56
+    // returns null if other shapes or invalid values, then flexible parsing makes the same result or exception
+    protected static LocalDate fastParseIsoLocalDate(String str) {
+        if (str.length() != 10 || !isFastIsoDateShape(str)) {
+            return null;
+        }
+        try {
+            return LocalDate.of(parseFastDigits(str, 0, 4), parseFastDigits(str, 5, 7), parseFastDigits(str, 8, 10));
+        } catch (DateTimeException e) { // e.g. 2014-02-30
+            return null;
+        }
+    }
+
+    protected static LocalDateTime fastParseIsoLocalDateTime(String str) {
+        final int length = str.length();
+        if (length < 10 || !isFastIsoDateShape(str)) {
+            return null;
+        }
+        final int hour;
+        final int minute;
+        final int second;
+        final int nanos;
+        if (length == 10) { // date only
+            hour = 0;
+            minute = 0;
+            second = 0;
+            nanos = 0;
+        } else {
+            final char dateTimeDlm = str.charAt(10);
+            if ((dateTimeDlm != ' ' && dateTimeDlm != 'T') || !isFastIsoTimeShape(str, 11)) {
+                return null;
+            }
+            nanos = parseFastNanos(str, 19, true);
+            if (nanos < 0) {
+                return null;
+            }
+            hour = parseFastDigits(str, 11, 13);
+            minute = parseFastDigits(str, 14, 16);
+            second = parseFastDigits(str, 17, 19);
+        }
+        try {
+            return LocalDateTime.of(parseFastDigits(str, 0, 4), parseFastDigits(str, 5, 7), parseFastDigits(str, 8, 10), hour, minute,
+                    second, nanos);
+        } catch (DateTimeException e) { // e.g. 2014-02-30, 25:00:00
+            return null;
+        }
+    }
+
+    protected static LocalTime fastParseIsoLocalTime(String str) {
+        if (str.length() < 8 || !isFastIsoTimeShape(str, 0)) {
+            return null;
+        }
+        final int nanos = parseFastNanos(str, 8, false); // time only needs 3 digits at least as millisecond
+        if (nanos < 0) {
+            return null;
+        }
+        try {
+            return LocalTime.of(parseFastDigits(str, 0, 2), parseFastDigits(str, 3, 5), parseFastDigits(str, 6, 8), nanos);
+        } catch (DateTimeException e) { // e.g. 25:00:00
+            return null;
+        }
+    }
+
+    protected static boolean isFastIsoDateShape(String str) { // yyyy-MM-dd or yyyy/MM/dd at head
+        final char dateDlm = str.charAt(4);
+        if ((dateDlm != '-' && dateDlm != '/') || str.charAt(7) != dateDlm) {
+            return false;
+        }
+        return isFastDigits(str, 0, 4) && isFastDigits(str, 5, 7) && isFastDigits(str, 8, 10);
+    }
+
+    protected static boolean isFastIsoTimeShape(String str, int offset) { // HH:mm:ss from the offset
+        if (str.length() < offset + 8 || str.charAt(offset + 2) != ':' || str.charAt(offset + 5) != ':') {
+            return false;
+        }
+        return isFastDigits(str, offset, offset + 2) && isFastDigits(str, offset + 3, offset + 5)
+                && isFastDigits(str, offset + 6, offset + 8);
+    }
+
+    protected static int parseFastNanos(String str, int offset, boolean shortAsMillis) { // returns -1 if unsupported
+        final int length = str.length();
+        if (length == offset) { // no fraction
+            return 0;
+        }
+        if (str.charAt(offset) != '.') {
+            return -1;
+        }
+        final int digitCount = length - offset - 1;
+        if (digitCount < 1 || digitCount > 9 || !isFastDigits(str, offset + 1, length)) {
+            return -1;
+        }
+        final int fraction = parseFastDigits(str, offset + 1, length);
+        if (digitCount < 3) { // e.g. .7 means 007 millisecond (by zero prefix) in date-time
+            return shortAsMillis ? fraction * 1000000 : -1;
+        }
+        int nanos = fraction;
+        for (int i = digitCount; i < 9; i++) {
+            nanos = nanos * 10;
+        }
+        return nanos;
+    }
+
+    protected static boolean isFastDigits(String str, int beginIndex, int endIndex) {
+        for (int i = beginIndex; i < endIndex; i++) {
+            final char ch = str.charAt(i);
+            if (ch < '0' || ch > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    protected static int parseFastDigits(String str, int beginIndex, int endIndex) { // already checked as digits
+        int value = 0;
+        for (int i = beginIndex; i < endIndex; i++) {
+            value = value * 10 + (str.charAt(i) - '0');
+        }
+        return value;
+    }
+
     // -----------------------------------------------------
     //                                         ZonedDateTime
     //                                         -------------
@@ -2774,13 +2909,13 @@ public final class DfTypeUtil {
             final String localTimePattern = DEFAULT_TIME_PATTERN;
             final Locale realLocale = chooseRealLocale(locale);
             if (obj instanceof LocalDate) {
-                final String strTime = ((LocalDate) obj).format(DateTimeFormatter.ofPattern(localTimePattern, realLocale));
+                final String strTime = ((LocalDate) obj).format(getCachedDateTimeFormatter(localTimePattern, realLocale));
                 return doParseStringAsTime(strTime, timeZone, pattern, realLocale);
             } else if (obj instanceof LocalDateTime) {
-                final String strTime = ((LocalDateTime) obj).format(DateTimeFormatter.ofPattern(localTimePattern, realLocale));
+                final String strTime = ((LocalDateTime) obj).format(getCachedDateTimeFormatter(localTimePattern, realLocale));
                 return doParseStringAsTime(strTime, timeZone, pattern, realLocale);
             } else if (obj instanceof LocalTime) {
-                final String strTime = ((LocalTime) obj).format(DateTimeFormatter.ofPattern(localTimePattern, realLocale));
+                final String strTime = ((LocalTime) obj).format(getCachedDateTimeFormatter(localTimePattern, realLocale));
                 return doParseStringAsTime(strTime, timeZone, pattern, realLocale);
             } else { // no way
                 throw new IllegalStateException("Unknown local date: type=" + obj.getClass() + ", value=" + obj);
@@ -3802,6 +3937,29 @@ public final class DfTypeUtil {
         return symbols;
     }
 
+    // -----------------------------------------------------
+    //                                     DateTimeFormatter
+    //                                     -----------------
+    // formatter is immutable and thread-safe so it can be shared, the count is limited for dynamic patterns
+    protected static final int DATE_TIME_FORMATTER_CACHE_LIMIT = 256; // per locale
+    protected static final Map<Locale, Map<String, DateTimeFormatter>> dateTimeFormatterCache =
+            new ConcurrentHashMap<Locale, Map<String, DateTimeFormatter>>();
+
+    protected static DateTimeFormatter getCachedDateTimeFormatter(String pattern, Locale locale) {
+        Map<String, DateTimeFormatter> patternMap = dateTimeFormatterCache.get(locale);
+        if (patternMap == null) {
+            patternMap = dateTimeFormatterCache.computeIfAbsent(locale, key -> new ConcurrentHashMap<String, DateTimeFormatter>());
+        }
+        DateTimeFormatter formatter = patternMap.get(pattern);
+        if (formatter == null) {
+            formatter = DateTimeFormatter.ofPattern(pattern, locale); // IllegalArgumentException if invalid pattern
+            if (patternMap.size() < DATE_TIME_FORMATTER_CACHE_LIMIT) {
+                patternMap.putIfAbsent(pattern, formatter);
+            }
+        }
+        return formatter;
+    }
+
     // -----------------------------------------------------
     //                                                String
     //                                                ------
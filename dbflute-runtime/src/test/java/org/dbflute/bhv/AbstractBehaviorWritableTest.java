@@ -0,0 +1,508 @@
+/*
+ * Copyright 2014-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.dbflute.bhv;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import javax.sql.DataSource;
+
+import org.dbflute.Entity;
+import org.dbflute.bhv.core.BehaviorCommand;
+import org.dbflute.bhv.core.BehaviorCommandComponentSetup;
+import org.dbflute.bhv.core.BehaviorCommandInvoker;
+import org.dbflute.bhv.core.BehaviorCommandMeta;
+import org.dbflute.bhv.writable.InsertOption;
+import org.dbflute.bhv.writable.coins.BulkLoadEntityResource;
+import org.dbflute.cbean.ConditionBean;
+import org.dbflute.dbmeta.AbstractEntity;
+import org.dbflute.dbmeta.DBMeta;
+import org.dbflute.dbmeta.info.ColumnInfo;
+import org.dbflute.dbmeta.name.TableSqlName;
+import org.dbflute.dbmeta.property.PropertyGateway;
+import org.dbflute.dbway.DBDef;
+import org.dbflute.mock.MockConditionBean;
+import org.dbflute.mock.MockDBMeta;
+import org.dbflute.mock.MockDBMetaProvider;
+import org.dbflute.optional.OptionalThing;
+import org.dbflute.s2dao.jdbc.TnResultSetHandlerFactoryImpl;
+import org.dbflute.s2dao.jdbc.TnStatementFactoryImpl;
+import org.dbflute.s2dao.metadata.TnBeanMetaDataFactory;
+import org.dbflute.unit.RuntimeTestCase;
+import org.h2.jdbcx.JdbcDataSource;
+
+/**
+ * @author agent
+ * @since 1.2.3 (2026/10/19 Monday)
+ */
+public class AbstractBehaviorWritableTest extends RuntimeTestCase {
+
+    // ===================================================================================
+    //                                                                           Bulk Load
+    //                                                                           =========
+    public void test_doBulkLoad_native_H2() throws Exception {
+        // ## Arrange ##
+        JdbcDataSource dataSource = prepareDataSource("bulkLoadNative");
+        MockBulkMemberBhv bhv = new MockBulkMemberBhv(dataSource);
+        List<MockBulkMember> memberList = IntStream.rangeClosed(1, 300).mapToObj(id -> {
+            MockBulkMember member = new MockBulkMember();
+            member.setMemberId(id);
+            member.setMemberName(id == 2 ? null : id == 3 ? "" : "Stojkovic \"" + id + "\", sea");
+            member.setBirthdate(id == 2 ? null : LocalDate.of(2000, 1, 1).plusDays(id));
+            return member;
+        }).collect(Collectors.toList());
+        AtomicBoolean closed = new AtomicBoolean();
+
+        // ## Act ##
+        int loadedCount = bhv.bulkLoad(memberList.stream().onClose(() -> closed.set(true)), null);
+
+        // ## Assert ##
+        assertEquals(300, loadedCount);
+        assertTrue(closed.get());
+        assertEquals(0, bhv.batchInsertCount); // native path
+        assertTrue(bhv.adjustedCount == 300); // sequence, common columns per entity
+        Map<Integer, List<Object>> rowMap = selectRowMap(dataSource);
+        assertEquals(300, rowMap.size());
+        assertEquals("Stojkovic \"1\", sea", rowMap.get(1).get(0));
+        assertEquals(LocalDate.of(2000, 1, 2), ((java.sql.Date) rowMap.get(1).get(1)).toLocalDate());
+        assertNotNull(rowMap.get(1).get(2)); // common column
+        assertNull(rowMap.get(2).get(0));
+        assertNull(rowMap.get(2).get(1));
+        assertEquals("", rowMap.get(3).get(0)); // quoted empty is not null
+        assertEquals("Stojkovic \"300\", sea", rowMap.get(300).get(0));
+        assertEquals(Arrays.asList("before:bulkLoad:{BULK_MEMBER, streamed=0}", "finally:bulkLoad:{BULK_MEMBER, streamed=300}"),
+                bhv.hookedResourceList);
+    }
+
+    public void test_doBulkLoad_native_serverMode() throws Exception {
+        // ## Arrange ##
+        JdbcDataSource dataSource = prepareDataSource("bulkLoadServerMode");
+        MockBulkMemberBhv bhv = new MockBulkMemberBhv(newUrlSpoofingDataSource(dataSource, "jdbc:h2:tcp://localhost/~/bulk"));
+        List<MockBulkMember> memberList = IntStream.rangeClosed(1, 1500).mapToObj(id -> {
+            MockBulkMember member = new MockBulkMember();
+            member.setMemberId(id);
+            return member;
+        }).collect(Collectors.toList());
+
+        // ## Act ##
+        // the server cannot read the local file so batch insert
+        int loadedCount = bhv.bulkLoad(memberList.stream(), null);
+
+        // ## Assert ##
+        assertEquals(1500, loadedCount);
+        assertEquals(2, bhv.batchInsertCount); // 1000, 500 by H2 chunk size
+        assertEquals(0, bhv.adjustedCount);
+        assertTrue(bhv.hookedResourceList.isEmpty()); // hooked by batch insert
+        assertEquals(0, selectRowMap(dataSource).size());
+    }
+
+    public void test_doBulkLoad_native_empty() throws Exception {
+        // ## Arrange ##
+        JdbcDataSource dataSource = prepareDataSource("bulkLoadEmpty");
+        MockBulkMemberBhv bhv = new MockBulkMemberBhv(dataSource);
+        AtomicBoolean closed = new AtomicBoolean();
+
+        // ## Act ##
+        int loadedCount = bhv.bulkLoad(Stream.<MockBulkMember> empty().onClose(() -> closed.set(true)), null);
+
+        // ## Assert ##
+        assertEquals(0, loadedCount);
+        assertTrue(closed.get());
+        assertEquals(0, selectRowMap(dataSource).size());
+    }
+
+    public void test_doBulkLoad_chunked_fallback() throws Exception {
+        // ## Arrange ##
+        MockBulkMemberBhv bhv = new MockBulkMemberBhv(prepareDataSource("bulkLoadChunked"));
+        List<MockBulkMember> memberList = IntStream.rangeClosed(1, 2500).mapToObj(id -> {
+            MockBulkMember member = new MockBulkMember();
+            member.setMemberId(id);
+            return member;
+        }).collect(Collectors.toList());
+        AtomicBoolean closed = new AtomicBoolean();
+
+        // ## Act ##
+        // option is not supported in native loading so batch insert
+        int loadedCount = bhv.bulkLoad(memberList.stream().onClose(() -> closed.set(true)), op -> {});
+
+        // ## Assert ##
+        assertEquals(2500, loadedCount);
+        assertTrue(closed.get());
+        assertEquals(3, bhv.batchInsertCount); // 1000, 1000, 500 by H2 chunk size
+        assertEquals(0, bhv.adjustedCount); // native path is not used
+    }
+
+    public void test_doBulkLoad_closedWhenFailure() throws Exception {
+        // ## Arrange ##
+        MockBulkMemberBhv bhv = new MockBulkMemberBhv(prepareDataSource("bulkLoadFailure"));
+        AtomicBoolean closed = new AtomicBoolean();
+        Stream<MockBulkMember> stream = Stream.of(new MockBulkMember()).onClose(() -> closed.set(true)); // no primary key
+
+        // ## Act ##
+        try {
+            bhv.bulkLoad(stream, null);
+            // ## Assert ##
+            fail();
+        } catch (RuntimeException e) {
+            log(e.getMessage());
+        }
+        assertTrue(closed.get());
+    }
+
+    // ===================================================================================
+    //                                                                         Test Helper
+    //                                                                         ===========
+    protected JdbcDataSource prepareDataSource(String dbName) throws SQLException {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:" + dbName + ";DB_CLOSE_DELAY=-1");
+        try (Connection conn = dataSource.getConnection(); Statement st = conn.createStatement()) {
+            st.execute("create table BULK_MEMBER (MEMBER_ID integer primary key, MEMBER_NAME varchar(200)"
+                    + ", BIRTHDATE date, REGISTER_DATETIME timestamp not null)");
+        }
+        return dataSource;
+    }
+
+    protected Map<Integer, List<Object>> selectRowMap(JdbcDataSource dataSource) throws SQLException {
+        Map<Integer, List<Object>> rowMap = new HashMap<Integer, List<Object>>();
+        String sql = "select MEMBER_ID, MEMBER_NAME, BIRTHDATE, REGISTER_DATETIME from BULK_MEMBER";
+        try (Connection conn = dataSource.getConnection(); Statement st = conn.createStatement(); ResultSet rs = st.executeQuery(sql)) {
+            while (rs.next()) {
+                List<Object> valueList = new ArrayList<Object>();
+                valueList.add(rs.getObject(2));
+                valueList.add(rs.getObject(3));
+                valueList.add(rs.getObject(4));
+                rowMap.put(rs.getInt(1), valueList);
+            }
+        }
+        return rowMap;
+    }
+
+    protected static DataSource newUrlSpoofingDataSource(DataSource dataSource, String url) {
+        return (DataSource) Proxy.newProxyInstance(DataSource.class.getClassLoader(), new Class<?>[] { DataSource.class },
+                (proxy, method, args) -> {
+                    Object result = method.invoke(dataSource, args);
+                    if (!method.getName().equals("getConnection")) {
+                        return result;
+                    }
+                    Connection conn = (Connection) result;
+                    return Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[] { Connection.class },
+                            (connProxy, connMethod, connArgs) -> {
+                                if (connMethod.getName().equals("getMetaData")) {
+                                    DatabaseMetaData metaData = conn.getMetaData();
+                                    return Proxy.newProxyInstance(DatabaseMetaData.class.getClassLoader(),
+                                            new Class<?>[] { DatabaseMetaData.class }, (metaProxy, metaMethod, metaArgs) -> {
+                                                return metaMethod.getName().equals("getURL") ? url : metaMethod.invoke(metaData, metaArgs);
+                                            });
+                                }
+                                return connMethod.invoke(conn, connArgs);
+                            });
+                });
+    }
+
+    protected static <OBJ> OBJ newUnsupportedProxy(Class<OBJ> type) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] { type }, (proxy, method, args) -> {
+            throw new UnsupportedOperationException(method.getName());
+        }));
+    }
+
+    // ===================================================================================
+    //                                                                       Mock Behavior
+    //                                                                       =============
+    protected static class MockBulkMemberBhv extends AbstractBehaviorWritable<MockBulkMember, MockConditionBean> {
+
+        protected int batchInsertCount;
+        protected int adjustedCount;
+        protected final List<String> hookedResourceList = new ArrayList<String>();
+
+        public MockBulkMemberBhv(DataSource dataSource) {
+            setBehaviorCommandInvoker(new BehaviorCommandInvoker() {
+                @Override
+                public void injectComponentProperty(BehaviorCommandComponentSetup behaviorCommand) {
+                    behaviorCommand.setDBMetaProvider(new MockDBMetaProvider());
+                    behaviorCommand.setDataSource(dataSource);
+                    behaviorCommand.setStatementFactory(new TnStatementFactoryImpl());
+                    behaviorCommand.setBeanMetaDataFactory(newUnsupportedProxy(TnBeanMetaDataFactory.class)); // unused in bulk load
+                    behaviorCommand.setResultSetHandlerFactory(new TnResultSetHandlerFactoryImpl());
+                    behaviorCommand.setSqlFileEncoding("UTF-8");
+                }
+
+                @Override
+                public <RESULT> RESULT invoke(BehaviorCommand<RESULT> behaviorCommand) {
+                    return dispatchInvoking(behaviorCommand); // without context of real world
+                }
+
+                @Override
+                protected boolean isLogEnabled() {
+                    return false;
+                }
+
+                @Override
+                protected void toBeDisposable() {
+                }
+            });
+            setCommonColumnAutoSetupper(new org.dbflute.hook.CommonColumnAutoSetupper() {
+                public void handleCommonColumnOfInsertIfNeeds(Entity targetEntity) {
+                    ((MockBulkMember) targetEntity).setRegisterDatetime(LocalDateTime.of(2026, 10, 19, 12, 34, 56));
+                }
+
+                public void handleCommonColumnOfUpdateIfNeeds(Entity targetEntity) {
+                }
+            });
+        }
+
+        public int bulkLoad(Stream<MockBulkMember> memberStream,
+                org.dbflute.bhv.writable.WritableOptionCall<MockConditionBean, InsertOption<MockConditionBean>> opCall) {
+            return doBulkLoad(memberStream, opCall);
+        }
+
+        @Override
+        protected void adjustEntityBeforeInsert(Entity entity, OptionalThing<InsertOption<? extends ConditionBean>> option) {
+            super.adjustEntityBeforeInsert(entity, option);
+            ++adjustedCount;
+        }
+
+        @Override
+        protected void hookBeforeInsert(BehaviorCommandMeta command, Object entityResource, OptionalThing<ConditionBean> cbResource,
+                OptionalThing<InsertOption<? extends ConditionBean>> option) {
+            assertTrue(entityResource instanceof BulkLoadEntityResource);
+            hookedResourceList.add("before:" + entityResource);
+        }
+
+        @Override
+        protected void hookFinallyInsert(BehaviorCommandMeta command, Object entityResource, OptionalThing<ConditionBean> cbResource,
+                OptionalThing<InsertOption<? extends ConditionBean>> option, OptionalThing<RuntimeException> cause) {
+            hookedResourceList.add("finally:" + entityResource);
+        }
+
+        @Override
+        protected int[] doBatchInsert(List<MockBulkMember> entityList, InsertOption<MockConditionBean> option) {
+            ++batchInsertCount; // batch insert needs real bean meta data so count only here
+            return new int[entityList.size()];
+        }
+
+        @Override
+        protected int doBulkLoadChunk(List<MockBulkMember> chunkList,
+                org.dbflute.bhv.writable.WritableOptionCall<MockConditionBean, InsertOption<MockConditionBean>> opCall) {
+            super.doBulkLoadChunk(chunkList, opCall);
+            return chunkList.size();
+        }
+
+        public DBMeta asDBMeta() {
+            return MockBulkMemberDbm.INSTANCE;
+        }
+
+        public String asTableDbName() {
+            return "BULK_MEMBER";
+        }
+
+        public MockConditionBean newConditionBean() {
+            return new MockConditionBean();
+        }
+
+        @Override
+        protected Entity doReadEntity(ConditionBean cb) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        protected Number doReadNextVal() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        protected Class<? extends MockBulkMember> typeOfSelectedEntity() {
+            return MockBulkMember.class;
+        }
+
+        @Override
+        protected Class<MockBulkMember> typeOfHandlingEntity() {
+            return MockBulkMember.class;
+        }
+
+        @Override
+        protected Class<MockConditionBean> typeOfHandlingConditionBean() {
+            return MockConditionBean.class;
+        }
+    }
+
+    // ===================================================================================
+    //                                                                         Mock Entity
+    //                                                                         ===========
+    public static class MockBulkMember extends AbstractEntity {
+
+        private static final long serialVersionUID = 1L;
+
+        protected Integer _memberId;
+        protected String _memberName;
+        protected LocalDate _birthdate;
+        protected LocalDateTime _registerDatetime;
+
+        public DBMeta asDBMeta() {
+            return MockBulkMemberDbm.INSTANCE;
+        }
+
+        public String asTableDbName() {
+            return "BULK_MEMBER";
+        }
+
+        public boolean hasPrimaryKeyValue() {
+            return _memberId != null;
+        }
+
+        @Override
+        protected boolean doEquals(Object obj) {
+            return obj instanceof MockBulkMember && xSV(_memberId, ((MockBulkMember) obj)._memberId);
+        }
+
+        @Override
+        protected int doHashCode(int initial) {
+            return xCH(initial, _memberId);
+        }
+
+        @Override
+        protected String doBuildStringWithRelation(String li) {
+            return "";
+        }
+
+        @Override
+        protected String doBuildColumnString(String dm) {
+            return dm + _memberId + dm + _memberName;
+        }
+
+        @Override
+        protected String doBuildRelationString(String dm) {
+            return "";
+        }
+
+        public Integer getMemberId() {
+            return _memberId;
+        }
+
+        public void setMemberId(Integer memberId) {
+            registerModifiedProperty("memberId");
+            _memberId = memberId;
+        }
+
+        public String getMemberName() {
+            return _memberName;
+        }
+
+        public void setMemberName(String memberName) {
+            registerModifiedProperty("memberName");
+            _memberName = memberName;
+        }
+
+        public LocalDate getBirthdate() {
+            return _birthdate;
+        }
+
+        public void setBirthdate(LocalDate birthdate) {
+            registerModifiedProperty("birthdate");
+            _birthdate = birthdate;
+        }
+
+        public LocalDateTime getRegisterDatetime() {
+            return _registerDatetime;
+        }
+
+        public void setRegisterDatetime(LocalDateTime registerDatetime) {
+            registerModifiedProperty("registerDatetime");
+            _registerDatetime = registerDatetime;
+        }
+    }
+
+    // ===================================================================================
+    //                                                                         Mock DBMeta
+    //                                                                         ===========
+    public static class MockBulkMemberDbm extends MockDBMeta {
+
+        public static final MockBulkMemberDbm INSTANCE = new MockBulkMemberDbm();
+
+        protected final Map<String, PropertyGateway> _epgMap = new HashMap<String, PropertyGateway>();
+        {
+            setupEpg(_epgMap, et -> ((MockBulkMember) et).getMemberId(), (et, vl) -> ((MockBulkMember) et).setMemberId((Integer) vl),
+                    "memberId");
+            setupEpg(_epgMap, et -> ((MockBulkMember) et).getMemberName(),
+                    (et, vl) -> ((MockBulkMember) et).setMemberName((String) vl), "memberName");
+            setupEpg(_epgMap, et -> ((MockBulkMember) et).getBirthdate(),
+                    (et, vl) -> ((MockBulkMember) et).setBirthdate((LocalDate) vl), "birthdate");
+            setupEpg(_epgMap, et -> ((MockBulkMember) et).getRegisterDatetime(),
+                    (et, vl) -> ((MockBulkMember) et).setRegisterDatetime((LocalDateTime) vl), "registerDatetime");
+        }
+
+        protected final List<ColumnInfo> _columnInfoList = new ArrayList<ColumnInfo>();
+        {
+            _columnInfoList.add(cci("MEMBER_ID", "MEMBER_ID", null, null, Integer.class, "memberId", null, true, false, true, "INTEGER",
+                    10, 0, null, null, false, null, null, null, null, null, false));
+            _columnInfoList.add(cci("MEMBER_NAME", "MEMBER_NAME", null, null, String.class, "memberName", null, false, false, false,
+                    "VARCHAR", 200, 0, null, null, false, null, null, null, null, null, false));
+            _columnInfoList.add(cci("BIRTHDATE", "BIRTHDATE", null, null, LocalDate.class, "birthdate", null, false, false, false,
+                    "DATE", 8, 0, null, null, false, null, null, null, null, null, false));
+            _columnInfoList.add(cci("REGISTER_DATETIME", "REGISTER_DATETIME", null, null, LocalDateTime.class, "registerDatetime", null,
+                    false, false, true, "TIMESTAMP", 23, 0, 3, null, true, null, null, null, null, null, false));
+        }
+
+        @Override
+        public PropertyGateway findPropertyGateway(String propertyName) {
+            return doFindEpg(_epgMap, propertyName);
+        }
+
+        @Override
+        public DBDef getCurrentDBDef() {
+            return DBDef.H2;
+        }
+
+        @Override
+        public String getTableDbName() {
+            return "BULK_MEMBER";
+        }
+
+        @Override
+        public TableSqlName getTableSqlName() {
+            return new TableSqlName("BULK_MEMBER", "BULK_MEMBER");
+        }
+
+        @Override
+        public List<ColumnInfo> getColumnInfoList() {
+            return _columnInfoList;
+        }
+
+        @Override
+        public Class<? extends Entity> getEntityType() {
+            return MockBulkMember.class;
+        }
+
+        @Override
+        public boolean hasPrimaryKey() {
+            return true;
+        }
+    }
+}
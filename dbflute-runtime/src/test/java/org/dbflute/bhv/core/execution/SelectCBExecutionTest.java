@@ -0,0 +1,231 @@
+/*
+ * Copyright 2014-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.dbflute.bhv.core.execution;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import javax.sql.DataSource;
+
+import org.dbflute.Entity;
+import org.dbflute.bhv.core.context.ConditionBeanContext;
+import org.dbflute.bhv.core.context.FetchAssistContext;
+import org.dbflute.cbean.ConditionBean;
+import org.dbflute.cbean.coption.PagingSelectAndQuerySplitOption;
+import org.dbflute.jdbc.StatementFactory;
+import org.dbflute.mock.MockConditionBean;
+import org.dbflute.mock.MockDBMeta;
+import org.dbflute.mock.MockEntity;
+import org.dbflute.s2dao.jdbc.TnResultSetHandler;
+import org.dbflute.unit.RuntimeTestCase;
+
+/**
+ * @author agent
+ * @since 1.2.3 (2026/10/19 Monday)
+ */
+public class SelectCBExecutionTest extends RuntimeTestCase {
+
+    // ===================================================================================
+    //                                                                        Second Chunk
+    //                                                                        ============
+    public void test_executeSplitChunkParallel_keepsChunkOrder() {
+        // ## Arrange ##
+        SelectCBExecution execution = createExecution();
+        List<Object> pkList = Arrays.asList(7, 3, 9, 1, 5, 8, 2, 6, 4); // order of the first select
+        List<List<Object>> chunkList = execution.splitPKChunk(pkList, 2);
+        List<SelectCBExecution.SplitChunkStatement> statementList = new ArrayList<SelectCBExecution.SplitChunkStatement>();
+        for (int i = 0; i < chunkList.size(); i++) {
+            statementList.add(new MockChunkStatement(null, chunkList.get(i), (chunkList.size() - i) * 20L)); // later chunk is faster
+        }
+        PagingSelectAndQuerySplitOption option = new PagingSelectAndQuerySplitOption().splitByChunkParallel(2, 4);
+
+        // ## Act ##
+        List<Object> resultList = execution.executeSplitChunkParallel(statementList, option);
+
+        // ## Assert ##
+        assertEquals(5, resultList.size());
+        List<Object> mergedList = new ArrayList<Object>();
+        for (Object chunkResult : resultList) {
+            execution.mergeSplitChunkResult(mergedList, chunkResult);
+        }
+        List<Object> orderedList = execution.restoreSplitFirstOrder(new MockMemberDBMeta(), pkList, mergedList);
+        assertEquals(pkList, extractMemberIdList(orderedList));
+    }
+
+    public void test_executeSplitChunkParallel_callerExecutor() {
+        // ## Arrange ##
+        SelectCBExecution execution = createExecution();
+        List<Object> pkList = Arrays.asList(3, 1, 2);
+        List<SelectCBExecution.SplitChunkStatement> statementList = new ArrayList<SelectCBExecution.SplitChunkStatement>();
+        for (List<Object> chunk : execution.splitPKChunk(pkList, 1)) {
+            statementList.add(new MockChunkStatement(null, chunk, 0L));
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            PagingSelectAndQuerySplitOption option = new PagingSelectAndQuerySplitOption().splitByChunkParallel(1, 3).executeOn(executor);
+
+            // ## Act ##
+            List<Object> resultList = execution.executeSplitChunkParallel(statementList, option);
+
+            // ## Assert ##
+            List<Object> mergedList = new ArrayList<Object>();
+            for (Object chunkResult : resultList) {
+                execution.mergeSplitChunkResult(mergedList, chunkResult);
+            }
+            assertEquals(pkList, extractMemberIdList(mergedList));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    public void test_executeSplitChunkParallel_ownConditionBean() {
+        // ## Arrange ##
+        SelectCBExecution execution = createExecution();
+        List<SelectCBExecution.SplitChunkStatement> statementList = new ArrayList<SelectCBExecution.SplitChunkStatement>();
+        Set<Object> chunkCBSet = Collections.newSetFromMap(new IdentityHashMap<Object, Boolean>());
+        for (List<Object> chunk : execution.splitPKChunk(Arrays.asList(1, 2, 3, 4, 5, 6), 2)) {
+            MockConditionBean chunkCB = new MockConditionBean();
+            chunkCBSet.add(chunkCB);
+            statementList.add(new MockChunkStatement(chunkCB, chunk, 20L) {
+                @Override
+                public Object execute() {
+                    // the condition-bean on the worker thread is its own one
+                    assertSame(getConditionBean(), ConditionBeanContext.getConditionBeanOnThread());
+                    assertSame(getConditionBean(), FetchAssistContext.getFetchBeanOnThread());
+                    return super.execute();
+                }
+            });
+        }
+        MockConditionBean sharedCB = new MockConditionBean();
+        PagingSelectAndQuerySplitOption option = new PagingSelectAndQuerySplitOption().splitByChunkParallel(2, 3);
+        ConditionBeanContext.setConditionBeanOnThread(sharedCB);
+        try {
+            // ## Act ##
+            List<Object> resultList = execution.executeSplitChunkParallel(statementList, option);
+
+            // ## Assert ##
+            assertEquals(3, resultList.size());
+            assertEquals(3, chunkCBSet.size());
+            assertSame(sharedCB, ConditionBeanContext.getConditionBeanOnThread()); // caller's context is kept
+        } finally {
+            ConditionBeanContext.clearConditionBeanOnThread();
+        }
+    }
+
+    public void test_canExecuteChunkParallel_needsCopier() {
+        // ## Arrange ##
+        PagingSelectAndQuerySplitOption option = new PagingSelectAndQuerySplitOption().splitByChunkParallel(2, 3);
+
+        // ## Act ##
+        // ## Assert ##
+        assertTrue(option.isParallel());
+        assertFalse(option.canExecuteChunkParallel()); // serial if condition-bean is not from callback
+        option.xacceptConditionBeanCopier(() -> new MockConditionBean());
+        assertTrue(option.canExecuteChunkParallel());
+        assertFalse(new PagingSelectAndQuerySplitOption().splitByChunk(2).canExecuteChunkParallel());
+    }
+
+    public void test_restoreSplitFirstOrder_deletedBetween() {
+        // ## Arrange ##
+        SelectCBExecution execution = createExecution();
+        List<Object> pkList = Arrays.asList(2, 3, 1);
+        List<Object> mergedList = new ArrayList<Object>(); // 3 is deleted between the first and the second
+        mergedList.add(createMember(1));
+        mergedList.add(createMember(2));
+
+        // ## Act ##
+        List<Object> orderedList = execution.restoreSplitFirstOrder(new MockMemberDBMeta(), pkList, mergedList);
+
+        // ## Assert ##
+        assertEquals(Arrays.asList(2, 1), extractMemberIdList(orderedList));
+    }
+
+    // ===================================================================================
+    //                                                                         Test Helper
+    //                                                                         ===========
+    protected SelectCBExecution createExecution() {
+        return new SelectCBExecution(newUnsupportedProxy(DataSource.class), newUnsupportedProxy(StatementFactory.class),
+                new HashMap<String, Class<?>>(), newUnsupportedProxy(TnResultSetHandler.class));
+    }
+
+    protected static <OBJ> OBJ newUnsupportedProxy(Class<OBJ> type) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] { type }, (proxy, method, args) -> {
+            throw new UnsupportedOperationException(method.getName());
+        }));
+    }
+
+    protected static MockEntity createMember(Object memberId) {
+        MockEntity member = new MockEntity();
+        member.setMemberId((Integer) memberId);
+        return member;
+    }
+
+    protected List<Object> extractMemberIdList(List<Object> memberList) {
+        List<Object> memberIdList = new ArrayList<Object>();
+        for (Object member : memberList) {
+            memberIdList.add(((MockEntity) member).getMemberId());
+        }
+        return memberIdList;
+    }
+
+    protected static class MockChunkStatement extends SelectCBExecution.SplitChunkStatement {
+
+        protected final List<Object> _chunk;
+        protected final long _sleepMillis;
+
+        public MockChunkStatement(ConditionBean chunkCB, List<Object> chunk, long sleepMillis) {
+            super(chunkCB, null, new Object[] {}, new Class<?>[] {});
+            _chunk = chunk;
+            _sleepMillis = sleepMillis;
+        }
+
+        @Override
+        public Object execute() {
+            try {
+                Thread.sleep(_sleepMillis);
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+            List<Object> memberList = new ArrayList<Object>();
+            List<Object> reversedChunk = new ArrayList<Object>(_chunk);
+            Collections.reverse(reversedChunk); // the order in chunk is also independent
+            for (Object pk : reversedChunk) {
+                memberList.add(createMember(pk));
+            }
+            return memberList;
+        }
+    }
+
+    protected static class MockMemberDBMeta extends MockDBMeta {
+
+        @Override
+        public Map<String, Object> extractPrimaryKeyMap(Entity entity) {
+            Map<String, Object> primaryKeyMap = new LinkedHashMap<String, Object>();
+            primaryKeyMap.put("MEMBER_ID", ((MockEntity) entity).getMemberId());
+            return primaryKeyMap;
+        }
+    }
+}
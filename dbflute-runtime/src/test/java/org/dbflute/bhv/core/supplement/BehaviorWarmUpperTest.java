@@ -0,0 +1,174 @@
+/*
+ * Copyright 2014-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.dbflute.bhv.core.supplement;
+
+import java.io.File;
+import java.lang.reflect.Proxy;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.dbflute.bhv.BehaviorReadable;
+import org.dbflute.bhv.BehaviorSelector;
+import org.dbflute.bhv.core.BehaviorCommandInvoker;
+import org.dbflute.bhv.core.supplement.BehaviorWarmUpReport.WarmUpResult;
+import org.dbflute.dbmeta.DBMeta;
+import org.dbflute.exception.DBMetaNotFoundException;
+import org.dbflute.exception.IllegalBehaviorStateException;
+import org.dbflute.unit.RuntimeTestCase;
+
+/**
+ * @author agent
+ * @since 1.2.3 (2026/10/19 Monday)
+ */
+public class BehaviorWarmUpperTest extends RuntimeTestCase {
+
+    // ===================================================================================
+    //                                                                             Warm up
+    //                                                                             =======
+    public void test_warmUp_parallel() {
+        // ## Arrange ##
+        Set<String> threadNameSet = ConcurrentHashMap.newKeySet();
+        AtomicInteger warmedCount = new AtomicInteger();
+        BehaviorWarmUpper warmUpper = new BehaviorWarmUpper(createSelector(threadNameSet, warmedCount)).parallelism(3);
+        List<String> tableList = Arrays.asList("MEMBER", "PURCHASE", "SUPPRESSED", "BROKEN", "PRODUCT");
+
+        // ## Act ##
+        BehaviorWarmUpReport report = warmUpper.warmUp(tableList);
+
+        // ## Assert ##
+        log(report.toDisplay());
+        assertEquals(5, report.getResultList().size());
+        assertEquals(3, warmedCount.get());
+        assertEquals("MEMBER", report.getResultList().get(0).getTableDbName()); // keeps order
+        assertTrue(report.getResultList().get(2).isSkipped());
+        List<WarmUpResult> failureList = report.getFailureList();
+        assertEquals(1, failureList.size());
+        assertEquals("BROKEN", failureList.get(0).getTableDbName());
+        assertTrue(report.toDisplay().contains("warmed=3, skipped=1, failed=1"));
+        for (String threadName : threadNameSet) {
+            assertTrue(threadName.startsWith("dbflute-warmup-"));
+        }
+    }
+
+    public void test_warmUpByManifest_noManifest() throws Exception {
+        // ## Arrange ##
+        AtomicInteger warmedCount = new AtomicInteger();
+        BehaviorWarmUpper warmUpper = new BehaviorWarmUpper(createSelector(ConcurrentHashMap.newKeySet(), warmedCount));
+        Path manifestPath = new File(Files.createTempDirectory("warmup").toFile(), "none.txt").toPath();
+
+        // ## Act ##
+        BehaviorWarmUpReport report = warmUpper.warmUpByManifest(manifestPath, Arrays.asList("MEMBER", "PRODUCT"));
+
+        // ## Assert ##
+        assertEquals(2, report.getResultList().size());
+        assertEquals(2, warmedCount.get());
+    }
+
+    public void test_warmUpByManifest_sequenceKey() throws Exception {
+        // ## Arrange ##
+        AtomicInteger warmedCount = new AtomicInteger();
+        BehaviorWarmUpper warmUpper = new BehaviorWarmUpper(createSelector(ConcurrentHashMap.newKeySet(), warmedCount));
+        Path manifestPath = Files.createTempDirectory("warmup").resolve("hot-keys.txt");
+        Files.write(manifestPath, Arrays.asList("# hot keys", "MEMBER:selectList(MemberCB)", "PURCHASE.PURCHASE_NO:selectNextVal()",
+                "MEMBER:selectNextVal()"));
+
+        // ## Act ##
+        BehaviorWarmUpReport report = warmUpper.warmUpByManifest(manifestPath, Collections.emptyList());
+
+        // ## Assert ##
+        log(report.toDisplay());
+        assertEquals(2, report.getResultList().size());
+        assertEquals("MEMBER", report.getResultList().get(0).getTableDbName());
+        assertEquals("PURCHASE", report.getResultList().get(1).getTableDbName());
+        assertTrue(report.getFailureList().isEmpty());
+        assertEquals(2, warmedCount.get());
+    }
+
+    // ===================================================================================
+    //                                                                   Hot Keys Manifest
+    //                                                                   =================
+    public void test_hotKeyManifest_writeRead() throws Exception {
+        // ## Arrange ##
+        BehaviorCommandInvoker invoker = new BehaviorCommandInvoker() {
+            {
+                _executionMap.put("PURCHASE:selectList(PurchaseCB)", args -> null);
+                _executionMap.put("MEMBER:selectCount(MemberCB)", args -> null);
+                _executionMap.put("MEMBER:selectList(MemberCB)", args -> null);
+                _executionMap.put("MEMBER:selectList():path/to/sql:pmb:key:null", args -> null);
+            }
+        };
+        Path manifestPath = Files.createTempDirectory("warmup").resolve("nested/hot-keys.txt");
+
+        // ## Act ##
+        BehaviorWarmUpper.writeHotKeyManifest(invoker, manifestPath);
+        List<String> keyList = BehaviorWarmUpper.readHotKeyManifest(manifestPath);
+
+        // ## Assert ##
+        log(keyList);
+        assertEquals(invoker.getExecutionKeyList(), keyList);
+        assertTrue(Files.readAllLines(manifestPath).get(0).startsWith("#"));
+        Set<String> tableSet = BehaviorWarmUpper.extractTableDbNames(keyList);
+        assertEquals(Arrays.asList("MEMBER", "PURCHASE"), Arrays.asList(tableSet.toArray()));
+    }
+
+    // ===================================================================================
+    //                                                                         Test Helper
+    //                                                                         ===========
+    protected BehaviorSelector createSelector(Set<String> threadNameSet, AtomicInteger warmedCount) {
+        DBMeta dbmeta = (DBMeta) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] { DBMeta.class }, (proxy, method, args) -> {
+            if (method.getName().equals("getColumnInfoList")) {
+                return Collections.emptyList();
+            }
+            throw new UnsupportedOperationException(method.getName());
+        });
+        BehaviorReadable bhv = (BehaviorReadable) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[] { BehaviorReadable.class }, (proxy, method, args) -> {
+                    if (method.getName().equals("warmUpCommand")) {
+                        threadNameSet.add(Thread.currentThread().getName());
+                        warmedCount.incrementAndGet();
+                        return null;
+                    } else if (method.getName().equals("asDBMeta")) {
+                        return dbmeta;
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+        return new BehaviorSelector() {
+            public void initializeConditionBeanMetaData() {
+            }
+
+            public <BEHAVIOR extends BehaviorReadable> BEHAVIOR select(Class<BEHAVIOR> behaviorType) {
+                throw new UnsupportedOperationException();
+            }
+
+            public BehaviorReadable byName(String tableFlexibleName) {
+                if (tableFlexibleName.equals("SUPPRESSED")) {
+                    throw new IllegalBehaviorStateException("suppressed");
+                } else if (tableFlexibleName.equals("BROKEN")) {
+                    throw new IllegalStateException("broken");
+                } else if (tableFlexibleName.contains(".")) { // e.g. sub-sequence key
+                    throw new DBMetaNotFoundException("not found: " + tableFlexibleName);
+                }
+                return bhv;
+            }
+        };
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright 2014-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.dbflute.bhv.readable.coins;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
+
+import org.dbflute.unit.RuntimeTestCase;
+
+/**
+ * @author agent
+ * @since 1.2.3 (2026/10/19 Monday)
+ */
+public class ParallelCursorPartitionTest extends RuntimeTestCase {
+
+    public void test_splitRange_basic() throws Exception {
+        // ## Arrange ##
+        // ## Act ##
+        List<ParallelCursorPartition> partitionList = ParallelCursorPartition.splitRange(1, 100, 4, Integer.class);
+
+        // ## Assert ##
+        log(partitionList);
+        assertEquals(4, partitionList.size());
+        assertEquals(1, partitionList.get(0).getLowerBound());
+        assertEquals(26, partitionList.get(0).getUpperBound());
+        assertEquals(26, partitionList.get(1).getLowerBound());
+        assertEquals(76, partitionList.get(3).getLowerBound());
+        assertEquals(100, partitionList.get(3).getUpperBound());
+        assertFalse(partitionList.get(2).isLastPartition());
+        assertTrue(partitionList.get(3).isLastPartition());
+    }
+
+    public void test_splitRange_smallRange() throws Exception {
+        // ## Arrange ##
+        // ## Act ##
+        List<ParallelCursorPartition> partitionList = ParallelCursorPartition.splitRange(5L, 6L, 4, Long.class);
+
+        // ## Assert ##
+        log(partitionList);
+        assertEquals(2, partitionList.size());
+        assertEquals(5L, partitionList.get(0).getLowerBound());
+        assertEquals(6L, partitionList.get(0).getUpperBound());
+        assertEquals(6L, partitionList.get(1).getLowerBound());
+        assertEquals(6L, partitionList.get(1).getUpperBound());
+        assertTrue(partitionList.get(1).isLastPartition());
+    }
+
+    public void test_splitRange_sameValue() throws Exception {
+        List<ParallelCursorPartition> partitionList = ParallelCursorPartition.splitRange(7L, 7L, 3, Long.class);
+        assertEquals(1, partitionList.size());
+        assertEquals(7L, partitionList.get(0).getLowerBound());
+        assertEquals(7L, partitionList.get(0).getUpperBound());
+        assertTrue(partitionList.get(0).isLastPartition());
+    }
+
+    public void test_splitRange_bigDecimal() throws Exception {
+        List<ParallelCursorPartition> partitionList =
+                ParallelCursorPartition.splitRange(new BigDecimal("1"), new BigDecimal("10"), 3, BigDecimal.class);
+        log(partitionList);
+        assertEquals(3, partitionList.size());
+        assertEquals(new BigDecimal("9"), partitionList.get(2).getLowerBound());
+        assertEquals(new BigDecimal("10"), partitionList.get(2).getUpperBound());
+    }
+
+    public void test_progress_basic() throws Exception {
+        ParallelCursorPartition partition = new ParallelCursorPartition(1, 1, 10, true);
+        assertFalse(partition.isFinished());
+        partition.incrementHandledCount();
+        partition.incrementHandledCount();
+        partition.finish(3L);
+        assertTrue(partition.isFinished());
+        assertEquals(2L, partition.getHandledCount());
+        assertEquals(2L, new ParallelCursorResult(Arrays.asList(partition)).getTotalCount());
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright 2014-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, 
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.dbflute.cbean.coption;
+
+import org.dbflute.unit.RuntimeTestCase;
+
+/**
+ * @author agent
+ * @since 1.2.3 (2026/10/19 Monday)
+ */
+public class PagingSelectAndQuerySplitOptionTest extends RuntimeTestCase {
+
+    public void test_needsChunk_basic() throws Exception {
+        // ## Arrange ##
+        PagingSelectAndQuerySplitOption option = new PagingSelectAndQuerySplitOption();
+
+        // ## Act ##
+        // ## Assert ##
+        assertFalse(option.needsChunk(10000)); // no chunk as default
+        assertFalse(option.isParallel());
+
+        option.splitByChunk(100);
+        assertFalse(option.needsChunk(99));
+        assertFalse(option.needsChunk(100));
+        assertTrue(option.needsChunk(101));
+        assertFalse(option.isParallel());
+
+        option.splitByChunkParallel(50, 4);
+        assertTrue(option.needsChunk(51));
+        assertTrue(option.isParallel());
+        assertEquals(4, option.getParallelism());
+    }
+
+    public void test_splitByChunk_illegal() throws Exception {
+        PagingSelectAndQuerySplitOption option = new PagingSelectAndQuerySplitOption();
+        assertException(IllegalArgumentException.class, () -> option.splitByChunk(0));
+        assertException(IllegalArgumentException.class, () -> option.splitByChunkParallel(10, 0));
+    }
+
+    public void test_phaseMillis_basic() throws Exception {
+        PagingSelectAndQuerySplitOption option = new PagingSelectAndQuerySplitOption();
+        assertTrue(option.getFirstPhaseMillis() < 0);
+        assertTrue(option.getSecondPhaseMillis() < 0);
+        option.xacceptPhaseMillis(12L, 34L);
+        assertEquals(12L, option.getFirstPhaseMillis());
+        assertEquals(34L, option.getSecondPhaseMillis());
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2014-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.dbflute.cbean.result.columnar;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.dbflute.cbean.result.columnar.ColumnarVector.ColumnarKind;
+import org.dbflute.dbmeta.info.ColumnInfo;
+import org.dbflute.mock.MockColumnInfo;
+import org.dbflute.unit.RuntimeTestCase;
+
+/**
+ * @author agent
+ * @since 1.2.3 (2026/10/19 Monday)
+ */
+public class ColumnarVectorTest extends RuntimeTestCase {
+
+    public void test_append_grow() throws Exception {
+        // ## Arrange ##
+        ColumnarVector vector = new ColumnarVector("MEMBER_ID", ColumnarKind.LONG, 3);
+
+        // ## Act ##
+        for (int i = 0; i < 100; i++) {
+            if (i % 7 == 0) {
+                vector.appendNull();
+            } else {
+                vector.appendLong(i);
+            }
+        }
+
+        // ## Assert ##
+        log(vector);
+        assertEquals(100, vector.size());
+        assertTrue(vector.isNull(0));
+        assertEquals(0L, vector.getLong(0));
+        assertFalse(vector.isNull(1));
+        assertEquals(1L, vector.getLong(1));
+        assertTrue(vector.isNull(63));
+        assertFalse(vector.isNull(64));
+        assertTrue(vector.isNull(70));
+        assertEquals(99L, vector.getLong(99));
+        assertException(IndexOutOfBoundsException.class, () -> vector.getLong(100));
+        assertException(IllegalStateException.class, () -> vector.getDouble(1));
+    }
+
+    public void test_clear_reuse() throws Exception {
+        // ## Arrange ##
+        ColumnarVector vector = new ColumnarVector("BIRTHDATE", ColumnarKind.EPOCH_DAY, 4);
+        vector.appendNull();
+        vector.appendEpochDay((int) LocalDate.of(2020, 6, 14).toEpochDay());
+
+        // ## Act ##
+        vector.clear();
+        vector.appendEpochDay(0);
+
+        // ## Assert ##
+        assertEquals(1, vector.size());
+        assertFalse(vector.isNull(0));
+        assertEquals(LocalDate.of(1970, 1, 1), vector.getLocalDate(0));
+    }
+
+    public void test_determineKind() throws Exception {
+        assertEquals(ColumnarKind.LONG, ColumnarVector.determineKind(Integer.class));
+        assertEquals(ColumnarKind.DOUBLE, ColumnarVector.determineKind(BigDecimal.class));
+        assertEquals(ColumnarKind.EPOCH_DAY, ColumnarVector.determineKind(LocalDate.class));
+        assertNull(ColumnarVector.determineKind(String.class));
+    }
+
+    public void test_chunk_streaming() throws Exception {
+        // ## Arrange ##
+        List<ColumnInfo> columnInfoList = Arrays.asList(new MockColumnInfo());
+        List<Long> sumList = new ArrayList<Long>();
+        ColumnarChunk chunk = new ColumnarChunk(columnInfoList, 4, delivered -> {
+            ColumnarVector vector = delivered.vector("mock");
+            long sum = 0;
+            for (int i = 0; i < delivered.getRowCount(); i++) {
+                sum += vector.getLong(i);
+            }
+            sumList.add(sum);
+        });
+
+        // ## Act ##
+        for (int i = 1; i <= 10; i++) {
+            chunk.vector("mock").appendLong(i);
+            chunk.xacceptRow();
+        }
+        chunk.xfinishRows();
+
+        // ## Assert ##
+        log(sumList);
+        assertEquals(Arrays.asList(10L, 26L, 19L), sumList);
+        assertEquals(10L, chunk.getTotalRowCount());
+        assertEquals(0, chunk.getRowCount());
+    }
+}
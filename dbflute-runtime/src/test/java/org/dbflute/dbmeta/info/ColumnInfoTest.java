@@ -0,0 +1,155 @@
+/*
+ * Copyright 2014-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.dbflute.dbmeta.info;
+
+import org.dbflute.Entity;
+import org.dbflute.bhv.AbstractBehaviorWritableTest.MockBulkMember;
+import org.dbflute.bhv.AbstractBehaviorWritableTest.MockBulkMemberDbm;
+import org.dbflute.unit.RuntimeTestCase;
+
+/**
+ * @author agent
+ * @since 1.2.3 (2026/10/19 Monday)
+ */
+public class ColumnInfoTest extends RuntimeTestCase {
+
+    // ===================================================================================
+    //                                                                                Read
+    //                                                                                ====
+    public void test_read_byOrdinal() {
+        // ## Arrange ##
+        MockOrdinalMemberDbm dbmeta = new MockOrdinalMemberDbm(true);
+        ColumnInfo columnInfo = dbmeta.getColumnInfoList().get(1);
+        columnInfo.xacceptColumnOrdinal(1);
+        MockBulkMember member = new MockBulkMember();
+        member.setMemberName("sea");
+
+        // ## Act ##
+        String name = columnInfo.read(member);
+
+        // ## Assert ##
+        assertEquals("sea", name);
+        assertEquals(1, columnInfo.getColumnOrdinal());
+        assertEquals(1, dbmeta.readCount);
+    }
+
+    public void test_read_byGateway_notInitialized() {
+        // ## Arrange ##
+        MockOrdinalMemberDbm dbmeta = new MockOrdinalMemberDbm(true);
+        ColumnInfo columnInfo = dbmeta.getColumnInfoList().get(1); // no ordinal accepted
+        MockBulkMember member = new MockBulkMember();
+        member.setMemberName("sea");
+
+        // ## Act ##
+        String name = columnInfo.read(member);
+
+        // ## Assert ##
+        assertEquals("sea", name);
+        assertEquals(-1, columnInfo.getColumnOrdinal());
+        assertEquals(0, dbmeta.readCount);
+    }
+
+    public void test_read_byGateway_noOrdinalAccess() {
+        // ## Arrange ##
+        MockOrdinalMemberDbm dbmeta = new MockOrdinalMemberDbm(false);
+        ColumnInfo columnInfo = dbmeta.getColumnInfoList().get(1);
+        columnInfo.xacceptColumnOrdinal(1);
+        MockBulkMember member = new MockBulkMember();
+        member.setMemberName("sea");
+
+        // ## Act ##
+        String name = columnInfo.read(member);
+
+        // ## Assert ##
+        assertEquals("sea", name);
+        assertEquals(0, dbmeta.readCount);
+    }
+
+    // ===================================================================================
+    //                                                                               Write
+    //                                                                               =====
+    public void test_write_byOrdinal() {
+        // ## Arrange ##
+        MockOrdinalMemberDbm dbmeta = new MockOrdinalMemberDbm(true);
+        ColumnInfo columnInfo = dbmeta.getColumnInfoList().get(0);
+        columnInfo.xacceptColumnOrdinal(0);
+        MockBulkMember member = new MockBulkMember();
+
+        // ## Act ##
+        columnInfo.write(member, 3);
+
+        // ## Assert ##
+        assertEquals(Integer.valueOf(3), member.getMemberId());
+        assertEquals(1, dbmeta.writeCount);
+    }
+
+    public void test_write_byGateway_notInitialized() {
+        // ## Arrange ##
+        MockOrdinalMemberDbm dbmeta = new MockOrdinalMemberDbm(true);
+        ColumnInfo columnInfo = dbmeta.getColumnInfoList().get(0); // no ordinal accepted
+        MockBulkMember member = new MockBulkMember();
+
+        // ## Act ##
+        columnInfo.write(member, 3);
+
+        // ## Assert ##
+        assertEquals(Integer.valueOf(3), member.getMemberId());
+        assertEquals(0, dbmeta.writeCount);
+    }
+
+    // ===================================================================================
+    //                                                                         Mock DBMeta
+    //                                                                         ===========
+    public static class MockOrdinalMemberDbm extends MockBulkMemberDbm {
+
+        protected final boolean _ordinalAccess;
+        public int readCount;
+        public int writeCount;
+
+        public MockOrdinalMemberDbm(boolean ordinalAccess) {
+            _ordinalAccess = ordinalAccess;
+        }
+
+        @Override
+        public boolean hasColumnOrdinalAccess() {
+            return _ordinalAccess;
+        }
+
+        @Override
+        public Object readColumnByOrdinal(Entity et, int ordinal) {
+            ++readCount;
+            final MockBulkMember e = (MockBulkMember) et;
+            switch (ordinal) {
+            case 0: return e.getMemberId();
+            case 1: return e.getMemberName();
+            case 2: return e.getBirthdate();
+            case 3: return e.getRegisterDatetime();
+            default: throw new IllegalStateException("Unknown ordinal: " + ordinal);
+            }
+        }
+
+        @Override
+        public void writeColumnByOrdinal(Entity et, int ordinal, Object vl) {
+            ++writeCount;
+            final MockBulkMember e = (MockBulkMember) et;
+            switch (ordinal) {
+            case 0: e.setMemberId((Integer) vl); return;
+            case 1: e.setMemberName((String) vl); return;
+            default: throw new IllegalStateException("Unknown ordinal: " + ordinal);
+            }
+        }
+    }
+}
@@ -92,4 +92,17 @@ public class DBDefTest extends RuntimeTestCase {
             assertTrue(DBDef.MySQL.isLocked());
         }
     }
+
+    // ===================================================================================
+    //                                                                           Bulk Load
+    //                                                                           =========
+    public void test_getBulkLoadChunkSize_basic() throws Exception {
+        for (DBDef dbdef : DBDef.values()) {
+            int chunkSize = dbdef.dbway().getBulkLoadChunkSize();
+            log(dbdef, chunkSize);
+            assertTrue(chunkSize > 0);
+        }
+        assertEquals(5000, DBDef.MySQL.dbway().getBulkLoadChunkSize());
+        assertEquals(1000, DBDef.H2.dbway().getBulkLoadChunkSize());
+    }
 }
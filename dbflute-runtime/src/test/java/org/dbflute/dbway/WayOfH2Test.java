@@ -0,0 +1,41 @@
+/*
+ * Copyright 2014-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.dbflute.dbway;
+
+import org.dbflute.unit.RuntimeTestCase;
+
+/**
+ * @author agent
+ * @since 1.2.3 (2026/10/19 Monday)
+ */
+public class WayOfH2Test extends RuntimeTestCase {
+
+    public void test_isBulkLoadCsvReadable_basic() {
+        // ## Arrange ##
+        WayOfH2 way = new WayOfH2();
+
+        // ## Act ##
+        // ## Assert ##
+        assertTrue(way.isBulkLoadCsvSupported());
+        assertTrue(way.isBulkLoadCsvReadable("jdbc:h2:mem:maihamadb;DB_CLOSE_DELAY=-1"));
+        assertTrue(way.isBulkLoadCsvReadable("jdbc:h2:file:/tmp/maihamadb"));
+        assertTrue(way.isBulkLoadCsvReadable("jdbc:h2:~/maihamadb"));
+        assertFalse(way.isBulkLoadCsvReadable("jdbc:h2:tcp://localhost/~/maihamadb"));
+        assertFalse(way.isBulkLoadCsvReadable("jdbc:h2:ssl://dockside:9092/maihamadb"));
+        assertFalse(way.isBulkLoadCsvReadable("jdbc:h2:file:/tmp/maihamadb;AUTO_SERVER=TRUE"));
+        assertFalse(way.isBulkLoadCsvReadable("jdbc:log4jdbc:h2:mem:maihamadb"));
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright 2014-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.dbflute.helper;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map.Entry;
+
+import org.dbflute.unit.RuntimeTestCase;
+
+/**
+ * @author agent
+ * @since 1.2.3 (2026/10/19 Monday)
+ */
+public class CaseFoldingKeyMapTest extends RuntimeTestCase {
+
+    // ===================================================================================
+    //                                                                    Case Insensitive
+    //                                                                    ================
+    public void test_caseInsensitive_basic() {
+        // ## Arrange ##
+        CaseFoldingKeyMap<Object> map = CaseFoldingKeyMap.createAsCaseInsensitive();
+
+        // ## Act ##
+        map.put("Sea_Land", "over");
+        map.put(null, "nullKey");
+        map.put("piari", null);
+
+        // ## Assert ##
+        assertEquals("over", map.get("SEA_LAND"));
+        assertEquals("over", map.get("sea_land"));
+        assertNull(map.get("SeaLand")); // not flexible
+        assertEquals("nullKey", map.get(null));
+        assertTrue(map.containsKey("PIARI"));
+        assertNull(map.get("PIARI"));
+        assertNull(map.get(3)); // not string
+        assertEquals(3, map.size());
+        assertEquals("over", map.put("SEA_LAND", "mystic"));
+        assertEquals(3, map.size());
+        assertEquals("mystic", map.get("sea_land"));
+        assertEquals("Sea_Land", map.keySet().iterator().next()); // first plain key is kept
+        assertEquals("mystic", map.remove("sea_LAND"));
+        assertFalse(map.containsKey("Sea_Land"));
+        assertEquals(2, map.size());
+    }
+
+    // ===================================================================================
+    //                                                                            Flexible
+    //                                                                            ========
+    public void test_flexible_sameAsStringKeyMap() {
+        // ## Arrange ##
+        CaseFoldingKeyMap<Object> map = CaseFoldingKeyMap.createAsFlexible();
+        StringKeyMap<Object> expectedMap = StringKeyMap.createAsFlexible();
+        String[] keys = { "MEMBER_NAME", "\"MEMBER_STATUS\"", "'BIRTH-DATE'", "FORMALIZED DATETIME", "'a\"", "'", "" };
+        for (String key : keys) {
+            map.put(key, key);
+            expectedMap.put(key, key);
+        }
+
+        // ## Act ##
+        // ## Assert ##
+        String[] searchKeys = { "memberName", "Member_Name", "memberStatus", "\"member_status\"", "birthDate", "BIRTH_DATE",
+                "formalizedDatetime", "'A\"", "a", "'", "''", "\"\"", "noexist" };
+        for (String searchKey : searchKeys) {
+            log(searchKey + " = " + map.get(searchKey));
+            assertEquals(expectedMap.get(searchKey), map.get(searchKey));
+            assertEquals(expectedMap.containsKey(searchKey), map.containsKey(searchKey));
+        }
+        assertEquals(expectedMap.size(), map.size());
+    }
+
+    // ===================================================================================
+    //                                                                              Resize
+    //                                                                              ======
+    public void test_resize_keepOrder() {
+        // ## Arrange ##
+        CaseFoldingKeyMap<Integer> map = CaseFoldingKeyMap.createAsCaseInsensitive();
+
+        // ## Act ##
+        for (int i = 0; i < 1000; i++) {
+            map.put("KEY_" + i, i);
+        }
+        for (int i = 0; i < 1000; i += 2) {
+            map.remove("key_" + i);
+        }
+
+        // ## Assert ##
+        assertEquals(500, map.size());
+        List<Integer> valueList = new ArrayList<Integer>();
+        for (Entry<String, Integer> entry : map.entrySet()) {
+            valueList.add(entry.getValue());
+            assertEquals(entry.getValue(), map.get(entry.getKey().toLowerCase()));
+        }
+        for (int i = 0; i < valueList.size(); i++) {
+            assertEquals(Integer.valueOf(i * 2 + 1), valueList.get(i)); // insertion order
+        }
+    }
+
+    // ===================================================================================
+    //                                                                              Freeze
+    //                                                                              ======
+    public void test_freeze_readOnly() {
+        // ## Arrange ##
+        CaseFoldingKeyMap<Object> map = CaseFoldingKeyMap.createAsFlexible(2);
+        map.put("MEMBER_ID", 1);
+
+        // ## Act ##
+        map.freeze();
+
+        // ## Assert ##
+        assertTrue(map.isFrozen());
+        assertEquals(1, map.get("memberId"));
+        assertException(UnsupportedOperationException.class, () -> map.put("MEMBER_NAME", 2));
+        assertException(UnsupportedOperationException.class, () -> map.remove("MEMBER_ID"));
+        assertException(UnsupportedOperationException.class, () -> map.clear());
+        assertEquals(1, map.size());
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright 2014-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.dbflute.helper.filesystem;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
+
+import org.dbflute.unit.RuntimeTestCase;
+
+/**
+ * @author agent
+ * @since 1.2.3 (2026/10/19 Monday)
+ */
+public class FileChannelLineReaderTest extends RuntimeTestCase {
+
+    // ===================================================================================
+    //                                                                           Read Line
+    //                                                                           =========
+    public void test_readLine_sameAsBufferedReader() throws Exception {
+        assertSameAsBufferedReader("");
+        assertSameAsBufferedReader("sea");
+        assertSameAsBufferedReader("sea\nland\n");
+        assertSameAsBufferedReader("sea\r\nland\r\npiari");
+        assertSameAsBufferedReader("sea\rland\r\rpiari\r");
+        assertSameAsBufferedReader("\n\r\n\r");
+        assertSameAsBufferedReader("\"sea\",\"mystic\"\r\n\"land\",\"oneman\"\n");
+        assertSameAsBufferedReader("海と陸\nミラコスタ\r\nabcé\r");
+    }
+
+    protected void assertSameAsBufferedReader(String text) throws Exception {
+        // ## Arrange ##
+        File file = Files.createTempFile("channel", ".txt").toFile();
+        file.deleteOnExit();
+        byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+        Files.write(file.toPath(), bytes);
+        List<String> expectedList = newArrayList();
+        try (BufferedReader br = new BufferedReader(new InputStreamReader(new ByteArrayInputStream(bytes), "UTF-8"))) {
+            String line;
+            while ((line = br.readLine()) != null) {
+                expectedList.add(line);
+            }
+        }
+
+        // ## Act ##
+        FileInputStream ins = new FileInputStream(file);
+        assertTrue(FileChannelLineReader.isChannelReadable(ins, "UTF-8"));
+        List<String> actualList;
+        try (FileChannelLineReader reader = FileChannelLineReader.of(ins, "UTF-8")) {
+            actualList = readAllLines(reader);
+        }
+        for (int chunkSize = 1; chunkSize <= 4; chunkSize++) { // boundaries in CR + LF and multi-byte
+            try (FileChannelLineReader reader = new FileChannelLineReader(new FileInputStream(file), StandardCharsets.UTF_8, chunkSize)) {
+                assertEquals(expectedList, readAllLines(reader));
+            }
+        }
+
+        // ## Assert ##
+        log(expectedList);
+        assertEquals(expectedList, actualList);
+    }
+
+    protected List<String> readAllLines(FileChannelLineReader reader) throws IOException {
+        List<String> lineList = newArrayList();
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineList.add(line);
+        }
+        assertNull(reader.readLine()); // still end
+        return lineList;
+    }
+
+    // ===================================================================================
+    //                                                                               Close
+    //                                                                               =====
+    public void test_close_releaseFile() throws Exception {
+        // ## Arrange ##
+        File file = Files.createTempFile("channel", ".txt").toFile();
+        Files.write(file.toPath(), "sea\nland\n".getBytes(StandardCharsets.UTF_8));
+        FileInputStream ins = new FileInputStream(file);
+        FileChannelLineReader reader = FileChannelLineReader.of(ins, "UTF-8");
+        assertEquals("sea", reader.readLine()); // in the middle of file
+
+        // ## Act ##
+        reader.close();
+
+        // ## Assert ##
+        assertFalse(ins.getChannel().isOpen());
+        assertTrue(file.delete()); // released without waiting for GC (no mapping)
+    }
+
+    // ===================================================================================
+    //                                                                       Determination
+    //                                                                       =============
+    public void test_isChannelReadable_basic() throws Exception {
+        File file = Files.createTempFile("channel", ".txt").toFile();
+        file.deleteOnExit();
+        try (FileInputStream ins = new FileInputStream(file)) {
+            assertTrue(FileChannelLineReader.isChannelReadable(ins, "UTF-8"));
+            assertTrue(FileChannelLineReader.isChannelReadable(ins, "ISO-8859-1"));
+            assertFalse(FileChannelLineReader.isChannelReadable(ins, "Windows-31J"));
+        }
+        assertFalse(FileChannelLineReader.isChannelReadable(new ByteArrayInputStream(new byte[0]), "UTF-8"));
+    }
+}
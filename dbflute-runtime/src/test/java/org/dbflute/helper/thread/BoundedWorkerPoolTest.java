@@ -0,0 +1,152 @@
+/*
+ * Copyright 2014-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.dbflute.helper.thread;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.dbflute.unit.RuntimeTestCase;
+
+/**
+ * @author agent
+ * @since 1.2.3 (2026/10/19 Monday)
+ */
+public class BoundedWorkerPoolTest extends RuntimeTestCase {
+
+    public void test_executeInOrder_order() {
+        // ## Arrange ##
+        List<Callable<Integer>> taskList = new ArrayList<Callable<Integer>>();
+        for (int i = 0; i < 10; i++) {
+            final int number = i;
+            taskList.add(() -> {
+                Thread.sleep((10 - number) * 10L); // later task finishes earlier
+                return number;
+            });
+        }
+
+        // ## Act ##
+        List<Integer> resultList = BoundedWorkerPool.getShared().executeInOrder(taskList, 4);
+
+        // ## Assert ##
+        assertEquals(10, resultList.size());
+        for (int i = 0; i < 10; i++) {
+            assertEquals(Integer.valueOf(i), resultList.get(i));
+        }
+    }
+
+    public void test_executeInOrder_parallelism() {
+        // ## Arrange ##
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        List<Callable<Void>> taskList = new ArrayList<Callable<Void>>();
+        for (int i = 0; i < 12; i++) {
+            taskList.add(() -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                Thread.sleep(30L);
+                running.decrementAndGet();
+                return null;
+            });
+        }
+
+        // ## Act ##
+        new BoundedWorkerPool("test-worker", 8).executeInOrder(taskList, 3);
+
+        // ## Assert ##
+        log("maxRunning=" + maxRunning.get());
+        assertTrue(maxRunning.get() <= 3);
+        assertEquals(0, running.get());
+    }
+
+    public void test_executeInOrder_failure() {
+        // ## Arrange ##
+        AtomicInteger started = new AtomicInteger();
+        AtomicInteger finished = new AtomicInteger();
+        List<Callable<Void>> taskList = new ArrayList<Callable<Void>>();
+        for (int i = 0; i < 20; i++) {
+            final int number = i;
+            taskList.add(() -> {
+                started.incrementAndGet();
+                try {
+                    if (number == 1) {
+                        throw new IllegalStateException("mystic");
+                    }
+                    Thread.sleep(50L);
+                    return null;
+                } finally {
+                    finished.incrementAndGet();
+                }
+            });
+        }
+
+        // ## Act ##
+        // ## Assert ##
+        assertException(IllegalStateException.class, () -> {
+            new BoundedWorkerPool("test-worker", 4).executeInOrder(taskList, 2);
+        }).handle(cause -> assertEquals("mystic", cause.getMessage()));
+        log("started=" + started.get() + ", finished=" + finished.get());
+        assertTrue(started.get() < 20); // remaining tasks are cancelled
+        assertEquals(started.get(), finished.get()); // no running task after failure
+    }
+
+    public void test_executeInOrder_callerExecutor() {
+        // ## Arrange ##
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            List<Callable<String>> taskList = new ArrayList<Callable<String>>();
+            taskList.add(() -> "sea");
+            taskList.add(() -> Thread.currentThread().getName());
+
+            // ## Act ##
+            List<String> resultList = new BoundedWorkerPool(executor).executeInOrder(taskList, 4);
+
+            // ## Assert ##
+            assertEquals("sea", resultList.get(0));
+            assertNotSame(Thread.currentThread().getName(), resultList.get(1));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    public void test_executeInOrder_nested() {
+        // ## Arrange ##
+        BoundedWorkerPool pool = new BoundedWorkerPool("test-worker", 2); // saturated by outer tasks
+        List<Callable<List<String>>> outerList = new ArrayList<Callable<List<String>>>();
+        for (int i = 0; i < 2; i++) {
+            outerList.add(() -> {
+                String outerThread = Thread.currentThread().getName();
+                List<Callable<String>> innerList = new ArrayList<Callable<String>>();
+                for (int j = 0; j < 3; j++) {
+                    innerList.add(() -> Thread.currentThread().getName().equals(outerThread) ? "caller" : "other");
+                }
+                return pool.executeInOrder(innerList, 2); // nested on the same pool
+            });
+        }
+
+        // ## Act ##
+        List<List<String>> resultList = pool.executeInOrder(outerList, 2);
+
+        // ## Assert ##
+        assertEquals(2, resultList.size());
+        for (List<String> innerResultList : resultList) {
+            assertEquals(Arrays.asList("caller", "caller", "caller"), innerResultList); // not starved
+        }
+    }
+}
@@ -27,8 +27,10 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.dbflute.helper.token.file.exception.FileMakingInvalidValueCountException;
+import org.dbflute.helper.token.file.exception.FileTokenizingSQLHandlingFailureException;
 import org.dbflute.unit.RuntimeTestCase;
 import org.dbflute.util.Srl;
 
@@ -197,6 +199,125 @@ public class FileTokenTest extends RuntimeTestCase {
         assertTrue(markSet.contains("done"));
     }
 
+    // -----------------------------------------------------
+    //                                              Pipeline
+    //                                              --------
+    public void test_tokenize_pipeline_sameAsSynchronous() throws Exception {
+        // ## Arrange ##
+        FileToken impl = new FileToken();
+        StringBuilder sb = new StringBuilder("ID,NAME,MEMO");
+        for (int i = 1; i <= 500; i++) {
+            sb.append(ln());
+            if (i % 7 == 0) {
+                sb.append(i).append(",\"na,me").append(i).append("\",\"multi\nline\"");
+            } else {
+                sb.append(i).append(",name").append(i).append(i % 3 == 0 ? "," : ",memo");
+            }
+        }
+        String all = sb.toString();
+        Map<Integer, List<String>> expectedMap = new LinkedHashMap<Integer, List<String>>();
+        impl.tokenize(new ByteArrayInputStream(all.getBytes("UTF-8")), resource -> {
+            expectedMap.put(resource.getRowNumber(), new ArrayList<String>(resource.getValueList()));
+        }, op -> op.delimitateByComma().encodeAsUTF8().handleEmptyAsNull());
+
+        // ## Act ##
+        Map<Integer, List<String>> actualMap = new ConcurrentHashMap<Integer, List<String>>();
+        Set<String> threadNameSet = ConcurrentHashMap.newKeySet();
+        impl.tokenize(new ByteArrayInputStream(all.getBytes("UTF-8")), resource -> {
+            threadNameSet.add(Thread.currentThread().getName());
+            actualMap.put(resource.getRowNumber(), new ArrayList<String>(resource.getValueList()));
+            assertEquals("ID", resource.getHeaderInfo().getColumnNameList().get(0));
+        }, op -> op.delimitateByComma().encodeAsUTF8().handleEmptyAsNull().pipelineByWorkers(3).pipelineQueueCapacity(8));
+
+        // ## Assert ##
+        log(threadNameSet);
+        assertEquals(500, expectedMap.size());
+        assertEquals(expectedMap, new LinkedHashMap<Integer, List<String>>(actualMap));
+        assertEquals(Arrays.asList("7", "na,me7", "multi\nline"), actualMap.get(7));
+        assertEquals(Arrays.asList("3", "name3", null), actualMap.get(3));
+        for (String threadName : threadNameSet) {
+            assertTrue(threadName.startsWith("dbflute-filetoken-"));
+        }
+    }
+
+    public void test_tokenize_pipeline_rowOrder_fieldView() throws Exception {
+        // ## Arrange ##
+        FileToken impl = new FileToken();
+        String all = "1001\tabc\t\t2020-06-14" + ln() + "1002\t\"a\"\"bc\"\tx\t" + ln() + "1003\tdef\ty\t2020-06-16";
+        List<Integer> rowNumberList = new ArrayList<Integer>();
+        List<String> fieldList = new ArrayList<String>();
+
+        // ## Act ##
+        impl.tokenize(new ByteArrayInputStream(all.getBytes("UTF-8")), resource -> {
+            rowNumberList.add(resource.getRowNumber());
+            FileTokenizingFieldView view = resource.getFieldView();
+            assertEquals(4, view.getFieldCount());
+            CharSequence name = view.getField(1);
+            fieldList.add(name.toString() + ":" + view.getField(2) + ":" + view.getFieldAsString(3));
+        }, op -> op.beginFirstLine().delimitateByTab().encodeAsUTF8().handleEmptyAsNull().pipelineInRowOrder());
+
+        // ## Assert ##
+        assertEquals(Arrays.asList(1, 2, 3), rowNumberList);
+        assertEquals(Arrays.asList("abc:null:2020-06-14", "a\"bc:x:null", "def:y:2020-06-16"), fieldList);
+    }
+
+    public void test_tokenize_pipeline_columnValueMap() throws Exception {
+        // ## Arrange ##
+        FileToken impl = new FileToken();
+        String all = "ID,NAME,MEMO" + ln() + "1,foo,memo" + ln() + "2,bar," + ln() + "3,\"q,ux\",memo";
+        Map<Integer, Map<String, String>> columnMap = new ConcurrentHashMap<Integer, Map<String, String>>();
+
+        // ## Act ##
+        impl.tokenize(new ByteArrayInputStream(all.getBytes("UTF-8")), resource -> {
+            columnMap.put(resource.getRowNumber(), resource.toColumnValueMap());
+        }, op -> op.delimitateByComma().encodeAsUTF8().handleEmptyAsNull().pipelineByWorkers(2));
+
+        // ## Assert ##
+        assertEquals(3, columnMap.size());
+        Map<String, String> firstMap = columnMap.get(1); // plain row
+        assertNotNull(firstMap);
+        assertEquals(Arrays.asList("ID", "NAME", "MEMO"), new ArrayList<String>(firstMap.keySet()));
+        assertEquals("1", firstMap.get("ID"));
+        assertEquals("foo", firstMap.get("NAME"));
+        assertEquals("memo", firstMap.get("MEMO"));
+        Map<String, String> secondMap = columnMap.get(2); // plain row with empty
+        assertNotNull(secondMap);
+        assertEquals("bar", secondMap.get("NAME"));
+        assertNull(secondMap.get("MEMO"));
+        assertTrue(secondMap.containsKey("MEMO"));
+        assertEquals("q,ux", columnMap.get(3).get("NAME")); // quoted row
+    }
+
+    public void test_tokenize_pipeline_failure() throws Exception {
+        // ## Arrange ##
+        FileToken impl = new FileToken();
+        StringBuilder sb = new StringBuilder();
+        for (int i = 1; i <= 200; i++) {
+            sb.append(i).append(",foo").append(ln());
+        }
+
+        // ## Act ##
+        // ## Assert ##
+        try {
+            impl.tokenize(new ByteArrayInputStream(sb.toString().getBytes("UTF-8")), resource -> {
+                if (resource.getRowNumber() == 50) {
+                    throw new IllegalStateException("row 50");
+                }
+            }, op -> op.beginFirstLine().delimitateByComma().encodeAsUTF8().pipelineByWorkers(2).pipelineQueueCapacity(4));
+            fail();
+        } catch (IllegalStateException e) {
+            assertEquals("row 50", e.getMessage());
+        }
+        try {
+            impl.tokenize(new ByteArrayInputStream(sb.toString().getBytes("UTF-8")), resource -> {
+                throw new SQLException("sql");
+            }, op -> op.beginFirstLine().delimitateByComma().encodeAsUTF8().pipelineByWorkers(2));
+            fail();
+        } catch (FileTokenizingSQLHandlingFailureException e) {
+            log(e.getMessage());
+        }
+    }
+
     // ===================================================================================
     //                                                                                Make
     //                                                                                ====
@@ -0,0 +1,135 @@
+/*
+ * Copyright 2014-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.dbflute.s2dao.sqlhandler;
+
+import java.lang.reflect.Proxy;
+import java.util.Arrays;
+
+import org.dbflute.bhv.AbstractBehaviorWritableTest.MockBulkMember;
+import org.dbflute.dbmeta.info.ColumnInfo;
+import org.dbflute.dbmeta.info.ColumnInfoTest.MockOrdinalMemberDbm;
+import org.dbflute.dbmeta.name.ColumnSqlName;
+import org.dbflute.helper.beans.factory.DfBeanDescFactory;
+import org.dbflute.s2dao.metadata.TnBeanMetaData;
+import org.dbflute.s2dao.metadata.TnPropertyType;
+import org.dbflute.s2dao.metadata.impl.TnPropertyTypeImpl;
+import org.dbflute.s2dao.valuetype.TnValueTypes;
+import org.dbflute.unit.RuntimeTestCase;
+
+/**
+ * @author agent
+ * @since 1.2.3 (2026/10/19 Monday)
+ */
+public class TnAbstractEntityHandlerTest extends RuntimeTestCase {
+
+    // ===================================================================================
+    //                                                                       Bind Variable
+    //                                                                       =============
+    public void test_setupInsertBindVariables_byOrdinal() {
+        // ## Arrange ##
+        MockOrdinalMemberDbm dbmeta = new MockOrdinalMemberDbm(true);
+        TnPropertyType[] propTypes = prepareMemberPropertyTypes(dbmeta, true);
+        TnAbstractEntityHandler handler = createHandler(propTypes);
+        MockBulkMember member = new MockBulkMember();
+        member.setMemberId(3);
+        member.setMemberName("sea");
+
+        // ## Act ##
+        handler.setupInsertBindVariables(member);
+
+        // ## Assert ##
+        assertEquals(Arrays.asList(3, "sea"), Arrays.asList(handler._bindVariables));
+        assertEquals(2, dbmeta.readCount);
+    }
+
+    public void test_setupInsertBindVariables_byReflection() {
+        // ## Arrange ##
+        MockOrdinalMemberDbm dbmeta = new MockOrdinalMemberDbm(true);
+        TnPropertyType[] propTypes = prepareMemberPropertyTypes(dbmeta, false); // no column info
+        TnAbstractEntityHandler handler = createHandler(propTypes);
+        MockBulkMember member = new MockBulkMember();
+        member.setMemberId(3);
+        member.setMemberName("sea");
+
+        // ## Act ##
+        handler.setupInsertBindVariables(member);
+
+        // ## Assert ##
+        assertEquals(Arrays.asList(3, "sea"), Arrays.asList(handler._bindVariables));
+        assertEquals(0, dbmeta.readCount);
+    }
+
+    public void test_setupDeleteBindVariables_byOrdinal() {
+        // ## Arrange ##
+        MockOrdinalMemberDbm dbmeta = new MockOrdinalMemberDbm(true);
+        TnPropertyType[] propTypes = prepareMemberPropertyTypes(dbmeta, true);
+        TnAbstractEntityHandler handler = createHandler(propTypes);
+        MockBulkMember member = new MockBulkMember();
+        member.setMemberId(3);
+        member.setMemberName("sea");
+
+        // ## Act ##
+        handler.setupDeleteBindVariables(member);
+
+        // ## Assert ##
+        assertEquals(Arrays.asList(3), Arrays.asList(handler._bindVariables));
+        assertEquals(1, dbmeta.readCount);
+    }
+
+    // ===================================================================================
+    //                                                                        Assist Logic
+    //                                                                        ============
+    protected TnPropertyType[] prepareMemberPropertyTypes(MockOrdinalMemberDbm dbmeta, boolean withColumnInfo) {
+        final TnPropertyType[] propTypes = new TnPropertyType[2];
+        for (int i = 0; i < propTypes.length; i++) {
+            final ColumnInfo columnInfo = dbmeta.getColumnInfoList().get(i);
+            columnInfo.xacceptColumnOrdinal(i);
+            final String propertyName = columnInfo.getPropertyName();
+            final String columnDbName = columnInfo.getColumnDbName();
+            propTypes[i] = new TnPropertyTypeImpl(DfBeanDescFactory.getBeanDesc(MockBulkMember.class).getPropertyDesc(propertyName),
+                    i == 0 ? TnValueTypes.INTEGER : TnValueTypes.STRING, columnDbName, new ColumnSqlName(columnDbName),
+                    withColumnInfo ? columnInfo : null);
+        }
+        return propTypes;
+    }
+
+    protected TnAbstractEntityHandler createHandler(TnPropertyType[] propTypes) {
+        final TnBeanMetaData bmd = (TnBeanMetaData) Proxy.newProxyInstance(TnBeanMetaData.class.getClassLoader(),
+                new Class<?>[] { TnBeanMetaData.class }, (proxy, method, args) -> {
+                    final String methodName = method.getName();
+                    if (methodName.equals("getPrimaryKeySize")) {
+                        return 1;
+                    } else if (methodName.equals("getPrimaryKeyDbName")) {
+                        return propTypes[0].getColumnDbName();
+                    } else if (methodName.equals("getPropertyTypeByColumnName")) {
+                        return propTypes[0];
+                    } else if (methodName.startsWith("has")) {
+                        return false;
+                    }
+                    return null; // e.g. no timestamp and version no
+                });
+        return new TnAbstractEntityHandler(null, null, "mock", bmd, propTypes) {
+            @Override
+            protected void setupBindVariables(Object bean) {
+            }
+
+            @Override
+            protected void assertObjectNotNull(String variableName, Object value) {
+                // for no check of constructor
+            }
+        };
+    }
+}
@@ -95,6 +95,16 @@ public class TnValueTypesTest extends RuntimeTestCase {
         assertEquals(TnValueTypes.UUID_AS_STRING, TnValueTypes.findValueTypes(DBDef.SQLServer).getValueType(java.util.UUID.class));
     }
 
+    public void test_DBMS_switch_primitiveGetter() throws Exception {
+        assertEquals(TnValueTypes.LONG_AS_PRIMITIVE, TnValueTypes.findValueTypes(DBDef.Oracle).getValueType(Long.class));
+        assertEquals(TnValueTypes.INTEGER_AS_PRIMITIVE, TnValueTypes.findValueTypes(DBDef.Oracle).getValueType(int.class));
+        assertEquals(TnValueTypes.LONG, TnValueTypes.findValueTypes(DBDef.SQLite).getValueType(Long.class));
+        assertEquals(TnValueTypes.LOCALDATETIME_AS_DIRECT,
+                TnValueTypes.findValueTypes(DBDef.PostgreSQL).getValueType(java.time.LocalDateTime.class));
+        assertEquals(TnValueTypes.LOCALDATETIME_AS_TIMESTAMP,
+                TnValueTypes.findValueTypes(DBDef.Oracle).getValueType(java.time.LocalDateTime.class));
+    }
+
     // ===================================================================================
     //                                                                                Find
     //                                                                                ====
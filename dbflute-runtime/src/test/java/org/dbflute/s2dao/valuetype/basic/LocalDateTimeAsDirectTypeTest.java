@@ -0,0 +1,137 @@
+/*
+ * Copyright 2014-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.dbflute.s2dao.valuetype.basic;
+
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.TimeZone;
+
+import org.dbflute.mock.MockResultSet;
+import org.dbflute.unit.RuntimeTestCase;
+
+/**
+ * @author agent
+ * @since 1.2.3 (2026/10/19 Monday)
+ */
+public class LocalDateTimeAsDirectTypeTest extends RuntimeTestCase {
+
+    private static final LocalDateTime DIRECT_VALUE = LocalDateTime.of(2026, 10, 19, 12, 34, 56);
+    private static final LocalDateTime TIMESTAMP_VALUE = LocalDateTime.of(2001, 9, 4, 1, 2, 3);
+
+    public void test_getValue_direct() throws Exception {
+        // ## Arrange ##
+        LocalDateTimeAsDirectType type = createType(TimeZone.getDefault());
+
+        // ## Act ##
+        Object value = type.getValue(createResultSet(null), 1);
+
+        // ## Assert ##
+        assertEquals(DIRECT_VALUE, value);
+    }
+
+    public void test_getValue_fallback_unsupported() throws Exception {
+        // ## Arrange ##
+        LocalDateTimeAsDirectType type = createType(TimeZone.getDefault());
+
+        // ## Act ##
+        // ## Assert ##
+        assertEquals(TIMESTAMP_VALUE, type.getValue(createResultSet(new SQLFeatureNotSupportedException("old")), 1));
+        assertEquals(TIMESTAMP_VALUE, type.getValue(createResultSet(new AbstractMethodError("old")), 1));
+        assertEquals(DIRECT_VALUE, type.getValue(createResultSet(null), 1)); // no latch so direct again
+    }
+
+    public void test_getValue_fallback_differentZone() throws Exception {
+        // ## Arrange ##
+        TimeZone defaultZone = TimeZone.getDefault();
+        String otherId = "Asia/Tokyo".equals(defaultZone.getID()) ? "America/New_York" : "Asia/Tokyo";
+        LocalDateTimeAsDirectType type = createType(TimeZone.getTimeZone(otherId));
+
+        // ## Act ##
+        Object value = type.getValue(createResultSet(null), 1);
+
+        // ## Assert ##
+        assertNotSame(DIRECT_VALUE, value); // converted from timestamp by the mapping zone
+        assertFalse(DIRECT_VALUE.equals(value));
+    }
+
+    public void test_getValue_fallback_genericSQLException() throws Exception {
+        // ## Arrange ##
+        LocalDateTimeAsDirectType type = createType(TimeZone.getDefault());
+        SQLException conversionFailure = new SQLException("Cannot convert DATE to LocalDateTime"); // not feature-not-supported
+
+        // ## Act ##
+        Object value = type.getValue(createResultSet(conversionFailure), 1);
+
+        // ## Assert ##
+        assertEquals(TIMESTAMP_VALUE, value);
+        assertEquals(DIRECT_VALUE, type.getValue(createResultSet(null), 1)); // not latched by the failure
+    }
+
+    public void test_getValue_realFailure_thrown() throws Exception {
+        // ## Arrange ##
+        LocalDateTimeAsDirectType type = createType(TimeZone.getDefault());
+        MockResultSet closedRs = new MockResultSet() {
+            @Override
+            public <T> T getObject(int columnIndex, Class<T> type) throws SQLException {
+                throw new SQLException("closed");
+            }
+
+            @Override
+            public Timestamp getTimestamp(int columnIndex) throws SQLException {
+                throw new SQLException("closed");
+            }
+        };
+
+        // ## Act ##
+        try {
+            type.getValue(closedRs, 1);
+            // ## Assert ##
+            fail();
+        } catch (SQLException e) {
+            assertEquals("closed", e.getMessage()); // thrown by the timestamp conversion
+        }
+    }
+
+    protected LocalDateTimeAsDirectType createType(TimeZone mappingZone) {
+        return new LocalDateTimeAsDirectType() {
+            @Override
+            protected TimeZone getTimeZone() {
+                return mappingZone;
+            }
+        };
+    }
+
+    protected MockResultSet createResultSet(Throwable directFailure) {
+        return new MockResultSet() {
+            @Override
+            public <T> T getObject(int columnIndex, Class<T> type) throws SQLException {
+                if (directFailure instanceof SQLException) {
+                    throw (SQLException) directFailure;
+                } else if (directFailure instanceof Error) {
+                    throw (Error) directFailure;
+                }
+                return type.cast(DIRECT_VALUE);
+            }
+
+            @Override
+            public Timestamp getTimestamp(int columnIndex) throws SQLException {
+                return Timestamp.valueOf(TIMESTAMP_VALUE); // by default zone
+            }
+        };
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2014-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.dbflute.s2dao.valuetype.basic;
+
+import java.math.BigDecimal;
+import java.sql.SQLException;
+
+import org.dbflute.mock.MockResultSet;
+import org.dbflute.unit.RuntimeTestCase;
+
+/**
+ * @author agent
+ * @since 1.2.3 (2026/10/19 Monday)
+ */
+public class LongAsPrimitiveTypeTest extends RuntimeTestCase {
+
+    public void test_getValue_basic() throws Exception {
+        // ## Arrange ##
+        LongAsPrimitiveType type = new LongAsPrimitiveType();
+
+        // ## Act ##
+        // ## Assert ##
+        assertEquals(Long.valueOf(3L), type.getValue(createResultSet(3L, false), 1));
+        assertNull(type.getValue(createResultSet(0L, true), 1));
+    }
+
+    public void test_getValue_fallback() throws Exception {
+        // ## Arrange ##
+        LongAsPrimitiveType type = new LongAsPrimitiveType();
+        MockResultSet rs = new MockResultSet() {
+            @Override
+            public long getLong(int columnIndex) throws SQLException {
+                throw new SQLException("out of range");
+            }
+
+            @Override
+            public Object getObject(int columnIndex) throws SQLException {
+                return new BigDecimal("7");
+            }
+        };
+
+        // ## Act ##
+        Object value = type.getValue(rs, 1);
+
+        // ## Assert ##
+        assertEquals(Long.valueOf(7L), value);
+    }
+
+    protected MockResultSet createResultSet(long value, boolean wasNull) {
+        return new MockResultSet() {
+            @Override
+            public long getLong(int columnIndex) throws SQLException {
+                return value;
+            }
+
+            @Override
+            public boolean wasNull() throws SQLException {
+                return wasNull;
+            }
+        };
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright 2014-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.dbflute.system;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.dbflute.system.QLogAsyncRenderer.QLogAsyncOverflowPolicy;
+import org.dbflute.unit.RuntimeTestCase;
+
+/**
+ * @author agent
+ * @since 1.2.3 (2026/10/19 Monday)
+ */
+public class QLogAsyncRendererTest extends RuntimeTestCase {
+
+    public void test_submit_rendered() throws Exception {
+        // ## Arrange ##
+        QLogAsyncRenderer renderer = new QLogAsyncRenderer(16, QLogAsyncOverflowPolicy.DROP);
+
+        // ## Act ##
+        for (int i = 0; i < 10; i++) {
+            final int current = i;
+            renderer.submit(() -> "select " + current);
+        }
+        renderer.shutdown(3000L);
+
+        // ## Assert ##
+        log(renderer);
+        assertEquals(10L, renderer.getSubmittedCount());
+        assertEquals(10L, renderer.getRenderedCount());
+        assertEquals(0L, renderer.getDroppedCount());
+        assertEquals(0, renderer.getPendingCount());
+        assertTrue(renderer.isStopped());
+    }
+
+    public void test_submit_drop() throws Exception {
+        // ## Arrange ##
+        QLogAsyncRenderer renderer = new QLogAsyncRenderer(1, QLogAsyncOverflowPolicy.DROP);
+        CountDownLatch latch = new CountDownLatch(1);
+        renderer.submit(() -> { // occupies the worker thread
+            awaitLatch(latch);
+            return "select first";
+        });
+        waitForTaken(renderer);
+
+        // ## Act ##
+        renderer.submit(() -> "select second"); // in buffer
+        renderer.submit(() -> "select third"); // dropped
+        latch.countDown();
+        renderer.shutdown(3000L);
+
+        // ## Assert ##
+        log(renderer);
+        assertEquals(3L, renderer.getSubmittedCount());
+        assertEquals(1L, renderer.getDroppedCount());
+        assertEquals(2L, renderer.getRenderedCount());
+    }
+
+    public void test_submit_callerRuns() throws Exception {
+        // ## Arrange ##
+        QLogAsyncRenderer renderer = new QLogAsyncRenderer(1, QLogAsyncOverflowPolicy.CALLER_RUNS);
+        CountDownLatch latch = new CountDownLatch(1);
+        renderer.submit(() -> {
+            awaitLatch(latch);
+            return "select first";
+        });
+        waitForTaken(renderer);
+
+        // ## Act ##
+        renderer.submit(() -> "select second");
+        renderer.submit(() -> "select third"); // on caller
+        latch.countDown();
+        renderer.shutdown(3000L);
+
+        // ## Assert ##
+        log(renderer);
+        assertEquals(1L, renderer.getCallerRunsCount());
+        assertEquals(0L, renderer.getDroppedCount());
+        assertEquals(2L, renderer.getRenderedCount()); // caller runs is not counted as rendered
+    }
+
+    public void test_constructor_illegal() throws Exception {
+        assertException(IllegalArgumentException.class, () -> new QLogAsyncRenderer(0, QLogAsyncOverflowPolicy.DROP));
+        assertException(IllegalArgumentException.class, () -> new QLogAsyncRenderer(1, null));
+    }
+
+    protected void awaitLatch(CountDownLatch latch) {
+        try {
+            latch.await(3L, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    protected void waitForTaken(QLogAsyncRenderer renderer) throws InterruptedException {
+        for (int i = 0; i < 300 && renderer.getPendingCount() > 0; i++) {
+            Thread.sleep(10L);
+        }
+    }
+}
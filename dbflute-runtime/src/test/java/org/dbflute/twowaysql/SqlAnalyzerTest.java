@@ -19,6 +19,7 @@ import org.dbflute.twowaysql.context.CommandContext;
 import org.dbflute.twowaysql.context.CommandContextCreator;
 import org.dbflute.twowaysql.exception.BindVariableCommentIllegalParameterBeanSpecificationException;
 import org.dbflute.twowaysql.node.Node;
+import org.dbflute.twowaysql.node.RootNode;
 import org.dbflute.twowaysql.node.SqlPartsNode;
 import org.dbflute.twowaysql.pmbean.SimpleMapPmb;
 import org.dbflute.unit.RuntimeTestCase;
@@ -277,6 +278,29 @@ public class SqlAnalyzerTest extends RuntimeTestCase {
         assertEquals("foo", node.getSqlParts());
     }
 
+    public void test_analyze_compile_joinStaticParts() {
+        // ## Arrange ##
+        String twoway = "select /* plain comment */ member.MEMBER_NAME -- line\n from MEMBER member";
+        twoway = twoway + " where member.MEMBER_ID = /*pmb.iks*/'abc'";
+        SqlAnalyzer analyzer = new SqlAnalyzer(twoway, false);
+
+        // ## Act ##
+        Node node = analyzer.analyze();
+
+        // ## Assert ##
+        assertEquals(2, node.getChildSize()); // static parts and bind variable
+        String staticSql = ((SqlPartsNode) node.getChild(0)).getSqlParts();
+        log(staticSql);
+        assertTrue(staticSql.startsWith("select /* plain comment */ member.MEMBER_NAME"));
+        assertTrue(((RootNode) node).getSqlCapacityHint() >= staticSql.length());
+        SimpleMapPmb<Object> pmb = preparePmb();
+        CommandContext first = prepareCtx(pmb, node);
+        CommandContext second = prepareCtx(pmb, node); // shared as template
+        assertEquals(first.getSql(), second.getSql());
+        assertEquals(staticSql + "?", first.getSql());
+        assertEquals("amba", second.getBindVariables()[0]);
+    }
+
     // ===================================================================================
     //                                                                         Test Helper
     //                                                                         ===========
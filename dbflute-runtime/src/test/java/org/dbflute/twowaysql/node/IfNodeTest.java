@@ -15,6 +15,9 @@
  */
 package org.dbflute.twowaysql.node;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.dbflute.exception.CommentTerminatorNotFoundException;
 import org.dbflute.twowaysql.SqlAnalyzer;
 import org.dbflute.twowaysql.context.CommandContext;
@@ -218,6 +221,43 @@ public class IfNodeTest extends RuntimeTestCase {
         }
     }
 
+    // ===================================================================================
+    //                                                                            Compiled
+    //                                                                            ========
+    public void test_accept_compiled_splitHook() {
+        // ## Arrange ##
+        List<String> splitList = new ArrayList<String>();
+        IfNode node = new IfNode("pmb.memberId != null && pmb.memberName != null", "dummy") {
+            @Override
+            protected IfCommentEvaluator createIfCommentEvaluator(CommandContext ctx, LoopInfo loopInfo) {
+                return new IfCommentEvaluator(name -> ctx.getArg(name), _expression, _specifiedSql, loopInfo) {
+                    @Override
+                    protected List<String> splitList(String str, String delimiter) {
+                        splitList.add(delimiter);
+                        return super.splitList(str, delimiter);
+                    }
+                };
+            }
+        };
+        node.addChild(SqlPartsNode.createSqlPartsNode("select foo"));
+        MockMemberPmb pmb = new MockMemberPmb();
+        pmb.setMemberId(3);
+        pmb.setMemberName("foo");
+
+        // ## Act ##
+        CommandContext firstCtx = createCtx(pmb);
+        node.accept(firstCtx);
+        pmb.setMemberName(null);
+        CommandContext secondCtx = createCtx(pmb);
+        node.accept(secondCtx);
+
+        // ## Assert ##
+        assertEquals("select foo", firstCtx.getSql());
+        assertEquals("", secondCtx.getSql());
+        assertTrue(splitList.contains(" && ")); // clauses are split by the hook
+        assertEquals(1, splitList.stream().filter(delimiter -> delimiter.equals(" && ")).count()); // compiled once
+    }
+
     // ===================================================================================
     //                                                                         Test Helper
     //                                                                         ===========
@@ -446,6 +446,37 @@ public class DfTypeUtilTest extends TestCase { // because PlainTestCase uses thi
         }
     }
 
+    public void test_toLocalDateTime_fastParsing_sameAsFlexible() {
+        // leading space skips fast parsing (flexible parsing trims it)
+        String[] exps = { "2014-10-28", "2014/10/28", "0000-01-01", "2014-10-28 12:34:56", "2014-10-28T12:34:56",
+                "2014/10/28 12:34:56.789", "2014-10-28 12:34:56.7", "2014-10-28 12:34:56.78", "2014-10-28 12:34:56.7891",
+                "2014-10-28 12:34:56.789123456", "2014-10-28 23:59:59.999", "2014-10-28 12:34:56." };
+        for (String exp : exps) {
+            assertEquals(toLocalDateTime(" " + exp), toLocalDateTime(exp));
+            assertEquals(toLocalDate(" " + exp), toLocalDate(exp));
+        }
+        String[] timeExps = { "12:34:56", "00:00:00.000", "12:34:56.789", "12:34:56.7891", "23:59:59.999999999" };
+        for (String exp : timeExps) {
+            assertEquals(toLocalTime(" " + exp), toLocalTime(exp));
+        }
+        String[] illegalExps = { "2014-02-30", "2014-13-01 12:34:56", "2014-10-28 25:34:56", "2014-10-28 12:34:56.7890123456" };
+        for (String exp : illegalExps) {
+            assertParseDateException(() -> toLocalDateTime(exp));
+        }
+        assertParseDateException(() -> toLocalDate("2014-02-30"));
+        assertParseDateException(() -> toLocalTime("12:34:56.7")); // needs millisecond digits as time only
+        assertParseDateException(() -> toLocalTime("25:34:56"));
+    }
+
+    protected void assertParseDateException(Runnable parser) {
+        try {
+            parser.run();
+            fail();
+        } catch (ParseDateException e) {
+            log(e.getMessage());
+        }
+    }
+
     // -----------------------------------------------------
     //                                            Local Time
     //                                            ----------